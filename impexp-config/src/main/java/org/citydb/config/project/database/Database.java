@@ -42,7 +42,8 @@ import javax.xml.bind.annotation.XmlType;
 		"activeConnection",
 		"updateBatching",
 		"workspaces",
-		"operation"
+		"operation",
+		"binaryGeometryTransfer"
 })
 public class Database {
 	public static final String CITYDB_PRODUCT_NAME = "3D City Database";
@@ -67,6 +68,10 @@ public class Database {
 	private UpdateBatching updateBatching;
 	private Workspaces workspaces;
 	private DBOperation operation;
+	// exchanges PostGIS geometries as EWKB instead of EWKT. The EWKB is still sent
+	// and received as hex-encoded text, which saves parsing EWKT but not bandwidth
+	@XmlElement(defaultValue="false")
+	private Boolean binaryGeometryTransfer = false;
 
 	public Database() {
 		referenceSystems = new DatabaseSrsList();
@@ -145,4 +150,19 @@ public class Database {
 			this.operation = operation;
 	}
 
+	public boolean isSetBinaryGeometryTransfer() {
+		if (binaryGeometryTransfer != null)
+			return binaryGeometryTransfer.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getBinaryGeometryTransfer() {
+		return binaryGeometryTransfer;
+	}
+
+	public void setBinaryGeometryTransfer(Boolean binaryGeometryTransfer) {
+		this.binaryGeometryTransfer = binaryGeometryTransfer;
+	}
+
 }
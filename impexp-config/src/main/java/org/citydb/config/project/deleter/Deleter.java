@@ -11,7 +11,8 @@ import javax.xml.bind.annotation.XmlType;
 		"query",
 		"simpleQuery",
         "mode",
-        "continuation"
+        "continuation",
+        "bulkDelete"
 })
 public class Deleter {
 	@XmlAttribute
@@ -21,11 +22,13 @@ public class Deleter {
     @XmlElement(required = true)
     private DeleteMode mode = DeleteMode.DELETE;
     private Continuation continuation;
+    private BulkDelete bulkDelete;
 
     public Deleter() {
 		query = new Query();
 		simpleQuery = new SimpleQuery();
         continuation = new Continuation();
+        bulkDelete = new BulkDelete();
     }
     
 	public boolean isUseSimpleQuery() {
@@ -71,4 +74,13 @@ public class Deleter {
             this.continuation = continuation;
     }
 
+    public BulkDelete getBulkDelete() {
+        return bulkDelete;
+    }
+
+    public void setBulkDelete(BulkDelete bulkDelete) {
+        if (bulkDelete != null)
+            this.bulkDelete = bulkDelete;
+    }
+
 }
@@ -28,6 +28,7 @@
 
 package org.citydb.config.project.exporter;
 
+import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.util.LinkedHashMap;
@@ -36,13 +37,16 @@ import java.util.Map;
 @XmlType(name="CityGMLOptionsType", propOrder={
         "writeProductHeader",
         "gmlEnvelope",
-        "namespaces"
+        "namespaces",
+        "sequentialWritingWindow"
 })
 public class CityGMLOptions {
     private Boolean writeProductHeader;
     private GMLEnvelope gmlEnvelope;
     @XmlJavaTypeAdapter(NamespaceAdapter.class)
     private LinkedHashMap<String, Namespace> namespaces;
+    @XmlElement(defaultValue = "1024")
+    private Integer sequentialWritingWindow;
 
     public CityGMLOptions() {
         gmlEnvelope = new GMLEnvelope();
@@ -75,4 +79,13 @@ public class CityGMLOptions {
     public Map<String, Namespace> getNamespaces() {
         return namespaces;
     }
+
+    public int getSequentialWritingWindow() {
+        return sequentialWritingWindow != null ? sequentialWritingWindow : 1024;
+    }
+
+    public void setSequentialWritingWindow(Integer sequentialWritingWindow) {
+        if (sequentialWritingWindow != null && sequentialWritingWindow > 0)
+            this.sequentialWritingWindow = sequentialWritingWindow;
+    }
 }
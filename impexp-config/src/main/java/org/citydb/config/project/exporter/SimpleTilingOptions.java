@@ -31,6 +31,7 @@ package org.citydb.config.project.exporter;
 import org.citydb.config.project.query.filter.tiling.AbstractTilingOptions;
 
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlType;
 
 @XmlType(name="CityGMLTilingOptionsType", propOrder={
@@ -38,7 +39,8 @@ import javax.xml.bind.annotation.XmlType;
 		"tilePathSuffix",
 		"tileNameSuffix",
 		"includeTileAsGenericAttribute",
-		"genericAttributeValue"
+		"genericAttributeValue",
+		"concurrentTiles"
 })
 public class SimpleTilingOptions extends AbstractTilingOptions {
 	private String tilePath = "tile";
@@ -47,6 +49,9 @@ public class SimpleTilingOptions extends AbstractTilingOptions {
 	@XmlElement(defaultValue="false")
 	private Boolean includeTileAsGenericAttribute = false;
 	private TileSuffixMode genericAttributeValue = TileSuffixMode.XMIN_YMIN_XMAX_YMAX;
+	@XmlSchemaType(name="positiveInteger")
+	@XmlElement(defaultValue="1")
+	private Integer concurrentTiles = 1;
 
 	public String getTilePath() {
 		return tilePath;
@@ -91,5 +96,14 @@ public class SimpleTilingOptions extends AbstractTilingOptions {
 	public void setGenericAttributeValue(TileSuffixMode genericAttributeValue) {
 		this.genericAttributeValue = genericAttributeValue;
 	}
+
+	public Integer getConcurrentTiles() {
+		return concurrentTiles;
+	}
+
+	public void setConcurrentTiles(Integer concurrentTiles) {
+		if (concurrentTiles != null && concurrentTiles > 0)
+			this.concurrentTiles = concurrentTiles;
+	}
 	
 }
@@ -0,0 +1,113 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.config.project.global;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+@XmlType(name="CompressionType", propOrder={
+		"blockSize",
+		"level",
+		"textureLevel",
+		"storeCompressedMedia"
+		})
+public class Compression {
+	@XmlAttribute(required=false)
+	private Boolean parallel = true;
+	@XmlElement(defaultValue="1024")
+	private Integer blockSize = 1024;
+	@XmlElement(defaultValue="6")
+	private Integer level = 6;
+	@XmlElement(defaultValue="1")
+	private Integer textureLevel = 1;
+	@XmlElement(defaultValue="true")
+	private Boolean storeCompressedMedia = true;
+
+	public Compression() {
+	}
+
+	public boolean isSetParallel() {
+		if (parallel != null)
+			return parallel.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getParallel() {
+		return parallel;
+	}
+
+	public void setParallel(Boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	public Integer getBlockSize() {
+		return blockSize;
+	}
+
+	public void setBlockSize(Integer blockSize) {
+		// blocks must be at least as large as the deflate window
+		if (blockSize != null && blockSize >= 32)
+			this.blockSize = blockSize;
+	}
+
+	public Integer getLevel() {
+		return level;
+	}
+
+	public void setLevel(Integer level) {
+		if (level != null && level >= 0 && level <= 9)
+			this.level = level;
+	}
+
+	public Integer getTextureLevel() {
+		return textureLevel;
+	}
+
+	public void setTextureLevel(Integer textureLevel) {
+		if (textureLevel != null && textureLevel >= 0 && textureLevel <= 9)
+			this.textureLevel = textureLevel;
+	}
+
+	public boolean isSetStoreCompressedMedia() {
+		if (storeCompressedMedia != null)
+			return storeCompressedMedia.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getStoreCompressedMedia() {
+		return storeCompressedMedia;
+	}
+
+	public void setStoreCompressedMedia(Boolean storeCompressedMedia) {
+		this.storeCompressedMedia = storeCompressedMedia;
+	}
+
+}
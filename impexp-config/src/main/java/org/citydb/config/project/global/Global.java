@@ -34,7 +34,8 @@ import javax.xml.bind.annotation.XmlType;
 		"logging",
 		"language",
 		"proxies",
-		"apiKeys"
+		"apiKeys",
+		"compression"
 		})
 public class Global {
 	private Cache cache;
@@ -42,12 +43,14 @@ public class Global {
 	private LanguageType language = LanguageType.fromValue(System.getProperty("user.language"));
 	private Proxies proxies;
 	private APIKeys apiKeys;
+	private Compression compression;
 
 	public Global() {
 		cache = new Cache();
 		logging = new Logging();
 		proxies = new Proxies();
 		apiKeys = new APIKeys();
+		compression = new Compression();
 	}
 	
 	public Cache getCache() {
@@ -94,4 +97,13 @@ public class Global {
 		if (apiKeys != null)
 			this.apiKeys = apiKeys;
 	}
+
+	public Compression getCompression() {
+		return compression;
+	}
+
+	public void setCompression(Compression compression) {
+		if (compression != null)
+			this.compression = compression;
+	}
 }
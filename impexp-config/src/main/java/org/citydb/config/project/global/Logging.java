@@ -31,15 +31,18 @@ import javax.xml.bind.annotation.XmlType;
 
 @XmlType(name="LoggingType", propOrder={
 		"console",
-		"file"
+		"file",
+		"metrics"
 		})
 public class Logging {
 	private LogConsole console;
 	private LogFile file;
+	private Metrics metrics;
 	
 	public Logging() {
 		console = new LogConsole();
 		file = new LogFile();
+		metrics = new Metrics();
 	}
 
 	public LogConsole getConsole() {
@@ -59,5 +62,14 @@ public class Logging {
 		if (file != null)
 			this.file = file;
 	}
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	public void setMetrics(Metrics metrics) {
+		if (metrics != null)
+			this.metrics = metrics;
+	}
 	
 }
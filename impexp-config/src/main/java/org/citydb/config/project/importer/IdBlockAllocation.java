@@ -0,0 +1,86 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.config.project.importer;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+@XmlType(name="IdBlockAllocationType", propOrder={
+		"blockSize",
+		"refillThreshold",
+		"asyncRefill"
+})
+public class IdBlockAllocation {
+	public static final int MAX_BLOCK_SIZE = 100000;
+
+	@XmlSchemaType(name="positiveInteger")
+	@XmlElement(required=true, defaultValue="100")
+	private Integer blockSize = 100;
+	@XmlElement(required=true, defaultValue="0.25")
+	private Float refillThreshold = 0.25f;
+	@XmlElement(required=true, defaultValue="false")
+	private Boolean asyncRefill = false;
+
+	public IdBlockAllocation() {
+	}
+
+	public Integer getBlockSize() {
+		return blockSize;
+	}
+
+	public void setBlockSize(Integer blockSize) {
+		if (blockSize != null && blockSize > 0 && blockSize <= MAX_BLOCK_SIZE)
+			this.blockSize = blockSize;
+	}
+
+	public Float getRefillThreshold() {
+		return refillThreshold;
+	}
+
+	public void setRefillThreshold(Float refillThreshold) {
+		if (refillThreshold != null && refillThreshold >= 0 && refillThreshold < 1)
+			this.refillThreshold = refillThreshold;
+	}
+
+	public boolean isSetAsyncRefill() {
+		if (asyncRefill != null)
+			return asyncRefill.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getAsyncRefill() {
+		return asyncRefill;
+	}
+
+	public void setAsyncRefill(Boolean asyncRefill) {
+		this.asyncRefill = asyncRefill;
+	}
+
+}
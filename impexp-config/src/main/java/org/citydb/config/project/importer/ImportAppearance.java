@@ -33,6 +33,7 @@ import javax.xml.bind.annotation.XmlType;
 @XmlType(name="ImportAppearanceType", propOrder={
 		"importAppearances",
 		"importTextureFiles",
+		"deduplicateTextureFiles",
 		"themeForTexturedSurface"
 })
 public class ImportAppearance {
@@ -40,6 +41,8 @@ public class ImportAppearance {
 	private Boolean importAppearances = true;
 	@XmlElement(required=true, defaultValue="true")
 	private Boolean importTextureFiles = true;
+	@XmlElement(defaultValue="false")
+	private Boolean deduplicateTextureFiles = false;
 	@XmlElement(required=true, defaultValue="rgbTexture")
 	private String themeForTexturedSurface = "rgbTexture";
 
@@ -76,6 +79,21 @@ public class ImportAppearance {
 		this.importTextureFiles = importTextureFiles;
 	}
 
+	public boolean isSetDeduplicateTextureFiles() {
+		if (deduplicateTextureFiles != null)
+			return deduplicateTextureFiles.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getDeduplicateTextureFiles() {
+		return deduplicateTextureFiles;
+	}
+
+	public void setDeduplicateTextureFiles(Boolean deduplicateTextureFiles) {
+		this.deduplicateTextureFiles = deduplicateTextureFiles;
+	}
+
 	public String getThemeForTexturedSurface() {
 		return themeForTexturedSurface;
 	}
@@ -28,20 +28,29 @@
 package org.citydb.config.project.importer;
 
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlType;
 
 import org.citydb.config.project.resources.Resources;
 import org.citydb.config.project.resources.UIDCacheConfig;
 
 @XmlType(name="ImportResourcesType", propOrder={
-		"texImageCache"
+		"texImageCache",
+		"idBlockAllocation",
+		"concurrentFiles"
 })
 public class ImportResources extends Resources {
 	@XmlElement(required=true)
 	private UIDCacheConfig texImageCache;
+	@XmlElement(required=true)
+	private IdBlockAllocation idBlockAllocation;
+	@XmlSchemaType(name="positiveInteger")
+	@XmlElement(defaultValue="1")
+	private Integer concurrentFiles = 1;
 	
 	public ImportResources() {
 		texImageCache = new UIDCacheConfig();
+		idBlockAllocation = new IdBlockAllocation();
 	}
 
 	public UIDCacheConfig getTexImageCache() {
@@ -51,4 +60,22 @@ public class ImportResources extends Resources {
 	public void setTexImageCache(UIDCacheConfig texImageCache) {
 		this.texImageCache = texImageCache;
 	}
+
+	public IdBlockAllocation getIdBlockAllocation() {
+		return idBlockAllocation;
+	}
+
+	public void setIdBlockAllocation(IdBlockAllocation idBlockAllocation) {
+		if (idBlockAllocation != null)
+			this.idBlockAllocation = idBlockAllocation;
+	}
+
+	public Integer getConcurrentFiles() {
+		return concurrentFiles;
+	}
+
+	public void setConcurrentFiles(Integer concurrentFiles) {
+		if (concurrentFiles != null && concurrentFiles > 0)
+			this.concurrentFiles = concurrentFiles;
+	}
 }
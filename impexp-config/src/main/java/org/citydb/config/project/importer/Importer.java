@@ -45,6 +45,7 @@ import org.citydb.config.project.general.XSLTransformation;
 		"xmlValidation",
 		"xslTransformation",
 		"importLog",
+		"surfaceGeometryBulkLoad",
 		"resources"
 })
 public class Importer {
@@ -59,6 +60,7 @@ public class Importer {
 	private XMLValidation xmlValidation;
 	private XSLTransformation xslTransformation;
 	private ImportLog importLog;
+	private SurfaceGeometryBulkLoad surfaceGeometryBulkLoad;
 	private ImportResources resources;
 
 	public Importer() {
@@ -73,6 +75,7 @@ public class Importer {
 		xmlValidation = new XMLValidation();
 		xslTransformation = new XSLTransformation();
 		importLog = new ImportLog();
+		surfaceGeometryBulkLoad = new SurfaceGeometryBulkLoad();
 		resources = new ImportResources();
 	}
 
@@ -175,6 +178,15 @@ public class Importer {
 			this.importLog = importLog;
 	}
 
+	public SurfaceGeometryBulkLoad getSurfaceGeometryBulkLoad() {
+		return surfaceGeometryBulkLoad;
+	}
+
+	public void setSurfaceGeometryBulkLoad(SurfaceGeometryBulkLoad surfaceGeometryBulkLoad) {
+		if (surfaceGeometryBulkLoad != null)
+			this.surfaceGeometryBulkLoad = surfaceGeometryBulkLoad;
+	}
+
 	public ImportResources getResources() {
 		return resources;
 	}
@@ -0,0 +1,73 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.config.project.importer;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Loads rows of the SURFACE_GEOMETRY table through the PostgreSQL COPY protocol instead of
+ * batched INSERT statements. The option only covers SURFACE_GEOMETRY; all other tables are
+ * still written with batched inserts. It has no effect on Oracle databases. The batch size
+ * is the number of rows that are buffered before they are sent to the database.
+ */
+@XmlType(name="SurfaceGeometryBulkLoadType", propOrder={
+		"batchSize"
+})
+public class SurfaceGeometryBulkLoad {
+	public static final int MAX_BATCH_SIZE = 1000000;
+
+	@XmlAttribute(required=true)
+	private boolean isEnabled = false;
+	@XmlSchemaType(name="positiveInteger")
+	@XmlElement(required=true, defaultValue="10000")
+	private Integer batchSize = 10000;
+
+	public SurfaceGeometryBulkLoad() {
+	}
+
+	public boolean isEnabled() {
+		return isEnabled;
+	}
+
+	public void setEnabled(boolean isEnabled) {
+		this.isEnabled = isEnabled;
+	}
+
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(Integer batchSize) {
+		if (batchSize != null && batchSize > 0 && batchSize <= MAX_BATCH_SIZE)
+			this.batchSize = batchSize;
+	}
+
+}
@@ -32,13 +32,16 @@ import javax.xml.bind.annotation.XmlType;
 
 @XmlType(name="XMLValidationType", propOrder={
 		"useXMLValidation",
-		"reportOneErrorPerFeature"
+		"reportOneErrorPerFeature",
+		"validateFeaturesInParallel"
 })
 public class XMLValidation {
 	@XmlElement(required=true, defaultValue="false")
 	private Boolean useXMLValidation = false;
 	@XmlElement(defaultValue="false")
 	private Boolean reportOneErrorPerFeature = false;
+	@XmlElement(defaultValue="false")
+	private Boolean validateFeaturesInParallel = false;
 
 	public XMLValidation() {
 	}
@@ -72,5 +75,20 @@ public class XMLValidation {
 	public void setReportOneErrorPerFeature(Boolean reportOneErrorPerFeature) {
 		this.reportOneErrorPerFeature = reportOneErrorPerFeature;
 	}
+
+	public boolean isSetValidateFeaturesInParallel() {
+		if (validateFeaturesInParallel != null)
+			return validateFeaturesInParallel.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getValidateFeaturesInParallel() {
+		return validateFeaturesInParallel;
+	}
+
+	public void setValidateFeaturesInParallel(Boolean validateFeaturesInParallel) {
+		this.validateFeaturesInParallel = validateFeaturesInParallel;
+	}
 	
 }
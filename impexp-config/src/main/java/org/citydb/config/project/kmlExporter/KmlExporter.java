@@ -94,6 +94,7 @@ import java.util.Locale;
 		"pathOfGltfConverter",
 		"notCreateColladaFiles",
 		"embedTexturesInGltfFiles",
+		"useNativeGltfWriter",
 		"appearanceTheme",
 		"altitudeMode",
 		"altitudeOffsetMode",
@@ -179,6 +180,7 @@ public class KmlExporter {
 	private String pathOfGltfConverter;
 	private boolean notCreateColladaFiles;
 	private boolean embedTexturesInGltfFiles;
+	private boolean useNativeGltfWriter;
 	private boolean exportAsKmz;
 	private boolean exportGltfV1;
 	private String appearanceTheme;
@@ -248,6 +250,7 @@ public class KmlExporter {
 		createGltfModel = false;
 		notCreateColladaFiles = false;
 		embedTexturesInGltfFiles = false;
+		useNativeGltfWriter = false;
 
 		pathOfGltfConverter = "contribs" + File.separator + "collada2gltf";
 		String osName = System.getProperty("os.name").toLowerCase(Locale.ENGLISH);
@@ -458,6 +461,14 @@ public class KmlExporter {
 		return embedTexturesInGltfFiles;
 	}
 
+	public void setUseNativeGltfWriter(boolean useNativeGltfWriter) {
+		this.useNativeGltfWriter = useNativeGltfWriter;
+	}
+
+	public boolean isUseNativeGltfWriter() {
+		return useNativeGltfWriter;
+	}
+
 	public void setShowBoundingBox(boolean showBoundingBox) {
 		this.showBoundingBox = showBoundingBox;
 	}
@@ -29,13 +29,19 @@ package org.citydb.config.project.kmlExporter;
 
 import org.citydb.config.project.query.filter.tiling.AbstractTilingOptions;
 
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlType;
 
 @XmlType(name="KmlTilingOptionsType", propOrder={
-		"autoTileSideLength"
+		"autoTileSideLength",
+		"concurrentTiles"
 })
 public class KmlTilingOptions extends AbstractTilingOptions {
 	private double autoTileSideLength = 125.0;
+	@XmlSchemaType(name="positiveInteger")
+	@XmlElement(defaultValue="1")
+	private Integer concurrentTiles = 1;
 
 	public void setAutoTileSideLength(double autoTileSideLength) {
 		this.autoTileSideLength = autoTileSideLength;
@@ -44,5 +50,14 @@ public class KmlTilingOptions extends AbstractTilingOptions {
 	public double getAutoTileSideLength() {
 		return autoTileSideLength;
 	}
+
+	public Integer getConcurrentTiles() {
+		return concurrentTiles;
+	}
+
+	public void setConcurrentTiles(Integer concurrentTiles) {
+		if (concurrentTiles != null && concurrentTiles > 0)
+			this.concurrentTiles = concurrentTiles;
+	}
 	
 }
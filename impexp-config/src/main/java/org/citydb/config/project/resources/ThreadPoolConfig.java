@@ -33,7 +33,8 @@ import javax.xml.bind.annotation.XmlType;
 
 @XmlType(name="ThreadPoolConfigType", propOrder={
 		"minThreads",
-		"maxThreads"		
+		"maxThreads",
+		"adaptToThroughput"
 })
 public class ThreadPoolConfig {
 	@XmlElement(required=true)
@@ -42,6 +43,8 @@ public class ThreadPoolConfig {
 	@XmlElement(required=true)
 	@XmlSchemaType(name="positiveInteger")
 	private Integer maxThreads;
+	@XmlElement(defaultValue="false")
+	private Boolean adaptToThroughput = false;
 	
 	public ThreadPoolConfig() {
 		minThreads = 2;
@@ -65,5 +68,20 @@ public class ThreadPoolConfig {
 		if (maxThreads != null && maxThreads > 0)
 			this.maxThreads = maxThreads;
 	}
+
+	public boolean isSetAdaptToThroughput() {
+		if (adaptToThroughput != null)
+			return adaptToThroughput.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getAdaptToThroughput() {
+		return adaptToThroughput;
+	}
+
+	public void setAdaptToThroughput(Boolean adaptToThroughput) {
+		this.adaptToThroughput = adaptToThroughput;
+	}
 	
 }
@@ -34,7 +34,8 @@ import javax.xml.bind.annotation.XmlType;
 @XmlType(name="UIDCacheConfigType", propOrder={
 		"cacheSize",
 		"pageFactor",
-		"partitions"
+		"partitions",
+		"offHeap"
 })
 public class UIDCacheConfig {
 	@XmlSchemaType(name="positiveInteger")
@@ -44,6 +45,8 @@ public class UIDCacheConfig {
 	private Float pageFactor = 0.85f;
 	@XmlElement(required=true, defaultValue="10")
 	private Integer partitions = 10;
+	@XmlElement(defaultValue="false")
+	private Boolean offHeap = false;
 	
 	public UIDCacheConfig() {
 	}
@@ -76,5 +79,20 @@ public class UIDCacheConfig {
 				concurrentTempTables <= 100)
 			this.partitions = concurrentTempTables;
 	}
+
+	public boolean isSetOffHeap() {
+		if (offHeap != null)
+			return offHeap.booleanValue();
+
+		return false;
+	}
+
+	public Boolean getOffHeap() {
+		return offHeap;
+	}
+
+	public void setOffHeap(Boolean offHeap) {
+		this.offHeap = offHeap;
+	}
 	
 }
@@ -0,0 +1,150 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.exporter.writer;
+
+import org.citygml4j.CityGMLContext;
+import org.citygml4j.builder.jaxb.CityGMLBuilder;
+import org.citygml4j.builder.jaxb.marshal.JAXBMarshaller;
+import org.citygml4j.model.citygml.CityGML;
+import org.citygml4j.model.citygml.core.AbstractCityObject;
+import org.citygml4j.model.citygml.core.CityObjectMember;
+import org.citygml4j.model.module.citygml.CityGMLVersion;
+import org.citygml4j.util.xml.SAXEventBuffer;
+import org.citygml4j.xml.io.CityGMLInputFactory;
+import org.citygml4j.xml.io.reader.CityGMLReader;
+import org.citygml4j.xml.io.reader.FeatureReadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating a new JAXB marshaller for every exported feature against borrowing
+ * one from a pool, as done by {@link CityGMLWriter}. The city objects of the input file
+ * are converted to JAXB elements up front, so every operation marshals exactly one
+ * feature and the score is the number of marshalled features per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MarshallerPoolBenchmark {
+	private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+	private JAXBContext context;
+	private List<JAXBElement<?>> features;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int index;
+
+		private JAXBElement<?> next(List<JAXBElement<?>> features) {
+			if (index == features.size())
+				index = 0;
+
+			return features.get(index++);
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		CityGMLBuilder builder = CityGMLContext.getInstance().createCityGMLBuilder();
+		JAXBMarshaller jaxbMarshaller = builder.createJAXBMarshaller(CityGMLVersion.DEFAULT);
+		context = builder.getJAXBContext();
+
+		CityGMLInputFactory factory = builder.createCityGMLInputFactory();
+		factory.setProperty(CityGMLInputFactory.FEATURE_READ_MODE, FeatureReadMode.SPLIT_PER_COLLECTION_MEMBER);
+
+		features = new ArrayList<>();
+		try (InputStream stream = new FileInputStream(System.getProperty("benchmark.citygml"));
+			 CityGMLReader reader = factory.createCityGMLReader("benchmark", stream)) {
+			while (reader.hasNext()) {
+				CityGML feature = reader.nextFeature();
+				if (feature instanceof AbstractCityObject) {
+					JAXBElement<?> jaxbElement = jaxbMarshaller.marshalJAXBElement(
+							new CityObjectMember((AbstractCityObject) feature));
+					if (jaxbElement != null)
+						features.add(jaxbElement);
+				}
+			}
+		}
+
+		if (features.isEmpty())
+			throw new IllegalStateException("The input file does not contain any city objects.");
+	}
+
+	@Benchmark
+	public SAXEventBuffer createPerFeature(Cursor cursor) throws Exception {
+		Marshaller marshaller = createMarshaller();
+		return marshal(marshaller, cursor.next(features));
+	}
+
+	@Benchmark
+	public SAXEventBuffer pooled(Cursor cursor) throws Exception {
+		Marshaller marshaller = marshallers.poll();
+		if (marshaller == null)
+			marshaller = createMarshaller();
+
+		try {
+			return marshal(marshaller, cursor.next(features));
+		} finally {
+			marshallers.offer(marshaller);
+		}
+	}
+
+	private Marshaller createMarshaller() throws JAXBException {
+		Marshaller marshaller = context.createMarshaller();
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+		return marshaller;
+	}
+
+	private SAXEventBuffer marshal(Marshaller marshaller, JAXBElement<?> feature) throws JAXBException {
+		SAXEventBuffer buffer = new SAXEventBuffer();
+		marshaller.marshal(feature, buffer);
+		return buffer;
+	}
+}
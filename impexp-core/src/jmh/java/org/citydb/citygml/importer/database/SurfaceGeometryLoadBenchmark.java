@@ -0,0 +1,213 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.importer.database;
+
+import org.citydb.config.geometry.GeometryObject;
+import org.citydb.database.adapter.postgis.GeometryConverterAdapter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading SURFACE_GEOMETRY rows with batched INSERT statements against the COPY
+ * protocol used by the surface geometry bulk load mode. Every operation loads the polygons
+ * of the bundled Potsdam LoD1 buildings with the same columns and geometry values as
+ * {@link org.citydb.citygml.importer.database.content.DBSurfaceGeometry}, flushing and
+ * committing after the given number of rows. The rows counter reports the number of loaded
+ * rows per second.
+ * <p>
+ * The benchmark requires a PostgreSQL/PostGIS database that is passed by the system properties
+ * {@code benchmark.jdbc.url}, {@code benchmark.jdbc.user} and {@code benchmark.jdbc.password}.
+ * Rows are written to a temporary table without indexes and constraints, so the numbers show
+ * the transfer cost and not the index maintenance of a 3DCityDB instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SurfaceGeometryLoadBenchmark {
+	private static final int SRID = 25833;
+	private static final String TABLE = "benchmark_surface_geometry";
+	private static final String[] COLUMNS = {"id", "gmlid", "parent_id", "root_id", "is_solid", "is_composite",
+			"is_triangulated", "is_xlink", "is_reverse", "geometry", "solid_geometry", "implicit_geometry", "cityobject_id"};
+
+	@Param({"100", "1000", "10000"})
+	private int batchSize;
+
+	private Connection connection;
+	private List<Object> polygons;
+	private long id;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counter {
+		public long rows;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			rows = 0;
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc.url"),
+				System.getProperty("benchmark.jdbc.user"),
+				System.getProperty("benchmark.jdbc.password"));
+		connection.setAutoCommit(false);
+
+		try (Statement stmt = connection.createStatement()) {
+			stmt.executeUpdate("create temporary table " + TABLE + " (id bigint, gmlid varchar(256), parent_id bigint, " +
+					"root_id bigint, is_solid numeric, is_composite numeric, is_triangulated numeric, is_xlink numeric, " +
+					"is_reverse numeric, geometry geometry(PolygonZ), solid_geometry geometry(PolyhedralSurfaceZ), " +
+					"implicit_geometry geometry(PolygonZ), cityobject_id bigint)");
+		}
+
+		connection.commit();
+
+		// use the textual geometry transfer of the importer
+		GeometryConverterAdapter converter = new GeometryConverterAdapter(null) {};
+		polygons = new ArrayList<>();
+		for (GeometryObject polygon : readPolygons())
+			polygons.add(converter.getDatabaseObject(polygon, connection));
+	}
+
+	@TearDown(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Statement stmt = connection.createStatement()) {
+			stmt.executeUpdate("truncate table " + TABLE);
+		}
+
+		connection.commit();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void insertBatch(Counter counter) throws SQLException {
+		String stmt = "insert into " + TABLE + " (" + String.join(", ", COLUMNS) + ") values " +
+				"(?, ?, ?, ?, ?, ?, ?, ?, ?, ST_GeomFromEWKT(?), ?, ?, ?)";
+
+		try (InsertStatement ps = InsertStatement.of(connection.prepareStatement(stmt))) {
+			load(ps, counter);
+		}
+	}
+
+	@Benchmark
+	public void copy(Counter counter) throws SQLException {
+		try (InsertStatement ps = new CopyInsertStatement(connection, TABLE, COLUMNS)) {
+			load(ps, counter);
+		}
+	}
+
+	private void load(InsertStatement ps, Counter counter) throws SQLException {
+		int batchCounter = 0;
+		for (Object polygon : polygons) {
+			ps.setLong(1, ++id);
+			ps.setString(2, "UUID_" + id);
+			ps.setNull(3, Types.NULL);
+			ps.setLong(4, id);
+			ps.setInt(5, 0);
+			ps.setInt(6, 0);
+			ps.setInt(7, 0);
+			ps.setInt(8, 0);
+			ps.setInt(9, 0);
+			ps.setObject(10, polygon);
+			ps.setNull(11, Types.OTHER, "ST_GEOMETRY");
+			ps.setNull(12, Types.OTHER, "ST_GEOMETRY");
+			ps.setLong(13, id);
+			ps.addBatch();
+
+			if (++batchCounter == batchSize) {
+				ps.executeBatch();
+				connection.commit();
+				batchCounter = 0;
+			}
+		}
+
+		if (batchCounter > 0) {
+			ps.executeBatch();
+			connection.commit();
+		}
+
+		counter.rows += polygons.size();
+	}
+
+	private List<GeometryObject> readPolygons() throws Exception {
+		List<GeometryObject> polygons = new ArrayList<>();
+
+		try (InputStream stream = Files.newInputStream(Paths.get(System.getProperty("benchmark.citygml")))) {
+			XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("posList")) {
+					String[] values = reader.getElementText().trim().split("\\s+");
+					double[] coordinates = new double[values.length];
+					for (int i = 0; i < values.length; i++)
+						coordinates[i] = Double.parseDouble(values[i]);
+
+					polygons.add(GeometryObject.createPolygon(coordinates, 3, SRID));
+				}
+			}
+
+			reader.close();
+		}
+
+		return polygons;
+	}
+}
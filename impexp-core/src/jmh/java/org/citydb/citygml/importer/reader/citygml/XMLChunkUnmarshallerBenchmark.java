@@ -0,0 +1,209 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.importer.reader.citygml;
+
+import org.citygml4j.CityGMLContext;
+import org.citygml4j.builder.jaxb.CityGMLBuilder;
+import org.citygml4j.xml.io.CityGMLInputFactory;
+import org.citygml4j.xml.io.reader.CityGMLReader;
+import org.citygml4j.xml.io.reader.FeatureReadMode;
+import org.citygml4j.xml.io.reader.XMLChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares unmarshalling every feature chunk with {@link XMLChunk#unmarshal()} against
+ * the pooled {@link XMLChunkUnmarshaller}. The input is a generated CityGML 2.0 document
+ * of LoD2 buildings with gabled roofs. Every building has wall, roof and ground surfaces,
+ * windows and doors as openings of the walls, and a solid referencing the surface polygons
+ * by XLinks. The score is the number of unmarshalled buildings per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XMLChunkUnmarshallerBenchmark {
+    private static final int BUILDINGS = 1000;
+
+    private CityGMLInputFactory factory;
+    private XMLChunkUnmarshaller.Pool unmarshallerPool;
+    private byte[] input;
+
+    @Setup
+    public void setup() throws Exception {
+        CityGMLBuilder builder = CityGMLContext.getInstance().createCityGMLBuilder();
+
+        // use the same settings as the CityGML reader of the importer
+        factory = builder.createCityGMLInputFactory();
+        factory.setProperty(CityGMLInputFactory.FEATURE_READ_MODE, FeatureReadMode.SPLIT_PER_COLLECTION_MEMBER);
+        factory.setProperty(CityGMLInputFactory.FAIL_ON_MISSING_ADE_SCHEMA, false);
+        factory.setProperty(CityGMLInputFactory.PARSE_SCHEMA, false);
+        factory.setProperty(CityGMLInputFactory.SPLIT_AT_FEATURE_PROPERTY, new QName("generalizesTo"));
+        factory.setProperty(CityGMLInputFactory.EXCLUDE_FROM_SPLITTING, new QName("CityModel"));
+
+        unmarshallerPool = new XMLChunkUnmarshaller.Pool(builder, factory.getSchemaHandler());
+        input = createInput().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BUILDINGS)
+    public void unmarshalChunk(Blackhole blackhole) throws Exception {
+        try (CityGMLReader reader = factory.createCityGMLReader("benchmark", new ByteArrayInputStream(input))) {
+            while (reader.hasNext()) {
+                XMLChunk chunk = reader.nextChunk();
+                blackhole.consume(chunk.unmarshal());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BUILDINGS)
+    public void unmarshalPooled(Blackhole blackhole) throws Exception {
+        XMLChunkUnmarshaller unmarshaller = unmarshallerPool.acquire();
+        try (CityGMLReader reader = factory.createCityGMLReader("benchmark", new ByteArrayInputStream(input))) {
+            while (reader.hasNext()) {
+                XMLChunk chunk = reader.nextChunk();
+                blackhole.consume(unmarshaller.unmarshal(chunk));
+            }
+        } finally {
+            unmarshallerPool.release(unmarshaller);
+        }
+    }
+
+    private String createInput() {
+        StringBuilder builder = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<core:CityModel xmlns:core=\"http://www.opengis.net/citygml/2.0\"")
+                .append(" xmlns:bldg=\"http://www.opengis.net/citygml/building/2.0\"")
+                .append(" xmlns:gml=\"http://www.opengis.net/gml\"")
+                .append(" xmlns:xlink=\"http://www.w3.org/1999/xlink\">\n");
+
+        for (int i = 0; i < BUILDINGS; i++)
+            appendBuilding(builder, "B" + i, (i % 50) * 20, (i / 50) * 20);
+
+        return builder.append("</core:CityModel>\n").toString();
+    }
+
+    private void appendBuilding(StringBuilder builder, String id, double x, double y) {
+        double[] a = {x, y, 0}, b = {x + 10, y, 0}, c = {x + 10, y + 10, 0}, d = {x, y + 10, 0};
+        double[] a1 = {x, y, 6}, b1 = {x + 10, y, 6}, c1 = {x + 10, y + 10, 6}, d1 = {x, y + 10, 6};
+        double[] r1 = {x, y + 5, 9}, r2 = {x + 10, y + 5, 9};
+
+        builder.append("<core:cityObjectMember><bldg:Building gml:id=\"").append(id).append("\">")
+                .append("<bldg:function>1000</bldg:function>")
+                .append("<bldg:measuredHeight uom=\"m\">9</bldg:measuredHeight>")
+                .append("<bldg:lod2Solid><gml:Solid><gml:exterior><gml:CompositeSurface>");
+
+        for (int i = 1; i <= 7; i++)
+            builder.append("<gml:surfaceMember xlink:href=\"#").append(id).append("_P").append(i).append("\"/>");
+
+        builder.append("</gml:CompositeSurface></gml:exterior></gml:Solid></bldg:lod2Solid>");
+
+        appendWall(builder, id, 1, true, a, b, b1, a1);
+        appendWall(builder, id, 2, false, b, c, c1, r2, b1);
+        appendWall(builder, id, 3, true, c, d, d1, c1);
+        appendWall(builder, id, 4, false, d, a, a1, r1, d1);
+        appendSurface(builder, "RoofSurface", id, 5, a1, b1, r2, r1);
+        appendSurface(builder, "RoofSurface", id, 6, c1, d1, r1, r2);
+        appendSurface(builder, "GroundSurface", id, 7, a, d, c, b);
+
+        builder.append("</bldg:Building></core:cityObjectMember>\n");
+    }
+
+    private void appendWall(StringBuilder builder, String id, int index, boolean withOpenings, double[]... points) {
+        builder.append("<bldg:boundedBy><bldg:WallSurface gml:id=\"").append(id).append("_W").append(index).append("\">");
+        appendMultiSurface(builder, "lod2MultiSurface", id + "_P" + index, points);
+
+        if (withOpenings) {
+            // a window and a door placed on the wall between its first two points
+            double[] start = points[0], end = points[1];
+            appendOpening(builder, "Window", id + "_W" + index + "_O1", start, end, 0.2, 0.4, 2.5, 4);
+            appendOpening(builder, "Door", id + "_W" + index + "_O2", start, end, 0.6, 0.75, 0, 2.2);
+        }
+
+        builder.append("</bldg:WallSurface></bldg:boundedBy>");
+    }
+
+    private void appendOpening(StringBuilder builder, String type, String id, double[] start, double[] end,
+                               double from, double to, double bottom, double top) {
+        double[] p1 = interpolate(start, end, from, bottom), p2 = interpolate(start, end, to, bottom);
+        double[] p3 = interpolate(start, end, to, top), p4 = interpolate(start, end, from, top);
+
+        builder.append("<bldg:opening><bldg:").append(type).append(" gml:id=\"").append(id).append("\">");
+        appendMultiSurface(builder, "lod3MultiSurface", id + "_P", p1, p2, p3, p4);
+        builder.append("</bldg:").append(type).append("></bldg:opening>");
+    }
+
+    private void appendSurface(StringBuilder builder, String type, String id, int index, double[]... points) {
+        builder.append("<bldg:boundedBy><bldg:").append(type).append(" gml:id=\"").append(id).append("_S").append(index).append("\">");
+        appendMultiSurface(builder, "lod2MultiSurface", id + "_P" + index, points);
+        builder.append("</bldg:").append(type).append("></bldg:boundedBy>");
+    }
+
+    private void appendMultiSurface(StringBuilder builder, String property, String polygonId, double[]... points) {
+        builder.append("<bldg:").append(property).append("><gml:MultiSurface><gml:surfaceMember>")
+                .append("<gml:Polygon gml:id=\"").append(polygonId).append("\"><gml:exterior><gml:LinearRing><gml:posList>");
+
+        for (double[] point : points)
+            appendPoint(builder, point);
+
+        appendPoint(builder, points[0]);
+        builder.setLength(builder.length() - 1);
+        builder.append("</gml:posList></gml:LinearRing></gml:exterior></gml:Polygon>")
+                .append("</gml:surfaceMember></gml:MultiSurface></bldg:").append(property).append(">");
+    }
+
+    private void appendPoint(StringBuilder builder, double[] point) {
+        builder.append(String.format(Locale.ROOT, "%.3f %.3f %.3f ", point[0], point[1], point[2]));
+    }
+
+    private double[] interpolate(double[] start, double[] end, double fraction, double z) {
+        return new double[]{
+                start[0] + (end[0] - start[0]) * fraction,
+                start[1] + (end[1] - start[1]) * fraction,
+                start[2] + z};
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.database.adapter.postgis;
+
+import org.citydb.config.geometry.GeometryObject;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.postgis.PGgeometry;
+import org.postgresql.util.PGobject;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the EWKB geometry transfer with the EWKT/PGgeometry transfer of the PostGIS
+ * geometry converter on the polygons and solids of the bundled Potsdam LoD1 buildings.
+ * Encoding includes creating the value sent to the database, and decoding starts from
+ * the hex-encoded EWKB returned by the database.
+ * The geometries counter reports the number of processed geometries per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeometryTransferBenchmark {
+	private static final int SRID = 25833;
+
+	private GeometryConverterAdapter textConverter;
+	private GeometryConverterAdapter binaryConverter;
+	private List<GeometryObject> polygons;
+	private List<GeometryObject> solids;
+	private List<String> hexPolygons;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counter {
+		public long geometries;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			geometries = 0;
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		textConverter = new GeometryConverterAdapter(null);
+		binaryConverter = new GeometryConverterAdapter(null);
+		binaryConverter.setUseBinaryTransfer(true);
+
+		polygons = new ArrayList<>();
+		solids = new ArrayList<>();
+		readGeometries();
+
+		// the database returns geometries as hex-encoded EWKB
+		hexPolygons = new ArrayList<>();
+		for (GeometryObject polygon : polygons)
+			hexPolygons.add(EWKBConverter.toHex(EWKBConverter.encode(polygon)));
+	}
+
+	@Benchmark
+	public void encodePolygonsAsEWKT(Counter counter, Blackhole blackhole) throws SQLException {
+		for (GeometryObject polygon : polygons)
+			blackhole.consume(((PGobject) textConverter.getDatabaseObject(polygon, null)).getValue());
+
+		counter.geometries += polygons.size();
+	}
+
+	@Benchmark
+	public void encodePolygonsAsEWKB(Counter counter, Blackhole blackhole) throws SQLException {
+		for (GeometryObject polygon : polygons)
+			blackhole.consume(((PGobject) binaryConverter.getDatabaseObject(polygon, null)).getValue());
+
+		counter.geometries += polygons.size();
+	}
+
+	@Benchmark
+	public void encodeSolidsAsEWKT(Counter counter, Blackhole blackhole) throws SQLException {
+		for (GeometryObject solid : solids)
+			blackhole.consume(textConverter.getDatabaseObject(solid, null));
+
+		counter.geometries += solids.size();
+	}
+
+	@Benchmark
+	public void encodeSolidsAsEWKB(Counter counter, Blackhole blackhole) throws SQLException {
+		for (GeometryObject solid : solids)
+			blackhole.consume(((PGobject) binaryConverter.getDatabaseObject(solid, null)).getValue());
+
+		counter.geometries += solids.size();
+	}
+
+	@Benchmark
+	public void decodePolygonsFromPGgeometry(Counter counter, Blackhole blackhole) throws SQLException {
+		for (String hex : hexPolygons)
+			blackhole.consume(textConverter.getPolygon(new PGgeometry(hex)));
+
+		counter.geometries += hexPolygons.size();
+	}
+
+	@Benchmark
+	public void decodePolygonsFromEWKB(Counter counter, Blackhole blackhole) throws SQLException {
+		for (String hex : hexPolygons) {
+			EWKBGeometry geometry = new EWKBGeometry();
+			geometry.setValue(hex);
+			blackhole.consume(binaryConverter.getPolygon(geometry));
+		}
+
+		counter.geometries += hexPolygons.size();
+	}
+
+	private void readGeometries() throws Exception {
+		List<double[]> rings = null;
+
+		try (InputStream stream = Files.newInputStream(Paths.get(System.getProperty("benchmark.citygml")))) {
+			XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					if (reader.getLocalName().equals("Building"))
+						rings = new ArrayList<>();
+					else if (rings != null && reader.getLocalName().equals("posList")) {
+						String[] values = reader.getElementText().trim().split("\\s+");
+						double[] coordinates = new double[values.length];
+						for (int i = 0; i < values.length; i++)
+							coordinates[i] = Double.parseDouble(values[i]);
+
+						rings.add(coordinates);
+						polygons.add(GeometryObject.createPolygon(coordinates, 3, SRID));
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT && rings != null
+						&& reader.getLocalName().equals("Building")) {
+					int[] exteriorRings = new int[rings.size()];
+					for (int i = 0; i < exteriorRings.length; i++)
+						exteriorRings[i] = i;
+
+					solids.add(GeometryObject.createSolid(rings.toArray(new double[0][]), exteriorRings, SRID));
+					rings = null;
+				}
+			}
+
+			reader.close();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.common.database.uid;
+
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class HeapUIDCache extends UIDCache {
+	private final ConcurrentHashMap<String, UIDCacheEntry> map;
+
+	public HeapUIDCache(
+			UIDCachingModel cacheModel,
+			int capacity,
+			float drainFactor,
+			int concurrencyLevel) {
+		super(cacheModel, capacity, drainFactor);
+		map = new ConcurrentHashMap<String, UIDCacheEntry>(capacity, .75f, concurrencyLevel);
+	}
+
+	@Override
+	protected UIDCacheEntry lookupMemory(String key) {
+		UIDCacheEntry entry = map.get(key);
+		if (entry != null)
+			entry.getAndSetRequested(true);
+
+		return entry;
+	}
+
+	@Override
+	protected boolean putIfAbsent(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
+		UIDCacheEntry entry = map.get(key);
+		if (entry == null) {
+			UIDCacheEntry newEntry = new UIDCacheEntry(id, rootId, reverse, mapping, objectClassId);
+			entry = map.putIfAbsent(key, newEntry);
+			if (entry == null)
+				entry = newEntry;
+		}
+
+		return !entry.getAndSetRegistered(true);
+	}
+
+	@Override
+	protected int drainToDB(UIDCachingModel cacheModel, int drain) throws SQLException {
+		cacheModel.drainToDB(map, drain);
+		return map.size();
+	}
+}
@@ -0,0 +1,418 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.common.database.uid;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link UIDCache} that keeps its entries outside the Java heap. Entries are stored
+ * in open-addressed tables of fixed-size slots holding a 64-bit hash of the key, the
+ * id, root id, object class id and flags of the entry. The keys themselves are kept
+ * in a separate off-heap area and are compared on every hash match so that hash
+ * collisions cannot lead to wrong lookups. Only the rarely used mapping values are
+ * stored on the heap.
+ * <p>
+ * The tables are partitioned into segments which are locked independently. Off-heap
+ * memory is limited by the JVM option -XX:MaxDirectMemorySize.
+ */
+public class OffHeapUIDCache extends UIDCache {
+	private static final int SLOT_SIZE = 48;
+	private static final int HASH = 0;
+	private static final int ID = 8;
+	private static final int ROOT_ID = 16;
+	private static final int KEY_OFFSET = 24;
+	private static final int KEY_LENGTH = 32;
+	private static final int OBJECTCLASS_ID = 36;
+	private static final int FLAGS = 40;
+
+	private static final int OCCUPIED = 1;
+	private static final int REVERSE = 1 << 1;
+	private static final int REQUESTED = 1 << 2;
+	private static final int LATIN1_KEY = 1 << 3;
+
+	private static final int MIN_SLOTS = 1 << 10;
+	private static final int MAX_SLOTS = Integer.highestOneBit(Integer.MAX_VALUE / SLOT_SIZE);
+	private static final float LOAD_FACTOR = 0.75f;
+
+	private final Segment[] segments;
+	private final int segmentMask;
+
+	public OffHeapUIDCache(
+			UIDCachingModel cacheModel,
+			int capacity,
+			float drainFactor,
+			int concurrencyLevel) {
+		super(cacheModel, capacity, drainFactor);
+
+		int size = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, 1 << 8)) * 2 - 1);
+		int initialSlots = Math.min(Math.max(tableSizeFor((long) (capacity / size / LOAD_FACTOR) + 1), MIN_SLOTS), 1 << 16);
+
+		segments = new Segment[size];
+		segmentMask = size - 1;
+		for (int i = 0; i < size; i++)
+			segments[i] = new Segment(initialSlots);
+	}
+
+	@Override
+	protected UIDCacheEntry lookupMemory(String key) {
+		long hash = hash(key);
+		return segmentFor(hash).get(key, hash);
+	}
+
+	@Override
+	protected boolean putIfAbsent(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
+		long hash = hash(key);
+		return segmentFor(hash).putIfAbsent(key, hash, id, rootId, reverse, mapping, objectClassId);
+	}
+
+	@Override
+	protected int drainToDB(UIDCachingModel cacheModel, int drain) throws SQLException {
+		// collect the entries to be drained. like for the heap-based cache,
+		// entries that have not been requested so far are drained first
+		ConcurrentHashMap<String, UIDCacheEntry> entries = new ConcurrentHashMap<>();
+		for (int i = 0; i < segments.length && entries.size() < drain; i++)
+			segments[i].collect(entries, drain, false);
+
+		for (int i = 0; i < segments.length && entries.size() < drain; i++)
+			segments[i].collect(entries, drain, true);
+
+		List<String> keys = new ArrayList<>(entries.keySet());
+		cacheModel.drainToDB(entries, entries.size());
+
+		// remove the entries that have been written to the database
+		List<List<String>> drained = new ArrayList<>(segments.length);
+		for (int i = 0; i < segments.length; i++)
+			drained.add(new ArrayList<>());
+
+		for (String key : keys) {
+			if (!entries.containsKey(key))
+				drained.get(segmentIndex(hash(key))).add(key);
+		}
+
+		int size = 0;
+		for (int i = 0; i < segments.length; i++)
+			size += segments[i].remove(drained.get(i));
+
+		return size;
+	}
+
+	private Segment segmentFor(long hash) {
+		return segments[segmentIndex(hash)];
+	}
+
+	private int segmentIndex(long hash) {
+		return (int) (hash >>> 40) & segmentMask;
+	}
+
+	private static long hash(String key) {
+		// FNV-1a followed by the finalizer of MurmurHash3
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	private static int tableSizeFor(long size) {
+		if (size >= MAX_SLOTS)
+			return MAX_SLOTS;
+
+		return Integer.highestOneBit((int) Math.max(size - 1, 1)) << 1;
+	}
+
+	private static boolean isLatin1(String key) {
+		for (int i = 0; i < key.length(); i++) {
+			if (key.charAt(i) > 0xff)
+				return false;
+		}
+
+		return true;
+	}
+
+	private static final class Segment {
+		private ByteBuffer slots;
+		private ByteBuffer keys;
+		private Map<Integer, String> mappings;
+		private int mask;
+		private int size;
+
+		Segment(int initialSlots) {
+			slots = ByteBuffer.allocateDirect(initialSlots * SLOT_SIZE);
+			keys = ByteBuffer.allocateDirect(initialSlots * 32);
+			mappings = new HashMap<>();
+			mask = initialSlots - 1;
+		}
+
+		synchronized UIDCacheEntry get(String key, long hash) {
+			int slot = find(key, hash);
+			if (slot == -1)
+				return null;
+
+			int offset = slot * SLOT_SIZE;
+			int flags = slots.getInt(offset + FLAGS);
+			slots.putInt(offset + FLAGS, flags | REQUESTED);
+
+			return new UIDCacheEntry(
+					slots.getLong(offset + ID),
+					slots.getLong(offset + ROOT_ID),
+					(flags & REVERSE) != 0,
+					mappings.get(slot),
+					slots.getInt(offset + OBJECTCLASS_ID));
+		}
+
+		synchronized boolean putIfAbsent(String key, long hash, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
+			if (find(key, hash) != -1)
+				return false;
+
+			if (size + 1 > (mask + 1) * LOAD_FACTOR)
+				rehash(tableSizeFor((long) (mask + 1) << 1), false);
+
+			insert(hash, key, id, rootId, reverse ? REVERSE : 0, mapping, objectClassId);
+			return true;
+		}
+
+		synchronized void collect(Map<String, UIDCacheEntry> entries, int drain, boolean requested) {
+			for (int slot = 0; slot <= mask && entries.size() < drain; slot++) {
+				int offset = slot * SLOT_SIZE;
+				int flags = slots.getInt(offset + FLAGS);
+				if ((flags & OCCUPIED) == 0 || (!requested && (flags & REQUESTED) != 0))
+					continue;
+
+				entries.putIfAbsent(readKey(offset, flags), new UIDCacheEntry(
+						slots.getLong(offset + ID),
+						slots.getLong(offset + ROOT_ID),
+						(flags & REVERSE) != 0,
+						mappings.get(slot),
+						slots.getInt(offset + OBJECTCLASS_ID)));
+			}
+		}
+
+		synchronized int remove(List<String> drained) {
+			if (!drained.isEmpty()) {
+				// resolve all slots before clearing any of them, since a cleared
+				// slot would end the probe sequence of the remaining keys
+				int[] removed = new int[drained.size()];
+				for (int i = 0; i < removed.length; i++) {
+					String key = drained.get(i);
+					removed[i] = find(key, hash(key));
+				}
+
+				for (int slot : removed) {
+					if (slot != -1) {
+						int offset = slot * SLOT_SIZE;
+						slots.putInt(offset + FLAGS, slots.getInt(offset + FLAGS) & ~OCCUPIED);
+						mappings.remove(slot);
+						size--;
+					}
+				}
+
+				// rebuild the table to get rid of removed slots and unused key space
+				rehash(Math.max(tableSizeFor((long) (size / LOAD_FACTOR) + 1), MIN_SLOTS), true);
+			}
+
+			return size;
+		}
+
+		private int find(String key, long hash) {
+			int slot = (int) hash & mask;
+			while (true) {
+				int offset = slot * SLOT_SIZE;
+				int flags = slots.getInt(offset + FLAGS);
+				if ((flags & OCCUPIED) == 0)
+					return -1;
+
+				if (slots.getLong(offset + HASH) == hash && keyEquals(offset, flags, key))
+					return slot;
+
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		private void insert(long hash, String key, long id, long rootId, int flags, String mapping, int objectClassId) {
+			boolean latin1 = isLatin1(key);
+			int length = key.length() * (latin1 ? 1 : 2);
+			int keyOffset = allocateKey(length);
+
+			if (latin1) {
+				for (int i = 0; i < key.length(); i++)
+					keys.put(keyOffset + i, (byte) key.charAt(i));
+			} else {
+				for (int i = 0; i < key.length(); i++)
+					keys.putChar(keyOffset + 2 * i, key.charAt(i));
+			}
+
+			place(hash, keyOffset, length, id, rootId, flags | (latin1 ? LATIN1_KEY : 0), mapping, objectClassId);
+		}
+
+		private void place(long hash, int keyOffset, int keyLength, long id, long rootId, int flags, String mapping, int objectClassId) {
+			int slot = (int) hash & mask;
+			while ((slots.getInt(slot * SLOT_SIZE + FLAGS) & OCCUPIED) != 0)
+				slot = (slot + 1) & mask;
+
+			int offset = slot * SLOT_SIZE;
+			slots.putLong(offset + HASH, hash);
+			slots.putLong(offset + ID, id);
+			slots.putLong(offset + ROOT_ID, rootId);
+			slots.putLong(offset + KEY_OFFSET, keyOffset);
+			slots.putInt(offset + KEY_LENGTH, keyLength);
+			slots.putInt(offset + OBJECTCLASS_ID, objectClassId);
+			slots.putInt(offset + FLAGS, flags | OCCUPIED);
+
+			if (mapping != null)
+				mappings.put(slot, mapping);
+
+			size++;
+		}
+
+		private void rehash(int newSlots, boolean compact) {
+			if (newSlots <= mask + 1 && !compact) {
+				if (size + 1 >= mask + 1)
+					throw new IllegalStateException("The off-heap gml:id cache has reached its maximum size.");
+
+				return;
+			}
+
+			ByteBuffer oldSlots = slots;
+			ByteBuffer oldKeys = keys;
+			Map<Integer, String> oldMappings = mappings;
+			int oldMask = mask;
+
+			slots = ByteBuffer.allocateDirect(newSlots * SLOT_SIZE);
+			mappings = new HashMap<>();
+			mask = newSlots - 1;
+			size = 0;
+
+			// when compacting, the keys of the remaining entries are copied to a new key area
+			if (compact)
+				keys = ByteBuffer.allocateDirect(Math.max(oldKeys.position(), newSlots * 32));
+
+			for (int slot = 0; slot <= oldMask; slot++) {
+				int offset = slot * SLOT_SIZE;
+				int flags = oldSlots.getInt(offset + FLAGS);
+				if ((flags & OCCUPIED) == 0)
+					continue;
+
+				int keyOffset = (int) oldSlots.getLong(offset + KEY_OFFSET);
+				int keyLength = oldSlots.getInt(offset + KEY_LENGTH);
+				if (compact) {
+					int newKeyOffset = allocateKey(keyLength);
+					for (int i = 0; i < keyLength; i++)
+						keys.put(newKeyOffset + i, oldKeys.get(keyOffset + i));
+
+					keyOffset = newKeyOffset;
+				}
+
+				place(oldSlots.getLong(offset + HASH),
+						keyOffset,
+						keyLength,
+						oldSlots.getLong(offset + ID),
+						oldSlots.getLong(offset + ROOT_ID),
+						flags & ~OCCUPIED,
+						oldMappings.get(slot),
+						oldSlots.getInt(offset + OBJECTCLASS_ID));
+			}
+		}
+
+		private int allocateKey(int length) {
+			int position = keys.position();
+			if (keys.capacity() - position < length) {
+				long capacity = Math.max((long) keys.capacity() << 1, (long) position + length);
+				if (capacity > Integer.MAX_VALUE - 8) {
+					capacity = Integer.MAX_VALUE - 8;
+					if (capacity - position < length)
+						throw new IllegalStateException("The off-heap gml:id cache has reached its maximum size.");
+				}
+
+				ByteBuffer newKeys = ByteBuffer.allocateDirect((int) capacity);
+				keys.flip();
+				newKeys.put(keys);
+				keys = newKeys;
+			}
+
+			keys.position(position + length);
+			return position;
+		}
+
+		private boolean keyEquals(int offset, int flags, String key) {
+			int keyOffset = (int) slots.getLong(offset + KEY_OFFSET);
+			int length = slots.getInt(offset + KEY_LENGTH);
+
+			if ((flags & LATIN1_KEY) != 0) {
+				if (length != key.length())
+					return false;
+
+				for (int i = 0; i < length; i++) {
+					if ((keys.get(keyOffset + i) & 0xff) != key.charAt(i))
+						return false;
+				}
+			} else {
+				if (length != key.length() * 2)
+					return false;
+
+				for (int i = 0; i < key.length(); i++) {
+					if (keys.getChar(keyOffset + 2 * i) != key.charAt(i))
+						return false;
+				}
+			}
+
+			return true;
+		}
+
+		private String readKey(int offset, int flags) {
+			int keyOffset = (int) slots.getLong(offset + KEY_OFFSET);
+			int length = slots.getInt(offset + KEY_LENGTH);
+
+			char[] chars;
+			if ((flags & LATIN1_KEY) != 0) {
+				chars = new char[length];
+				for (int i = 0; i < length; i++)
+					chars[i] = (char) (keys.get(keyOffset + i) & 0xff);
+			} else {
+				chars = new char[length / 2];
+				for (int i = 0; i < chars.length; i++)
+					chars[i] = keys.getChar(keyOffset + 2 * i);
+			}
+
+			return new String(chars);
+		}
+	}
+}
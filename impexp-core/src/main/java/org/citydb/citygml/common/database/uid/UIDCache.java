@@ -28,18 +28,18 @@
 package org.citydb.citygml.common.database.uid;
 
 import java.sql.SQLException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.citydb.log.Logger;
+import org.citydb.metrics.Counter;
+import org.citydb.metrics.MetricsRegistry;
 
-public class UIDCache {
+public abstract class UIDCache {
 	private final Logger log = Logger.getInstance();
 	
-	private final ConcurrentHashMap<String, UIDCacheEntry> map;
 	private final UIDCachingModel cacheModel;
 	private final int capacity;
 	private final float drainFactor;
@@ -51,45 +51,57 @@ public class UIDCache {
 	private final AtomicInteger entries = new AtomicInteger(0);
 	private volatile boolean backUp = false;
 
-	public UIDCache(
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter dbHits;
+	private final Counter drains;
+
+	protected UIDCache(
 			UIDCachingModel cacheModel,
 			int capacity,
-			float drainFactor,
-			int concurrencyLevel) {
+			float drainFactor) {
 		this.cacheModel = cacheModel;
 		this.capacity = capacity;
 		this.drainFactor = drainFactor;
 
-		map = new ConcurrentHashMap<String, UIDCacheEntry>(capacity, .75f, concurrencyLevel);
+		MetricsRegistry metrics = MetricsRegistry.getInstance();
+		String prefix = "uidcache." + cacheModel.getType().replace(' ', '_');
+		hits = metrics.getCounter(prefix + ".hit");
+		misses = metrics.getCounter(prefix + ".miss");
+		dbHits = metrics.getCounter(prefix + ".dbHit");
+		drains = metrics.getCounter(prefix + ".drain");
 	}
 
-	public void put(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
-		UIDCacheEntry entry = lookupMap(key);
-
-		if (entry == null) {
-			entry = getOrCreate(key, id, rootId, reverse, mapping, objectClassId);
+	protected abstract UIDCacheEntry lookupMemory(String key);
+	protected abstract boolean putIfAbsent(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId);
+	protected abstract int drainToDB(UIDCachingModel cacheModel, int drain) throws SQLException;
 
-			if (!entry.getAndSetRegistered(true)) {
-				if (entries.incrementAndGet() >= capacity && isDraining.compareAndSet(false, true)) 
-					drainToDB();
-			}
-		}
+	public void put(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
+		if (lookupMemory(key) == null 
+				&& putIfAbsent(key, id, rootId, reverse, mapping, objectClassId)
+				&& entries.incrementAndGet() >= capacity 
+				&& isDraining.compareAndSet(false, true))
+			drainToDB();
 	}
 
 	public boolean lookupAndPut(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
-		boolean lookup = lookupMap(key) != null;
-		if (!lookup && backUp)
-			lookup = lookupDB(key) != null;
+		boolean lookup = lookupMemory(key) != null;
+		if (!lookup && backUp && (lookup = lookupDB(key) != null))
+			dbHits.increment();
 
 		if (!lookup) {		
-			UIDCacheEntry entry = getOrCreate(key, id, rootId, reverse, mapping, objectClassId);
-			if (!entry.getAndSetRegistered(true)) {
+			if (putIfAbsent(key, id, rootId, reverse, mapping, objectClassId)) {
 				if (entries.incrementAndGet() >= capacity && isDraining.compareAndSet(false, true))
 					drainToDB();
 			} else
 				lookup = true;
 		}
 
+		if (lookup)
+			hits.increment();
+		else
+			misses.increment();
+
 		return lookup;
 	}
 
@@ -98,47 +110,31 @@ public class UIDCache {
 	}
 
 	public UIDCacheEntry get(String key) {
-		UIDCacheEntry entry = lookupMap(key);
-		if (entry == null && backUp)
-			entry = lookupDB(key);
+		UIDCacheEntry entry = lookupMemory(key);
+		if (entry == null && backUp && (entry = lookupDB(key)) != null)
+			dbHits.increment();
 
-		return entry;
-	}
-
-	public UIDCacheEntry getFromMemory(String key) {
-		return lookupMap(key);
-	}
-
-	private UIDCacheEntry lookupMap(String key) {
-		UIDCacheEntry entry = map.get(key);
 		if (entry != null)
-			entry.getAndSetRequested(true);
+			hits.increment();
+		else
+			misses.increment();
 
 		return entry;
 	}
 
-	private UIDCacheEntry getOrCreate(String key, long id, long rootId, boolean reverse, String mapping, int objectClassId) {
-		UIDCacheEntry entry = map.get(key);
-		if (entry == null) {
-			UIDCacheEntry newEntry = new UIDCacheEntry(id, rootId, reverse, mapping, objectClassId);
-			entry = map.putIfAbsent(key, newEntry);
-			if (entry == null)
-				entry = newEntry;
-		}
-
-		return entry;
+	public UIDCacheEntry getFromMemory(String key) {
+		return lookupMemory(key);
 	}
 
 	private void drainToDB() {
 		try {
 			log.debug("Writing entries to " + cacheModel.getType() + " cache.");
 			backUp = true;
+			drains.increment();
 			
 			int drain = Math.round(capacity * drainFactor);
 			try {
-				cacheModel.drainToDB(map, drain);
-				entries.set(map.size());
-
+				entries.set(drainToDB(cacheModel, drain));
 				log.debug("Entries written to " + cacheModel.getType() + " cache.");
 
 			} catch (SQLException sqlEx) {
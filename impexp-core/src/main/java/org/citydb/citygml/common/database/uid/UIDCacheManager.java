@@ -30,6 +30,8 @@ package org.citydb.citygml.common.database.uid;
 import java.sql.SQLException;
 import java.util.HashMap;
 
+import org.citydb.config.project.resources.UIDCacheConfig;
+
 public class UIDCacheManager {
 	private final HashMap<UIDCacheType, UIDCache> cacheMap;
 
@@ -44,13 +46,30 @@ public class UIDCacheManager {
 		float drainFactor,
 		int concurrencyLevel) {
 
-		cacheMap.put(cacheType, new UIDCache(
+		cacheMap.put(cacheType, new HeapUIDCache(
 				model,
 				cacheSize,
 				drainFactor,
 				concurrencyLevel
 		));
 	}
+
+	public void initCache(
+		UIDCacheType cacheType,
+		UIDCachingModel model,
+		UIDCacheConfig cacheConfig,
+		int concurrencyLevel) {
+
+		if (cacheConfig.isSetOffHeap()) {
+			cacheMap.put(cacheType, new OffHeapUIDCache(
+					model,
+					cacheConfig.getCacheSize(),
+					cacheConfig.getPageFactor(),
+					concurrencyLevel
+			));
+		} else
+			initCache(cacheType, model, cacheConfig.getCacheSize(), cacheConfig.getPageFactor(), concurrencyLevel);
+	}
 	
 	public UIDCache getCache(UIDCacheType cacheType) {
 		return cacheMap.get(cacheType);
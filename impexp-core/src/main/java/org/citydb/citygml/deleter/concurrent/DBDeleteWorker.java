@@ -30,6 +30,8 @@ package org.citydb.citygml.deleter.concurrent;
 import org.citydb.citygml.exporter.database.content.DBSplittingResult;
 import org.citydb.concurrent.Worker;
 import org.citydb.config.Config;
+import org.citydb.config.project.database.DatabaseType;
+import org.citydb.config.project.deleter.BulkDelete;
 import org.citydb.config.project.deleter.Continuation;
 import org.citydb.config.project.deleter.DeleteMode;
 import org.citydb.config.project.global.LogLevel;
@@ -44,14 +46,21 @@ import org.citydb.event.global.ProgressBarEventType;
 import org.citydb.event.global.StatusDialogProgressBar;
 import org.citydb.log.Logger;
 
+import java.math.BigDecimal;
+import java.sql.Array;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHandler {
@@ -59,34 +68,68 @@ public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHa
 	private final Logger log = Logger.getInstance();
 
 	private final PreparedStatement stmt;
+	private final Connection connection;
 	private final AbstractDatabaseAdapter databaseAdapter;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
+	private final boolean useBulkDelete;
+	private final int chunkSize;
+	private final List<DBSplittingResult> batch;
 
 	private volatile boolean shouldRun = true;
 	private volatile boolean shouldWork = true;
 
 	public DBDeleteWorker(Connection connection, AbstractDatabaseAdapter databaseAdapter, Config config, EventDispatcher eventDispatcher) throws SQLException {
+		this.connection = connection;
 		this.databaseAdapter = databaseAdapter;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
 
 		eventDispatcher.addEventHandler(EventType.INTERRUPT, this);
 
+		BulkDelete bulkDelete = config.getProject().getDeleter().getBulkDelete();
+		// the array variants of the delete functions are only available as of v4
+		useBulkDelete = bulkDelete.isEnabled()
+				&& databaseAdapter.getConnectionMetaData().getCityDBVersion().compareTo(4, 0, 0) >= 0;
+
 		if (config.getProject().getDeleter().getMode() == DeleteMode.TERMINATE) {
 			Continuation metadata = config.getProject().getDeleter().getContinuation();
 			StringBuilder update = new StringBuilder("update cityobject set termination_date = ?, last_modification_date = ?, updating_person = ? ");
 			if (metadata.isSetReasonForUpdate()) update.append(", reason_for_update = '").append(metadata.getReasonForUpdate()).append("'");
 			if (metadata.isSetLineage()) update.append(", lineage = '").append(metadata.getLineage()).append("' ");
-			update.append("where id = ?");
+
+			if (useBulkDelete) {
+				// the chunk is bound to an IN list, so it must not exceed the maximum number of items
+				chunkSize = Math.min(bulkDelete.getChunkSize(), databaseAdapter.getSQLAdapter().getMaximumNumberOfItemsForInOperator());
+				update.append("where id in (?");
+				for (int i = 1; i < chunkSize; i++)
+					update.append(", ?");
+
+				update.append(")");
+			} else {
+				chunkSize = 1;
+				update.append("where id = ?");
+			}
 
 			stmt = connection.prepareStatement(update.toString());
+		} else if (useBulkDelete) {
+			chunkSize = bulkDelete.getChunkSize();
+			String function = databaseAdapter.getSQLAdapter().resolveDatabaseOperationName("citydb_delete.delete_cityobject");
+
+			if (databaseAdapter.getDatabaseType() == DatabaseType.ORACLE) {
+				stmt = connection.prepareCall("{? = call " + function + "(?)}");
+				((CallableStatement) stmt).registerOutParameter(1, Types.ARRAY, databaseAdapter.getConnectionDetails().getSchema() + ".ID_ARRAY");
+			} else
+				stmt = connection.prepareStatement("select * from " + function + "(?)");
 		} else {
+			chunkSize = 1;
 			stmt = connection.prepareCall("{? = call "
 					+ databaseAdapter.getSQLAdapter().resolveDatabaseOperationName("citydb_delete.delete_cityobject")
 					+ "(?)}");
 			((CallableStatement) stmt).registerOutParameter(1, Types.INTEGER);
 		}
+
+		batch = useBulkDelete ? new ArrayList<>(chunkSize) : null;
 	}
 
 	@Override
@@ -110,6 +153,19 @@ public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHa
 					// re-check state
 				}
 			}
+
+			if (useBulkDelete && shouldWork && !batch.isEmpty()) {
+				final ReentrantLock lock = this.mainLock;
+				lock.lock();
+
+				try {
+					deleteBatch();
+				} catch (SQLException e) {
+					eventDispatcher.triggerEvent(new InterruptEvent("Failed to delete a chunk of " + batch.size() + " city object(s).", LogLevel.WARN, e, eventChannel, this));
+				} finally {
+					lock.unlock();
+				}
+			}
 		} finally {
 			try {
 				if (stmt != null)
@@ -130,6 +186,14 @@ public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHa
 			if (!shouldWork)
 				return;
 
+			if (useBulkDelete) {
+				batch.add(work);
+				if (batch.size() == chunkSize)
+					deleteBatch();
+
+				return;
+			}
+
 			long objectId = work.getId();
 			long deletedObjectId;
 
@@ -164,7 +228,10 @@ public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHa
 
 			eventDispatcher.triggerEvent(new StatusDialogProgressBar(ProgressBarEventType.UPDATE, 1, this));
 		} catch (SQLException e) {
-			eventDispatcher.triggerEvent(new InterruptEvent("Failed to delete " + work.getObjectType().getPath() + " (ID = " + work.getId() + ").", LogLevel.WARN, e, eventChannel, this));
+			String msg = useBulkDelete ?
+					"Failed to delete a chunk of " + batch.size() + " city object(s)." :
+					"Failed to delete " + work.getObjectType().getPath() + " (ID = " + work.getId() + ").";
+			eventDispatcher.triggerEvent(new InterruptEvent(msg, LogLevel.WARN, e, eventChannel, this));
 		} catch (Throwable e) {
 			// this is to catch general exceptions that may occur during the export
 			eventDispatcher.triggerSyncEvent(new InterruptEvent("Aborting due to an unexpected " + e.getClass().getName() + " error.", LogLevel.ERROR, e, eventChannel, this));
@@ -173,6 +240,72 @@ public class DBDeleteWorker extends Worker<DBSplittingResult> implements EventHa
 		}
 	}
 
+	private void deleteBatch() throws SQLException {
+		long start = System.nanoTime();
+		int size = batch.size();
+		Set<Long> deletedObjectIds = new HashSet<>(size);
+
+		if (config.getProject().getDeleter().getMode() == DeleteMode.TERMINATE) {
+			OffsetDateTime now = OffsetDateTime.now();
+
+			Continuation metadata = config.getProject().getDeleter().getContinuation();
+			OffsetDateTime terminationDate = metadata.isSetTerminationDate() ? metadata.getTerminationDate() : now;
+			String updatingPerson = metadata.isUpdatingPersonModeDatabase() || !metadata.isSetUpdatingPerson() ?
+					databaseAdapter.getConnectionDetails().getUser() : metadata.getUpdatingPerson();
+
+			stmt.setObject(1, terminationDate);
+			stmt.setObject(2, now);
+			stmt.setString(3, updatingPerson);
+
+			// unused placeholders of the last chunk are padded with the last object id
+			for (int i = 0; i < chunkSize; i++)
+				stmt.setLong(i + 4, batch.get(Math.min(i, size - 1)).getId());
+
+			stmt.executeUpdate();
+			for (DBSplittingResult work : batch)
+				deletedObjectIds.add(work.getId());
+		} else {
+			Long[] ids = new Long[size];
+			for (int i = 0; i < size; i++)
+				ids[i] = batch.get(i).getId();
+
+			Array array = databaseAdapter.getSQLAdapter().createIdArray(ids, connection);
+			stmt.setArray(databaseAdapter.getDatabaseType() == DatabaseType.ORACLE ? 2 : 1, array);
+
+			if (databaseAdapter.getDatabaseType() == DatabaseType.ORACLE) {
+				stmt.executeUpdate();
+				Array result = ((CallableStatement) stmt).getArray(1);
+				for (Object id : (Object[]) result.getArray())
+					deletedObjectIds.add(((BigDecimal) id).longValue());
+
+				result.free();
+			} else {
+				try (ResultSet rs = stmt.executeQuery()) {
+					while (rs.next())
+						deletedObjectIds.add(rs.getLong(1));
+				}
+			}
+
+			array.free();
+		}
+
+		Map<Integer, Long> objectCounter = new HashMap<>();
+		for (DBSplittingResult work : batch) {
+			if (deletedObjectIds.contains(work.getId()))
+				objectCounter.merge(work.getObjectType().getObjectClassId(), 1L, Long::sum);
+			else
+				log.warn("Failed to delete " + work.getObjectType().getPath() + " (ID = " + work.getId() + ").");
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		log.debug("Deleted chunk of " + deletedObjectIds.size() + " city object(s) at "
+				+ (seconds > 0 ? Math.round(deletedObjectIds.size() / seconds) : deletedObjectIds.size()) + " objects/s.");
+
+		batch.clear();
+		eventDispatcher.triggerEvent(new ObjectCounterEvent(objectCounter, eventChannel, this));
+		eventDispatcher.triggerEvent(new StatusDialogProgressBar(ProgressBarEventType.UPDATE, size, this));
+	}
+
 	@Override
 	public void handleEvent(Event event) throws Exception {
 		if (event.getChannel() == eventChannel) 
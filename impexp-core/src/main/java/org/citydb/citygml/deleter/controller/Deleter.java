@@ -60,6 +60,8 @@ import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Deleter implements EventHandler {
+	private static final long RATE_REPORT_INTERVAL = 10000;
+
 	private final Logger log = Logger.getInstance();
 	private final SchemaMapping schemaMapping;
 	private final EventDispatcher eventDispatcher;
@@ -72,6 +74,8 @@ public class Deleter implements EventHandler {
 	private WorkerPool<DBSplittingResult> dbWorkerPool;
 	private Map<Integer, Long> objectCounter;
 	private BundledConnection bundledConnection;
+	private long lastRateReport;
+	private long deletedSinceReport;
 	
 	public Deleter(Config config, 
 			SchemaMapping schemaMapping, 
@@ -89,6 +93,8 @@ public class Deleter implements EventHandler {
 
 	public boolean doProcess() throws CityGMLDeleteException {
 		long start = System.currentTimeMillis();
+		lastRateReport = start;
+		deletedSinceReport = 0;
 		int minThreads = 2;
 		int maxThreads = Math.max(minThreads, Runtime.getRuntime().availableProcessors());
 		
@@ -116,6 +122,11 @@ public class Deleter implements EventHandler {
 			throw new CityGMLDeleteException("Failed to build the delete query expression.", e);
 		}
 		
+		// the array variants of the delete functions are only available as of v4
+		if (config.getProject().getDeleter().getBulkDelete().isEnabled()
+				&& databaseAdapter.getConnectionMetaData().getCityDBVersion().compareTo(4, 0, 0) < 0)
+			log.warn("Bulk delete requires a 3DCityDB v4 instance. City objects will be deleted one by one.");
+
 		bundledConnection = new BundledConnection();
 		try {				
 			dbWorkerPool = new WorkerPool<>(
@@ -174,6 +185,10 @@ public class Deleter implements EventHandler {
 			log.info("Deleted city objects:");
 			Map<String, Long> typeNames = Util.mapObjectCounter(objectCounter, schemaMapping);					
 			typeNames.keySet().stream().sorted().forEach(object -> log.info(object + ": " + typeNames.get(object)));			
+
+			long deleted = objectCounter.values().stream().mapToLong(Long::longValue).sum();
+			double seconds = (System.currentTimeMillis() - start) / 1000.0;
+			log.info("Delete rate: " + (seconds > 0 ? Math.round(deleted / seconds) : deleted) + " city objects per second.");
 		}
 
 		if (shouldRun)
@@ -192,6 +207,17 @@ public class Deleter implements EventHandler {
 			for (Entry<Integer, Long> entry : counter.entrySet()) {
 				Long tmp = objectCounter.get(entry.getKey());
 				objectCounter.put(entry.getKey(), tmp == null ? entry.getValue() : tmp + entry.getValue());
+				deletedSinceReport += entry.getValue();
+			}
+
+			// report the current delete rate once per interval
+			long now = System.currentTimeMillis();
+			if (now - lastRateReport >= RATE_REPORT_INTERVAL) {
+				long deleted = objectCounter.values().stream().mapToLong(Long::longValue).sum();
+				log.info("Deleted " + deleted + " city object(s) so far at "
+						+ Math.round(deletedSinceReport / ((now - lastRateReport) / 1000.0)) + " city objects per second.");
+				lastRateReport = now;
+				deletedSinceReport = 0;
 			}
 		}
 
@@ -175,6 +175,9 @@ public class DBExportWorker extends Worker<DBSplittingResult> implements EventHa
 			else
 				topLevelObject = exporter.exportObject(work.getId(), work.getObjectType(), false);
 
+			// fetch all surface geometries of the feature in bulk
+			exporter.executeBatch();
+
 			if (topLevelObject instanceof AbstractFeature) {
 				// cleanup appearances
 				exporter.cleanupAppearances(topLevelObject);
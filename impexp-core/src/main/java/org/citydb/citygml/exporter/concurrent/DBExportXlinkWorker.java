@@ -35,6 +35,7 @@ import org.citydb.citygml.exporter.database.xlink.DBXlinkExporterEnum;
 import org.citydb.citygml.exporter.database.xlink.DBXlinkExporterLibraryObject;
 import org.citydb.citygml.exporter.database.xlink.DBXlinkExporterManager;
 import org.citydb.citygml.exporter.database.xlink.DBXlinkExporterTextureImage;
+import org.citydb.citygml.exporter.database.xlink.TextureFileWriter;
 import org.citydb.concurrent.Worker;
 import org.citydb.config.Config;
 import org.citydb.config.project.global.LogLevel;
@@ -59,11 +60,11 @@ public class DBExportXlinkWorker extends Worker<DBXlink> implements EventHandler
 	private final DBXlinkExporterManager xlinkExporterManager;
 	private final EventDispatcher eventDispatcher;
 
-	public DBExportXlinkWorker(OutputFile outputFile, Connection connection, AbstractDatabaseAdapter databaseAdapter, Config config, EventDispatcher eventDispatcher) {
+	public DBExportXlinkWorker(OutputFile outputFile, Connection connection, AbstractDatabaseAdapter databaseAdapter, TextureFileWriter textureFileWriter, Config config, EventDispatcher eventDispatcher) {
 		this.connection = connection;
 		this.eventDispatcher = eventDispatcher;
 
-		xlinkExporterManager = new DBXlinkExporterManager(outputFile, connection, databaseAdapter, config, eventDispatcher);
+		xlinkExporterManager = new DBXlinkExporterManager(outputFile, connection, databaseAdapter, textureFileWriter, config, eventDispatcher);
 		eventDispatcher.addEventHandler(EventType.INTERRUPT, this);
 	}
 
@@ -28,6 +28,7 @@
 package org.citydb.citygml.exporter.concurrent;
 
 import org.citydb.citygml.common.database.xlink.DBXlink;
+import org.citydb.citygml.exporter.database.xlink.TextureFileWriter;
 import org.citydb.concurrent.Worker;
 import org.citydb.concurrent.WorkerFactory;
 import org.citydb.config.Config;
@@ -44,11 +45,13 @@ public class DBExportXlinkWorkerFactory implements WorkerFactory<DBXlink> {
 	private final Logger log = Logger.getInstance();
 
 	private final OutputFile outputFile;
+	private final TextureFileWriter textureFileWriter;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
 
-	public DBExportXlinkWorkerFactory(OutputFile outputFile, Config config, EventDispatcher eventDispatcher) {
+	public DBExportXlinkWorkerFactory(OutputFile outputFile, TextureFileWriter textureFileWriter, Config config, EventDispatcher eventDispatcher) {
 		this.outputFile = outputFile;
+		this.textureFileWriter = textureFileWriter;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
 	}
@@ -69,7 +72,7 @@ public class DBExportXlinkWorkerFactory implements WorkerFactory<DBXlink> {
 						config.getProject().getDatabase().getWorkspaces().getExportWorkspace());
 			}
 
-			dbWorker = new DBExportXlinkWorker(outputFile, connection, databaseAdapter, config, eventDispatcher);
+			dbWorker = new DBExportXlinkWorker(outputFile, connection, databaseAdapter, textureFileWriter, config, eventDispatcher);
 		} catch (SQLException e) {
 			log.error("Failed to create XLink export worker: " + e.getMessage());
 		}
@@ -38,6 +38,7 @@ import org.citydb.citygml.exporter.database.content.DBSplitter;
 import org.citydb.citygml.exporter.database.content.DBSplittingResult;
 import org.citydb.citygml.exporter.database.uid.FeatureGmlIdCache;
 import org.citydb.citygml.exporter.database.uid.GeometryGmlIdCache;
+import org.citydb.citygml.exporter.database.xlink.TextureFileWriter;
 import org.citydb.citygml.exporter.writer.FeatureWriteException;
 import org.citydb.citygml.exporter.writer.FeatureWriter;
 import org.citydb.citygml.exporter.writer.FeatureWriterFactory;
@@ -52,6 +53,7 @@ import org.citydb.config.project.database.Workspace;
 import org.citydb.config.project.exporter.SimpleTilingOptions;
 import org.citydb.config.project.exporter.TileNameSuffixMode;
 import org.citydb.config.project.exporter.TileSuffixMode;
+import org.citydb.config.project.global.Metrics;
 import org.citydb.database.adapter.AbstractDatabaseAdapter;
 import org.citydb.database.adapter.IndexStatusInfo.IndexType;
 import org.citydb.database.connection.DatabaseConnectionPool;
@@ -72,18 +74,23 @@ import org.citydb.file.FileType;
 import org.citydb.file.OutputFile;
 import org.citydb.file.output.OutputFileFactory;
 import org.citydb.log.Logger;
+import org.citydb.metrics.MeteredOutputStream;
+import org.citydb.metrics.MetricsRegistry;
 import org.citydb.plugin.PluginManager;
 import org.citydb.plugin.extension.export.CityGMLExportExtension;
 import org.citydb.plugin.extension.export.MetadataProvider;
 import org.citydb.query.Query;
 import org.citydb.query.builder.QueryBuildException;
 import org.citydb.query.builder.config.ConfigQueryBuilder;
+import org.citydb.query.builder.sql.BuildProperties;
+import org.citydb.query.builder.sql.SQLQueryBuilder;
 import org.citydb.query.filter.FilterException;
 import org.citydb.query.filter.selection.Predicate;
 import org.citydb.query.filter.selection.SelectionFilter;
 import org.citydb.query.filter.selection.operator.logical.LogicalOperationFactory;
 import org.citydb.query.filter.tiling.Tile;
 import org.citydb.query.filter.tiling.Tiling;
+import org.citydb.sqlbuilder.select.Select;
 import org.citydb.util.Util;
 import org.citygml4j.builder.jaxb.CityGMLBuilder;
 import org.citygml4j.model.citygml.cityobjectgroup.CityObjectGroup;
@@ -98,13 +105,25 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Exporter implements EventHandler {
 	private final Logger log = Logger.getInstance();
@@ -114,16 +133,27 @@ public class Exporter implements EventHandler {
 	private final SchemaMapping schemaMapping;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
-	private DBSplitter dbSplitter;
+	private final Set<TileExport> activeTileExports = ConcurrentHashMap.newKeySet();
 
 	private volatile boolean shouldRun = true;
 	private AtomicBoolean isInterrupted = new AtomicBoolean(false);
 
-	private WorkerPool<DBSplittingResult> dbWorkerPool;
-	private WorkerPool<DBXlink> xlinkExporterPool;
-	private CacheTableManager cacheTableManager;
-	private UIDCacheManager uidCacheManager;
+	private Query query;
+	private Tiling tiling;
+	private SimpleTilingOptions tilingOptions;
+	private Predicate predicate;
 	private boolean useTiling;
+	private Path exportFile;
+	private FeatureWriterFactory writerFactory;
+	private OutputFileFactory fileFactory;
+	private MetadataProvider metadataProvider;
+	private String textureFolder;
+	private boolean textureFolderIsAbsolute;
+	private boolean exportAppearance;
+	private int minWorkerThreads;
+	private int maxWorkerThreads;
+	private PoolSizeAdaptationStrategy adaptationStrategy;
+	private AtomicInteger remainingTiles;
 
 	private HashMap<Integer, Long> objectCounter;
 	private EnumMap<GMLClass, Long> geometryCounter;
@@ -164,7 +194,6 @@ public class Exporter implements EventHandler {
 			return false;
 
 		// build query from filter settings
-		Query query;
 		try {
 			ConfigQueryBuilder queryBuilder = new ConfigQueryBuilder(schemaMapping, databaseAdapter);
 			if (config.getProject().getExporter().isUseSimpleQuery())
@@ -177,7 +206,6 @@ public class Exporter implements EventHandler {
 		}
 
 		// create feature writer factory
-		FeatureWriterFactory writerFactory;
 		try {
 			writerFactory = FeatureWriterFactoryBuilder.buildFactory(query, schemaMapping, config);
 		} catch (FeatureWriteException e) {
@@ -185,7 +213,7 @@ public class Exporter implements EventHandler {
 		}
 
 		// get metadata provider
-		MetadataProvider metadataProvider = null;
+		metadataProvider = null;
 		if (config.getProject().getExporter().isSetMetadataProvider()) {
 			for (CityGMLExportExtension plugin : PluginManager.getInstance().getExternalPlugins(CityGMLExportExtension.class)) {
 				if (plugin instanceof MetadataProvider
@@ -241,9 +269,9 @@ public class Exporter implements EventHandler {
 				&& query.getFeatureTypeFilter().containsFeatureType(schemaMapping.getFeatureType(query.getTargetVersion().getCityGMLModule(CityGMLModuleType.CITY_OBJECT_GROUP).getFeatureName(CityObjectGroup.class))));
 
 		// tiling
-		Tiling tiling = query.getTiling();
-		SimpleTilingOptions tilingOptions = null;
-		Predicate predicate = null;
+		tiling = query.getTiling();
+		tilingOptions = null;
+		predicate = null;
 		useTiling = query.isSetTiling();
 		int rows = useTiling ? tiling.getRows() : 1;  
 		int columns = useTiling ? tiling.getColumns() : 1;
@@ -260,15 +288,15 @@ public class Exporter implements EventHandler {
 		}
 
 		// create output file factory
-		OutputFileFactory fileFactory = new OutputFileFactory(config, eventDispatcher);
-		Path exportFile = config.getInternal().getExportFile();
+		fileFactory = new OutputFileFactory(config, eventDispatcher);
+		exportFile = config.getInternal().getExportFile();
 		if (exportFile.getFileName() == null)
 			throw new CityGMLExportException("The export file '" + exportFile + "' is invalid.");
 
 		// process export folder for texture files
-		String textureFolder = null;
-		boolean textureFolderIsAbsolute = false;
-		boolean exportAppearance = config.getProject().getExporter().getAppearances().isSetExportAppearance();
+		textureFolder = null;
+		textureFolderIsAbsolute = false;
+		exportAppearance = config.getProject().getExporter().getAppearances().isSetExportAppearance();
 
 		if (exportAppearance) {
 			textureFolder = config.getProject().getExporter().getAppearances().getTexturePath().getPath();
@@ -302,298 +330,458 @@ public class Exporter implements EventHandler {
 			}
 		}
 
-		int remainingTiles = rows * columns;
+		// determine the number of tiles to be exported concurrently
+		int maxThreads = config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads();
+		int concurrentTiles = useTiling ? Math.min(tilingOptions.getConcurrentTiles(), rows * columns) : 1;
+		if (concurrentTiles > 1) {
+			int maxActive = DatabaseConnectionPool.getInstance().getMaxActive();
+			int requestedTiles = concurrentTiles;
+
+			// make sure that the tiles do not exhaust the database connection pool
+			while (concurrentTiles > 1 && concurrentTiles * getConnectionsPerTile(Math.max(1, maxThreads / concurrentTiles)) > maxActive)
+				concurrentTiles--;
+
+			if (concurrentTiles < requestedTiles)
+				log.warn("Reducing the number of concurrently exported tiles to " + concurrentTiles + " due to the connection pool size.");
+		}
+
+		// share the worker threads among the concurrently exported tiles
+		maxWorkerThreads = Math.max(1, maxThreads / concurrentTiles);
+		minWorkerThreads = Math.min(config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMinThreads(), maxWorkerThreads);
+		adaptationStrategy = config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().isSetAdaptToThroughput() ?
+				PoolSizeAdaptationStrategy.THROUGHPUT : PoolSizeAdaptationStrategy.AGGRESSIVE;
+
+		remainingTiles = new AtomicInteger(rows * columns);
 		long start = System.currentTimeMillis();
 
-		for (int i = 0; shouldRun && i < rows; i++) {
-			for (int j = 0; shouldRun && j < columns; j++) {
-				Path folder = exportFile.getParent();
-				String fileName = exportFile.getFileName().toString();
+		Metrics metrics = config.getProject().getGlobal().getLogging().getMetrics();
+		if (metrics.isSet())
+			MetricsRegistry.getInstance().startReporting(metrics.getLogInterval(), metrics.isSetUseJmx());
 
-				if (useTiling) {
-					Tile tile;
-					try {
-						tile = tiling.getTileAt(i, j);
-						tiling.setActiveTile(tile);
-
-						Predicate bboxFilter = tile.getFilterPredicate(databaseAdapter);
-						if (predicate != null)
-							query.setSelection(new SelectionFilter(LogicalOperationFactory.AND(predicate, bboxFilter)));
-						else
-							query.setSelection(new SelectionFilter(bboxFilter));
-
-					} catch (FilterException e) {
-						throw new CityGMLExportException("Failed to get tile at [" + i + "," + j + "].", e);
-					}
+		try {
+			if (concurrentTiles > 1) {
+				log.info("Exporting " + concurrentTiles + " tiles concurrently.");
+				exportTilesConcurrently(rows, columns, concurrentTiles);
+			} else {
+				for (int i = 0; shouldRun && i < rows; i++) {
+					for (int j = 0; shouldRun && j < columns; j++) {
+						exportTile(createTileExport(i, j));
+
+						// show exported features
+						if (!objectCounter.isEmpty()) {
+							log.info("Exported city objects:");
+							Map<String, Long> typeNames = Util.mapObjectCounter(objectCounter, schemaMapping);					
+							typeNames.keySet().stream().sorted().forEach(object -> log.info(object + ": " + typeNames.get(object)));			
+						}
 
-					// create suffix for folderName and fileName
-					TileSuffixMode suffixMode = tilingOptions.getTilePathSuffix();
-					String suffix;
-
-					double minX = tile.getExtent().getLowerCorner().getX();
-					double minY = tile.getExtent().getLowerCorner().getY();
-					double maxX = tile.getExtent().getUpperCorner().getX();
-					double maxY = tile.getExtent().getUpperCorner().getY();
-
-					switch (suffixMode) {
-						case XMIN_YMIN:
-							suffix = String.valueOf(minX) + '_' + String.valueOf(minY);
-							break;
-						case XMAX_YMIN:
-							suffix = String.valueOf(maxX) + '_' + String.valueOf(minY);
-							break;
-						case XMIN_YMAX:
-							suffix = String.valueOf(minX) + '_' + String.valueOf(maxY);
-							break;
-						case XMAX_YMAX:
-							suffix = String.valueOf(maxX) + '_' + String.valueOf(maxY);
-							break;
-						case XMIN_YMIN_XMAX_YMAX:
-							suffix = String.valueOf(minX) + '_' + String.valueOf(minY) + '_' + String.valueOf(maxX) + '_' + String.valueOf(maxY);
-							break;
-						default:
-							suffix = String.valueOf(i) + '_' + String.valueOf(j);
-					}
+						// show processed geometries
+						if (!geometryCounter.isEmpty())
+							log.info("Processed geometry objects: " + geometryCounter.values().stream().reduce(0L, Long::sum));
 
-					folder = folder.resolve(tilingOptions.getTilePath() + '_' + suffix);
-					if (tilingOptions.getTileNameSuffix() == TileNameSuffixMode.SAME_AS_PATH) {
-						int index = fileName.indexOf('.');
-						fileName = index > 0 ?
-								fileName.substring(0, index) + '_' + suffix + fileName.substring(index) :
-								fileName + '_' + suffix;
+						objectCounter.clear();
+						geometryCounter.clear();
 					}
 				}
+			}
+		} finally {
+			if (metrics.isSet())
+				MetricsRegistry.getInstance().stopReporting();
+		}
+
+		// show totally exported features
+		if (useTiling && (rows > 1 || columns > 1)) {
+			if (!totalObjectCounter.isEmpty()) {
+				log.info("Total exported CityGML features:");
+				Map<String, Long> typeNames = Util.mapObjectCounter(totalObjectCounter, schemaMapping);
+				typeNames.keySet().forEach(object -> log.info(object + ": " + typeNames.get(object)));	
+			}
+
+			if (!totalGeometryCounter.isEmpty())
+				log.info("Total processed objects: " + totalGeometryCounter.values().stream().reduce(0L, Long::sum));
+		}
+
+		if (shouldRun)
+			log.info("Total export time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
+
+		return shouldRun;
+	}
+
+	private TileExport createTileExport(int row, int column) throws CityGMLExportException {
+		Path folder = exportFile.getParent();
+		String fileName = exportFile.getFileName().toString();
+
+		if (!useTiling)
+			return new TileExport(query, folder, fileName);
+
+		// every tile uses its own query so that tiles can be exported concurrently
+		Query tileQuery = new Query(query);
+		Tile tile;
+		try {
+			tile = tiling.getTileAt(row, column);
+			Tiling tileTiling = new Tiling(tiling);
+			tileTiling.setActiveTile(tile);
+			tileQuery.setTiling(tileTiling);
+
+			Predicate bboxFilter = tile.getFilterPredicate(databaseAdapter);
+			if (predicate != null)
+				tileQuery.setSelection(new SelectionFilter(LogicalOperationFactory.AND(predicate, bboxFilter)));
+			else
+				tileQuery.setSelection(new SelectionFilter(bboxFilter));
+
+		} catch (FilterException e) {
+			throw new CityGMLExportException("Failed to get tile at [" + row + "," + column + "].", e);
+		}
+
+		// create suffix for folderName and fileName
+		TileSuffixMode suffixMode = tilingOptions.getTilePathSuffix();
+		String suffix;
+
+		double minX = tile.getExtent().getLowerCorner().getX();
+		double minY = tile.getExtent().getLowerCorner().getY();
+		double maxX = tile.getExtent().getUpperCorner().getX();
+		double maxY = tile.getExtent().getUpperCorner().getY();
+
+		switch (suffixMode) {
+			case XMIN_YMIN:
+				suffix = String.valueOf(minX) + '_' + String.valueOf(minY);
+				break;
+			case XMAX_YMIN:
+				suffix = String.valueOf(maxX) + '_' + String.valueOf(minY);
+				break;
+			case XMIN_YMAX:
+				suffix = String.valueOf(minX) + '_' + String.valueOf(maxY);
+				break;
+			case XMAX_YMAX:
+				suffix = String.valueOf(maxX) + '_' + String.valueOf(maxY);
+				break;
+			case XMIN_YMIN_XMAX_YMAX:
+				suffix = String.valueOf(minX) + '_' + String.valueOf(minY) + '_' + String.valueOf(maxX) + '_' + String.valueOf(maxY);
+				break;
+			default:
+				suffix = String.valueOf(row) + '_' + String.valueOf(column);
+		}
+
+		folder = folder.resolve(tilingOptions.getTilePath() + '_' + suffix);
+		if (tilingOptions.getTileNameSuffix() == TileNameSuffixMode.SAME_AS_PATH) {
+			int index = fileName.indexOf('.');
+			fileName = index > 0 ?
+					fileName.substring(0, index) + '_' + suffix + fileName.substring(index) :
+					fileName + '_' + suffix;
+		}
+
+		return new TileExport(tileQuery, folder, fileName);
+	}
+
+	private void exportTilesConcurrently(int rows, int columns, int concurrentTiles) throws CityGMLExportException {
+		ExecutorService tileExecutor = Executors.newFixedThreadPool(concurrentTiles, r -> {
+			Thread thread = new Thread(r, "tile_exporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; shouldRun && i < rows; i++) {
+				for (int j = 0; shouldRun && j < columns; j++) {
+					TileExport tileExport = createTileExport(i, j);
+					results.add(tileExecutor.submit(() -> {
+						if (shouldRun)
+							exportTile(tileExport);
+
+						return null;
+					}));
+				}
+			}
 
-				FeatureWriter writer = null;
-				OutputFile file = null;
+			CityGMLExportException exception = null;
+			for (Future<?> result : results) {
 				try {
-					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.cityObj.msg"), this));
-					eventDispatcher.triggerEvent(new StatusDialogTitle(fileName, this));
-					eventDispatcher.triggerEvent(new CounterEvent(CounterType.REMAINING_TILES, --remainingTiles, this));
-
-					try {
-						file = fileFactory.createOutputFile(folder.resolve(fileName));
-					} catch (IOException e) {
-						throw new CityGMLExportException("Failed to create output file '" + folder.resolve(fileName) + "'.", e);
+					result.get();
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = e.getCause() instanceof CityGMLExportException ?
+								(CityGMLExportException) e.getCause() :
+								new CityGMLExportException("An unexpected error occurred.", e.getCause());
+
+						// stop the export of the remaining tiles
+						shouldRun = false;
+						activeTileExports.forEach(TileExport::shutdown);
 					}
+				} catch (InterruptedException e) {
+					throw new CityGMLExportException("Failed to wait for the export of tiles.", e);
+				}
+			}
 
-					// create relative folder for texture files
-					if (exportAppearance && !textureFolderIsAbsolute &&
-							(file.getType() == FileType.ARCHIVE || !Files.isDirectory(Paths.get(file.resolve(textureFolder))))) {
-						try {
-							file.createDirectories(textureFolder);
-							log.info("Created texture files folder '" + textureFolder + "'.");
-						} catch (IOException e) {
-							throw new CityGMLExportException("Failed to create texture files folder '" + textureFolder + "'.", e);
-						}
-					}
+			if (exception != null)
+				throw exception;
+		} finally {
+			tileExecutor.shutdownNow();
+		}
+	}
 
-					// create output writer
-					try {
-						writer = writerFactory.createFeatureWriter(new OutputStreamWriter(file.openStream(), StandardCharsets.UTF_8));
-						writer.useIndentation(file.getType() == FileType.REGULAR);
-					} catch (FeatureWriteException | IOException e) {
-						throw new CityGMLExportException("Failed to open file '" + file.getFile() + "' for writing.", e);
-					}
+	private void exportTile(TileExport tileExport) throws CityGMLExportException {
+		Path folder = tileExport.folder;
+		String fileName = tileExport.fileName;
+		Query query = tileExport.query;
 
-					// create instance of temp table manager
-					try {
-						cacheTableManager = new CacheTableManager(
-								config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads(),
-								config);
-					} catch (SQLException | IOException e) {
-						throw new CityGMLExportException("Failed to initialize internal cache manager.", e);
-					}
+		FeatureWriter writer = null;
+		OutputFile file = null;
+		CacheTableManager cacheTableManager = null;
+		UIDCacheManager uidCacheManager = null;
+		WorkerPool<DBSplittingResult> dbWorkerPool = null;
+		WorkerPool<DBXlink> xlinkExporterPool = null;
+		TextureFileWriter textureFileWriter = null;
 
-					// create instance of gml:id lookup server manager...
-					uidCacheManager = new UIDCacheManager();
-
-					// ...and start servers
-					try {
-						uidCacheManager.initCache(
-								UIDCacheType.GEOMETRY,
-								new GeometryGmlIdCache(cacheTableManager,
-										config.getProject().getExporter().getResources().getGmlIdCache().getGeometry().getPartitions(),
-										config.getProject().getDatabase().getUpdateBatching().getGmlIdCacheBatchValue()),
-								config.getProject().getExporter().getResources().getGmlIdCache().getGeometry().getCacheSize(),
-								config.getProject().getExporter().getResources().getGmlIdCache().getGeometry().getPageFactor(),
-								config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads());
-
-						uidCacheManager.initCache(
-								UIDCacheType.OBJECT,
-								new FeatureGmlIdCache(cacheTableManager,
-										config.getProject().getExporter().getResources().getGmlIdCache().getFeature().getPartitions(),
-										config.getProject().getDatabase().getUpdateBatching().getGmlIdCacheBatchValue()),
-								config.getProject().getExporter().getResources().getGmlIdCache().getFeature().getCacheSize(),
-								config.getProject().getExporter().getResources().getGmlIdCache().getFeature().getPageFactor(),
-								config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads());
-					} catch (SQLException e) {
-						throw new CityGMLExportException("Failed to initialize internal gml:id caches.", e);
-					}
+		try {
+			activeTileExports.add(tileExport);
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.cityObj.msg"), this));
+			eventDispatcher.triggerEvent(new StatusDialogTitle(fileName, this));
+			eventDispatcher.triggerEvent(new CounterEvent(CounterType.REMAINING_TILES, remainingTiles.decrementAndGet(), this));
+
+			// skip empty tiles
+			if (useTiling && !containsFeatures(query)) {
+				log.info("Skipping empty tile '" + folder.resolve(fileName) + "'.");
+				return;
+			}
 
-					// create worker pools
-					// here we have an open issue: queue sizes are fix...
-					xlinkExporterPool = new WorkerPool<>(
-							"xlink_exporter_pool",
-							1,
-							Math.max(1, config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads() / 2),
-							PoolSizeAdaptationStrategy.AGGRESSIVE,
-							new DBExportXlinkWorkerFactory(file, config, eventDispatcher),
-							300,
-							false);
-
-					dbWorkerPool = new WorkerPool<>(
-							"db_exporter_pool",
-							config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMinThreads(),
-							config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads(),
-							PoolSizeAdaptationStrategy.AGGRESSIVE,
-							new DBExportWorkerFactory(
-									file,
-									schemaMapping,
-									cityGMLBuilder,
-									writer,
-									xlinkExporterPool,
-									uidCacheManager,
-									cacheTableManager,
-									query,
-									config,
-									eventDispatcher),
-							300,
-							false);
-
-					// prestart pool workers
-					xlinkExporterPool.prestartCoreWorkers();
-					dbWorkerPool.prestartCoreWorkers();
-
-					// fail if we could not start a single import worker
-					if (dbWorkerPool.getPoolSize() == 0)
-						throw new CityGMLExportException("Failed to start database export worker pool. Check the database connection pool settings.");
-
-					// ok, preparations done. inform user...
-					log.info("Exporting to file: " + file.getFile());
-
-					// get database splitter and start query
-					try {
-						dbSplitter = new DBSplitter(
-								writer,
-								schemaMapping,
-								dbWorkerPool,
-								query,
-								uidCacheManager.getCache(UIDCacheType.OBJECT),
-								cacheTableManager,
-								eventDispatcher,
-								config);
-
-						if (shouldRun) {
-							dbSplitter.setMetadataProvider(metadataProvider);
-							dbSplitter.setCalculateNumberMatched(Internal.IS_GUI_MODE);
-							dbSplitter.startQuery();
-						}
-					} catch (SQLException | QueryBuildException | FilterException e) {
-						throw new CityGMLExportException("Failed to query the database.", e);
-					} catch (FeatureWriteException e) {
-						throw new CityGMLExportException("Failed to write to output file.", e);
-					}
+			try {
+				file = fileFactory.createOutputFile(folder.resolve(fileName));
+			} catch (IOException e) {
+				throw new CityGMLExportException("Failed to create output file '" + folder.resolve(fileName) + "'.", e);
+			}
 
-					try {
-						dbWorkerPool.shutdownAndWait();
-						xlinkExporterPool.shutdownAndWait();
-					} catch (InterruptedException e) {
-						throw new CityGMLExportException("Failed to shutdown worker pools.", e);
-					}
+			// create relative folder for texture files
+			if (exportAppearance && !textureFolderIsAbsolute &&
+					(file.getType() == FileType.ARCHIVE || !Files.isDirectory(Paths.get(file.resolve(textureFolder))))) {
+				try {
+					file.createDirectories(textureFolder);
+					log.info("Created texture files folder '" + textureFolder + "'.");
+				} catch (IOException e) {
+					throw new CityGMLExportException("Failed to create texture files folder '" + textureFolder + "'.", e);
+				}
+			}
 
-					eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
-					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.finish.msg"), this));
-				} catch (CityGMLExportException e) {
-					throw e;
-				} catch (Throwable e) {
-					throw new CityGMLExportException("An unexpected error occurred.", e);
-				} finally {
-					// close writer before closing output file
-					if (writer != null) {
-						try {
-							writer.close();
-						} catch (FeatureWriteException e) {
-							log.error("Failed to close output writer: " + e.getMessage());
-							shouldRun = false;
-						}
-					}
+			// create output writer
+			try {
+				writer = writerFactory.createFeatureWriter(new OutputStreamWriter(
+						new MeteredOutputStream(file.openStream(), MetricsRegistry.getInstance().getCounter("export.writer.bytes")),
+						StandardCharsets.UTF_8));
+				writer.useIndentation(file.getType() == FileType.REGULAR);
+			} catch (FeatureWriteException | IOException e) {
+				throw new CityGMLExportException("Failed to open file '" + file.getFile() + "' for writing.", e);
+			}
 
-					if (file != null) {
-						try {
-							file.close();
-						} catch (IOException e) {
-							log.error("Failed to close output file: " + e.getMessage());
-							shouldRun = false;
-						}
-					}
-					
-					// clean up
-					if (xlinkExporterPool != null && !xlinkExporterPool.isTerminated())
-						xlinkExporterPool.shutdownNow();
-
-					if (dbWorkerPool != null && !dbWorkerPool.isTerminated())
-						dbWorkerPool.shutdownNow();
-
-					try {
-						eventDispatcher.flushEvents();
-					} catch (InterruptedException e) {
-						//
-					}
+			// create instance of temp table manager
+			try {
+				cacheTableManager = new CacheTableManager(maxWorkerThreads, config);
+			} catch (SQLException | IOException e) {
+				throw new CityGMLExportException("Failed to initialize internal cache manager.", e);
+			}
 
-					if (uidCacheManager != null) {
-						try {
-							uidCacheManager.shutdownAll();
-						} catch (SQLException e) {
-							log.error("Failed to clean gml:id caches: " + e.getMessage());
-							shouldRun = false;
-						}
-					}
+			// create instance of gml:id lookup server manager...
+			uidCacheManager = new UIDCacheManager();
 
-					if (cacheTableManager != null) {
-						try {
-							log.info("Cleaning temporary cache.");
-							cacheTableManager.dropAll();
-							cacheTableManager = null;
-						} catch (SQLException e) {
-							log.error("Failed to clean temporary cache: " + e.getMessage());
-							shouldRun = false;
-						}					
-					}
+			// ...and start servers
+			try {
+				uidCacheManager.initCache(
+						UIDCacheType.GEOMETRY,
+						new GeometryGmlIdCache(cacheTableManager,
+								config.getProject().getExporter().getResources().getGmlIdCache().getGeometry().getPartitions(),
+								config.getProject().getDatabase().getUpdateBatching().getGmlIdCacheBatchValue()),
+						config.getProject().getExporter().getResources().getGmlIdCache().getGeometry(),
+						maxWorkerThreads);
+
+				uidCacheManager.initCache(
+						UIDCacheType.OBJECT,
+						new FeatureGmlIdCache(cacheTableManager,
+								config.getProject().getExporter().getResources().getGmlIdCache().getFeature().getPartitions(),
+								config.getProject().getDatabase().getUpdateBatching().getGmlIdCacheBatchValue()),
+						config.getProject().getExporter().getResources().getGmlIdCache().getFeature(),
+						maxWorkerThreads);
+			} catch (SQLException e) {
+				throw new CityGMLExportException("Failed to initialize internal gml:id caches.", e);
+			}
+
+			// create texture file writer
+			if (exportAppearance && config.getProject().getExporter().getAppearances().isSetExportTextureFiles()) {
+				textureFileWriter = new TextureFileWriter(file,
+						Math.max(1, maxWorkerThreads / 2),
+						config.getProject().getExporter().getAppearances().isSetOverwriteTextureFiles());
+			}
+
+			// create worker pools
+			// here we have an open issue: queue sizes are fix...
+			xlinkExporterPool = new WorkerPool<>(
+					"xlink_exporter_pool",
+					1,
+					Math.max(1, maxWorkerThreads / 2),
+					adaptationStrategy,
+					new DBExportXlinkWorkerFactory(file, textureFileWriter, config, eventDispatcher),
+					300,
+					false);
+
+			dbWorkerPool = new WorkerPool<>(
+					"db_exporter_pool",
+					minWorkerThreads,
+					maxWorkerThreads,
+					adaptationStrategy,
+					new DBExportWorkerFactory(
+							file,
+							schemaMapping,
+							cityGMLBuilder,
+							writer,
+							xlinkExporterPool,
+							uidCacheManager,
+							cacheTableManager,
+							query,
+							config,
+							eventDispatcher),
+					300,
+					false);
+
+			tileExport.xlinkExporterPool = xlinkExporterPool;
+			tileExport.dbWorkerPool = dbWorkerPool;
+
+			// prestart pool workers
+			xlinkExporterPool.prestartCoreWorkers();
+			dbWorkerPool.prestartCoreWorkers();
+
+			// fail if we could not start a single import worker
+			if (dbWorkerPool.getPoolSize() == 0)
+				throw new CityGMLExportException("Failed to start database export worker pool. Check the database connection pool settings.");
+
+			// ok, preparations done. inform user...
+			log.info("Exporting to file: " + file.getFile());
+
+			// get database splitter and start query
+			try {
+				DBSplitter dbSplitter = new DBSplitter(
+						writer,
+						schemaMapping,
+						dbWorkerPool,
+						query,
+						uidCacheManager.getCache(UIDCacheType.OBJECT),
+						cacheTableManager,
+						eventDispatcher,
+						config);
+
+				tileExport.dbSplitter = dbSplitter;
+				if (shouldRun) {
+					dbSplitter.setMetadataProvider(metadataProvider);
+					dbSplitter.setCalculateNumberMatched(Internal.IS_GUI_MODE);
+					dbSplitter.startQuery();
 				}
+			} catch (SQLException | QueryBuildException | FilterException e) {
+				throw new CityGMLExportException("Failed to query the database.", e);
+			} catch (FeatureWriteException e) {
+				throw new CityGMLExportException("Failed to write to output file.", e);
+			}
 
-				// show exported features
-				if (!objectCounter.isEmpty()) {
-					log.info("Exported city objects:");
-					Map<String, Long> typeNames = Util.mapObjectCounter(objectCounter, schemaMapping);					
-					typeNames.keySet().stream().sorted().forEach(object -> log.info(object + ": " + typeNames.get(object)));			
+			try {
+				dbWorkerPool.shutdownAndWait();
+				xlinkExporterPool.shutdownAndWait();
+
+				if (textureFileWriter != null) {
+					textureFileWriter.shutdownAndWait();
+					textureFileWriter.logStatistics();
 				}
+			} catch (InterruptedException e) {
+				throw new CityGMLExportException("Failed to shutdown worker pools.", e);
+			}
 
-				// show processed geometries
-				if (!geometryCounter.isEmpty())
-					log.info("Processed geometry objects: " + geometryCounter.values().stream().reduce(0L, Long::sum));
+			eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.finish.msg"), this));
+		} catch (CityGMLExportException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new CityGMLExportException("An unexpected error occurred.", e);
+		} finally {
+			activeTileExports.remove(tileExport);
+
+			// close writer before closing output file
+			if (writer != null) {
+				try {
+					writer.close();
+				} catch (FeatureWriteException e) {
+					log.error("Failed to close output writer: " + e.getMessage());
+					shouldRun = false;
+				}
+			}
 
-				objectCounter.clear();
-				geometryCounter.clear();
+			if (file != null) {
+				try {
+					file.close();
+				} catch (IOException e) {
+					log.error("Failed to close output file: " + e.getMessage());
+					shouldRun = false;
+				}
 			}
-		}
 
-		// show totally exported features
-		if (useTiling && (rows > 1 || columns > 1)) {
-			if (!totalObjectCounter.isEmpty()) {
-				log.info("Total exported CityGML features:");
-				Map<String, Long> typeNames = Util.mapObjectCounter(totalObjectCounter, schemaMapping);
-				typeNames.keySet().forEach(object -> log.info(object + ": " + typeNames.get(object)));	
+			// clean up
+			if (xlinkExporterPool != null && !xlinkExporterPool.isTerminated())
+				xlinkExporterPool.shutdownNow();
+
+			if (dbWorkerPool != null && !dbWorkerPool.isTerminated())
+				dbWorkerPool.shutdownNow();
+
+			if (textureFileWriter != null)
+				textureFileWriter.shutdownNow();
+
+			try {
+				eventDispatcher.flushEvents();
+			} catch (InterruptedException e) {
+				//
 			}
 
-			if (!totalGeometryCounter.isEmpty())
-				log.info("Total processed objects: " + totalGeometryCounter.values().stream().reduce(0L, Long::sum));
+			if (uidCacheManager != null) {
+				try {
+					uidCacheManager.shutdownAll();
+				} catch (SQLException e) {
+					log.error("Failed to clean gml:id caches: " + e.getMessage());
+					shouldRun = false;
+				}
+			}
+
+			if (cacheTableManager != null) {
+				try {
+					log.info("Cleaning temporary cache.");
+					cacheTableManager.dropAll();
+				} catch (SQLException e) {
+					log.error("Failed to clean temporary cache: " + e.getMessage());
+					shouldRun = false;
+				}
+			}
 		}
+	}
 
-		if (shouldRun)
-			log.info("Total export time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
+	private boolean containsFeatures(Query query) throws CityGMLExportException {
+		if (query.getFeatureTypeFilter().isEmpty())
+			return false;
 
-		return shouldRun;
+		try (Connection connection = DatabaseConnectionPool.getInstance().getConnection()) {
+			// try and change workspace for connection
+			if (databaseAdapter.hasVersioningSupport()) {
+				databaseAdapter.getWorkspaceManager().gotoWorkspace(
+						connection,
+						config.getProject().getDatabase().getWorkspaces().getExportWorkspace());
+			}
+
+			// we only need to know whether the tile contains at least one feature
+			Select select = new SQLQueryBuilder(schemaMapping, databaseAdapter, BuildProperties.defaults()).buildQuery(query);
+			try (PreparedStatement stmt = databaseAdapter.getSQLAdapter().prepareStatement(select, connection)) {
+				stmt.setMaxRows(1);
+				try (ResultSet rs = stmt.executeQuery()) {
+					return rs.next();
+				}
+			}
+		} catch (SQLException | QueryBuildException e) {
+			throw new CityGMLExportException("Failed to query the number of features on the tile.", e);
+		}
+	}
+
+	private int getConnectionsPerTile(int workerThreads) {
+		// export workers, xlink workers, database splitter and cache tables
+		return workerThreads + Math.max(1, workerThreads / 2) + 3;
 	}
 
 	@Override
@@ -650,15 +838,35 @@ public class Exporter implements EventHandler {
 				if (msg != null)
 					log.log(interruptEvent.getLogLevelType(), msg);
 
-				if (dbSplitter != null)
-					dbSplitter.shutdown();
+				activeTileExports.forEach(TileExport::shutdown);
+			}
+		}
+	}
 
-				if (dbWorkerPool != null)
-					dbWorkerPool.drainWorkQueue();
+	private static class TileExport {
+		private final Query query;
+		private final Path folder;
+		private final String fileName;
 
-				if (xlinkExporterPool != null)
-					xlinkExporterPool.drainWorkQueue();
-			}
+		private volatile DBSplitter dbSplitter;
+		private volatile WorkerPool<DBSplittingResult> dbWorkerPool;
+		private volatile WorkerPool<DBXlink> xlinkExporterPool;
+
+		TileExport(Query query, Path folder, String fileName) {
+			this.query = query;
+			this.folder = folder;
+			this.fileName = fileName;
+		}
+
+		void shutdown() {
+			if (dbSplitter != null)
+				dbSplitter.shutdown();
+
+			if (dbWorkerPool != null)
+				dbWorkerPool.drainWorkQueue();
+
+			if (xlinkExporterPool != null)
+				xlinkExporterPool.drainWorkQueue();
 		}
 	}
 }
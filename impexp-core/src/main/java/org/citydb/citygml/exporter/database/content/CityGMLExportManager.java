@@ -62,6 +62,8 @@ import org.citydb.database.schema.mapping.ObjectType;
 import org.citydb.database.schema.mapping.SchemaMapping;
 import org.citydb.file.OutputFile;
 import org.citydb.log.Logger;
+import org.citydb.metrics.MetricsRegistry;
+import org.citydb.metrics.Timer;
 import org.citydb.query.Query;
 import org.citydb.query.filter.lod.LodFilter;
 import org.citydb.query.filter.projection.CombinedProjectionFilter;
@@ -128,6 +130,8 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.Reader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -142,6 +146,7 @@ public class CityGMLExportManager implements CityGMLExportHelper {
 	private final Logger log = Logger.getInstance();
 	private final IdentityHashMap<Class<? extends DBExporter>, DBExporter> exporters = new IdentityHashMap<>();
 	private final IdentityHashMap<ADEExtension, ADEExportManager> adeExporters = new IdentityHashMap<>();
+	private final IdentityHashMap<Class<? extends DBExporter>, Timer> queryTimers = new IdentityHashMap<>();
 
 	private final OutputFile outputFile;
 	private final Connection connection;
@@ -448,6 +453,13 @@ public class CityGMLExportManager implements CityGMLExportHelper {
 		return getExporter(DBGlobalAppearance.class).doExport(appearanceId);
 	}
 
+	public void executeBatch() throws CityGMLExportException, SQLException {
+		// resolve surface geometries that have been deferred while exporting the current feature
+		DBSurfaceGeometry geometryExporter = (DBSurfaceGeometry)exporters.get(DBSurfaceGeometry.class);
+		if (geometryExporter != null)
+			geometryExporter.executeBatch();
+	}
+
 	@Override
 	public boolean exportAsGlobalFeature(AbstractFeature feature) throws CityGMLExportException {
 		if (featureWriter.supportsFlatHierarchies()) {
@@ -455,7 +467,10 @@ public class CityGMLExportManager implements CityGMLExportHelper {
 				feature.setLocalProperty(CoreConstants.EXPORT_AS_ADDITIONAL_OBJECT, true);
 
 			try {
+				executeBatch();
 				featureWriter.write(feature, -1);
+			} catch (SQLException e) {
+				throw new CityGMLExportException("Failed to query surface geometries of global feature with gml:id '" + feature.getId() + "'.", e);
 			} catch (FeatureWriteException e) {
 				throw new CityGMLExportException("Failed to write global feature with gml:id '" + feature.getId() + "'.", e);
 			}
@@ -757,6 +772,17 @@ public class CityGMLExportManager implements CityGMLExportHelper {
 		return object;
 	}
 
+	public ResultSet executeQuery(PreparedStatement ps, Class<? extends DBExporter> type) throws SQLException {
+		Timer timer = queryTimers.computeIfAbsent(type,
+				v -> MetricsRegistry.getInstance().getTimer("export.query." + type.getSimpleName()));
+		long start = timer.start();
+		try {
+			return ps.executeQuery();
+		} finally {
+			timer.stop(start);
+		}
+	}
+
 	public void close() throws CityGMLExportException, SQLException {
 		for (DBExporter exporter : exporters.values())
 			exporter.close();
@@ -80,7 +80,7 @@ public class DBAddress extends AbstractFeatureExporter<Address> {
 	protected Collection<Address> doExport(long id, Address root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<Address> addresses = new ArrayList<>();
 
 			while (rs.next()) {
@@ -172,7 +172,7 @@ public class DBBridge extends AbstractFeatureExporter<AbstractBridge> {
 	protected Collection<AbstractBridge> doExport(long id, AbstractBridge root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentBridgeId = 0;
 			AbstractBridge bridge = null;
 			ProjectionFilter projectionFilter = null;
@@ -365,29 +365,31 @@ public class DBBridge extends AbstractFeatureExporter<AbstractBridge> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-								SolidProperty solidProperty = new SolidProperty();
-								if (geometry.isSetGeometry())
-									solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-								else
-									solidProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									bridge.setLod1Solid(solidProperty);
-									break;
-								case 2:
-									bridge.setLod2Solid(solidProperty);
-									break;
-								case 3:
-									bridge.setLod3Solid(solidProperty);
-									break;
-								case 4:
-									bridge.setLod4Solid(solidProperty);
-									break;
+							AbstractBridge target = bridge;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+									SolidProperty solidProperty = new SolidProperty();
+									if (geometry.isSetGeometry())
+										solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+									else
+										solidProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1Solid(solidProperty);
+										break;
+									case 2:
+										target.setLod2Solid(solidProperty);
+										break;
+									case 3:
+										target.setLod3Solid(solidProperty);
+										break;
+									case 4:
+										target.setLod4Solid(solidProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						// brid:lodXMultiSurface
@@ -402,29 +404,31 @@ public class DBBridge extends AbstractFeatureExporter<AbstractBridge> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									bridge.setLod1MultiSurface(multiSurfaceProperty);
-									break;
-								case 2:
-									bridge.setLod2MultiSurface(multiSurfaceProperty);
-									break;
-								case 3:
-									bridge.setLod3MultiSurface(multiSurfaceProperty);
-									break;
-								case 4:
-									bridge.setLod4MultiSurface(multiSurfaceProperty);
-									break;
+							AbstractBridge target = bridge;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1MultiSurface(multiSurfaceProperty);
+										break;
+									case 2:
+										target.setLod2MultiSurface(multiSurfaceProperty);
+										break;
+									case 3:
+										target.setLod3MultiSurface(multiSurfaceProperty);
+										break;
+									case 4:
+										target.setLod4MultiSurface(multiSurfaceProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						// delegate export of generic ADE properties
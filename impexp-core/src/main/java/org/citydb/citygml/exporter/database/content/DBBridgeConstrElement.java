@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -128,7 +129,7 @@ public class DBBridgeConstrElement extends AbstractFeatureExporter<BridgeConstru
 	protected Collection<BridgeConstructionElement> doExport(long id, BridgeConstructionElement root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<BridgeConstructionElement> constructionElements = new ArrayList<>();
 
 			while (rs.next()) {
@@ -241,37 +242,38 @@ public class DBBridgeConstrElement extends AbstractFeatureExporter<BridgeConstru
 					if (geometryId == 0 && geometryObj == null)
 						continue;
 
-					GeometryProperty<AbstractGeometry> geometryProperty = null;
-					if (geometryId != 0) {
-						SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-						if (geometry != null) {
-							geometryProperty = new GeometryProperty<>();
-							if (geometry.isSetGeometry())
-								geometryProperty.setGeometry(geometry.getGeometry());
-							else
-								geometryProperty.setHref(geometry.getReference());
-						}
-					} else {
-						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
-						if (geometry != null)
-							geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
-					}
-
-					if (geometryProperty != null) {
+					BridgeConstructionElement target = constructionElement;
+					Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
 						switch (lod) {
 						case 1:
-							constructionElement.setLod1Geometry(geometryProperty);
+							target.setLod1Geometry(geometryProperty);
 							break;
 						case 2:
-							constructionElement.setLod2Geometry(geometryProperty);
+							target.setLod2Geometry(geometryProperty);
 							break;
 						case 3:
-							constructionElement.setLod3Geometry(geometryProperty);
+							target.setLod3Geometry(geometryProperty);
 							break;
 						case 4:
-							constructionElement.setLod4Geometry(geometryProperty);
+							target.setLod4Geometry(geometryProperty);
 							break;
 						}
+					};
+
+					if (geometryId != 0) {
+						geometryExporter.addBatch(geometryId, geometry -> {
+							GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
+							if (geometry.isSetGeometry())
+								geometryProperty.setGeometry(geometry.getGeometry());
+							else
+								geometryProperty.setHref(geometry.getReference());
+
+							geometrySetter.accept(geometryProperty);
+						});
+					} else {
+						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
+						if (geometry != null)
+							geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 					}
 				}
 
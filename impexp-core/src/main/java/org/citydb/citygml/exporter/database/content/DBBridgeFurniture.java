@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -109,7 +110,7 @@ public class DBBridgeFurniture extends AbstractFeatureExporter<BridgeFurniture>
 	protected Collection<BridgeFurniture> doExport(long id, BridgeFurniture root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<BridgeFurniture> bridgeFurnitures = new ArrayList<>();
 			
 			while (rs.next()) {
@@ -176,24 +177,26 @@ public class DBBridgeFurniture extends AbstractFeatureExporter<BridgeFurniture>
 						long geometryId = rs.getLong("lod4_brep_id");
 						Object geometryObj = rs.getObject("lod4_other_geom");
 						if (geometryId != 0 || geometryObj != null) {
-							GeometryProperty<AbstractGeometry> geometryProperty = null;
+							BridgeFurniture target = bridgeFurniture;
+							Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
+								target.setLod4Geometry(geometryProperty);
+							};
+
 							if (geometryId != 0) {
-								SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-								if (geometry != null) {
-									geometryProperty = new GeometryProperty<>();
+								geometryExporter.addBatch(geometryId, geometry -> {
+									GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
 									if (geometry.isSetGeometry())
 										geometryProperty.setGeometry(geometry.getGeometry());
 									else
 										geometryProperty.setHref(geometry.getReference());
-								}
+
+									geometrySetter.accept(geometryProperty);
+								});
 							} else {
 								GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
 								if (geometry != null)
-									geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
+									geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 							}
-
-							if (geometryProperty != null)
-								bridgeFurniture.setLod4Geometry(geometryProperty);
 						}
 					}
 
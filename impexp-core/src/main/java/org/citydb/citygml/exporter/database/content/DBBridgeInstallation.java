@@ -36,6 +36,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -148,7 +149,7 @@ public class DBBridgeInstallation extends AbstractFeatureExporter<AbstractCityOb
 	protected Collection<AbstractCityObject> doExport(long id, AbstractCityObject root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractCityObject> installations = new ArrayList<>();
 
 			while (rs.next()) {
@@ -241,39 +242,40 @@ public class DBBridgeInstallation extends AbstractFeatureExporter<AbstractCityOb
 					if (geometryId == 0 && geometryObj == null)
 						continue;
 
-					GeometryProperty<AbstractGeometry> geometryProperty = null;
-					if (geometryId != 0) {
-						SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-						if (geometry != null) {
-							geometryProperty = new GeometryProperty<>();
-							if (geometry.isSetGeometry())
-								geometryProperty.setGeometry(geometry.getGeometry());
-							else
-								geometryProperty.setHref(geometry.getReference());
-						}
-					} else {
-						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
-						if (geometry != null)
-							geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
-					}
-
-					if (geometryProperty != null) {
+					AbstractCityObject target = installation;
+					Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
 						switch (lod) {
 						case 2:
 							if (isExteriorInstallation)
-								((BridgeInstallation)installation).setLod2Geometry(geometryProperty);
+								((BridgeInstallation)target).setLod2Geometry(geometryProperty);
 							break;
 						case 3:
 							if (isExteriorInstallation)
-								((BridgeInstallation)installation).setLod3Geometry(geometryProperty);
+								((BridgeInstallation)target).setLod3Geometry(geometryProperty);
 							break;
 						case 4:
 							if (isExteriorInstallation)
-								((BridgeInstallation)installation).setLod4Geometry(geometryProperty);
+								((BridgeInstallation)target).setLod4Geometry(geometryProperty);
 							else
-								((IntBridgeInstallation)installation).setLod4Geometry(geometryProperty);
+								((IntBridgeInstallation)target).setLod4Geometry(geometryProperty);
 							break;
 						}
+					};
+
+					if (geometryId != 0) {
+						geometryExporter.addBatch(geometryId, geometry -> {
+							GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
+							if (geometry.isSetGeometry())
+								geometryProperty.setGeometry(geometry.getGeometry());
+							else
+								geometryProperty.setHref(geometry.getReference());
+
+							geometrySetter.accept(geometryProperty);
+						});
+					} else {
+						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
+						if (geometry != null)
+							geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 					}
 				}
 
@@ -117,7 +117,7 @@ public class DBBridgeRoom extends AbstractFeatureExporter<BridgeRoom> {
 	protected Collection<BridgeRoom> doExport(long id, BridgeRoom root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<BridgeRoom> bridgeRooms = new ArrayList<>();
 
 			while (rs.next()) {
@@ -201,16 +201,18 @@ public class DBBridgeRoom extends AbstractFeatureExporter<BridgeRoom> {
 					if (projectionFilter.containsProperty("lod4MultiSurface", bridgeModule)) {					
 						long surfaceGeometryId = rs.getLong("lod4_multi_surface_id");
 						if (!rs.wasNull()) {
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								bridgeRoom.setLod4MultiSurface(multiSurfaceProperty);
-							}
+							BridgeRoom target = bridgeRoom;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									target.setLod4MultiSurface(multiSurfaceProperty);
+								}
+							});
 						}
 					}
 
@@ -218,16 +220,18 @@ public class DBBridgeRoom extends AbstractFeatureExporter<BridgeRoom> {
 					if (projectionFilter.containsProperty("lod4Solid", bridgeModule)) {					
 						long solidGeometryId = rs.getLong("lod4_solid_id");
 						if (!rs.wasNull()) {
-							SurfaceGeometry geometry = geometryExporter.doExport(solidGeometryId);
-							if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-								SolidProperty solidProperty = new SolidProperty();
-								if (geometry.isSetGeometry())
-									solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-								else
-									solidProperty.setHref(geometry.getReference());
-
-								bridgeRoom.setLod4Solid(solidProperty);
-							}
+							BridgeRoom target = bridgeRoom;
+							geometryExporter.addBatch(solidGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+									SolidProperty solidProperty = new SolidProperty();
+									if (geometry.isSetGeometry())
+										solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+									else
+										solidProperty.setHref(geometry.getReference());
+
+									target.setLod4Solid(solidProperty);
+								}
+							});
 						}
 					}
 				}
@@ -179,7 +179,7 @@ public class DBBuilding extends AbstractFeatureExporter<AbstractBuilding> {
 	protected Collection<AbstractBuilding> doExport(long id, AbstractBuilding root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentBuildingId = 0;
 			AbstractBuilding building = null;
 			ProjectionFilter projectionFilter = null;
@@ -420,23 +420,26 @@ public class DBBuilding extends AbstractFeatureExporter<AbstractBuilding> {
 								if (rs.wasNull())
 									continue;
 
-								SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-								if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-									if (geometry.isSetGeometry())
-										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-									else
-										multiSurfaceProperty.setHref(geometry.getReference());
-
-									switch (i) {
-									case 0:
-										building.setLod0FootPrint(multiSurfaceProperty);
-										break;
-									case 1:
-										building.setLod0RoofEdge(multiSurfaceProperty);
-										break;
+								AbstractBuilding target = building;
+								int property = i;
+								geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+									if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+										MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+										if (geometry.isSetGeometry())
+											multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+										else
+											multiSurfaceProperty.setHref(geometry.getReference());
+
+										switch (property) {
+										case 0:
+											target.setLod0FootPrint(multiSurfaceProperty);
+											break;
+										case 1:
+											target.setLod0RoofEdge(multiSurfaceProperty);
+											break;
+										}
 									}
-								}
+								});
 							}
 						}
 
@@ -452,29 +455,31 @@ public class DBBuilding extends AbstractFeatureExporter<AbstractBuilding> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-								SolidProperty solidProperty = new SolidProperty();
-								if (geometry.isSetGeometry())
-									solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-								else
-									solidProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									building.setLod1Solid(solidProperty);
-									break;
-								case 2:
-									building.setLod2Solid(solidProperty);
-									break;
-								case 3:
-									building.setLod3Solid(solidProperty);
-									break;
-								case 4:
-									building.setLod4Solid(solidProperty);
-									break;
+							AbstractBuilding target = building;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+									SolidProperty solidProperty = new SolidProperty();
+									if (geometry.isSetGeometry())
+										solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+									else
+										solidProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1Solid(solidProperty);
+										break;
+									case 2:
+										target.setLod2Solid(solidProperty);
+										break;
+									case 3:
+										target.setLod3Solid(solidProperty);
+										break;
+									case 4:
+										target.setLod4Solid(solidProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						// bldg:lodXMultiSurface
@@ -489,29 +494,31 @@ public class DBBuilding extends AbstractFeatureExporter<AbstractBuilding> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									building.setLod1MultiSurface(multiSurfaceProperty);
-									break;
-								case 2:
-									building.setLod2MultiSurface(multiSurfaceProperty);
-									break;
-								case 3:
-									building.setLod3MultiSurface(multiSurfaceProperty);
-									break;
-								case 4:
-									building.setLod4MultiSurface(multiSurfaceProperty);
-									break;
+							AbstractBuilding target = building;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1MultiSurface(multiSurfaceProperty);
+										break;
+									case 2:
+										target.setLod2MultiSurface(multiSurfaceProperty);
+										break;
+									case 3:
+										target.setLod3MultiSurface(multiSurfaceProperty);
+										break;
+									case 4:
+										target.setLod4MultiSurface(multiSurfaceProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						// delegate export of generic ADE properties
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -119,7 +120,7 @@ public class DBCityFurniture extends AbstractFeatureExporter<CityFurniture> {
 	protected Collection<CityFurniture> doExport(long id, CityFurniture root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<CityFurniture> cityFurnitures = new ArrayList<>();
 
 			while (rs.next()) {
@@ -227,37 +228,38 @@ public class DBCityFurniture extends AbstractFeatureExporter<CityFurniture> {
 					if (geometryId == 0 && geometryObj == null)
 						continue;
 
-					GeometryProperty<AbstractGeometry> geometryProperty = null;
-					if (geometryId != 0) {
-						SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-						if (geometry != null) {
-							geometryProperty = new GeometryProperty<>();
-							if (geometry.isSetGeometry())
-								geometryProperty.setGeometry(geometry.getGeometry());
-							else
-								geometryProperty.setHref(geometry.getReference());
-						}
-					} else {
-						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
-						if (geometry != null)
-							geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
-					}
-
-					if (geometryProperty != null) {
+					CityFurniture target = cityFurniture;
+					Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
 						switch (lod) {
 						case 1:
-							cityFurniture.setLod1Geometry(geometryProperty);
+							target.setLod1Geometry(geometryProperty);
 							break;
 						case 2:
-							cityFurniture.setLod2Geometry(geometryProperty);
+							target.setLod2Geometry(geometryProperty);
 							break;
 						case 3:
-							cityFurniture.setLod3Geometry(geometryProperty);
+							target.setLod3Geometry(geometryProperty);
 							break;
 						case 4:
-							cityFurniture.setLod4Geometry(geometryProperty);
+							target.setLod4Geometry(geometryProperty);
 							break;
 						}
+					};
+
+					if (geometryId != 0) {
+						geometryExporter.addBatch(geometryId, geometry -> {
+							GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
+							if (geometry.isSetGeometry())
+								geometryProperty.setGeometry(geometry.getGeometry());
+							else
+								geometryProperty.setHref(geometry.getReference());
+
+							geometrySetter.accept(geometryProperty);
+						});
+					} else {
+						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
+						if (geometry != null)
+							geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 					}
 				}
 
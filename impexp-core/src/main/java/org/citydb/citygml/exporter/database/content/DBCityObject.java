@@ -173,7 +173,7 @@ public class DBCityObject implements DBExporter {
 
 		ps.setLong(1, objectId);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			if (rs.next()) {
 				// gml:id
 				object.setId(rs.getString("gmlid"));
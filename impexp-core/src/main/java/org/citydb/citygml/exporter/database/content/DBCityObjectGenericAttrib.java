@@ -54,10 +54,12 @@ import java.sql.Timestamp;
 import java.util.HashMap;
 
 public class DBCityObjectGenericAttrib implements DBExporter {
+	private final CityGMLExportManager exporter;
 	private PreparedStatement ps;
 	private HashMap<Long, GenericAttributeSet> attributeSets;
 
 	public DBCityObjectGenericAttrib(Connection connection, CityGMLExportManager exporter) throws SQLException {
+		this.exporter = exporter;
 		String schema = exporter.getDatabaseAdapter().getConnectionDetails().getSchema();
 
 		Table table = new Table(TableEnum.CITYOBJECT_GENERICATTRIB.getName(), schema);
@@ -75,7 +77,7 @@ public class DBCityObjectGenericAttrib implements DBExporter {
 	protected void doExport(AbstractCityObject cityObject, long cityObjectId, ProjectionFilter projectionFilter) throws SQLException {
 		ps.setLong(1, cityObjectId);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			while (rs.next()) {
 				long id = rs.getLong(1);
 				long parentId = rs.getLong(2);
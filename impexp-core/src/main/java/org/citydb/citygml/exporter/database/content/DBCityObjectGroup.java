@@ -55,6 +55,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class DBCityObjectGroup extends AbstractTypeExporter {
 	private final PreparedStatement ps;
@@ -113,7 +114,7 @@ public class DBCityObjectGroup extends AbstractTypeExporter {
 	protected boolean doExport(CityObjectGroup cityObjectGroup, long id, FeatureType featureType) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			boolean isInited = false;
 
 			// get projection filter
@@ -155,24 +156,25 @@ public class DBCityObjectGroup extends AbstractTypeExporter {
 						long geometryId = rs.getLong("brep_id");
 						Object geometryObj = rs.getObject("other_geom");
 						if (geometryId != 0 || geometryObj != null) {
-							GeometryProperty<AbstractGeometry> geometryProperty = null;
+							Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
+								cityObjectGroup.setGeometry(geometryProperty);
+							};
+
 							if (geometryId != 0) {
-								SurfaceGeometry geometry = surfaceGeometryExporter.doExport(geometryId);
-								if (geometry != null) {
-									geometryProperty = new GeometryProperty<>();
+								surfaceGeometryExporter.addBatch(geometryId, geometry -> {
+									GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
 									if (geometry.isSetGeometry())
 										geometryProperty.setGeometry(geometry.getGeometry());
 									else
 										geometryProperty.setHref(geometry.getReference());
-								}
+
+									geometrySetter.accept(geometryProperty);
+								});
 							} else {
 								GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
 								if (geometry != null)
-									geometryProperty = new GeometryProperty<AbstractGeometry>(gmlConverter.getPointOrCurveGeometry(geometry, true));
+									geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 							}
-
-							if (geometryProperty != null)
-								cityObjectGroup.setGeometry(geometryProperty);
 						}
 					}
 
@@ -100,7 +100,7 @@ public class DBGeneralization implements DBExporter {
 			select.addSelection(ComparisonFactory.in((Column)select.getProjection().get(0), new LiteralList(generalizesTos.toArray(new Long[generalizesTos.size()]))));	
 
 		try (PreparedStatement stmt = exporter.getDatabaseAdapter().getSQLAdapter().prepareStatement(select, connection);
-				ResultSet rs = stmt.executeQuery()) {
+				ResultSet rs = exporter.executeQuery(stmt, getClass())) {
 			
 			while (rs.next()) {
 				String gmlId = rs.getString("gmlid");			
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -123,7 +124,7 @@ public class DBGenericCityObject extends AbstractFeatureExporter<GenericCityObje
 	protected Collection<GenericCityObject> doExport(long id, GenericCityObject root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<GenericCityObject> genericCityObjects = new ArrayList<>();
 
 			while (rs.next()) {
@@ -235,40 +236,41 @@ public class DBGenericCityObject extends AbstractFeatureExporter<GenericCityObje
 					if (geometryId == 0 && geometryObj == null)
 						continue;
 
-					GeometryProperty<AbstractGeometry> geometryProperty = null;
-					if (geometryId != 0) {
-						SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-						if (geometry != null) {
-							geometryProperty = new GeometryProperty<>();
-							if (geometry.isSetGeometry())
-								geometryProperty.setGeometry(geometry.getGeometry());
-							else
-								geometryProperty.setHref(geometry.getReference());
-						}
-					} else {
-						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
-						if (geometry != null)
-							geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
-					}
-
-					if (geometryProperty != null) {
+					GenericCityObject target = genericCityObject;
+					Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
 						switch (lod) {
 						case 0:
-							genericCityObject.setLod0Geometry(geometryProperty);
+							target.setLod0Geometry(geometryProperty);
 							break;
 						case 1:
-							genericCityObject.setLod1Geometry(geometryProperty);
+							target.setLod1Geometry(geometryProperty);
 							break;
 						case 2:
-							genericCityObject.setLod2Geometry(geometryProperty);
+							target.setLod2Geometry(geometryProperty);
 							break;
 						case 3:
-							genericCityObject.setLod3Geometry(geometryProperty);
+							target.setLod3Geometry(geometryProperty);
 							break;
 						case 4:
-							genericCityObject.setLod4Geometry(geometryProperty);
+							target.setLod4Geometry(geometryProperty);
 							break;
 						}
+					};
+
+					if (geometryId != 0) {
+						geometryExporter.addBatch(geometryId, geometry -> {
+							GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
+							if (geometry.isSetGeometry())
+								geometryProperty.setGeometry(geometry.getGeometry());
+							else
+								geometryProperty.setHref(geometry.getReference());
+
+							geometrySetter.accept(geometryProperty);
+						});
+					} else {
+						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
+						if (geometry != null)
+							geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 					}
 				}
 
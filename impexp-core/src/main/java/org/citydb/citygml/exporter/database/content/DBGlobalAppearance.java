@@ -46,7 +46,7 @@ public class DBGlobalAppearance extends AbstractAppearanceExporter {
 	protected Appearance doExport(long appearanceId) throws CityGMLExportException, SQLException {
 		ps.setLong(1, appearanceId);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			Appearance appearance = new Appearance();
 			boolean isInited = false;
 
@@ -92,7 +92,7 @@ public class DBImplicitGeometry implements DBExporter {
 	protected ImplicitGeometry doExport(long id, GeometryObject referencePoint, String transformationMatrix) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 		
-		try (ResultSet rs = ps.executeQuery()) {		
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {		
 			ImplicitGeometry implicit = new ImplicitGeometry();
 			boolean isValid = false;
 
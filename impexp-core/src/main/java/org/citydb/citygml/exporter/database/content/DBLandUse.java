@@ -101,7 +101,7 @@ public class DBLandUse extends AbstractFeatureExporter<LandUse> {
 	protected Collection<LandUse> doExport(long id, LandUse root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<LandUse> landUses = new ArrayList<>();
 
 			while (rs.next()) {
@@ -175,32 +175,34 @@ public class DBLandUse extends AbstractFeatureExporter<LandUse> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.isSetGeometry())
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 0:
-							landUse.setLod0MultiSurface(multiSurfaceProperty);
-							break;
-						case 1:
-							landUse.setLod1MultiSurface(multiSurfaceProperty);
-							break;
-						case 2:
-							landUse.setLod2MultiSurface(multiSurfaceProperty);
-							break;
-						case 3:
-							landUse.setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							landUse.setLod4MultiSurface(multiSurfaceProperty);
-							break;
+					LandUse target = landUse;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.isSetGeometry())
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+							else
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 0:
+								target.setLod0MultiSurface(multiSurfaceProperty);
+								break;
+							case 1:
+								target.setLod1MultiSurface(multiSurfaceProperty);
+								break;
+							case 2:
+								target.setLod2MultiSurface(multiSurfaceProperty);
+								break;
+							case 3:
+								target.setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								target.setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
@@ -58,7 +58,7 @@ public class DBLocalAppearance extends AbstractAppearanceExporter {
 		for (int i = 0; i < themes.size(); i++)
 			ps.setString(i + 2, (String)themes.get(i).getValue());
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentAppearanceId = 0;
 			Appearance appearance = null;
 			final HashMap<Long, Appearance> appearances = new HashMap<>();
@@ -108,7 +108,7 @@ public class DBPlantCover extends AbstractFeatureExporter<PlantCover> {
 	protected Collection<PlantCover> doExport(long id, PlantCover root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<PlantCover> plantCovers = new ArrayList<>();
 
 			while (rs.next()) {
@@ -191,29 +191,31 @@ public class DBPlantCover extends AbstractFeatureExporter<PlantCover> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.getGeometry() != null)
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
+					PlantCover target = plantCover;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.getGeometry() != null)
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+							else
+								multiSurfaceProperty.setHref(geometry.getReference());
 
-						switch (lod) {
-						case 1:
-							plantCover.setLod1MultiSurface(multiSurfaceProperty);
-							break;
-						case 2:
-							plantCover.setLod2MultiSurface(multiSurfaceProperty);
-							break;
-						case 3:
-							plantCover.setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							plantCover.setLod4MultiSurface(multiSurfaceProperty);
-							break;
+							switch (lod) {
+							case 1:
+								target.setLod1MultiSurface(multiSurfaceProperty);
+								break;
+							case 2:
+								target.setLod2MultiSurface(multiSurfaceProperty);
+								break;
+							case 3:
+								target.setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								target.setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 
 				lodIterator.reset();
@@ -227,29 +229,31 @@ public class DBPlantCover extends AbstractFeatureExporter<PlantCover> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SOLID) {
-						MultiSolidProperty solidProperty = new MultiSolidProperty();
-						if (geometry.isSetGeometry())
-							solidProperty.setMultiSolid((MultiSolid)geometry.getGeometry());
-						else
-							solidProperty.setHref(geometry.getReference());
+					PlantCover target = plantCover;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SOLID) {
+							MultiSolidProperty solidProperty = new MultiSolidProperty();
+							if (geometry.isSetGeometry())
+								solidProperty.setMultiSolid((MultiSolid)geometry.getGeometry());
+							else
+								solidProperty.setHref(geometry.getReference());
 
-						switch (lod) {
-						case 1:
-							plantCover.setLod1MultiSolid(solidProperty);
-							break;
-						case 2:
-							plantCover.setLod2MultiSolid(solidProperty);
-							break;
-						case 3:
-							plantCover.setLod3MultiSolid(solidProperty);
-							break;
-						case 4:
-							plantCover.setLod4MultiSolid(solidProperty);
-							break;
+							switch (lod) {
+							case 1:
+								target.setLod1MultiSolid(solidProperty);
+								break;
+							case 2:
+								target.setLod2MultiSolid(solidProperty);
+								break;
+							case 3:
+								target.setLod3MultiSolid(solidProperty);
+								break;
+							case 4:
+								target.setLod4MultiSolid(solidProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
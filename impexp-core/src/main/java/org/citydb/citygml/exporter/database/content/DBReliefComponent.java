@@ -108,7 +108,7 @@ public class DBReliefComponent extends AbstractFeatureExporter<AbstractReliefCom
 	protected Collection<AbstractReliefComponent> doExport(long id, AbstractReliefComponent root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractReliefComponent> components = new ArrayList<>();
 
 			while (rs.next()) {	
@@ -131,7 +131,7 @@ public class DBReliefFeature extends AbstractFeatureExporter<ReliefFeature> {
 	protected Collection<ReliefFeature> doExport(long id, ReliefFeature root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentReliefFeatureId = 0;
 			ReliefFeature reliefFeature = null;
 			ProjectionFilter projectionFilter = null;
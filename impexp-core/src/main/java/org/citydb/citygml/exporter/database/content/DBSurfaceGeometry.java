@@ -33,10 +33,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.citydb.citygml.common.database.cache.CacheTable;
 import org.citydb.citygml.exporter.CityGMLExportException;
+import org.citydb.citygml.exporter.util.CoordinateList;
 import org.citydb.config.Config;
 import org.citydb.config.geometry.GeometryObject;
 import org.citydb.database.schema.TableEnum;
@@ -63,6 +67,7 @@ import org.citygml4j.model.gml.geometry.primitives.TrianglePatchArrayProperty;
 import org.citygml4j.model.gml.geometry.primitives.TriangulatedSurface;
 import org.citygml4j.util.gmlid.DefaultGMLIdManager;
 
+import org.citydb.sqlbuilder.expression.LiteralList;
 import org.citydb.sqlbuilder.expression.PlaceHolder;
 import org.citydb.sqlbuilder.schema.Table;
 import org.citydb.sqlbuilder.select.Select;
@@ -71,6 +76,12 @@ import org.citydb.sqlbuilder.select.projection.ConstantColumn;
 
 public class DBSurfaceGeometry implements DBExporter {
 	private final CityGMLExportManager exporter;
+	private final Connection connection;
+	private final Table table;
+	private final Map<Long, List<GeometrySetterHandler>> batches;
+	private final Map<Integer, PreparedStatement> psBulkSelects;
+	private final int maxBatchSize;
+	private final boolean deferGeometries;
 
 	private PreparedStatement psSelect;
 	private PreparedStatement psImport;
@@ -86,8 +97,16 @@ public class DBSurfaceGeometry implements DBExporter {
 
 	public DBSurfaceGeometry(Connection connection, CacheTable cacheTable, CityGMLExportManager exporter, Config config) throws SQLException {
 		this.exporter = exporter;
+		this.connection = connection;
 		String schema = exporter.getDatabaseAdapter().getConnectionDetails().getSchema();
 
+		// the LoD filter removes geometry properties that are still empty, so
+		// geometries can only be deferred if the filter keeps all geometries
+		deferGeometries = exporter.getLodFilter().preservesGeometry();
+		batches = new LinkedHashMap<>();
+		psBulkSelects = new HashMap<>();
+		maxBatchSize = exporter.getDatabaseAdapter().getSQLAdapter().getMaximumNumberOfItemsForInOperator();
+
 		exportAppearance = config.getInternal().isExportGlobalAppearances();
 		if (exportAppearance) {
 			commitAfter = exporter.getDatabaseAdapter().getMaxBatchSize();
@@ -110,10 +129,8 @@ public class DBSurfaceGeometry implements DBExporter {
 			gmlIdPrefix = exporter.getExportConfig().getXlink().getGeometry().getIdPrefix();
 		}
 
-		Table table = new Table(TableEnum.SURFACE_GEOMETRY.getName(), schema);
-		Select select = new Select().addProjection(table.getColumn("id"), table.getColumn("gmlid"), table.getColumn("parent_id"), table.getColumn("is_solid"), table.getColumn("is_composite"),
-				table.getColumn("is_triangulated"), table.getColumn("is_xlink"), table.getColumn("is_reverse"),
-				exporter.getGeometryColumn(table.getColumn("geometry")), table.getColumn("implicit_geometry"))
+		table = new Table(TableEnum.SURFACE_GEOMETRY.getName(), schema);
+		Select select = createSelect()
 				.addSelection(ComparisonFactory.equalTo(table.getColumn("root_id"), new PlaceHolder<>()));
 
 		psSelect = connection.prepareStatement(select.toString());
@@ -122,50 +139,156 @@ public class DBSurfaceGeometry implements DBExporter {
 	protected SurfaceGeometry doExport(long rootId) throws CityGMLExportException, SQLException {
 		psSelect.setLong(1, rootId);
 
-		try (ResultSet rs = psSelect.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(psSelect, getClass())) {
 			GeometryTree geomTree = new GeometryTree();
 
 			// firstly, read the geometry entries into a flat geometry tree structure
-			while (rs.next()) {
-				long id = rs.getLong(1);
-
-				// constructing a geometry node
-				GeometryNode geomNode = new GeometryNode();
-				geomNode.id = id;				
-				geomNode.gmlId = rs.getString(2);
-				geomNode.parentId = rs.getLong(3);
-				geomNode.isSolid = rs.getBoolean(4);
-				geomNode.isComposite = rs.getBoolean(5);
-				geomNode.isTriangulated = rs.getBoolean(6);
-				geomNode.isXlink = rs.getBoolean(7);
-				geomNode.isReverse = rs.getBoolean(8);
-
-				GeometryObject geometry = null;
-				Object object = rs.getObject(!isImplicit ? 9 : 10);
-				if (!rs.wasNull()) {
-					try {
-						geometry = exporter.getDatabaseAdapter().getGeometryConverter().getPolygon(object);
-					} catch (Exception e) {
-						exporter.logOrThrowErrorMessage(new StringBuilder("Skipping ").append(exporter.getGeometrySignature(GMLClass.POLYGON, id))
-								.append(": ").append(e.getMessage()).toString());
-						continue;
+			while (rs.next())
+				addNode(rs, geomTree);
+
+			// interpret geometry tree as a single abstract geometry
+			return rebuildGeometry(geomTree);
+		}
+	}
+
+	protected void addBatch(long rootId, GeometrySetterHandler handler) throws CityGMLExportException, SQLException {
+		if (deferGeometries)
+			batches.computeIfAbsent(rootId, v -> new ArrayList<>()).add(handler);
+		else {
+			SurfaceGeometry geometry = doExport(rootId);
+			if (geometry != null)
+				handler.handle(geometry);
+		}
+	}
+
+	protected void executeBatch() throws CityGMLExportException, SQLException {
+		// handlers may register further geometries, so loop until nothing is left
+		while (!batches.isEmpty()) {
+			Map<Long, List<GeometrySetterHandler>> batches = new LinkedHashMap<>(this.batches);
+			this.batches.clear();
+
+			Long[] rootIds = batches.keySet().toArray(new Long[0]);
+			Map<Long, GeometryTree> geomTrees = new HashMap<>();
+
+			// fetch all geometry entries of the batch using chunked in-list queries
+			for (int offset = 0; offset < rootIds.length; ) {
+				int size = Math.min(rootIds.length - offset, maxBatchSize);
+				int placeHolders = getNumberOfPlaceHolders(size);
+				PreparedStatement ps = getBulkSelect(placeHolders);
+
+				// pad the in-list with the last id to reuse prepared statements
+				for (int i = 0; i < placeHolders; i++)
+					ps.setLong(i + 1, rootIds[offset + Math.min(i, size - 1)]);
+
+				try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
+					while (rs.next()) {
+						long rootId = rs.getLong(11);
+						addNode(rs, geomTrees.computeIfAbsent(rootId, v -> new GeometryTree()));
 					}
 				}
 
-				geomNode.geometry = geometry;
+				offset += size;
+			}
 
-				// put polygon into the geometry tree
-				geomTree.insertNode(geomNode, geomNode.parentId);
+			// rebuild the geometries and hand them over to the registered handlers
+			for (Entry<Long, List<GeometrySetterHandler>> entry : batches.entrySet()) {
+				GeometryTree geomTree = geomTrees.get(entry.getKey());
+				if (geomTree == null) {
+					exporter.logOrThrowErrorMessage("Failed to interpret geometry object.");
+					continue;
+				}
+
+				SurfaceGeometry geometry = rebuildGeometry(geomTree);
+				if (geometry == null)
+					continue;
+
+				List<GeometrySetterHandler> handlers = entry.getValue();
+				handlers.get(0).handle(geometry);
+
+				// further handlers of the same root reference the geometry exported above
+				if (handlers.size() > 1) {
+					String gmlId = geometry.isSetGeometry() ? geometry.getGeometry().getId() : null;
+					for (int i = 1; i < handlers.size(); i++) {
+						if (gmlId != null)
+							handlers.get(i).handle(new SurfaceGeometry("#" + gmlId, geometry.getType()));
+						else if ((geometry = rebuildGeometry(geomTree)) != null)
+							handlers.get(i).handle(geometry);
+					}
+				}
 			}
+		}
+	}
 
-			// interpret geometry tree as a single abstract geometry
-			if (geomTree.root != 0)
-				return rebuildGeometry(geomTree.getNode(geomTree.root), false, false);
-			else {
-				exporter.logOrThrowErrorMessage("Failed to interpret geometry object.");
-				return null;
+	private Select createSelect() {
+		return new Select().addProjection(table.getColumn("id"), table.getColumn("gmlid"), table.getColumn("parent_id"), table.getColumn("is_solid"), table.getColumn("is_composite"),
+				table.getColumn("is_triangulated"), table.getColumn("is_xlink"), table.getColumn("is_reverse"),
+				exporter.getGeometryColumn(table.getColumn("geometry")), table.getColumn("implicit_geometry"), table.getColumn("root_id"));
+	}
+
+	private int getNumberOfPlaceHolders(int size) {
+		int placeHolders = Integer.highestOneBit(size);
+		if (placeHolders < size)
+			placeHolders <<= 1;
+
+		return Math.min(placeHolders, maxBatchSize);
+	}
+
+	private PreparedStatement getBulkSelect(int placeHolders) throws SQLException {
+		PreparedStatement ps = psBulkSelects.get(placeHolders);
+		if (ps == null) {
+			PlaceHolder<?>[] values = new PlaceHolder<?>[placeHolders];
+			for (int i = 0; i < placeHolders; i++)
+				values[i] = new PlaceHolder<>();
+
+			Select select = createSelect()
+					.addSelection(ComparisonFactory.in(table.getColumn("root_id"), new LiteralList(values)));
+
+			ps = connection.prepareStatement(select.toString());
+			psBulkSelects.put(placeHolders, ps);
+		}
+
+		return ps;
+	}
+
+	private void addNode(ResultSet rs, GeometryTree geomTree) throws CityGMLExportException, SQLException {
+		long id = rs.getLong(1);
+
+		// constructing a geometry node
+		GeometryNode geomNode = new GeometryNode();
+		geomNode.id = id;
+		geomNode.gmlId = rs.getString(2);
+		geomNode.parentId = rs.getLong(3);
+		geomNode.isSolid = rs.getBoolean(4);
+		geomNode.isComposite = rs.getBoolean(5);
+		geomNode.isTriangulated = rs.getBoolean(6);
+		geomNode.isXlink = rs.getBoolean(7);
+		geomNode.isReverse = rs.getBoolean(8);
+
+		GeometryObject geometry = null;
+		Object object = rs.getObject(!isImplicit ? 9 : 10);
+		if (!rs.wasNull()) {
+			try {
+				geometry = exporter.getDatabaseAdapter().getGeometryConverter().getPolygon(object);
+			} catch (Exception e) {
+				exporter.logOrThrowErrorMessage(new StringBuilder("Skipping ").append(exporter.getGeometrySignature(GMLClass.POLYGON, id))
+						.append(": ").append(e.getMessage()).toString());
+				return;
 			}
 		}
+
+		geomNode.geometry = geometry;
+
+		// put polygon into the geometry tree
+		geomTree.insertNode(geomNode, geomNode.parentId);
+	}
+
+	private SurfaceGeometry rebuildGeometry(GeometryTree geomTree) throws CityGMLExportException, SQLException {
+		if (geomTree.root != 0)
+			return rebuildGeometry(geomTree.getNode(geomTree.root), false, false);
+		else {
+			exporter.logOrThrowErrorMessage("Failed to interpret geometry object.");
+			return null;
+		}
 	}
 
 	protected SurfaceGeometry doExportImplicitGeometry(long rootId) throws CityGMLExportException, SQLException {
@@ -271,20 +394,8 @@ public class DBSurfaceGeometry implements DBExporter {
 			// we suppose we have one outer ring and one or more inner rings
 			boolean isExterior = true;
 			for (int ringIndex = 0; ringIndex < geomNode.geometry.getNumElements(); ringIndex++) {
-				List<Double> values = null;
-
-				// check whether we have to reverse the coordinate order
-				if (!geomNode.isReverse) { 
-					values = geomNode.geometry.getCoordinatesAsList(ringIndex);
-				} else {
-					values = new ArrayList<Double>(geomNode.geometry.getCoordinates(ringIndex).length);
-					double[] coordinates = geomNode.geometry.getCoordinates(ringIndex);
-					for (int i = coordinates.length - 3; i >= 0; i -= 3) {
-						values.add(coordinates[i]);
-						values.add(coordinates[i + 1]);
-						values.add(coordinates[i + 2]);
-					}
-				}
+				// wrap the coordinates without boxing and reverse their order if required
+				List<Double> values = new CoordinateList(geomNode.geometry.getCoordinates(ringIndex), 3, geomNode.isReverse);
 
 				if (isExterior) {
 					LinearRing linearRing = new LinearRing();
@@ -608,6 +719,8 @@ public class DBSurfaceGeometry implements DBExporter {
 	@Override
 	public void close() throws SQLException {
 		psSelect.close();
+		for (PreparedStatement ps : psBulkSelects.values())
+			ps.close();
 
 		if (psImport != null) {
 			psImport.executeBatch();
@@ -86,7 +86,7 @@ public class DBTextureParam implements DBExporter {
 	protected boolean doExport(AbstractSurfaceData surfaceData, long surfaceDataId) throws SQLException {
 		ps.setLong(1, surfaceDataId);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			if (!rs.next())
 				return false;
 
@@ -152,7 +152,7 @@ public class DBThematicSurface extends AbstractFeatureExporter<AbstractBoundaryS
 	protected Collection<AbstractBoundarySurface> doExport(long id, AbstractBoundarySurface root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {	
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentBoundarySurfaceId = 0;
 			AbstractBoundarySurface boundarySurface = null;
 			ProjectionFilter boundarySurfaceProjectionFilter = null;
@@ -201,26 +201,28 @@ public class DBThematicSurface extends AbstractFeatureExporter<AbstractBoundaryS
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(lodMultiSurfaceId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 2:
-									boundarySurface.setLod2MultiSurface(multiSurfaceProperty);
-									break;
-								case 3:
-									boundarySurface.setLod3MultiSurface(multiSurfaceProperty);
-									break;
-								case 4:
-									boundarySurface.setLod4MultiSurface(multiSurfaceProperty);
-									break;
+							AbstractBoundarySurface target = boundarySurface;
+							geometryExporter.addBatch(lodMultiSurfaceId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 2:
+										target.setLod2MultiSurface(multiSurfaceProperty);
+										break;
+									case 3:
+										target.setLod3MultiSurface(multiSurfaceProperty);
+										break;
+									case 4:
+										target.setLod4MultiSurface(multiSurfaceProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						// delegate export of generic ADE properties
@@ -284,23 +286,24 @@ public class DBThematicSurface extends AbstractFeatureExporter<AbstractBoundaryS
 					if (rs.wasNull()) 
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(lodMultiSurfaceId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.isSetGeometry())
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 3:
-							opening.setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							opening.setLod4MultiSurface(multiSurfaceProperty);
-							break;
+					geometryExporter.addBatch(lodMultiSurfaceId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.isSetGeometry())
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+							else
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 3:
+								opening.setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								opening.setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 
 				lodIterator.reset();
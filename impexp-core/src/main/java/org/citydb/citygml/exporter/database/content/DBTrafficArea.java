@@ -99,7 +99,7 @@ public class DBTrafficArea extends AbstractFeatureExporter<AbstractTransportatio
 	protected Collection<AbstractTransportationObject> doExport(long id, AbstractTransportationObject root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractTransportationObject> transportationObjects = new ArrayList<>();
 
 			while (rs.next()) {
@@ -193,35 +193,37 @@ public class DBTrafficArea extends AbstractFeatureExporter<AbstractTransportatio
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.isSetGeometry())
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 2:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
-							else
-								((AuxiliaryTrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
-							break;
-						case 3:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
+					AbstractTransportationObject target = transportationObject;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.isSetGeometry())
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
 							else
-								((AuxiliaryTrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
-							else
-								((AuxiliaryTrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
-							break;
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 2:
+								if (isTrafficArea)
+									((TrafficArea)target).setLod2MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)target).setLod2MultiSurface(multiSurfaceProperty);
+								break;
+							case 3:
+								if (isTrafficArea)
+									((TrafficArea)target).setLod3MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)target).setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								if (isTrafficArea)
+									((TrafficArea)target).setLod4MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)target).setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
@@ -127,7 +127,7 @@ public class DBTransportationComplex extends AbstractFeatureExporter<Transportat
 	protected Collection<TransportationComplex> doExport(long id, TransportationComplex root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentComplexId = 0;
 			TransportationComplex complex = null;
 			ProjectionFilter projectionFilter = null;
@@ -216,29 +216,31 @@ public class DBTransportationComplex extends AbstractFeatureExporter<Transportat
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									complex.setLod1MultiSurface(multiSurfaceProperty);
-									break;
-								case 2:
-									complex.setLod2MultiSurface(multiSurfaceProperty);
-									break;
-								case 3:
-									complex.setLod3MultiSurface(multiSurfaceProperty);
-									break;
-								case 4:
-									complex.setLod4MultiSurface(multiSurfaceProperty);
-									break;
+							TransportationComplex target = complex;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1MultiSurface(multiSurfaceProperty);
+										break;
+									case 2:
+										target.setLod2MultiSurface(multiSurfaceProperty);
+										break;
+									case 3:
+										target.setLod3MultiSurface(multiSurfaceProperty);
+										break;
+									case 4:
+										target.setLod4MultiSurface(multiSurfaceProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 						
 						// delegate export of generic ADE properties
@@ -342,35 +344,36 @@ public class DBTransportationComplex extends AbstractFeatureExporter<Transportat
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.isSetGeometry())
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 2:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
-							else
-								((AuxiliaryTrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
-							break;
-						case 3:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
-							else
-								((AuxiliaryTrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							if (isTrafficArea)
-								((TrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.isSetGeometry())
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
 							else
-								((AuxiliaryTrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
-							break;
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 2:
+								if (isTrafficArea)
+									((TrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)transportationObject).setLod2MultiSurface(multiSurfaceProperty);
+								break;
+							case 3:
+								if (isTrafficArea)
+									((TrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)transportationObject).setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								if (isTrafficArea)
+									((TrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
+								else
+									((AuxiliaryTrafficArea)transportationObject).setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
@@ -148,7 +148,7 @@ public class DBTunnel extends AbstractFeatureExporter<AbstractTunnel> {
 	protected Collection<AbstractTunnel> doExport(long id, AbstractTunnel root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			HashMap<Long, AbstractTunnel> tunnels = new HashMap<>();
 
 			while (rs.next()) {
@@ -322,29 +322,31 @@ public class DBTunnel extends AbstractFeatureExporter<AbstractTunnel> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-						SolidProperty solidProperty = new SolidProperty();
-						if (geometry.getGeometry() != null)
-							solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-						else
-							solidProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 1:
-							tunnel.setLod1Solid(solidProperty);
-							break;
-						case 2:
-							tunnel.setLod2Solid(solidProperty);
-							break;
-						case 3:
-							tunnel.setLod3Solid(solidProperty);
-							break;
-						case 4:
-							tunnel.setLod4Solid(solidProperty);
-							break;
+					AbstractTunnel target = tunnel;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+							SolidProperty solidProperty = new SolidProperty();
+							if (geometry.getGeometry() != null)
+								solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+							else
+								solidProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 1:
+								target.setLod1Solid(solidProperty);
+								break;
+							case 2:
+								target.setLod2Solid(solidProperty);
+								break;
+							case 3:
+								target.setLod3Solid(solidProperty);
+								break;
+							case 4:
+								target.setLod4Solid(solidProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 
 				// tun:lodXMultiSurface
@@ -359,29 +361,31 @@ public class DBTunnel extends AbstractFeatureExporter<AbstractTunnel> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.getGeometry() != null)
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 1:
-							tunnel.setLod1MultiSurface(multiSurfaceProperty);
-							break;
-						case 2:
-							tunnel.setLod2MultiSurface(multiSurfaceProperty);
-							break;
-						case 3:
-							tunnel.setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							tunnel.setLod4MultiSurface(multiSurfaceProperty);
-							break;
+					AbstractTunnel target = tunnel;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.getGeometry() != null)
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+							else
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 1:
+								target.setLod1MultiSurface(multiSurfaceProperty);
+								break;
+							case 2:
+								target.setLod2MultiSurface(multiSurfaceProperty);
+								break;
+							case 3:
+								target.setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								target.setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 
 				// delegate export of generic ADE properties
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -108,7 +109,7 @@ public class DBTunnelFurniture extends AbstractFeatureExporter<TunnelFurniture>
 	protected Collection<TunnelFurniture> doExport(long id, TunnelFurniture root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<TunnelFurniture> tunnelFurnitures = new ArrayList<>();
 
 			while (rs.next()) {
@@ -174,24 +175,26 @@ public class DBTunnelFurniture extends AbstractFeatureExporter<TunnelFurniture>
 						long geometryId = rs.getLong("lod4_brep_id");
 						Object geometryObj = rs.getObject("lod4_other_geom");
 						if (geometryId != 0 || geometryObj != null) {
-							GeometryProperty<AbstractGeometry> geometryProperty = null;
+							TunnelFurniture target = tunnelFurniture;
+							Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
+								target.setLod4Geometry(geometryProperty);
+							};
+
 							if (geometryId != 0) {
-								SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-								if (geometry != null) {
-									geometryProperty = new GeometryProperty<>();
+								geometryExporter.addBatch(geometryId, geometry -> {
+									GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
 									if (geometry.isSetGeometry())
 										geometryProperty.setGeometry(geometry.getGeometry());
 									else
 										geometryProperty.setHref(geometry.getReference());
-								}
+
+									geometrySetter.accept(geometryProperty);
+								});
 							} else {
 								GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
 								if (geometry != null)
-									geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
+									geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 							}
-
-							if (geometryProperty != null)
-								tunnelFurniture.setLod4Geometry(geometryProperty);
 						}
 					}
 
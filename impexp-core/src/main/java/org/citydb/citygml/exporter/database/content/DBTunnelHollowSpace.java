@@ -116,7 +116,7 @@ public class DBTunnelHollowSpace extends AbstractFeatureExporter<HollowSpace> {
 	protected Collection<HollowSpace> doExport(long id, HollowSpace root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<HollowSpace> hollowSpaces = new ArrayList<>();
 
 			while (rs.next()) {
@@ -200,16 +200,18 @@ public class DBTunnelHollowSpace extends AbstractFeatureExporter<HollowSpace> {
 					if (projectionFilter.containsProperty("lod4MultiSurface", tunnelModule)) {					
 						long surfaceGeometryId = rs.getLong("lod4_multi_surface_id");
 						if (!rs.wasNull()) {
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								hollowSpace.setLod4MultiSurface(multiSurfaceProperty);
-							}
+							HollowSpace target = hollowSpace;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									target.setLod4MultiSurface(multiSurfaceProperty);
+								}
+							});
 						}
 					}
 
@@ -217,16 +219,18 @@ public class DBTunnelHollowSpace extends AbstractFeatureExporter<HollowSpace> {
 					if (projectionFilter.containsProperty("lod4Solid", tunnelModule)) {					
 						long solidGeometryId = rs.getLong("lod4_solid_id");
 						if (!rs.wasNull()) {
-							SurfaceGeometry geometry = geometryExporter.doExport(solidGeometryId);
-							if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-								SolidProperty solidProperty = new SolidProperty();
-								if (geometry.isSetGeometry())
-									solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-								else
-									solidProperty.setHref(geometry.getReference());
-
-								hollowSpace.setLod4Solid(solidProperty);
-							}
+							HollowSpace target = hollowSpace;
+							geometryExporter.addBatch(solidGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+									SolidProperty solidProperty = new SolidProperty();
+									if (geometry.isSetGeometry())
+										solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+									else
+										solidProperty.setHref(geometry.getReference());
+
+									target.setLod4Solid(solidProperty);
+								}
+							});
 						}
 					}
 				}
@@ -36,6 +36,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.citydb.citygml.exporter.CityGMLExportException;
 import org.citydb.citygml.exporter.util.AttributeValueSplitter;
@@ -149,7 +150,7 @@ public class DBTunnelInstallation extends AbstractFeatureExporter<AbstractCityOb
 	protected Collection<AbstractCityObject> doExport(long id, AbstractCityObject root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractCityObject> installations = new ArrayList<>();
 
 			while (rs.next()) {
@@ -242,39 +243,40 @@ public class DBTunnelInstallation extends AbstractFeatureExporter<AbstractCityOb
 					if (geometryId == 0 && geometryObj == null)
 						continue;
 
-					GeometryProperty<AbstractGeometry> geometryProperty = null;
-					if (geometryId != 0) {
-						SurfaceGeometry geometry = geometryExporter.doExport(geometryId);
-						if (geometry != null) {
-							geometryProperty = new GeometryProperty<>();
-							if (geometry.isSetGeometry())
-								geometryProperty.setGeometry(geometry.getGeometry());
-							else
-								geometryProperty.setHref(geometry.getReference());
-						}
-					} else {
-						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
-						if (geometry != null)
-							geometryProperty = new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true));
-					}
-
-					if (geometryProperty != null) {
+					AbstractCityObject target = installation;
+					Consumer<GeometryProperty<AbstractGeometry>> geometrySetter = geometryProperty -> {
 						switch (lod) {
 						case 2:
 							if (isExteriorInstallation)
-								((TunnelInstallation)installation).setLod2Geometry(geometryProperty);
+								((TunnelInstallation)target).setLod2Geometry(geometryProperty);
 							break;
 						case 3:
 							if (isExteriorInstallation)
-								((TunnelInstallation)installation).setLod3Geometry(geometryProperty);
+								((TunnelInstallation)target).setLod3Geometry(geometryProperty);
 							break;
 						case 4:
 							if (isExteriorInstallation)
-								((TunnelInstallation)installation).setLod4Geometry(geometryProperty);
+								((TunnelInstallation)target).setLod4Geometry(geometryProperty);
 							else
-								((IntTunnelInstallation)installation).setLod4Geometry(geometryProperty);
+								((IntTunnelInstallation)target).setLod4Geometry(geometryProperty);
 							break;
 						}
+					};
+
+					if (geometryId != 0) {
+						geometryExporter.addBatch(geometryId, geometry -> {
+							GeometryProperty<AbstractGeometry> geometryProperty = new GeometryProperty<>();
+							if (geometry.isSetGeometry())
+								geometryProperty.setGeometry(geometry.getGeometry());
+							else
+								geometryProperty.setHref(geometry.getReference());
+
+							geometrySetter.accept(geometryProperty);
+						});
+					} else {
+						GeometryObject geometry = exporter.getDatabaseAdapter().getGeometryConverter().getGeometry(geometryObj);
+						if (geometry != null)
+							geometrySetter.accept(new GeometryProperty<>(gmlConverter.getPointOrCurveGeometry(geometry, true)));
 					}
 				}
 
@@ -96,7 +96,7 @@ public class DBTunnelOpening extends AbstractFeatureExporter<AbstractOpening> {
 	protected Collection<AbstractOpening> doExport(long id, AbstractOpening root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractOpening> openings = new ArrayList<>();
 
 			while (rs.next()) {
@@ -138,23 +138,25 @@ public class DBTunnelOpening extends AbstractFeatureExporter<AbstractOpening> {
 					if (rs.wasNull()) 
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(lodMultiSurfaceId);
-					if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-						MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-						if (geometry.isSetGeometry())
-							multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-						else
-							multiSurfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 3:
-							opening.setLod3MultiSurface(multiSurfaceProperty);
-							break;
-						case 4:
-							opening.setLod4MultiSurface(multiSurfaceProperty);
-							break;
+					AbstractOpening target = opening;
+					geometryExporter.addBatch(lodMultiSurfaceId, geometry -> {
+						if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+							MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+							if (geometry.isSetGeometry())
+								multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+							else
+								multiSurfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 3:
+								target.setLod3MultiSurface(multiSurfaceProperty);
+								break;
+							case 4:
+								target.setLod4MultiSurface(multiSurfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 
 				lodIterator.reset();
@@ -136,7 +136,7 @@ public class DBWaterBody extends AbstractFeatureExporter<WaterBody> {
 	protected Collection<WaterBody> doExport(long id, WaterBody root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			long currentWaterBodyId = 0;
 			WaterBody waterBody = null;
 			ProjectionFilter projectionFilter = null;
@@ -248,23 +248,25 @@ public class DBWaterBody extends AbstractFeatureExporter<WaterBody> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && geometry.getType() == GMLClass.MULTI_SURFACE) {
-								MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
-								if (geometry.isSetGeometry())
-									multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
-								else
-									multiSurfaceProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 0:
-									waterBody.setLod0MultiSurface(multiSurfaceProperty);
-									break;
-								case 1:
-									waterBody.setLod1MultiSurface(multiSurfaceProperty);
-									break;
+							WaterBody target = waterBody;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.MULTI_SURFACE) {
+									MultiSurfaceProperty multiSurfaceProperty = new MultiSurfaceProperty();
+									if (geometry.isSetGeometry())
+										multiSurfaceProperty.setMultiSurface((MultiSurface)geometry.getGeometry());
+									else
+										multiSurfaceProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 0:
+										target.setLod0MultiSurface(multiSurfaceProperty);
+										break;
+									case 1:
+										target.setLod1MultiSurface(multiSurfaceProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 
 						lodIterator = lodFilter.iterator(1, 4);
@@ -278,29 +280,31 @@ public class DBWaterBody extends AbstractFeatureExporter<WaterBody> {
 							if (rs.wasNull())
 								continue;
 
-							SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-							if (geometry != null && (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID)) {
-								SolidProperty solidProperty = new SolidProperty();
-								if (geometry.isSetGeometry())
-									solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
-								else
-									solidProperty.setHref(geometry.getReference());
-
-								switch (lod) {
-								case 1:
-									waterBody.setLod1Solid(solidProperty);
-									break;
-								case 2:
-									waterBody.setLod2Solid(solidProperty);
-									break;
-								case 3:
-									waterBody.setLod3Solid(solidProperty);
-									break;
-								case 4:
-									waterBody.setLod4Solid(solidProperty);
-									break;
+							WaterBody target = waterBody;
+							geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+								if (geometry.getType() == GMLClass.SOLID || geometry.getType() == GMLClass.COMPOSITE_SOLID) {
+									SolidProperty solidProperty = new SolidProperty();
+									if (geometry.isSetGeometry())
+										solidProperty.setSolid((AbstractSolid)geometry.getGeometry());
+									else
+										solidProperty.setHref(geometry.getReference());
+
+									switch (lod) {
+									case 1:
+										target.setLod1Solid(solidProperty);
+										break;
+									case 2:
+										target.setLod2Solid(solidProperty);
+										break;
+									case 3:
+										target.setLod3Solid(solidProperty);
+										break;
+									case 4:
+										target.setLod4Solid(solidProperty);
+										break;
+									}
 								}
-							}
+							});
 						}
 						
 						// delegate export of generic ADE properties
@@ -374,26 +378,27 @@ public class DBWaterBody extends AbstractFeatureExporter<WaterBody> {
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType().isInstance(GMLClass.ABSTRACT_SURFACE)) {
-						SurfaceProperty surfaceProperty = new SurfaceProperty();
-						if (geometry.isSetGeometry())
-							surfaceProperty.setSurface((AbstractSurface)geometry.getGeometry());
-						else
-							surfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 2:
-							waterBoundarySurface.setLod2Surface(surfaceProperty);
-							break;
-						case 3:
-							waterBoundarySurface.setLod3Surface(surfaceProperty);
-							break;
-						case 4:
-							waterBoundarySurface.setLod4Surface(surfaceProperty);
-							break;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType().isInstance(GMLClass.ABSTRACT_SURFACE)) {
+							SurfaceProperty surfaceProperty = new SurfaceProperty();
+							if (geometry.isSetGeometry())
+								surfaceProperty.setSurface((AbstractSurface)geometry.getGeometry());
+							else
+								surfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 2:
+								waterBoundarySurface.setLod2Surface(surfaceProperty);
+								break;
+							case 3:
+								waterBoundarySurface.setLod3Surface(surfaceProperty);
+								break;
+							case 4:
+								waterBoundarySurface.setLod4Surface(surfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
@@ -91,7 +91,7 @@ public class DBWaterBoundarySurface extends AbstractFeatureExporter<AbstractWate
 	protected Collection<AbstractWaterBoundarySurface> doExport(long id, AbstractWaterBoundarySurface root, FeatureType rootType, PreparedStatement ps) throws CityGMLExportException, SQLException {
 		ps.setLong(1, id);
 
-		try (ResultSet rs = ps.executeQuery()) {
+		try (ResultSet rs = exporter.executeQuery(ps, getClass())) {
 			List<AbstractWaterBoundarySurface> waterBoundarySurfaces = new ArrayList<>();
 
 			while (rs.next()) {
@@ -143,26 +143,28 @@ public class DBWaterBoundarySurface extends AbstractFeatureExporter<AbstractWate
 					if (rs.wasNull())
 						continue;
 
-					SurfaceGeometry geometry = geometryExporter.doExport(surfaceGeometryId);
-					if (geometry != null && geometry.getType().isInstance(GMLClass.ABSTRACT_SURFACE)) {
-						SurfaceProperty surfaceProperty = new SurfaceProperty();
-						if (geometry.isSetGeometry())
-							surfaceProperty.setSurface((AbstractSurface)geometry.getGeometry());
-						else
-							surfaceProperty.setHref(geometry.getReference());
-
-						switch (lod) {
-						case 2:
-							waterBoundarySurface.setLod2Surface(surfaceProperty);
-							break;
-						case 3:
-							waterBoundarySurface.setLod3Surface(surfaceProperty);
-							break;
-						case 4:
-							waterBoundarySurface.setLod4Surface(surfaceProperty);
-							break;
+					AbstractWaterBoundarySurface target = waterBoundarySurface;
+					geometryExporter.addBatch(surfaceGeometryId, geometry -> {
+						if (geometry.getType().isInstance(GMLClass.ABSTRACT_SURFACE)) {
+							SurfaceProperty surfaceProperty = new SurfaceProperty();
+							if (geometry.isSetGeometry())
+								surfaceProperty.setSurface((AbstractSurface)geometry.getGeometry());
+							else
+								surfaceProperty.setHref(geometry.getReference());
+
+							switch (lod) {
+							case 2:
+								target.setLod2Surface(surfaceProperty);
+								break;
+							case 3:
+								target.setLod3Surface(surfaceProperty);
+								break;
+							case 4:
+								target.setLod4Surface(surfaceProperty);
+								break;
+							}
 						}
-					}
+					});
 				}
 				
 				// delegate export of generic ADE properties
@@ -30,6 +30,7 @@ package org.citydb.citygml.exporter.database.content;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.citydb.citygml.exporter.util.CoordinateList;
 import org.citydb.config.geometry.GeometryObject;
 import org.citydb.config.geometry.GeometryType;
 import org.citygml4j.model.gml.geometry.AbstractGeometry;
@@ -213,7 +214,7 @@ public class GMLConverter {
 			lineString = new LineString();
 
 			DirectPositionList directPositionList = new DirectPositionList();
-			directPositionList.setValue(geomObj.getCoordinatesAsList(0));
+			directPositionList.setValue(new CoordinateList(geomObj.getCoordinates(0), geomObj.getDimension()));
 			directPositionList.setSrsDimension(geomObj.getDimension());
 			if (setSrsName)
 				directPositionList.setSrsName(srsName);
@@ -255,7 +256,7 @@ public class GMLConverter {
 					LineString lineString = new LineString();
 					
 					DirectPositionList directPositionList = new DirectPositionList();
-					directPositionList.setValue(geomObj.getCoordinatesAsList(i));
+					directPositionList.setValue(new CoordinateList(geomObj.getCoordinates(i), geomObj.getDimension()));
 					directPositionList.setSrsDimension(geomObj.getDimension());
 					if (setSrsName)
 						directPositionList.setSrsName(srsName);
@@ -448,7 +449,7 @@ public class GMLConverter {
 					LinearRing linearRing = new LinearRing();
 					
 					DirectPositionList directPositionList = new DirectPositionList();
-					directPositionList.setValue(geomObj.getCoordinatesAsList(i));
+					directPositionList.setValue(new CoordinateList(geomObj.getCoordinates(i), geomObj.getDimension()));
 					directPositionList.setSrsDimension(geomObj.getDimension());
 					if (setSrsName)
 						directPositionList.setSrsName(srsName);
@@ -461,7 +462,7 @@ public class GMLConverter {
 					LinearRing linearRing = new LinearRing();
 					
 					DirectPositionList directPositionList = new DirectPositionList();
-					directPositionList.setValue(geomObj.getCoordinatesAsList(i));
+					directPositionList.setValue(new CoordinateList(geomObj.getCoordinates(i), geomObj.getDimension()));
 					directPositionList.setSrsDimension(geomObj.getDimension());
 					if (setSrsName)
 						directPositionList.setSrsName(srsName);
@@ -43,11 +43,13 @@ public class DBXlinkExporterManager {
 	private final AbstractDatabaseAdapter databaseAdapter;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
+	private final TextureFileWriter textureFileWriter;
 
 	private HashMap<DBXlinkExporterEnum, DBXlinkExporter> dbExporterMap;
 
-	public DBXlinkExporterManager(OutputFile outputFile, Connection connection, AbstractDatabaseAdapter databaseAdapter, Config config, EventDispatcher eventDispatcher) {
+	public DBXlinkExporterManager(OutputFile outputFile, Connection connection, AbstractDatabaseAdapter databaseAdapter, TextureFileWriter textureFileWriter, Config config, EventDispatcher eventDispatcher) {
 		this.outputFile = outputFile;
+		this.textureFileWriter = textureFileWriter;
 		this.connection = connection;
 		this.databaseAdapter = databaseAdapter;
 		this.config = config;
@@ -79,6 +81,10 @@ public class DBXlinkExporterManager {
 		return outputFile;
 	}
 
+	public TextureFileWriter getTextureFileWriter() {
+		return textureFileWriter;
+	}
+
 	public AbstractDatabaseAdapter getDatabaseAdapter() {
 		return databaseAdapter;
 	}
@@ -46,10 +46,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
 public class DBXlinkExporterTextureImage implements DBXlinkExporter {
     private final Logger log = Logger.getInstance();
     private final DBXlinkExporterManager xlinkExporterManager;
+    private final TextureFileWriter textureFileWriter;
+    private final List<TextureFile> batch = new ArrayList<>();
 
     private OutputFile outputFile;
     private BlobExportAdapter textureImageExportAdapter;
@@ -64,6 +70,7 @@ public class DBXlinkExporterTextureImage implements DBXlinkExporter {
     public DBXlinkExporterTextureImage(Connection connection, Config config, DBXlinkExporterManager xlinkExporterManager) throws SQLException {
         this.xlinkExporterManager = xlinkExporterManager;
 
+        textureFileWriter = xlinkExporterManager.getTextureFileWriter();
         outputFile = xlinkExporterManager.getOutputFile();
         textureURI = config.getInternal().getExportTextureURI();
         isAbsoluteTextureURI = new File(textureURI).isAbsolute();
@@ -118,6 +125,15 @@ public class DBXlinkExporterTextureImage implements DBXlinkExporter {
             }
         }
 
+        // image data is fetched in batches and written by the texture file writer
+        if (textureFileWriter != null) {
+            batch.add(new TextureFile(xlink.getId(), fileURI, file));
+            if (batch.size() == BlobExportAdapter.MAX_BATCH_SIZE)
+                flush();
+
+            return true;
+        }
+
         // load image data into file
         xlinkExporterManager.propagateEvent(counter);
         try (OutputStream stream = file != null ? Files.newOutputStream(file) :
@@ -129,9 +145,43 @@ public class DBXlinkExporterTextureImage implements DBXlinkExporter {
         }
     }
 
+    private void flush() throws SQLException {
+        if (batch.isEmpty())
+            return;
+
+        // fetch in id order to help the database read the BLOBs sequentially
+        List<Long> ids = new ArrayList<>(batch.size());
+        batch.sort(Comparator.comparingLong(textureFile -> textureFile.id));
+        for (TextureFile textureFile : batch)
+            ids.add(textureFile.id);
+
+        try {
+            Map<Long, byte[]> images = textureImageExportAdapter.getInByteArrays(ids);
+            for (TextureFile textureFile : batch) {
+                byte[] image = images.get(textureFile.id);
+                if (image == null) {
+                    log.error("Failed to read texture file: " + textureFile.fileURI + " (ID = " + textureFile.id + ").");
+                    continue;
+                }
+
+                xlinkExporterManager.propagateEvent(counter);
+                if (textureFile.file != null)
+                    textureFileWriter.writeFile(textureFile.file, textureFile.fileURI, image);
+                else
+                    textureFileWriter.writeArchiveEntry(outputFile.resolve(textureURI, textureFile.fileURI), textureFile.fileURI, image);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
     @Override
     public void close() throws SQLException {
-        textureImageExportAdapter.close();
+        try {
+            flush();
+        } finally {
+            textureImageExportAdapter.close();
+        }
     }
 
     @Override
@@ -139,4 +189,16 @@ public class DBXlinkExporterTextureImage implements DBXlinkExporter {
         return DBXlinkExporterEnum.TEXTURE_IMAGE;
     }
 
+    private static class TextureFile {
+        private final long id;
+        private final String fileURI;
+        private final Path file;
+
+        TextureFile(long id, String fileURI, Path file) {
+            this.id = id;
+            this.fileURI = fileURI;
+            this.file = file;
+        }
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.exporter.database.xlink;
+
+import org.citydb.file.OutputFile;
+import org.citydb.log.Logger;
+import org.citydb.util.Util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TextureFileWriter {
+    private final Logger log = Logger.getInstance();
+    private final OutputFile outputFile;
+    private final OpenOption[] openOptions;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final long startTime = System.currentTimeMillis();
+
+    public TextureFileWriter(OutputFile outputFile, int threads, boolean overwriteTextureFiles) {
+        this.outputFile = outputFile;
+
+        openOptions = overwriteTextureFiles ?
+                new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING} :
+                new OpenOption[]{StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE};
+
+        // the bounded queue lets database workers write themselves if the I/O threads fall behind
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                r -> {
+                    Thread thread = new Thread(r, "texture_writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    void writeFile(Path file, String fileURI, byte[] data) {
+        executor.execute(() -> {
+            try (FileChannel channel = FileChannel.open(file, openOptions)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+
+                files.incrementAndGet();
+                bytes.addAndGet(data.length);
+            } catch (FileAlreadyExistsException e) {
+                // texture file has been exported by another worker
+            } catch (IOException e) {
+                log.error("Failed to export texture file " + fileURI + ": " + e.getMessage());
+            }
+        });
+    }
+
+    void writeArchiveEntry(String archiveEntry, String fileURI, byte[] data) {
+        executor.execute(() -> {
+            try (OutputStream stream = outputFile.newOutputStream(archiveEntry)) {
+                stream.write(data);
+                files.incrementAndGet();
+                bytes.addAndGet(data.length);
+            } catch (IOException e) {
+                log.error("Failed to export texture file " + fileURI + ": " + e.getMessage());
+            }
+        });
+    }
+
+    public long getFiles() {
+        return files.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public void shutdownAndWait() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    public void logStatistics() {
+        long files = this.files.get();
+        if (files == 0)
+            return;
+
+        double seconds = Math.max(System.currentTimeMillis() - startTime, 1) / 1000.0;
+        double megabytes = bytes.get() / (1024.0 * 1024.0);
+
+        log.info("Exported texture files: " + files + " (" + String.format("%.1f", megabytes) + " MB in "
+                + Util.formatElapsedTime(System.currentTimeMillis() - startTime) + ", "
+                + String.format("%.1f", megabytes / seconds) + " MB/s, "
+                + String.format("%.1f", files / seconds) + " files/s).");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.exporter.util;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class CoordinateList extends AbstractList<Double> implements RandomAccess {
+	private final double[] coordinates;
+	private final int dimension;
+	private final boolean reverse;
+	private boolean streaming;
+
+	public CoordinateList(double[] coordinates, int dimension, boolean reverse) {
+		this.coordinates = coordinates;
+		this.dimension = dimension;
+		this.reverse = reverse;
+	}
+
+	public CoordinateList(double[] coordinates, int dimension) {
+		this(coordinates, dimension, false);
+	}
+
+	@Override
+	public Double get(int index) {
+		return getCoordinate(index);
+	}
+
+	public double getCoordinate(int index) {
+		if (index < 0 || index >= coordinates.length)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + coordinates.length);
+
+		if (reverse) {
+			// reverse the order of points but keep the order of ordinates
+			int offset = index % dimension;
+			index = coordinates.length - dimension - (index - offset) + offset;
+		}
+
+		return coordinates[index];
+	}
+
+	@Override
+	public int size() {
+		// while being streamed, the list appears empty so that the coordinates are not printed twice
+		return streaming ? 0 : coordinates.length;
+	}
+
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	public void appendTo(StringBuilder builder) {
+		int points = coordinates.length / dimension;
+		for (int i = 0; i < points; i++) {
+			int offset = (reverse ? points - 1 - i : i) * dimension;
+			for (int j = 0; j < dimension; j++) {
+				if (i > 0 || j > 0)
+					builder.append(' ');
+
+				append(coordinates[offset + j], builder);
+			}
+		}
+	}
+
+	private void append(double value, StringBuilder builder) {
+		// use the lexical representation of xs:double
+		if (value == Double.POSITIVE_INFINITY)
+			builder.append("INF");
+		else if (value == Double.NEGATIVE_INFINITY)
+			builder.append("-INF");
+		else
+			builder.append(value);
+	}
+}
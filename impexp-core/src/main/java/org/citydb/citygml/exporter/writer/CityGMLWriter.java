@@ -34,6 +34,8 @@ import org.citydb.event.Event;
 import org.citydb.event.EventDispatcher;
 import org.citydb.event.EventHandler;
 import org.citydb.event.global.EventType;
+import org.citydb.log.Logger;
+import org.citydb.metrics.MetricsRegistry;
 import org.citydb.registry.ObjectRegistry;
 import org.citydb.writer.SequentialWriter;
 import org.citydb.writer.XMLWriterWorkerFactory;
@@ -68,6 +70,11 @@ import javax.xml.bind.Marshaller;
 import javax.xml.namespace.QName;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.sax.SAXResult;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
 
 public class CityGMLWriter implements FeatureWriter, EventHandler {
 	private final SingleWorkerPool<SAXEventBuffer> writerPool;
@@ -78,13 +85,16 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 	private final TransformerChainFactory transformerChainFactory;
 	private final boolean useSequentialWriting;
 	private final EventDispatcher eventDispatcher;
+	private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+	private final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+	private final Logger log = Logger.getInstance();
 
 	private volatile boolean headerWritten = false;
 	private Metadata metadata;
 
 	private SequentialWriter<SAXEventBuffer> sequentialWriter;
 
-	CityGMLWriter(SAXWriter saxWriter, CityGMLVersion version, TransformerChainFactory transformerChainFactory, boolean useSequentialWriting) {
+	CityGMLWriter(SAXWriter saxWriter, CityGMLVersion version, TransformerChainFactory transformerChainFactory, boolean useSequentialWriting, int sequentialWritingWindow) {
 		this.saxWriter = saxWriter;
 		this.version = version;
 		this.transformerChainFactory = transformerChainFactory;
@@ -104,8 +114,15 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 
 		writerPool.prestartCoreWorkers();
 
-		if (useSequentialWriting)
-			sequentialWriter = new SequentialWriter<>(writerPool);
+		if (useSequentialWriting) {
+			sequentialWriter = new SequentialWriter<>(writerPool, sequentialWritingWindow);
+
+			gauges.put("writer.sequential.pending", sequentialWriter::getPendingObjects);
+			gauges.put("writer.sequential.maxReorderDepth", sequentialWriter::getMaxReorderDepth);
+			gauges.put("writer.sequential.reordered", sequentialWriter::getReorderedObjects);
+			gauges.put("writer.sequential.stalls", sequentialWriter::getWindowStalls);
+			gauges.forEach(MetricsRegistry.getInstance()::registerGauge);
+		}
 	}
 
 	@Override
@@ -155,24 +172,37 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 		}
 
 		SAXEventBuffer buffer = new SAXEventBuffer();
+		Marshaller marshaller = null;
+		CoordinateStreamingFilter filter = null;
 		try {
 			JAXBElement<?> jaxbElement = jaxbMarshaller.marshalJAXBElement(member);
 			if (jaxbElement != null) {
-				Marshaller marshaller = cityGMLBuilder.getJAXBContext().createMarshaller();
-				marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+				marshaller = acquireMarshaller();
 
-				if (transformerChainFactory == null)
-					marshaller.marshal(jaxbElement, buffer);
-				else {
+				if (transformerChainFactory == null) {
+					filter = new CoordinateStreamingFilter(buffer);
+					marshaller.setListener(filter.getListener());
+					marshaller.marshal(jaxbElement, filter);
+				} else {
 					TransformerChain chain = transformerChainFactory.buildChain();
 					chain.tail().setResult(new SAXResult(buffer));
 					chain.head().startDocument();
-					marshaller.marshal(jaxbElement, chain.head());
+					filter = new CoordinateStreamingFilter(chain.head());
+					marshaller.setListener(filter.getListener());
+					marshaller.marshal(jaxbElement, filter);
 					chain.head().endDocument();
 				}
 			}
 		} catch (JAXBException | SAXException | TransformerConfigurationException e) {
 			throw new FeatureWriteException("Failed to write feature with gml:id '" + feature.getId() + "'.", e);
+		} finally {
+			if (filter != null)
+				filter.reset();
+
+			if (marshaller != null) {
+				marshaller.setListener(null);
+				marshallers.offer(marshaller);
+			}
 		}
 
 		if (buffer.isEmpty())
@@ -189,6 +219,17 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 		}
 	}
 
+	private Marshaller acquireMarshaller() throws JAXBException {
+		// marshallers are not thread-safe, so each exporting thread borrows one from the pool
+		Marshaller marshaller = marshallers.poll();
+		if (marshaller == null) {
+			marshaller = cityGMLBuilder.getJAXBContext().createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+		}
+
+		return marshaller;
+	}
+
 	@Override
 	public void updateSequenceId(long sequenceId) throws FeatureWriteException {
 		if (useSequentialWriting) {
@@ -203,8 +244,14 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 	@Override
 	public void close() throws FeatureWriteException {
 		try {
-			if (useSequentialWriting && sequentialWriter.isInterrupted())
-				sequentialWriter.writeCache();
+			if (useSequentialWriting) {
+				if (sequentialWriter.isInterrupted())
+					sequentialWriter.writeCache();
+
+				log.debug("Sequential writing: " + sequentialWriter.getReorderedObjects() + " reordered feature(s), maximum reorder depth "
+						+ sequentialWriter.getMaxReorderDepth() + ", " + sequentialWriter.getWindowStalls()
+						+ " stall(s) at window size " + sequentialWriter.getWindowSize() + ".");
+			}
 
 			writerPool.shutdownAndWait();
 			writeEndDocument();
@@ -215,6 +262,8 @@ public class CityGMLWriter implements FeatureWriter, EventHandler {
 			if (!writerPool.isTerminated())
 				writerPool.shutdownNow();
 
+			marshallers.clear();
+			gauges.forEach(MetricsRegistry.getInstance()::unregisterGauge);
 			eventDispatcher.removeEventHandler(this);
 		}
 	}
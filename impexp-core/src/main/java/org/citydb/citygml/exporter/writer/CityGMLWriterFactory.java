@@ -201,7 +201,7 @@ public class CityGMLWriterFactory implements FeatureWriterFactory {
 		saxWriter.setOutput(writer);
 
 		// create CityGML writer
-		return new CityGMLWriter(saxWriter, version, transformerChainFactory, useSequentialWriting);
+		return new CityGMLWriter(saxWriter, version, transformerChainFactory, useSequentialWriting, cityGMLOptions.getSequentialWritingWindow());
 	}
 
 	private Map<String, Namespace> getNamespaces(ModuleContext moduleContext) {
@@ -0,0 +1,95 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.exporter.writer;
+
+import net.opengis.gml.DirectPositionListType;
+import org.citydb.citygml.exporter.util.CoordinateList;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import javax.xml.bind.Marshaller;
+
+class CoordinateStreamingFilter extends XMLFilterImpl {
+	private final StringBuilder builder = new StringBuilder();
+	private final Marshaller.Listener listener;
+
+	private CoordinateList coordinates;
+	private char[] buffer = new char[1024];
+
+	CoordinateStreamingFilter(ContentHandler handler) {
+		setContentHandler(handler);
+
+		listener = new Marshaller.Listener() {
+			@Override
+			public void beforeMarshal(Object source) {
+				if (source instanceof DirectPositionListType) {
+					Object value = ((DirectPositionListType) source).getValue();
+					if (value instanceof CoordinateList) {
+						// hide the coordinates from JAXB and print them ourselves when closing the element
+						coordinates = (CoordinateList) value;
+						coordinates.setStreaming(true);
+					}
+				}
+			}
+		};
+	}
+
+	Marshaller.Listener getListener() {
+		return listener;
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) throws SAXException {
+		if (coordinates != null) {
+			try {
+				builder.setLength(0);
+				coordinates.appendTo(builder);
+
+				int length = builder.length();
+				if (buffer.length < length)
+					buffer = new char[Math.max(length, buffer.length << 1)];
+
+				builder.getChars(0, length, buffer, 0);
+				super.characters(buffer, 0, length);
+			} finally {
+				coordinates.setStreaming(false);
+				coordinates = null;
+			}
+		}
+
+		super.endElement(uri, localName, qName);
+	}
+
+	void reset() {
+		if (coordinates != null) {
+			coordinates.setStreaming(false);
+			coordinates = null;
+		}
+	}
+}
@@ -83,6 +83,7 @@ public class DBImportWorker extends Worker<CityGML> implements EventHandler {
 	private int commitAfter = 20;
 
 	public DBImportWorker(InputFile inputFile,
+			String gmlIdCodespace,
 			Connection connection,
 			boolean isManagedTransaction,
 			AbstractDatabaseAdapter databaseAdapter,
@@ -102,6 +103,7 @@ public class DBImportWorker extends Worker<CityGML> implements EventHandler {
 		this.eventDispatcher = eventDispatcher;
 
 		importer = new CityGMLImportManager(inputFile,
+				gmlIdCodespace,
 				connection,
 				databaseAdapter,
 				schemaMapping,
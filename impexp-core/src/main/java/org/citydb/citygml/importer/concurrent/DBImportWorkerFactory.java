@@ -67,6 +67,8 @@ public class DBImportWorkerFactory implements WorkerFactory<CityGML> {
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
 
+	private String gmlIdCodespace;
+
 	public DBImportWorkerFactory(InputFile inputFile,
 			ConnectionManager connectionManager,
 			boolean isManagedTransaction,
@@ -93,6 +95,8 @@ public class DBImportWorkerFactory implements WorkerFactory<CityGML> {
 		this.importLogger = importLogger;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
+
+		gmlIdCodespace = config.getInternal().getCurrentGmlIdCodespace();
 	}
 
 	public DBImportWorkerFactory(InputFile inputFile,
@@ -125,6 +129,10 @@ public class DBImportWorkerFactory implements WorkerFactory<CityGML> {
 				filter, affineTransformer, importLogger, config, eventDispatcher);
 	}
 
+	public void setGmlIdCodespace(String gmlIdCodespace) {
+		this.gmlIdCodespace = gmlIdCodespace;
+	}
+
 	@Override
 	public Worker<CityGML> createWorker() {
 		DBImportWorker dbWorker = null;
@@ -140,7 +148,7 @@ public class DBImportWorkerFactory implements WorkerFactory<CityGML> {
 				databaseAdapter.getWorkspaceManager().gotoWorkspace(connection, workspace);
 			}
 
-			dbWorker = new DBImportWorker(inputFile, connection, isManagedTransaction, databaseAdapter, schemaMapping, cityGMLBuilder,
+			dbWorker = new DBImportWorker(inputFile, gmlIdCodespace, connection, isManagedTransaction, databaseAdapter, schemaMapping, cityGMLBuilder,
 					xlinkWorkerPool, uidCacheManager, filter, affineTransformer, importLogger, config, eventDispatcher);
 		} catch (SQLException e) {
 			log.error("Failed to create import worker: " + e.getMessage());
@@ -29,6 +29,7 @@ package org.citydb.citygml.importer.concurrent;
 
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.citydb.citygml.importer.reader.citygml.XMLChunkUnmarshaller;
 import org.citydb.concurrent.Worker;
 import org.citydb.concurrent.WorkerPool;
 import org.citydb.config.Config;
@@ -47,17 +48,28 @@ public class FeatureReaderWorker extends Worker<XMLChunk> {
 	private volatile boolean shouldRun = true;
 
 	private final WorkerPool<CityGML> dbWorkerPool;
+	private final XMLChunkUnmarshaller.Pool unmarshallerPool;
 	private final EventDispatcher eventDispatcher;
 	private final boolean useValidation;
 
+	private XMLChunkUnmarshaller unmarshaller;
+
 	public FeatureReaderWorker(WorkerPool<CityGML> dbWorkerPool,
+			XMLChunkUnmarshaller.Pool unmarshallerPool,
 			Config config,
 			EventDispatcher eventDispatcher) {
 		this.dbWorkerPool = dbWorkerPool;
+		this.unmarshallerPool = unmarshallerPool;
 		this.eventDispatcher = eventDispatcher;
 
 		useValidation = config.getProject().getImporter().getXMLValidation().isSetUseXMLValidation();
 	}
+
+	public FeatureReaderWorker(WorkerPool<CityGML> dbWorkerPool,
+			Config config,
+			EventDispatcher eventDispatcher) {
+		this(dbWorkerPool, null, config, eventDispatcher);
+	}
 	
 	@Override
 	public void interrupt() {
@@ -66,18 +78,23 @@ public class FeatureReaderWorker extends Worker<XMLChunk> {
 
 	@Override
 	public void run() {
-		if (firstWork != null) {
-			doWork(firstWork);
-			firstWork = null;
-		}
+		try {
+			if (firstWork != null) {
+				doWork(firstWork);
+				firstWork = null;
+			}
 
-		while (shouldRun) {
-			try {
-				XMLChunk work = workQueue.take();				
-				doWork(work);
-			} catch (InterruptedException ie) {
-				// re-check state
+			while (shouldRun) {
+				try {
+					XMLChunk work = workQueue.take();
+					doWork(work);
+				} catch (InterruptedException ie) {
+					// re-check state
+				}
 			}
+		} finally {
+			if (unmarshallerPool != null)
+				unmarshallerPool.release(unmarshaller);
 		}
 	}
 
@@ -87,7 +104,15 @@ public class FeatureReaderWorker extends Worker<XMLChunk> {
 
 		try {
 			try {
-				CityGML cityGML = work.unmarshal();
+				CityGML cityGML;
+				if (unmarshallerPool != null) {
+					if (unmarshaller == null)
+						unmarshaller = unmarshallerPool.acquire();
+
+					cityGML = unmarshaller.unmarshal(work);
+				} else
+					cityGML = work.unmarshal();
+
 				if (!useValidation || work.hasPassedXMLValidation())
 					dbWorkerPool.addWork(cityGML);
 			} catch (UnmarshalException e) {
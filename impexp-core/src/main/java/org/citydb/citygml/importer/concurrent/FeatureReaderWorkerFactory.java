@@ -27,6 +27,7 @@
  */
 package org.citydb.citygml.importer.concurrent;
 
+import org.citydb.citygml.importer.reader.citygml.XMLChunkUnmarshaller;
 import org.citydb.concurrent.Worker;
 import org.citydb.concurrent.WorkerFactory;
 import org.citydb.concurrent.WorkerPool;
@@ -37,19 +38,28 @@ import org.citygml4j.xml.io.reader.XMLChunk;
 
 public class FeatureReaderWorkerFactory implements WorkerFactory<XMLChunk> {
 	private final WorkerPool<CityGML> dbWorkerPool;
+	private final XMLChunkUnmarshaller.Pool unmarshallerPool;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
 
 	public FeatureReaderWorkerFactory(WorkerPool<CityGML> dbWorkerPool,
+			XMLChunkUnmarshaller.Pool unmarshallerPool,
 			Config config,
 			EventDispatcher eventDispatcher) {
 		this.dbWorkerPool = dbWorkerPool;
+		this.unmarshallerPool = unmarshallerPool;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
 	}
 
+	public FeatureReaderWorkerFactory(WorkerPool<CityGML> dbWorkerPool,
+			Config config,
+			EventDispatcher eventDispatcher) {
+		this(dbWorkerPool, null, config, eventDispatcher);
+	}
+
 	@Override
 	public Worker<XMLChunk> createWorker() {
-		return new FeatureReaderWorker(dbWorkerPool, config, eventDispatcher);
+		return new FeatureReaderWorker(dbWorkerPool, unmarshallerPool, config, eventDispatcher);
 	}
 }
@@ -54,7 +54,10 @@ import org.citydb.config.Config;
 import org.citydb.config.i18n.Language;
 import org.citydb.config.internal.Internal;
 import org.citydb.config.project.database.Database;
+import org.citydb.config.project.database.DatabaseType;
 import org.citydb.config.project.database.Workspace;
+import org.citydb.config.project.global.LogLevel;
+import org.citydb.config.project.global.Metrics;
 import org.citydb.config.project.importer.ImportGmlId;
 import org.citydb.config.project.importer.ImportResources;
 import org.citydb.config.project.importer.Index;
@@ -83,6 +86,7 @@ import org.citydb.file.InputFile;
 import org.citydb.file.input.AbstractArchiveInputFile;
 import org.citydb.file.input.DirectoryScanner;
 import org.citydb.log.Logger;
+import org.citydb.metrics.MetricsRegistry;
 import org.citydb.query.filter.FilterException;
 import org.citydb.util.CoreConstants;
 import org.citydb.util.Util;
@@ -94,13 +98,20 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class Importer implements EventHandler {
 	private final Logger log = Logger.getInstance();
@@ -117,6 +128,16 @@ public class Importer implements EventHandler {
 	private EnumMap<GMLClass, Long> geometryCounter;
 	private DirectoryScanner directoryScanner;
 
+	private CityGMLFilter filter;
+	private FeatureReaderFactoryBuilder readerFactoryBuilder;
+	private AffineTransformer affineTransformer;
+	private AtomicInteger remainingFiles;
+	private int minThreads;
+	private int maxThreads;
+	private int queueSize;
+	private PoolSizeAdaptationStrategy adaptationStrategy;
+	private int lookupCacheBatchSize;
+
 	public Importer(CityGMLBuilder cityGMLBuilder, 
 			SchemaMapping schemaMapping,
 			Config config, 
@@ -147,15 +168,16 @@ public class Importer implements EventHandler {
 		Internal internalConfig = config.getInternal();		
 		ImportResources resourcesConfig = importerConfig.getResources();
 		Index indexConfig = importerConfig.getIndexes();
-		ImportGmlId gmlIdConfig = importerConfig.getGmlId();
 
 		// worker pool settings 
-		int minThreads = resourcesConfig.getThreadPool().getDefaultPool().getMinThreads();
-		int maxThreads = resourcesConfig.getThreadPool().getDefaultPool().getMaxThreads();
-		int queueSize = maxThreads * 2;
+		minThreads = resourcesConfig.getThreadPool().getDefaultPool().getMinThreads();
+		maxThreads = resourcesConfig.getThreadPool().getDefaultPool().getMaxThreads();
+		queueSize = maxThreads * 2;
+		adaptationStrategy = resourcesConfig.getThreadPool().getDefaultPool().isSetAdaptToThroughput() ?
+				PoolSizeAdaptationStrategy.THROUGHPUT : PoolSizeAdaptationStrategy.AGGRESSIVE;
 
 		// gml:id lookup cache update
-		int lookupCacheBatchSize = databaseConfig.getUpdateBatching().getGmlIdCacheBatchValue();
+		lookupCacheBatchSize = databaseConfig.getUpdateBatching().getGmlIdCacheBatchValue();
 
 		// check database workspace
 		Workspace workspace = databaseConfig.getWorkspaces().getImportWorkspace();
@@ -208,12 +230,12 @@ public class Importer implements EventHandler {
 			return false;
 
 		int fileCounter = 0;
-		int remainingFiles = importFiles.size();
+		remainingFiles = new AtomicInteger(importFiles.size());
 		log.info("List of import files successfully created.");
 		log.info(remainingFiles + " file(s) will be imported.");
 
 		// affine transformation
-		AffineTransformer affineTransformer = null;
+		affineTransformer = null;
 		if (importerConfig.getAffineTransformation().isEnabled()) {
 			try {
 				log.info("Applying affine coordinates transformation.");
@@ -223,8 +245,15 @@ public class Importer implements EventHandler {
 			}
 		}
 
+		// bulk load mode for surface geometries
+		if (importerConfig.getSurfaceGeometryBulkLoad().isEnabled()) {
+			if (databaseAdapter.getDatabaseType() == DatabaseType.POSTGIS)
+				log.info("Loading surface geometries using the PostgreSQL COPY protocol.");
+			else
+				log.warn("Bulk loading surface geometries is only supported for PostgreSQL/PostGIS. Using batched inserts instead.");
+		}
+
 		// build CityGML filter
-		CityGMLFilter filter;
 		try {
 			CityGMLFilterBuilder builder = new CityGMLFilterBuilder(schemaMapping, databaseAdapter);
 			filter = builder.buildCityGMLFilter(config.getProject().getImporter().getFilter());
@@ -233,7 +262,29 @@ public class Importer implements EventHandler {
 		}
 
 		// create reader factory builder
-		FeatureReaderFactoryBuilder builder = new FeatureReaderFactoryBuilder();
+		readerFactoryBuilder = new FeatureReaderFactoryBuilder();
+
+		// check whether input files shall be imported concurrently
+		List<InputFile> concurrentImportFiles = new ArrayList<>();
+		int concurrentFiles = Math.min(resourcesConfig.getConcurrentFiles(), importFiles.size());
+		if (concurrentFiles > 1) {
+			if (filter.isSetCounterFilter())
+				log.warn("Concurrent import of input files is not supported in combination with a counter filter.");
+			else {
+				// files contained in archives are still imported one after another since
+				// referenced texture and library files cannot be resolved once the archive is closed
+				concurrentImportFiles = importFiles.stream()
+						.filter(file -> file.getType() != FileType.ARCHIVE)
+						.collect(Collectors.toList());
+
+				if (concurrentImportFiles.size() > 1) {
+					importFiles = importFiles.stream()
+							.filter(file -> file.getType() == FileType.ARCHIVE)
+							.collect(Collectors.toList());
+				} else
+					concurrentImportFiles.clear();
+			}
+		}
 
 		CacheTableManager cacheTableManager = null;
 		UIDCacheManager uidCacheManager = null;
@@ -245,264 +296,229 @@ public class Importer implements EventHandler {
 
 		long start = System.currentTimeMillis();
 
-		while (shouldRun && fileCounter < importFiles.size()) {
-			// check whether we reached the counter limit
-			if (filter.isSetCounterFilter() && !filter.getCounterFilter().isCountSatisfied())
-				break;
-
-			try (InputFile file = importFiles.get(fileCounter++)) {
-				Path contentFile = file.getType() != FileType.ARCHIVE ?
-						file.getFile() : Paths.get(file.getFile().toString(), ((AbstractArchiveInputFile) file).getContentFile());
+		Metrics metrics = config.getProject().getGlobal().getLogging().getMetrics();
+		if (metrics.isSet())
+			MetricsRegistry.getInstance().startReporting(metrics.getLogInterval(), metrics.isSetUseJmx());
 
-				eventDispatcher.triggerEvent(new StatusDialogTitle(contentFile.getFileName().toString(), this));
-				eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.cityObj.msg"), this));
-				eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
-				eventDispatcher.triggerEvent(new CounterEvent(CounterType.FILE, --remainingFiles, this));
-
-				// set gml:id codespace starting from version 3.1
-				if (databaseAdapter.getConnectionMetaData().getCityDBVersion().compareTo(3, 1, 0) >= 0) {
-					if (gmlIdConfig.isSetNoneCodeSpaceMode())
-						internalConfig.setCurrentGmlIdCodespace(null);
-					else if (gmlIdConfig.isSetRelativeCodeSpaceMode())
-						internalConfig.setCurrentGmlIdCodespace(file.getFile().getFileName().toString());
-					else if (gmlIdConfig.isSetAbsoluteCodeSpaceMode())
-						internalConfig.setCurrentGmlIdCodespace(file.getFile().toString());
-					else if (gmlIdConfig.isSetUserCodeSpaceMode()) {
-						String codespace = gmlIdConfig.getCodeSpace();
-						if (codespace != null && codespace.length() > 0)
-							internalConfig.setCurrentGmlIdCodespace(codespace);
+		try {
+			while (shouldRun && fileCounter < importFiles.size()) {
+				// check whether we reached the counter limit
+				if (filter.isSetCounterFilter() && !filter.getCounterFilter().isCountSatisfied())
+					break;
+
+				try (InputFile file = importFiles.get(fileCounter++)) {
+					Path contentFile = file.getType() != FileType.ARCHIVE ?
+							file.getFile() : Paths.get(file.getFile().toString(), ((AbstractArchiveInputFile) file).getContentFile());
+
+					eventDispatcher.triggerEvent(new StatusDialogTitle(contentFile.getFileName().toString(), this));
+					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.cityObj.msg"), this));
+					eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
+					eventDispatcher.triggerEvent(new CounterEvent(CounterType.FILE, remainingFiles.decrementAndGet(), this));
+
+					// set gml:id codespace starting from version 3.1
+					internalConfig.setCurrentGmlIdCodespace(getGmlIdCodespace(file));
+
+					// create import logger
+					if (importerConfig.getImportLog().isSetLogImportedFeatures()) {
+						try {
+							String logPath = importerConfig.getImportLog().isSetLogPath() ? importerConfig.getImportLog().getLogPath()
+									: CoreConstants.IMPEXP_DATA_DIR.resolve(CoreConstants.IMPORT_LOG_DIR).toString();
+							importLogger = new ImportLogger(logPath, contentFile, databaseConfig.getActiveConnection());
+							log.info("Log file of imported top-level features: " + importLogger.getLogFilePath().toString());
+						} catch (IOException e) {
+							throw new CityGMLImportException("Failed to create log file for imported top-level features. Aborting.", e);
+						}
 					}
-				} else
-					internalConfig.setCurrentGmlIdCodespace(null);
 
-				// create import logger
-				if (importerConfig.getImportLog().isSetLogImportedFeatures()) {
+					// create instance of the cache table manager
 					try {
-						String logPath = importerConfig.getImportLog().isSetLogPath() ? importerConfig.getImportLog().getLogPath()
-								: CoreConstants.IMPEXP_DATA_DIR.resolve(CoreConstants.IMPORT_LOG_DIR).toString();
-						importLogger = new ImportLogger(logPath, contentFile, databaseConfig.getActiveConnection());
-						log.info("Log file of imported top-level features: " + importLogger.getLogFilePath().toString());
+						cacheTableManager = new CacheTableManager(maxThreads, config);
+					} catch (SQLException e) {
+						throw new CityGMLImportException("SQL error while initializing cache manager.", e);
 					} catch (IOException e) {
-						throw new CityGMLImportException("Failed to create log file for imported top-level features. Aborting.", e);
+						throw new CityGMLImportException("I/O error while initializing cache manager.", e);
 					}
-				}
 
-				// create instance of the cache table manager
-				try {
-					cacheTableManager = new CacheTableManager(maxThreads, config);
-				} catch (SQLException e) {
-					throw new CityGMLImportException("SQL error while initializing cache manager.", e);
-				} catch (IOException e) {
-					throw new CityGMLImportException("I/O error while initializing cache manager.", e);
-				}
-
-				// create instance of gml:id lookup server manager...
-				uidCacheManager = new UIDCacheManager();
-
-				// ...and start servers
-				try {
-					uidCacheManager.initCache(
-							UIDCacheType.GEOMETRY,
-							new GeometryGmlIdCache(cacheTableManager, 
-									resourcesConfig.getGmlIdCache().getGeometry().getPartitions(), 
-									lookupCacheBatchSize),
-							resourcesConfig.getGmlIdCache().getGeometry().getCacheSize(),
-							resourcesConfig.getGmlIdCache().getGeometry().getPageFactor(),
-							maxThreads);
-
-					uidCacheManager.initCache(
-							UIDCacheType.OBJECT,
-							new FeatureGmlIdCache(cacheTableManager, 
-									resourcesConfig.getGmlIdCache().getFeature().getPartitions(),
-									lookupCacheBatchSize),
-							resourcesConfig.getGmlIdCache().getFeature().getCacheSize(),
-							resourcesConfig.getGmlIdCache().getFeature().getPageFactor(),
-							maxThreads);
-
-					if (config.getProject().getImporter().getAppearances().isSetImportAppearance() &&
-							config.getProject().getImporter().getAppearances().isSetImportTextureFiles()) {
-						uidCacheManager.initCache(
-								UIDCacheType.TEXTURE_IMAGE,
-								new TextureImageCache(cacheTableManager, 
-										resourcesConfig.getTexImageCache().getPartitions(),
-										lookupCacheBatchSize),
-								resourcesConfig.getTexImageCache().getCacheSize(),
-								resourcesConfig.getTexImageCache().getPageFactor(),
-								maxThreads);
-					}
-				} catch (SQLException e) {
-					throw new CityGMLImportException("SQL error while initializing database import.", e);
-				}
+					// create instance of gml:id lookup server manager and start servers
+					uidCacheManager = createUIDCacheManager(cacheTableManager);
 
-				// creating worker pools needed for data import
-				// this pool is for registering xlinks
-				tmpXlinkPool = new WorkerPool<>(
-						"xlink_importer_pool",
-						minThreads,
-						maxThreads,
-						PoolSizeAdaptationStrategy.AGGRESSIVE,
-						new DBImportXlinkWorkerFactory(cacheTableManager, config, eventDispatcher),
-						queueSize,
-						false);
-
-				// this pool basically works on the data import
-				dbWorkerPool = new WorkerPool<>(
-						"db_importer_pool",
-						minThreads,
-						maxThreads,
-						PoolSizeAdaptationStrategy.AGGRESSIVE,
-						new DBImportWorkerFactory(file,
-								schemaMapping,
-								cityGMLBuilder,
-								tmpXlinkPool,
-								uidCacheManager,
-								filter,
-								affineTransformer,
-								importLogger,
-								config,
-								eventDispatcher),
-						queueSize,
-						false);
-
-				// prestart threads
-				tmpXlinkPool.prestartCoreWorkers();
-				dbWorkerPool.prestartCoreWorkers();
-
-				// fail if we could not start a single import worker
-				if (dbWorkerPool.getPoolSize() == 0) {
-					log.error("Failed to start database import worker pool. Check the database connection pool settings.");
-					return false;
-				}
-
-				FeatureReaderFactory factory;
-				try {
-					factory = builder.buildFactory(file, filter, config);
-				} catch (FeatureReadException e) {
-					throw new CityGMLImportException("Failed to read input file '" + contentFile + "'.", e);
-				}
-
-				// ok, preparation done. start parsing the input file
-				log.info("Importing file: " + contentFile.toString());
-				try (FeatureReader reader = factory.createFeatureReader()) {
-					reader.read(file, dbWorkerPool);
-
-					// show XML validation errors
-					if (reader.getValidationErrors() > 0)
-						log.warn(reader.getValidationErrors() + " error(s) encountered while validating the document.");
-				} catch (FeatureReadException e) {
-					throw new CityGMLImportException("Failed to read input file.", e);
-				}
-
-				// we are done with parsing the file. so shutdown the workers.
-				// the xlink pool is not shutdown because we need it afterwards
-				try {
-					dbWorkerPool.shutdownAndWait();
-					tmpXlinkPool.join();
-				} catch (InterruptedException e) {
-					throw new CityGMLImportException("Failed to shutdown worker pools.", e);
-				}
+					// creating worker pools needed for data import
+					// this pool is for registering xlinks
+					tmpXlinkPool = new WorkerPool<>(
+							"xlink_importer_pool",
+							minThreads,
+							maxThreads,
+							adaptationStrategy,
+							new DBImportXlinkWorkerFactory(cacheTableManager, config, eventDispatcher),
+							queueSize,
+							false);
 
-				if (shouldRun) {
-					// get an xlink resolver pool
-					log.info("Resolving XLink references.");
-					xlinkResolverPool = new WorkerPool<>(
-							"xlink_resolver_pool",
+					// this pool basically works on the data import
+					dbWorkerPool = new WorkerPool<>(
+							"db_importer_pool",
 							minThreads,
 							maxThreads,
-							PoolSizeAdaptationStrategy.AGGRESSIVE,
-							new DBImportXlinkResolverWorkerFactory(file,
+							adaptationStrategy,
+							new DBImportWorkerFactory(file,
+									schemaMapping,
+									cityGMLBuilder,
 									tmpXlinkPool,
 									uidCacheManager,
-									cacheTableManager,
+									filter,
+									affineTransformer,
+									importLogger,
 									config,
 									eventDispatcher),
 							queueSize,
 							false);
 
-					// prestart its workers
-					xlinkResolverPool.prestartCoreWorkers();
+					// prestart threads
+					tmpXlinkPool.prestartCoreWorkers();
+					dbWorkerPool.prestartCoreWorkers();
 
-					// resolve xlinks based on temp tables
-					if (shouldRun) {
-						splitter = new DBXlinkSplitter(cacheTableManager,
-								xlinkResolverPool, 
-								tmpXlinkPool,
-								Event.GLOBAL_CHANNEL,
-								eventDispatcher);
+					// fail if we could not start a single import worker
+					if (dbWorkerPool.getPoolSize() == 0) {
+						log.error("Failed to start database import worker pool. Check the database connection pool settings.");
+						return false;
+					}
+
+					FeatureReaderFactory factory;
+					try {
+						factory = readerFactoryBuilder.buildFactory(file, filter, config);
+					} catch (FeatureReadException e) {
+						throw new CityGMLImportException("Failed to read input file '" + contentFile + "'.", e);
+					}
+
+					// ok, preparation done. start parsing the input file
+					log.info("Importing file: " + contentFile.toString());
+					try (FeatureReader reader = factory.createFeatureReader()) {
+						reader.read(file, dbWorkerPool);
 
-						splitter.startQuery();
+						// show XML validation errors
+						if (reader.getValidationErrors() > 0)
+							log.warn(reader.getValidationErrors() + " error(s) encountered while validating the document.");
+					} catch (FeatureReadException e) {
+						throw new CityGMLImportException("Failed to read input file.", e);
 					}
 
-					// shutdown worker pools
+					// we are done with parsing the file. so shutdown the workers.
+					// the xlink pool is not shutdown because we need it afterwards
 					try {
-						xlinkResolverPool.shutdownAndWait();
+						dbWorkerPool.shutdownAndWait();
+						tmpXlinkPool.join();
 					} catch (InterruptedException e) {
 						throw new CityGMLImportException("Failed to shutdown worker pools.", e);
 					}
-				}
 
-				// shutdown tmp xlink pool
-				try {
-					tmpXlinkPool.shutdownAndWait();
-				} catch (InterruptedException e) {
-					throw new CityGMLImportException("Failed to shutdown worker pools.", e);
-				}
+					if (shouldRun) {
+						// get an xlink resolver pool
+						log.info("Resolving XLink references.");
+						xlinkResolverPool = new WorkerPool<>(
+								"xlink_resolver_pool",
+								minThreads,
+								maxThreads,
+								adaptationStrategy,
+								new DBImportXlinkResolverWorkerFactory(file,
+										tmpXlinkPool,
+										uidCacheManager,
+										cacheTableManager,
+										config,
+										eventDispatcher),
+								queueSize,
+								false);
+
+						// prestart its workers
+						xlinkResolverPool.prestartCoreWorkers();
+
+						// resolve xlinks based on temp tables
+						if (shouldRun) {
+							splitter = new DBXlinkSplitter(cacheTableManager,
+									xlinkResolverPool, 
+									tmpXlinkPool,
+									Event.GLOBAL_CHANNEL,
+									eventDispatcher);
+
+							splitter.startQuery();
+						}
+
+						// shutdown worker pools
+						try {
+							xlinkResolverPool.shutdownAndWait();
+						} catch (InterruptedException e) {
+							throw new CityGMLImportException("Failed to shutdown worker pools.", e);
+						}
+					}
 
-				eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.finish.msg"), this));
-				eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
-			} catch (CityGMLImportException e) {
-				throw e;
-			} catch (IOException e) {
-				throw new CityGMLImportException("Failed to process import file.", e);
-			} catch (Throwable e) {
-				throw new CityGMLImportException("An unexpected error occurred.", e);
-			} finally {
-				// clean up
-				if (dbWorkerPool != null && !dbWorkerPool.isTerminated())
-					dbWorkerPool.shutdownNow();
+					// shutdown tmp xlink pool
+					try {
+						tmpXlinkPool.shutdownAndWait();
+					} catch (InterruptedException e) {
+						throw new CityGMLImportException("Failed to shutdown worker pools.", e);
+					}
 
-				if (xlinkResolverPool != null && !xlinkResolverPool.isTerminated())
-					xlinkResolverPool.shutdownNow();
+					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.finish.msg"), this));
+					eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
+				} catch (CityGMLImportException e) {
+					throw e;
+				} catch (IOException e) {
+					throw new CityGMLImportException("Failed to process import file.", e);
+				} catch (Throwable e) {
+					throw new CityGMLImportException("An unexpected error occurred.", e);
+				} finally {
+					// clean up
+					if (dbWorkerPool != null && !dbWorkerPool.isTerminated())
+						dbWorkerPool.shutdownNow();
 
-				if (tmpXlinkPool != null && !tmpXlinkPool.isTerminated())
-					tmpXlinkPool.shutdownNow();
+					if (xlinkResolverPool != null && !xlinkResolverPool.isTerminated())
+						xlinkResolverPool.shutdownNow();
 
-				try {
-					eventDispatcher.flushEvents();
-				} catch (InterruptedException e) {
-					//
-				}
+					if (tmpXlinkPool != null && !tmpXlinkPool.isTerminated())
+						tmpXlinkPool.shutdownNow();
 
-				if (uidCacheManager != null) {
 					try {
-						uidCacheManager.shutdownAll();
-					} catch (SQLException e) {
-						log.error("Failed to shutdown gml:id cache: " + e.getMessage());
-						shouldRun = false;
+						eventDispatcher.flushEvents();
+					} catch (InterruptedException e) {
+						//
 					}
-				}
 
-				if (cacheTableManager != null) {
-					try {
-						log.info("Cleaning temporary cache.");
-						cacheTableManager.dropAll();
-					} catch (SQLException e) {
-						log.error("SQL error while cleaning temporary cache: " + e.getMessage());
-						shouldRun = false;
+					if (uidCacheManager != null) {
+						try {
+							uidCacheManager.shutdownAll();
+						} catch (SQLException e) {
+							log.error("Failed to shutdown gml:id cache: " + e.getMessage());
+							shouldRun = false;
+						}
 					}
-				}
 
-				if (importLogger != null) {
-					try {
-						importLogger.close(shouldRun);
-					} catch (IOException e) {
-						log.error("Failed to finish logging of imported top-level features.");
-						log.warn("The feature import log is most likely corrupt.");
-						shouldRun = false;
+					if (cacheTableManager != null) {
+						try {
+							log.info("Cleaning temporary cache.");
+							cacheTableManager.dropAll();
+						} catch (SQLException e) {
+							log.error("SQL error while cleaning temporary cache: " + e.getMessage());
+							shouldRun = false;
+						}
+					}
+
+					if (importLogger != null) {
+						try {
+							importLogger.close(shouldRun);
+						} catch (IOException e) {
+							log.error("Failed to finish logging of imported top-level features.");
+							log.warn("The feature import log is most likely corrupt.");
+							shouldRun = false;
+						}
 					}
 				}
 			}
-		} 
+
+			// import remaining files concurrently
+			if (shouldRun && !concurrentImportFiles.isEmpty())
+				importFilesConcurrently(concurrentImportFiles, concurrentFiles);
+		} finally {
+			if (metrics.isSet())
+				MetricsRegistry.getInstance().stopReporting();
+		}
 
 		// reactivate database indexes
 		if (shouldRun) {
@@ -538,6 +554,325 @@ public class Importer implements EventHandler {
 		return shouldRun;
 	}
 
+	private String getGmlIdCodespace(InputFile file) {
+		if (databaseAdapter.getConnectionMetaData().getCityDBVersion().compareTo(3, 1, 0) < 0)
+			return null;
+
+		ImportGmlId gmlIdConfig = config.getProject().getImporter().getGmlId();
+		if (gmlIdConfig.isSetNoneCodeSpaceMode())
+			return null;
+		else if (gmlIdConfig.isSetRelativeCodeSpaceMode())
+			return file.getFile().getFileName().toString();
+		else if (gmlIdConfig.isSetAbsoluteCodeSpaceMode())
+			return file.getFile().toString();
+		else if (gmlIdConfig.isSetUserCodeSpaceMode()) {
+			String codespace = gmlIdConfig.getCodeSpace();
+			if (codespace != null && codespace.length() > 0)
+				return codespace;
+		}
+
+		return config.getInternal().getCurrentGmlIdCodespace();
+	}
+
+	private UIDCacheManager createUIDCacheManager(CacheTableManager cacheTableManager) throws CityGMLImportException {
+		ImportResources resourcesConfig = config.getProject().getImporter().getResources();
+		UIDCacheManager uidCacheManager = new UIDCacheManager();
+
+		try {
+			uidCacheManager.initCache(
+					UIDCacheType.GEOMETRY,
+					new GeometryGmlIdCache(cacheTableManager,
+							resourcesConfig.getGmlIdCache().getGeometry().getPartitions(),
+							lookupCacheBatchSize),
+					resourcesConfig.getGmlIdCache().getGeometry(),
+					maxThreads);
+
+			uidCacheManager.initCache(
+					UIDCacheType.OBJECT,
+					new FeatureGmlIdCache(cacheTableManager,
+							resourcesConfig.getGmlIdCache().getFeature().getPartitions(),
+							lookupCacheBatchSize),
+					resourcesConfig.getGmlIdCache().getFeature(),
+					maxThreads);
+
+			if (config.getProject().getImporter().getAppearances().isSetImportAppearance() &&
+					config.getProject().getImporter().getAppearances().isSetImportTextureFiles()) {
+				uidCacheManager.initCache(
+						UIDCacheType.TEXTURE_IMAGE,
+						new TextureImageCache(cacheTableManager,
+								resourcesConfig.getTexImageCache().getPartitions(),
+								lookupCacheBatchSize),
+						resourcesConfig.getTexImageCache(),
+						maxThreads);
+			}
+		} catch (SQLException e) {
+			throw new CityGMLImportException("SQL error while initializing database import.", e);
+		}
+
+		return uidCacheManager;
+	}
+
+	private void importFilesConcurrently(List<InputFile> files, int concurrentFiles) throws CityGMLImportException {
+		log.info("Importing " + files.size() + " file(s) using " + concurrentFiles + " concurrent readers.");
+
+		// the files share the configured number of import threads
+		int maxThreadsPerFile = Math.max(1, maxThreads / concurrentFiles);
+		int minThreadsPerFile = Math.max(1, Math.min(maxThreadsPerFile, minThreads / concurrentFiles));
+
+		CacheTableManager cacheTableManager = null;
+		UIDCacheManager uidCacheManager = null;
+		WorkerPool<DBXlink> tmpXlinkPool = null;
+		WorkerPool<DBXlink> xlinkResolverPool = null;
+		ExecutorService fileExecutor = null;
+
+		try {
+			// temporary tables and gml:id caches are shared by all files so that
+			// xlinks between features from different files can be resolved
+			try {
+				cacheTableManager = new CacheTableManager(maxThreads, config);
+			} catch (SQLException e) {
+				throw new CityGMLImportException("SQL error while initializing cache manager.", e);
+			} catch (IOException e) {
+				throw new CityGMLImportException("I/O error while initializing cache manager.", e);
+			}
+
+			uidCacheManager = createUIDCacheManager(cacheTableManager);
+
+			tmpXlinkPool = new WorkerPool<>(
+					"xlink_importer_pool",
+					minThreads,
+					maxThreads,
+					adaptationStrategy,
+					new DBImportXlinkWorkerFactory(cacheTableManager, config, eventDispatcher),
+					queueSize,
+					false);
+
+			tmpXlinkPool.prestartCoreWorkers();
+
+			fileExecutor = Executors.newFixedThreadPool(concurrentFiles, r -> {
+				Thread thread = new Thread(r, "file_importer");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			List<Future<?>> results = new ArrayList<>();
+			for (InputFile file : files) {
+				WorkerPool<DBXlink> xlinkPool = tmpXlinkPool;
+				UIDCacheManager cacheManager = uidCacheManager;
+				results.add(fileExecutor.submit(() -> {
+					if (shouldRun)
+						importFile(file, xlinkPool, cacheManager, minThreadsPerFile, maxThreadsPerFile);
+
+					return null;
+				}));
+			}
+
+			CityGMLImportException exception = null;
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = e.getCause() instanceof CityGMLImportException ?
+								(CityGMLImportException) e.getCause() :
+								new CityGMLImportException("An unexpected error occurred.", e.getCause());
+
+						// stop the import of the remaining files
+						eventDispatcher.triggerEvent(new InterruptEvent("Aborting import due to errors.", LogLevel.WARN, Event.GLOBAL_CHANNEL, this));
+					}
+				} catch (InterruptedException e) {
+					throw new CityGMLImportException("Failed to wait for the import of files.", e);
+				}
+			}
+
+			if (exception != null)
+				throw exception;
+
+			try {
+				tmpXlinkPool.join();
+			} catch (InterruptedException e) {
+				throw new CityGMLImportException("Failed to shutdown worker pools.", e);
+			}
+
+			if (shouldRun) {
+				// resolve xlinks of all files in one pass
+				eventDispatcher.triggerEvent(new StatusDialogTitle(files.size() + " file(s)", this));
+				eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
+				log.info("Resolving XLink references.");
+
+				xlinkResolverPool = new WorkerPool<>(
+						"xlink_resolver_pool",
+						minThreads,
+						maxThreads,
+						adaptationStrategy,
+						new DBImportXlinkResolverWorkerFactory(null,
+								tmpXlinkPool,
+								uidCacheManager,
+								cacheTableManager,
+								config,
+								eventDispatcher),
+						queueSize,
+						false);
+
+				xlinkResolverPool.prestartCoreWorkers();
+
+				if (shouldRun) {
+					DBXlinkSplitter splitter = new DBXlinkSplitter(cacheTableManager,
+							xlinkResolverPool,
+							tmpXlinkPool,
+							Event.GLOBAL_CHANNEL,
+							eventDispatcher);
+
+					splitter.startQuery();
+				}
+
+				try {
+					xlinkResolverPool.shutdownAndWait();
+				} catch (InterruptedException e) {
+					throw new CityGMLImportException("Failed to shutdown worker pools.", e);
+				}
+			}
+
+			try {
+				tmpXlinkPool.shutdownAndWait();
+			} catch (InterruptedException e) {
+				throw new CityGMLImportException("Failed to shutdown worker pools.", e);
+			}
+
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.finish.msg"), this));
+			eventDispatcher.triggerEvent(new StatusDialogProgressBar(true, this));
+		} finally {
+			if (fileExecutor != null)
+				fileExecutor.shutdownNow();
+
+			if (xlinkResolverPool != null && !xlinkResolverPool.isTerminated())
+				xlinkResolverPool.shutdownNow();
+
+			if (tmpXlinkPool != null && !tmpXlinkPool.isTerminated())
+				tmpXlinkPool.shutdownNow();
+
+			try {
+				eventDispatcher.flushEvents();
+			} catch (InterruptedException e) {
+				//
+			}
+
+			if (uidCacheManager != null) {
+				try {
+					uidCacheManager.shutdownAll();
+				} catch (SQLException e) {
+					log.error("Failed to shutdown gml:id cache: " + e.getMessage());
+					shouldRun = false;
+				}
+			}
+
+			if (cacheTableManager != null) {
+				try {
+					log.info("Cleaning temporary cache.");
+					cacheTableManager.dropAll();
+				} catch (SQLException e) {
+					log.error("SQL error while cleaning temporary cache: " + e.getMessage());
+					shouldRun = false;
+				}
+			}
+		}
+	}
+
+	private void importFile(InputFile file, WorkerPool<DBXlink> tmpXlinkPool, UIDCacheManager uidCacheManager, int minThreadsPerFile, int maxThreadsPerFile) throws CityGMLImportException {
+		org.citydb.config.project.importer.Importer importerConfig = config.getProject().getImporter();
+		WorkerPool<CityGML> dbWorkerPool = null;
+		ImportLogger importLogger = null;
+
+		try (InputFile inputFile = file) {
+			Path contentFile = inputFile.getType() != FileType.ARCHIVE ?
+					inputFile.getFile() : Paths.get(inputFile.getFile().toString(), ((AbstractArchiveInputFile) inputFile).getContentFile());
+
+			eventDispatcher.triggerEvent(new StatusDialogTitle(contentFile.getFileName().toString(), this));
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("import.dialog.cityObj.msg"), this));
+			eventDispatcher.triggerEvent(new CounterEvent(CounterType.FILE, remainingFiles.decrementAndGet(), this));
+
+			// create import logger
+			if (importerConfig.getImportLog().isSetLogImportedFeatures()) {
+				try {
+					String logPath = importerConfig.getImportLog().isSetLogPath() ? importerConfig.getImportLog().getLogPath()
+							: CoreConstants.IMPEXP_DATA_DIR.resolve(CoreConstants.IMPORT_LOG_DIR).toString();
+					importLogger = new ImportLogger(logPath, contentFile, config.getProject().getDatabase().getActiveConnection());
+					log.info("Log file of imported top-level features: " + importLogger.getLogFilePath().toString());
+				} catch (IOException e) {
+					throw new CityGMLImportException("Failed to create log file for imported top-level features. Aborting.", e);
+				}
+			}
+
+			DBImportWorkerFactory workerFactory = new DBImportWorkerFactory(inputFile,
+					schemaMapping,
+					cityGMLBuilder,
+					tmpXlinkPool,
+					uidCacheManager,
+					filter,
+					affineTransformer,
+					importLogger,
+					config,
+					eventDispatcher);
+
+			// the gml:id codespace depends on the input file
+			workerFactory.setGmlIdCodespace(getGmlIdCodespace(inputFile));
+
+			dbWorkerPool = new WorkerPool<>(
+					"db_importer_pool",
+					minThreadsPerFile,
+					maxThreadsPerFile,
+					adaptationStrategy,
+					workerFactory,
+					maxThreadsPerFile * 2,
+					false);
+
+			dbWorkerPool.prestartCoreWorkers();
+			if (dbWorkerPool.getPoolSize() == 0)
+				throw new CityGMLImportException("Failed to start database import worker pool. Check the database connection pool settings.");
+
+			FeatureReaderFactory factory;
+			try {
+				synchronized (readerFactoryBuilder) {
+					factory = readerFactoryBuilder.buildFactory(inputFile, filter, config);
+				}
+			} catch (FeatureReadException e) {
+				throw new CityGMLImportException("Failed to read input file '" + contentFile + "'.", e);
+			}
+
+			log.info("Importing file: " + contentFile.toString());
+			try (FeatureReader reader = factory.createFeatureReader()) {
+				reader.read(inputFile, dbWorkerPool);
+
+				// show XML validation errors
+				if (reader.getValidationErrors() > 0)
+					log.warn(reader.getValidationErrors() + " error(s) encountered while validating '" + contentFile + "'.");
+			} catch (FeatureReadException e) {
+				throw new CityGMLImportException("Failed to read input file '" + contentFile + "'.", e);
+			}
+
+			dbWorkerPool.shutdownAndWait();
+		} catch (CityGMLImportException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new CityGMLImportException("Failed to process import file.", e);
+		} catch (Throwable e) {
+			throw new CityGMLImportException("An unexpected error occurred.", e);
+		} finally {
+			if (dbWorkerPool != null && !dbWorkerPool.isTerminated())
+				dbWorkerPool.shutdownNow();
+
+			if (importLogger != null) {
+				try {
+					importLogger.close(shouldRun);
+				} catch (IOException e) {
+					log.error("Failed to finish logging of imported top-level features.");
+					log.warn("The feature import log is most likely corrupt.");
+					shouldRun = false;
+				}
+			}
+		}
+	}
+
 	private void manageIndexes(boolean enable, boolean workOnSpatialIndexes) throws SQLException {
 		AbstractUtilAdapter utilAdapter = databaseAdapter.getUtil();
 		log.info((enable ? "Activating " : "Deactivating ") + (workOnSpatialIndexes ? "spatial" : "normal") + " indexes...");
@@ -0,0 +1,189 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.importer.database;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Streams rows into a PostgreSQL table using the COPY protocol in text format.
+ * Parameter indexes refer to the position of the column in the column list
+ * passed to the constructor. Like for a prepared statement, parameter values
+ * are kept after {@link #addBatch()} until they are overwritten.
+ */
+public class CopyInsertStatement implements InsertStatement {
+	private static final int CHUNK_SIZE = 65536;
+	private static final String NULL = "\\N";
+
+	private final CopyManager copyManager;
+	private final String copyStmt;
+	private final String[] values;
+	private final StringBuilder buffer;
+
+	private int rows;
+	private long copiedRows;
+
+	public CopyInsertStatement(Connection connection, String tableName, String... columns) throws SQLException {
+		if (!connection.isWrapperFor(PGConnection.class))
+			throw new SQLException("The COPY protocol is only supported for PostgreSQL connections.");
+
+		copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+		copyStmt = "copy " + tableName + " (" + String.join(", ", columns) + ") from stdin";
+		values = new String[columns.length];
+		Arrays.fill(values, NULL);
+		buffer = new StringBuilder();
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) throws SQLException {
+		values[getIndex(parameterIndex)] = Long.toString(x);
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) throws SQLException {
+		values[getIndex(parameterIndex)] = Integer.toString(x);
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) throws SQLException {
+		values[getIndex(parameterIndex)] = x != null ? escape(x) : NULL;
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) throws SQLException {
+		// geometry objects are passed in their (E)WKT representation
+		// which is accepted by the text input function of PostGIS
+		values[getIndex(parameterIndex)] = x != null ? escape(x.toString()) : NULL;
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		values[getIndex(parameterIndex)] = NULL;
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		values[getIndex(parameterIndex)] = NULL;
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0)
+				buffer.append('\t');
+
+			buffer.append(values[i]);
+		}
+
+		buffer.append('\n');
+		rows++;
+	}
+
+	@Override
+	public void executeBatch() throws SQLException {
+		if (rows == 0)
+			return;
+
+		CopyIn copyIn = copyManager.copyIn(copyStmt);
+		try {
+			for (int start = 0, length = buffer.length(); start < length; ) {
+				int end = Math.min(start + CHUNK_SIZE, length);
+				if (end < length && Character.isHighSurrogate(buffer.charAt(end - 1)))
+					end--;
+
+				byte[] chunk = buffer.substring(start, end).getBytes(StandardCharsets.UTF_8);
+				copyIn.writeToCopy(chunk, 0, chunk.length);
+				start = end;
+			}
+
+			copiedRows += copyIn.endCopy();
+		} finally {
+			if (copyIn.isActive())
+				copyIn.cancelCopy();
+
+			buffer.setLength(0);
+			rows = 0;
+		}
+	}
+
+	public long getCopiedRows() {
+		return copiedRows;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		buffer.setLength(0);
+		rows = 0;
+	}
+
+	private int getIndex(int parameterIndex) throws SQLException {
+		if (parameterIndex < 1 || parameterIndex > values.length)
+			throw new SQLException("The parameter index " + parameterIndex + " is out of range.");
+
+		return parameterIndex - 1;
+	}
+
+	private String escape(String value) {
+		StringBuilder escaped = null;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			String replacement;
+			switch (c) {
+			case '\\':
+				replacement = "\\\\";
+				break;
+			case '\n':
+				replacement = "\\n";
+				break;
+			case '\r':
+				replacement = "\\r";
+				break;
+			case '\t':
+				replacement = "\\t";
+				break;
+			default:
+				if (escaped != null)
+					escaped.append(c);
+				continue;
+			}
+
+			if (escaped == null)
+				escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+
+			escaped.append(replacement);
+		}
+
+		return escaped != null ? escaped.toString() : value;
+	}
+}
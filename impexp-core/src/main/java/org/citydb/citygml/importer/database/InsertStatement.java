@@ -0,0 +1,94 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.citygml.importer.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public interface InsertStatement extends AutoCloseable {
+	void setLong(int parameterIndex, long x) throws SQLException;
+	void setInt(int parameterIndex, int x) throws SQLException;
+	void setString(int parameterIndex, String x) throws SQLException;
+	void setObject(int parameterIndex, Object x) throws SQLException;
+	void setNull(int parameterIndex, int sqlType) throws SQLException;
+	void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException;
+	void addBatch() throws SQLException;
+	void executeBatch() throws SQLException;
+
+	@Override
+	void close() throws SQLException;
+
+	static InsertStatement of(PreparedStatement ps) {
+		return new InsertStatement() {
+			@Override
+			public void setLong(int parameterIndex, long x) throws SQLException {
+				ps.setLong(parameterIndex, x);
+			}
+
+			@Override
+			public void setInt(int parameterIndex, int x) throws SQLException {
+				ps.setInt(parameterIndex, x);
+			}
+
+			@Override
+			public void setString(int parameterIndex, String x) throws SQLException {
+				ps.setString(parameterIndex, x);
+			}
+
+			@Override
+			public void setObject(int parameterIndex, Object x) throws SQLException {
+				ps.setObject(parameterIndex, x);
+			}
+
+			@Override
+			public void setNull(int parameterIndex, int sqlType) throws SQLException {
+				ps.setNull(parameterIndex, sqlType);
+			}
+
+			@Override
+			public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+				ps.setNull(parameterIndex, sqlType, typeName);
+			}
+
+			@Override
+			public void addBatch() throws SQLException {
+				ps.addBatch();
+			}
+
+			@Override
+			public void executeBatch() throws SQLException {
+				ps.executeBatch();
+			}
+
+			@Override
+			public void close() throws SQLException {
+				ps.close();
+			}
+		};
+	}
+}
@@ -28,50 +28,198 @@
 package org.citydb.citygml.importer.database;
 
 import org.citydb.config.Config;
+import org.citydb.config.project.importer.IdBlockAllocation;
 import org.citydb.database.adapter.AbstractDatabaseAdapter;
+import org.citydb.database.connection.DatabaseConnectionPool;
+import org.citydb.metrics.Counter;
+import org.citydb.metrics.MetricsRegistry;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class SequenceHelper {
 	private final Connection connection;
 	private final AbstractDatabaseAdapter databaseAdapter;
+	private final int blockSize;
+	private final int refillThreshold;
 
-	private HashMap<String, PreparedStatement> psIdMap;
+	private final HashMap<String, PreparedStatement> psIdMap;
+	private final HashMap<String, SequenceBlock> blocks;
+	private ExecutorService refillService;
 
 	public SequenceHelper(Connection connection, AbstractDatabaseAdapter databaseAdapter, Config config) throws SQLException {
 		this.connection = connection;
 		this.databaseAdapter = databaseAdapter;
 
-		psIdMap = new HashMap<String, PreparedStatement>();
+		IdBlockAllocation blockAllocation = config.getProject().getImporter().getResources().getIdBlockAllocation();
+		blockSize = blockAllocation.getBlockSize();
+		refillThreshold = (int) (blockSize * blockAllocation.getRefillThreshold());
+
+		// asynchronous refills use their own pooled connection so that they
+		// never interfere with the batches running on the worker connection.
+		// this connection is not reserved when sizing the worker pool, so the
+		// option is disabled by default
+		if (blockSize > 1 && blockAllocation.isSetAsyncRefill()) {
+			refillService = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "sequence_refill");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		psIdMap = new HashMap<>();
+		blocks = new HashMap<>();
 	}
-	
+
 	public long getNextSequenceValue(String sequence) throws SQLException {
-		PreparedStatement stmt = psIdMap.get(sequence);
-		if (stmt == null) {
-			StringBuilder query = new StringBuilder("select ").append(databaseAdapter.getSQLAdapter().getNextSequenceValue(sequence));
-			if (databaseAdapter.getSQLAdapter().requiresPseudoTableInSelect())
-				query.append(" from ").append(databaseAdapter.getSQLAdapter().getPseudoTableName());
-
-			stmt = connection.prepareStatement(query.toString());
-			psIdMap.put(sequence, stmt);
+		SequenceBlock block = blocks.get(sequence);
+		if (block == null) {
+			block = new SequenceBlock(sequence);
+			blocks.put(sequence, block);
 		}
 
-		try (ResultSet rs = stmt.executeQuery()) {
-			if (rs.next())
-				return rs.getLong(1);
+		return block.nextValue();
+	}
 
-			throw new SQLException("Failed to retrieve the next sequence value from " + sequence + ".");
-		} catch (SQLException e) {
-			throw new SQLException("Failed to retrieve the next sequence value from " + sequence + ".", e);
+	public long[] getNextSequenceValues(String sequence, int count) throws SQLException {
+		SequenceBlock block = blocks.get(sequence);
+		if (block == null) {
+			block = new SequenceBlock(sequence);
+			blocks.put(sequence, block);
 		}
+
+		return block.nextValues(count);
 	}
 
 	public void close() throws SQLException {
+		if (refillService != null)
+			refillService.shutdownNow();
+
 		for (PreparedStatement stmt : psIdMap.values())
 			stmt.close();
 	}
+
+	private long[] fetchValues(Connection connection, PreparedStatement stmt, String sequence, int count) throws SQLException {
+		try {
+			if (stmt == null) {
+				stmt = psIdMap.get(sequence);
+				if (stmt == null) {
+					stmt = connection.prepareStatement(databaseAdapter.getSQLAdapter().getNextSequenceValuesQuery(sequence));
+					psIdMap.put(sequence, stmt);
+				}
+			}
+
+			stmt.setInt(1, count);
+			try (ResultSet rs = stmt.executeQuery()) {
+				long[] values = new long[count];
+				int i = 0;
+
+				while (rs.next() && i < count)
+					values[i++] = rs.getLong(1);
+
+				if (i != count)
+					throw new SQLException("Expected " + count + " sequence values but received " + i + ".");
+
+				return values;
+			}
+		} catch (SQLException e) {
+			throw new SQLException("Failed to retrieve the next sequence values from " + sequence + ".", e);
+		}
+	}
+
+	private long[] fetchValuesAsync(String sequence, int count) throws SQLException {
+		try (Connection connection = DatabaseConnectionPool.getInstance().getConnection();
+			 PreparedStatement stmt = connection.prepareStatement(databaseAdapter.getSQLAdapter().getNextSequenceValuesQuery(sequence))) {
+			return fetchValues(connection, stmt, sequence, count);
+		}
+	}
+
+	private final class SequenceBlock {
+		private final String sequence;
+		private final Counter allocated;
+		private final Counter roundTrips;
+		private final Counter asyncRefills;
+		private final Counter stalls;
+
+		private long[] values;
+		private int index;
+		private Future<long[]> nextBlock;
+
+		SequenceBlock(String sequence) {
+			this.sequence = sequence;
+
+			MetricsRegistry metrics = MetricsRegistry.getInstance();
+			String prefix = "import.sequence." + sequence.toLowerCase(Locale.ROOT);
+			allocated = metrics.getCounter(prefix + ".allocated");
+			roundTrips = metrics.getCounter(prefix + ".roundTrips");
+			asyncRefills = metrics.getCounter(prefix + ".asyncRefills");
+			stalls = metrics.getCounter(prefix + ".stalls");
+		}
+
+		long nextValue() throws SQLException {
+			if (values == null || index == values.length) {
+				values = takeBlock();
+				index = 0;
+			}
+
+			long value = values[index++];
+			allocated.increment();
+
+			if (refillService != null && nextBlock == null && values.length - index <= refillThreshold)
+				nextBlock = refillService.submit(() -> fetchValuesAsync(sequence, blockSize));
+
+			return value;
+		}
+
+		long[] nextValues(int count) throws SQLException {
+			// large requests bypass the block to avoid wasting prefetched values
+			if (count > blockSize) {
+				long[] values = fetchValues(connection, null, sequence, count);
+				roundTrips.increment();
+				allocated.add(count);
+				return values;
+			}
+
+			long[] result = new long[count];
+			for (int i = 0; i < count; i++)
+				result[i] = nextValue();
+
+			return result;
+		}
+
+		private long[] takeBlock() throws SQLException {
+			if (nextBlock != null) {
+				try {
+					if (!nextBlock.isDone())
+						stalls.increment();
+
+					long[] values = nextBlock.get();
+					roundTrips.increment();
+					asyncRefills.increment();
+					return values;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new SQLException("Interrupted while waiting for sequence values from " + sequence + ".", e);
+				} catch (ExecutionException e) {
+					throw e.getCause() instanceof SQLException ?
+							(SQLException) e.getCause() :
+							new SQLException("Failed to retrieve the next sequence values from " + sequence + ".", e.getCause());
+				} finally {
+					nextBlock = null;
+				}
+			}
+
+			long[] values = fetchValues(connection, null, sequence, blockSize);
+			roundTrips.increment();
+			return values;
+		}
+	}
 }
@@ -60,6 +60,8 @@ import org.citydb.database.schema.mapping.ObjectType;
 import org.citydb.database.schema.mapping.SchemaMapping;
 import org.citydb.file.InputFile;
 import org.citydb.log.Logger;
+import org.citydb.metrics.MetricsRegistry;
+import org.citydb.metrics.Timer;
 import org.citydb.util.CoreConstants;
 import org.citydb.util.Util;
 import org.citygml4j.builder.jaxb.CityGMLBuilder;
@@ -128,6 +130,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -135,8 +138,10 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 	private final Logger log = Logger.getInstance();
 	private final IdentityHashMap<Class<? extends DBImporter>, DBImporter> importers = new IdentityHashMap<>();
 	private final IdentityHashMap<ADEExtension, ADEImportManager> adeImporters = new IdentityHashMap<>();
+	private final HashMap<String, Timer> batchTimers = new HashMap<>();
 
 	private final InputFile inputFile;
+	private final String gmlIdCodespace;
 	private final Connection connection;
 	private final AbstractDatabaseAdapter databaseAdapter;
 	private final SchemaMapping schemaMapping;
@@ -166,6 +171,7 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 	private boolean hasADESupport = false;
 
 	public CityGMLImportManager(InputFile inputFile,
+			String gmlIdCodespace,
 			Connection connection,
 			AbstractDatabaseAdapter databaseAdapter, 
 			SchemaMapping schemaMapping,
@@ -175,6 +181,7 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 			AffineTransformer affineTransformer,
 			Config config) throws SQLException {
 		this.inputFile = inputFile;
+		this.gmlIdCodespace = gmlIdCodespace;
 		this.connection = connection;
 		this.databaseAdapter = databaseAdapter;
 		this.schemaMapping = schemaMapping;
@@ -480,6 +487,10 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 		return sequenceHelper.getNextSequenceValue(sequence);
 	}
 
+	public long[] getNextSequenceValues(String sequence, int count) throws SQLException {
+		return sequenceHelper.getNextSequenceValues(sequence, count);
+	}
+
 	@Override
 	public AttributeValueJoiner getAttributeValueJoiner() {
 		return attributeValueJoiner;
@@ -544,6 +555,10 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 		return inputFile;
 	}
 
+	public String getGmlIdCodespace() {
+		return gmlIdCodespace;
+	}
+
 	public LocalAppearanceHandler getLocalAppearanceHandler() {
 		return localAppearanceHandler;
 	}
@@ -732,6 +747,17 @@ public class CityGMLImportManager implements CityGMLImportHelper {
 	}
 
 	private void doExecuteBatch(String tableName) throws CityGMLImportException, SQLException {
+		Timer timer = batchTimers.computeIfAbsent(tableName,
+				v -> MetricsRegistry.getInstance().getTimer("import.batch." + tableName.toLowerCase(Locale.ROOT)));
+		long start = timer.start();
+		try {
+			executeTableBatch(tableName);
+		} finally {
+			timer.stop(start);
+		}
+	}
+
+	private void executeTableBatch(String tableName) throws CityGMLImportException, SQLException {
 		// check whether whether we deal with a predefined 3dcitydb table
 		// in which case we pick a predefined importer to execute the batch
 		TableEnum table = TableEnum.fromTableName(tableName);
@@ -120,7 +120,7 @@ public class DBCityObject implements DBImporter {
 		if (updatingPerson != null && updatingPerson.trim().isEmpty())
 			updatingPerson = null;
 
-		String gmlIdCodespace = config.getInternal().getCurrentGmlIdCodespace();
+		String gmlIdCodespace = importer.getGmlIdCodespace();
 		if (gmlIdCodespace != null)
 			gmlIdCodespace = "'" + gmlIdCodespace + "', ";
 
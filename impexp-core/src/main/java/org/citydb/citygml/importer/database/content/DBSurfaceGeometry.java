@@ -31,11 +31,14 @@ import org.citydb.citygml.common.database.xlink.DBXlinkLinearRing;
 import org.citydb.citygml.common.database.xlink.DBXlinkSolidGeometry;
 import org.citydb.citygml.common.database.xlink.DBXlinkSurfaceGeometry;
 import org.citydb.citygml.importer.CityGMLImportException;
+import org.citydb.citygml.importer.database.CopyInsertStatement;
+import org.citydb.citygml.importer.database.InsertStatement;
 import org.citydb.citygml.importer.util.LocalAppearanceHandler;
 import org.citydb.citygml.importer.util.RingValidator;
 import org.citydb.config.Config;
 import org.citydb.config.geometry.GeometryObject;
 import org.citydb.config.project.database.DatabaseType;
+import org.citydb.config.project.importer.SurfaceGeometryBulkLoad;
 import org.citydb.database.connection.DatabaseConnectionPool;
 import org.citydb.database.schema.SequenceEnum;
 import org.citydb.database.schema.TableEnum;
@@ -78,8 +81,6 @@ import org.citygml4j.model.gml.geometry.primitives.TriangulatedSurface;
 import org.citygml4j.util.walker.GeometryWalker;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
@@ -89,8 +90,7 @@ public class DBSurfaceGeometry implements DBImporter {
 	private final Connection batchConn;
 	private final CityGMLImportManager importer;
 
-	private PreparedStatement psGeomElem;
-	private PreparedStatement psNextSeqValues;
+	private InsertStatement psGeomElem;
 	private GeometryConverter geometryConverter;
 	private DBAppearance appearanceImporter;
 	private PrimaryKeyManager pkManager;
@@ -101,6 +101,7 @@ public class DBSurfaceGeometry implements DBImporter {
 	private boolean applyTransformation;
 	private boolean isImplicit;
 	private int batchCounter;
+	private int maxBatchSize;
 	private int nullGeometryType;
 	private String nullGeometryTypeName;
 	private LocalAppearanceHandler localAppearanceHandler;
@@ -118,27 +119,46 @@ public class DBSurfaceGeometry implements DBImporter {
 		nullGeometryTypeName = importer.getDatabaseAdapter().getGeometryConverter().getNullGeometryTypeName();
 		String schema = importer.getDatabaseAdapter().getConnectionDetails().getSchema();
 
-		String gmlIdCodespace = config.getInternal().getCurrentGmlIdCodespace();
-		if (gmlIdCodespace != null)
-			gmlIdCodespace = "'" + gmlIdCodespace + "', ";
-
-		StringBuilder stmt = new StringBuilder()
-				.append("insert into ").append(schema).append(".surface_geometry (id, gmlid, ").append(gmlIdCodespace != null ? "gmlid_codespace, " : "")
-				.append("parent_id, root_id, is_solid, is_composite, is_triangulated, is_xlink, is_reverse, geometry, solid_geometry, implicit_geometry, cityobject_id) values ")
-				.append("(?, ?, ").append(gmlIdCodespace != null ? gmlIdCodespace : "").append("?, ?, ?, ?, ?, ?, ?, ?, ");
-
-		if (importer.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS) {
-			// the current PostGIS JDBC driver lacks support for geometry objects of type PolyhedralSurface
-			// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries
-			// TODO: rework as soon as the JDBC driver supports PolyhedralSurface
-			stmt.append("ST_GeomFromEWKT(?), ");
-		} else
-			stmt.append("?, ");
-
-		stmt.append("?, ?)");
-
-		psGeomElem = batchConn.prepareStatement(stmt.toString());
-		psNextSeqValues = batchConn.prepareStatement(importer.getDatabaseAdapter().getSQLAdapter().getNextSequenceValuesQuery(SequenceEnum.SURFACE_GEOMETRY_ID_SEQ.getName()));
+		String gmlIdCodespace = importer.getGmlIdCodespace();
+		SurfaceGeometryBulkLoad bulkLoad = config.getProject().getImporter().getSurfaceGeometryBulkLoad();
+
+		if (bulkLoad.isEnabled() && importer.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS) {
+			// stream rows through the COPY protocol instead of batched inserts.
+			// the codespace is appended as last column and therefore set only once
+			psGeomElem = new CopyInsertStatement(batchConn, schema + ".surface_geometry", gmlIdCodespace != null ?
+					new String[]{"id", "gmlid", "parent_id", "root_id", "is_solid", "is_composite", "is_triangulated", "is_xlink", "is_reverse",
+							"geometry", "solid_geometry", "implicit_geometry", "cityobject_id", "gmlid_codespace"} :
+					new String[]{"id", "gmlid", "parent_id", "root_id", "is_solid", "is_composite", "is_triangulated", "is_xlink", "is_reverse",
+							"geometry", "solid_geometry", "implicit_geometry", "cityobject_id"});
+
+			if (gmlIdCodespace != null)
+				psGeomElem.setString(14, gmlIdCodespace);
+
+			maxBatchSize = bulkLoad.getBatchSize();
+		} else {
+			if (gmlIdCodespace != null)
+				gmlIdCodespace = "'" + gmlIdCodespace + "', ";
+
+			StringBuilder stmt = new StringBuilder()
+					.append("insert into ").append(schema).append(".surface_geometry (id, gmlid, ").append(gmlIdCodespace != null ? "gmlid_codespace, " : "")
+					.append("parent_id, root_id, is_solid, is_composite, is_triangulated, is_xlink, is_reverse, geometry, solid_geometry, implicit_geometry, cityobject_id) values ")
+					.append("(?, ?, ").append(gmlIdCodespace != null ? gmlIdCodespace : "").append("?, ?, ?, ?, ?, ?, ?, ?, ");
+
+			if (importer.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS
+					&& !importer.getDatabaseAdapter().getGeometryConverter().isUseBinaryTransfer()) {
+				// the current PostGIS JDBC driver lacks support for geometry objects of type PolyhedralSurface
+				// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries unless
+				// they are transferred as EWKB, which the database accepts as plain geometry parameter
+				// TODO: rework as soon as the JDBC driver supports PolyhedralSurface
+				stmt.append("ST_GeomFromEWKT(?), ");
+			} else
+				stmt.append("?, ");
+
+			stmt.append("?, ?)");
+
+			psGeomElem = InsertStatement.of(batchConn.prepareStatement(stmt.toString()));
+			maxBatchSize = importer.getDatabaseAdapter().getMaxBatchSize();
+		}
 
 		appearanceImporter = importer.getImporter(DBAppearance.class);
 		localAppearanceHandler = importer.getLocalAppearanceHandler();
@@ -1153,7 +1173,7 @@ public class DBSurfaceGeometry implements DBImporter {
 
 	private void addBatch() throws CityGMLImportException, SQLException {
 		psGeomElem.addBatch();
-		if (++batchCounter == importer.getDatabaseAdapter().getMaxBatchSize())
+		if (++batchCounter == maxBatchSize)
 			importer.executeBatch(TableEnum.SURFACE_GEOMETRY);
 	}
 
@@ -1168,7 +1188,6 @@ public class DBSurfaceGeometry implements DBImporter {
 	@Override
 	public void close() throws CityGMLImportException, SQLException {
 		psGeomElem.close();
-		psNextSeqValues.close();
 	}
 
 	private class PrimaryKeyManager extends GeometryWalker {
@@ -1215,16 +1234,8 @@ public class DBSurfaceGeometry implements DBImporter {
 				return false;
 
 			// retrieve sequence values
-			psNextSeqValues.setInt(1, count);
-			try (ResultSet rs = psNextSeqValues.executeQuery()) {
-				ids = new long[count];
-				int i = 0;
-
-				while (rs.next())
-					ids[i++] = rs.getLong(1);
-
-				return true;
-			}
+			ids = importer.getNextSequenceValues(SequenceEnum.SURFACE_GEOMETRY_ID_SEQ.getName(), count);
+			return true;
 		}
 
 		private long nextId() {
@@ -81,7 +81,7 @@ public class DBTexImage implements DBImporter {
 			return 0;
 
 		long texImageId = 0;
-		String md5URI = toHexString(md5.digest(imageURI.getBytes()));
+		String md5URI = toHexString(md5.digest(externalFileChecker.getLocation(imageURI).getBytes()));
 
 		Map.Entry<String, String> fileInfo = null;
 		boolean insertIntoTexImage = false;
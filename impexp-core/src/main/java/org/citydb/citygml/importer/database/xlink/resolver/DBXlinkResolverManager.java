@@ -30,6 +30,7 @@ package org.citydb.citygml.importer.database.xlink.resolver;
 import org.citydb.citygml.common.database.cache.CacheTable;
 import org.citydb.citygml.common.database.cache.CacheTableManager;
 import org.citydb.citygml.common.database.cache.model.CacheTableModel;
+import org.citydb.citygml.common.database.uid.UIDCache;
 import org.citydb.citygml.common.database.uid.UIDCacheEntry;
 import org.citydb.citygml.common.database.uid.UIDCacheManager;
 import org.citydb.citygml.common.database.uid.UIDCacheType;
@@ -65,7 +66,9 @@ public class DBXlinkResolverManager {
 	private final AbstractDatabaseAdapter databaseAdapter;
 	private final SchemaMapping schemaMapping;
 	private final WorkerPool<DBXlink> tmpXlinkPool;
+	private final UIDCacheManager uidCacheManager;
 	private final CacheTableManager cacheTableManager;
+	private final Config config;
 	private final EventDispatcher eventDispatcher;
 
 	private HashMap<DBXlinkResolverEnum, DBXlinkResolver> dbWriterMap;
@@ -85,7 +88,9 @@ public class DBXlinkResolverManager {
 		this.connection = batchConn;
 		this.databaseAdapter = databaseAdapter;
 		this.tmpXlinkPool = tmpXlinkPool;
+		this.uidCacheManager = uidCacheManager;
 		this.cacheTableManager = cacheTableManager;
+		this.config = config;
 		this.eventDispatcher = eventDispatcher;
 
 		dbWriterMap = new HashMap<>();
@@ -125,10 +130,10 @@ public class DBXlinkResolverManager {
 					dbResolver = new XlinkTextureAssociation(connection, texAssHeapView, this);
 				break;
 			case TEXTURE_IMAGE:
-				dbResolver = new XlinkTextureImage(connection, this);
+				dbResolver = new XlinkTextureImage(connection, config, this);
 				break;
 			case SURFACE_DATA_TO_TEX_IMAGE:
-				dbResolver = new XlinkSurfaceDataToTexImage(connection, this);
+				dbResolver = new XlinkSurfaceDataToTexImage(connection, config, this);
 				break;
 			case LIBRARY_OBJECT:
 				dbResolver = new XlinkLibraryObject(connection, this);
@@ -170,6 +175,24 @@ public class DBXlinkResolverManager {
 		return dbGmlIdResolver.getDBId(gmlId, UIDCacheType.GEOMETRY, false);
 	}
 	
+	public long getTextureImageId(String key) {
+		UIDCache cache = uidCacheManager.getCache(UIDCacheType.TEXTURE_IMAGE);
+
+		if (cache != null) {
+			UIDCacheEntry entry = cache.get(key);
+			if (entry != null)
+				return entry.getId();
+		}
+
+		return -1;
+	}
+
+	public void putTextureImageUID(String key, long id) {
+		UIDCache cache = uidCacheManager.getCache(UIDCacheType.TEXTURE_IMAGE);
+		if (cache != null)
+			cache.put(key, id, -1, false, null, 0);
+	}
+
 	public FeatureType getFeatureType(int objectClassId) {
 		return schemaMapping.getFeatureType(objectClassId);
 	}
@@ -216,8 +239,12 @@ public class DBXlinkResolverManager {
 			//
 		}
 
-		if (file == null || !file.isAbsolute())
+		if (file == null || !file.isAbsolute()) {
+			if (inputFile == null)
+				throw new IOException("Failed to resolve relative path '" + fileURI + "'.");
+
 			file = inputFile.resolve(fileURI);
+		}
 
 		return Files.newInputStream(file);
 	}
@@ -63,9 +63,11 @@ public class XlinkSolidGeometry implements DBXlinkResolver {
 		psSelectSurfGeom = batchConn.prepareStatement(resolverManager.getDatabaseAdapter().getSQLAdapter().getHierarchicalGeometryQuery());
 
 		StringBuilder stmt = new StringBuilder("update ").append(schema).append(".SURFACE_GEOMETRY set SOLID_GEOMETRY=");
-		if (resolverManager.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS) {
+		if (resolverManager.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS
+				&& !resolverManager.getDatabaseAdapter().getGeometryConverter().isUseBinaryTransfer()) {
 			// the current PostGIS JDBC driver lacks support for geometry objects of type PolyhedralSurface
-			// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries
+			// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries unless
+			// they are transferred as EWKB, which the database accepts as plain geometry parameter
 			// TODO: rework as soon as the JDBC driver supports PolyhedralSurface
 			stmt.append("ST_GeomFromEWKT(?) ");	
 		} else
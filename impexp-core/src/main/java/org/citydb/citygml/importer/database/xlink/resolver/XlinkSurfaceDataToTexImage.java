@@ -32,15 +32,19 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.citydb.citygml.common.database.xlink.DBXlinkSurfaceDataToTexImage;
+import org.citydb.config.Config;
 
 public class XlinkSurfaceDataToTexImage implements DBXlinkResolver {
 	private final DBXlinkResolverManager resolverManager;
+	private final boolean deduplicateTextureFiles;
 
 	private PreparedStatement psUpdate;
 	private int batchCounter;
 
-	public XlinkSurfaceDataToTexImage(Connection batchConn, DBXlinkResolverManager resolverManager) throws SQLException {
+	public XlinkSurfaceDataToTexImage(Connection batchConn, Config config, DBXlinkResolverManager resolverManager) throws SQLException {
 		this.resolverManager = resolverManager;
+		deduplicateTextureFiles = config.getProject().getImporter().getAppearances().isSetImportTextureFiles()
+				&& config.getProject().getImporter().getAppearances().isSetDeduplicateTextureFiles();
 		String schema = resolverManager.getDatabaseAdapter().getConnectionDetails().getSchema();
 
 		StringBuilder stmt = new StringBuilder()
@@ -49,7 +53,16 @@ public class XlinkSurfaceDataToTexImage implements DBXlinkResolver {
 	}
 
 	public boolean insert(DBXlinkSurfaceDataToTexImage xlink) throws SQLException {
-		psUpdate.setLong(1, xlink.getToId());
+		long texImageId = xlink.getToId();
+
+		// texture images having identical content are mapped to the first one imported
+		if (deduplicateTextureFiles) {
+			long id = resolverManager.getTextureImageId(String.valueOf(texImageId));
+			if (id != -1)
+				texImageId = id;
+		}
+
+		psUpdate.setLong(1, texImageId);
 		psUpdate.setLong(2, xlink.getFromId());
 
 		psUpdate.addBatch();
@@ -85,9 +85,11 @@ public class XlinkSurfaceGeometry implements DBXlinkResolver {
 		.append("insert into ").append(schema).append(".SURFACE_GEOMETRY (ID, GMLID, PARENT_ID, ROOT_ID, IS_SOLID, IS_COMPOSITE, IS_TRIANGULATED, IS_XLINK, IS_REVERSE, GEOMETRY, SOLID_GEOMETRY, CITYOBJECT_ID) values ")
 		.append("(?, ?, ?, ?, ?, ?, ?, 1, ?, ?, ");
 		
-		if (resolverManager.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS) {
+		if (resolverManager.getDatabaseAdapter().getDatabaseType() == DatabaseType.POSTGIS
+				&& !resolverManager.getDatabaseAdapter().getGeometryConverter().isUseBinaryTransfer()) {
 			// the current PostGIS JDBC driver lacks support for geometry objects of type PolyhedralSurface
-			// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries
+			// thus, we have to use the database function ST_GeomFromEWKT to insert such geometries unless
+			// they are transferred as EWKB, which the database accepts as plain geometry parameter
 			// TODO: rework as soon as the JDBC driver supports PolyhedralSurface
 			parentStmt.append("ST_GeomFromEWKT(?), ");	
 		} else
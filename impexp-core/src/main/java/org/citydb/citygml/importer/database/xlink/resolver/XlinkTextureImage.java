@@ -28,6 +28,8 @@
 package org.citydb.citygml.importer.database.xlink.resolver;
 
 import org.citydb.citygml.common.database.xlink.DBXlinkTextureFile;
+import org.citydb.citygml.importer.util.ConcurrentLockManager;
+import org.citydb.config.Config;
 import org.citydb.database.adapter.BlobImportAdapter;
 import org.citydb.database.adapter.BlobType;
 import org.citydb.event.global.CounterEvent;
@@ -37,44 +39,119 @@ import org.citydb.log.Logger;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class XlinkTextureImage implements DBXlinkResolver {
 	private final Logger LOG = Logger.getInstance();
+	private final ConcurrentLockManager lockManager = ConcurrentLockManager.getInstance(XlinkTextureImage.class);
 	private final DBXlinkResolverManager resolverManager;
+	private final boolean deduplicateTextureFiles;
 
 	private BlobImportAdapter textureImportAdapter;	
 	private CounterEvent counter;
+	private MessageDigest md5;
+	private PreparedStatement psDelete;
+	private int batchCounter;
 
-	public XlinkTextureImage(Connection externalFileConn, DBXlinkResolverManager resolverManager) throws SQLException {
+	public XlinkTextureImage(Connection externalFileConn, Config config, DBXlinkResolverManager resolverManager) throws SQLException {
 		this.resolverManager = resolverManager;
+		deduplicateTextureFiles = config.getProject().getImporter().getAppearances().isSetDeduplicateTextureFiles();
 		
 		counter = new CounterEvent(CounterType.TEXTURE_IMAGE, 1, this);
 		textureImportAdapter = resolverManager.getDatabaseAdapter().getSQLAdapter().getBlobImportAdapter(
 				externalFileConn, BlobType.TEXTURE_IMAGE);
+
+		if (deduplicateTextureFiles) {
+			try {
+				md5 = MessageDigest.getInstance("MD5");
+			} catch (NoSuchAlgorithmException e) {
+				throw new SQLException(e);
+			}
+
+			String schema = resolverManager.getDatabaseAdapter().getConnectionDetails().getSchema();
+			psDelete = externalFileConn.prepareStatement("delete from " + schema + ".TEX_IMAGE where ID=?");
+		}
 	}
 
 	public boolean insert(DBXlinkTextureFile xlink) throws SQLException {
 		resolverManager.propagateEvent(counter);			
 		String fileURI = xlink.getFileURI();
 		
-		try (InputStream stream = new BufferedInputStream(resolverManager.openStream(fileURI))) {
-			return textureImportAdapter.insert(xlink.getId(), stream, fileURI);
+		if (!deduplicateTextureFiles) {
+			try (InputStream stream = new BufferedInputStream(resolverManager.openStream(fileURI))) {
+				return textureImportAdapter.insert(xlink.getId(), stream, fileURI);
+			} catch (IOException e) {
+				LOG.error("Failed to read texture file '" + fileURI + "': " + e.getMessage());
+				return false;
+			}
+		}
+
+		// the content hash is computed while the file is streamed to the database
+		// so that every texture file is only read once
+		md5.reset();
+		try (InputStream stream = new DigestInputStream(new BufferedInputStream(resolverManager.openStream(fileURI)), md5)) {
+			if (!textureImportAdapter.insert(xlink.getId(), stream, fileURI))
+				return false;
 		} catch (IOException e) {
 			LOG.error("Failed to read texture file '" + fileURI + "': " + e.getMessage());
 			return false;
 		}
+
+		String contentHash = toHexString(md5.digest());
+		long texImageId;
+
+		ReentrantLock lock = lockManager.getLock(contentHash);
+		lock.lock();
+		try {
+			texImageId = resolverManager.getTextureImageId(contentHash);
+			if (texImageId == -1)
+				resolverManager.putTextureImageUID(contentHash, xlink.getId());
+		} finally {
+			lockManager.releaseLock(contentHash);
+			lock.unlock();
+		}
+
+		if (texImageId != -1 && texImageId != xlink.getId()) {
+			// an identical texture image has already been imported. surface data is
+			// linked to texture images in a subsequent pass, which uses this mapping
+			resolverManager.putTextureImageUID(String.valueOf(xlink.getId()), texImageId);
+
+			psDelete.setLong(1, xlink.getId());
+			psDelete.addBatch();
+			if (++batchCounter == resolverManager.getDatabaseAdapter().getMaxBatchSize())
+				executeBatch();
+		}
+
+		return true;
+	}
+
+	private String toHexString(byte[] bytes) {
+		StringBuilder hexString = new StringBuilder();
+		for (byte b : bytes)
+			hexString.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+
+		return hexString.toString();
 	}
 
 	@Override
 	public void executeBatch() throws SQLException {
-		// we do not have any action here
+		if (batchCounter > 0) {
+			psDelete.executeBatch();
+			batchCounter = 0;
+		}
 	}
 
 	@Override
 	public void close() throws SQLException {
 		textureImportAdapter.close();
+		if (psDelete != null)
+			psDelete.close();
 	}
 
 	@Override
@@ -26,6 +26,7 @@ public class CityGMLReader implements FeatureReader, EventHandler {
     private final CityGMLInputFilter typeFilter;
     private final CounterFilter counterFilter;
     private final ValidationErrorHandler validationHandler;
+    private final XMLChunkUnmarshaller.Pool unmarshallerPool;
     private final CityGMLInputFactory factory;
     private final Config config;
     private final EventDispatcher eventDispatcher;
@@ -33,10 +34,11 @@ public class CityGMLReader implements FeatureReader, EventHandler {
 
     private volatile boolean shouldRun = true;
 
-    CityGMLReader(CityGMLInputFilter typeFilter, CounterFilter counterFilter, ValidationErrorHandler validationHandler, CityGMLInputFactory factory, Config config) {
+    CityGMLReader(CityGMLInputFilter typeFilter, CounterFilter counterFilter, ValidationErrorHandler validationHandler, XMLChunkUnmarshaller.Pool unmarshallerPool, CityGMLInputFactory factory, Config config) {
         this.typeFilter = typeFilter;
         this.counterFilter = counterFilter;
         this.validationHandler = validationHandler;
+        this.unmarshallerPool = unmarshallerPool;
         this.factory = factory;
         this.config = config;
 
@@ -67,7 +69,7 @@ public class CityGMLReader implements FeatureReader, EventHandler {
                     minThreads,
                     maxThreads,
                     PoolSizeAdaptationStrategy.AGGRESSIVE,
-                    new FeatureReaderWorkerFactory(workerPool, config, eventDispatcher),
+                    new FeatureReaderWorkerFactory(workerPool, unmarshallerPool, config, eventDispatcher),
                     maxThreads * 2,
                     false);
 
@@ -33,6 +33,7 @@ public class CityGMLReaderFactory implements FeatureReaderFactory {
     private CityGMLInputFilter typeFilter;
     private CounterFilter counterFilter;
     private ValidationErrorHandler validationHandler;
+    private XMLChunkUnmarshaller.Pool unmarshallerPool;
     private Config config;
 
     @Override
@@ -84,6 +85,10 @@ public class CityGMLReaderFactory implements FeatureReaderFactory {
             }
         }
 
+        // reuse JAXB unmarshallers across feature chunks unless the chunks must be validated or transformed
+        if (validationHandler == null && factory.getTransformationTemplates() == null)
+            unmarshallerPool = new XMLChunkUnmarshaller.Pool(ObjectRegistry.getInstance().getCityGMLBuilder(), factory.getSchemaHandler());
+
         // prepare feature filter
         typeFilter = name -> {
             Module module = Modules.getModule(name.getNamespaceURI());
@@ -98,6 +103,6 @@ public class CityGMLReaderFactory implements FeatureReaderFactory {
 
     @Override
     public FeatureReader createFeatureReader() throws FeatureReadException {
-        return new CityGMLReader(typeFilter, counterFilter, validationHandler, factory, config);
+        return new CityGMLReader(typeFilter, counterFilter, validationHandler, unmarshallerPool, factory, config);
     }
 }
@@ -0,0 +1,114 @@
+package org.citydb.citygml.importer.reader.citygml;
+
+import org.citygml4j.builder.jaxb.CityGMLBuilder;
+import org.citygml4j.builder.jaxb.unmarshal.JAXBUnmarshaller;
+import org.citygml4j.model.citygml.CityGML;
+import org.citygml4j.model.citygml.appearance.Appearance;
+import org.citygml4j.model.citygml.appearance.AppearanceProperty;
+import org.citygml4j.model.common.base.ModelObject;
+import org.citygml4j.model.gml.feature.AbstractFeature;
+import org.citygml4j.model.gml.feature.FeatureProperty;
+import org.citygml4j.model.module.gml.GMLCoreModule;
+import org.citygml4j.xml.io.reader.MissingADESchemaException;
+import org.citygml4j.xml.io.reader.UnmarshalException;
+import org.citygml4j.xml.io.reader.XMLChunk;
+import org.citygml4j.xml.schema.SchemaHandler;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.UnmarshallerHandler;
+import javax.xml.namespace.QName;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class XMLChunkUnmarshaller {
+    private final Unmarshaller unmarshaller;
+    private final JAXBUnmarshaller jaxbUnmarshaller;
+    private final AttributesImpl attributes = new AttributesImpl();
+
+    private XMLChunkUnmarshaller(CityGMLBuilder builder, SchemaHandler schemaHandler) throws JAXBException {
+        unmarshaller = builder.getJAXBContext().createUnmarshaller();
+        jaxbUnmarshaller = builder.createJAXBUnmarshaller(schemaHandler);
+        jaxbUnmarshaller.setThrowMissingADESchema(false);
+        jaxbUnmarshaller.setParseSchema(false);
+    }
+
+    public CityGML unmarshal(XMLChunk chunk) throws UnmarshalException, MissingADESchemaException {
+        try {
+            QName fakeRoot = getFakeRoot(chunk.getTypeName());
+            UnmarshallerHandler handler = unmarshaller.getUnmarshallerHandler();
+
+            handler.startDocument();
+            if (fakeRoot != null)
+                handler.startElement(fakeRoot.getNamespaceURI(), fakeRoot.getLocalPart(), "", attributes);
+
+            chunk.send(handler, true);
+
+            if (fakeRoot != null)
+                handler.endElement(fakeRoot.getNamespaceURI(), fakeRoot.getLocalPart(), "");
+            handler.endDocument();
+
+            Object result = handler.getResult();
+            if (!(result instanceof JAXBElement))
+                return null;
+
+            ModelObject object = jaxbUnmarshaller.unmarshal((JAXBElement<?>) result);
+            if (object instanceof AbstractFeature)
+                return (CityGML) object;
+            else if (object instanceof AppearanceProperty) {
+                Appearance appearance = ((AppearanceProperty) object).getAppearance();
+                if (appearance != null)
+                    appearance.unsetParent();
+
+                return appearance;
+            } else if (object instanceof FeatureProperty) {
+                FeatureProperty<?> property = (FeatureProperty<?>) object;
+                if (property.isSetFeature()) {
+                    AbstractFeature feature = property.getFeature();
+                    feature.unsetParent();
+                    return (CityGML) feature;
+                }
+
+                return property.getGenericADEElement();
+            }
+
+            return null;
+        } catch (MissingADESchemaException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnmarshalException("Unmarshal exception caused by:", e);
+        }
+    }
+
+    private QName getFakeRoot(QName typeName) {
+        if (!typeName.getNamespaceURI().startsWith("http://www.opengis.net/citygml"))
+            return new QName(GMLCoreModule.v3_1_1.getNamespaceURI(), "featureProperty");
+        else if (typeName.getLocalPart().equals("Appearance"))
+            return new QName(typeName.getNamespaceURI(), "appearanceMember");
+        else
+            return null;
+    }
+
+    public static class Pool {
+        private final Queue<XMLChunkUnmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+        private final CityGMLBuilder builder;
+        private final SchemaHandler schemaHandler;
+
+        Pool(CityGMLBuilder builder, SchemaHandler schemaHandler) {
+            this.builder = builder;
+            this.schemaHandler = schemaHandler;
+        }
+
+        public XMLChunkUnmarshaller acquire() throws JAXBException {
+            XMLChunkUnmarshaller unmarshaller = unmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : new XMLChunkUnmarshaller(builder, schemaHandler);
+        }
+
+        public void release(XMLChunkUnmarshaller unmarshaller) {
+            if (unmarshaller != null)
+                unmarshallers.offer(unmarshaller);
+        }
+    }
+}
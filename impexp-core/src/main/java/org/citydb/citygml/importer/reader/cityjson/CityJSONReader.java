@@ -1,5 +1,15 @@
 package org.citydb.citygml.importer.reader.cityjson;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.citydb.citygml.importer.filter.selection.counter.CounterFilter;
 import org.citydb.citygml.importer.reader.FeatureReadException;
 import org.citydb.citygml.importer.reader.FeatureReader;
@@ -11,7 +21,9 @@ import org.citydb.event.global.EventType;
 import org.citydb.file.InputFile;
 import org.citydb.registry.ObjectRegistry;
 import org.citygml4j.builder.cityjson.json.io.reader.CityJSONInputFactory;
-import org.citygml4j.builder.cityjson.json.io.reader.CityJSONReadException;
+import org.citygml4j.builder.cityjson.unmarshal.CityJSONUnmarshaller;
+import org.citygml4j.cityjson.CityJSON;
+import org.citygml4j.cityjson.CityJSONTypeAdapterFactory;
 import org.citygml4j.model.citygml.CityGML;
 import org.citygml4j.model.citygml.appearance.Appearance;
 import org.citygml4j.model.citygml.core.CityModel;
@@ -20,13 +32,22 @@ import org.citygml4j.model.gml.feature.FeatureProperty;
 import org.citygml4j.xml.io.reader.CityGMLInputFilter;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 public class CityJSONReader implements FeatureReader, EventHandler {
     private final CityGMLInputFilter typeFilter;
     private final CounterFilter counterFilter;
     private final CityJSONInputFactory factory;
     private final EventDispatcher eventDispatcher;
+    private final Gson gson;
 
     private volatile boolean shouldRun = true;
 
@@ -35,6 +56,11 @@ public class CityJSONReader implements FeatureReader, EventHandler {
         this.counterFilter = counterFilter;
         this.factory = factory;
 
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new CityJSONTypeAdapterFactory()
+                        .processUnknownExtensions(factory.isProcessUnknownExtensions()))
+                .create();
+
         eventDispatcher = ObjectRegistry.getInstance().getEventDispatcher();
         eventDispatcher.addEventHandler(EventType.INTERRUPT,this);
     }
@@ -46,17 +72,331 @@ public class CityJSONReader implements FeatureReader, EventHandler {
 
     @Override
     public void read(InputFile inputFile, WorkerPool<CityGML> workerPool) throws FeatureReadException {
-        try (org.citygml4j.builder.cityjson.json.io.reader.CityJSONReader reader = factory.createFilteredCityJSONReader(
-                factory.createCityJSONReader(inputFile.openStream()), typeFilter)) {
-            // read input file into a city model
-            CityModel cityModel = reader.read();
+        CityJSONUnmarshaller unmarshaller = new CityJSONUnmarshaller(factory.getTextureFileHandler());
+        unmarshaller.setCityGMLNameFilter(typeFilter);
+
+        SharedContent shared = new SharedContent();
+        try {
+            // first pass: read the shared vertices and appearance information but skip city objects
+            try (JsonReader reader = createJsonReader(inputFile)) {
+                readSharedContent(reader, shared);
+
+                if (reader.peek() != JsonToken.END_DOCUMENT) {
+                    // CityJSON text sequence: every subsequent line is a self-contained CityJSONFeature
+                    while (shouldRun && reader.peek() != JsonToken.END_DOCUMENT)
+                        processCityJSONFeature(JsonParser.parseReader(reader), shared, unmarshaller, workerPool);
+
+                    return;
+                }
+            }
+
+            // second pass: stream city objects one after the other
+            if (shouldRun && shared.hasCityObjects) {
+                try (JsonReader reader = createJsonReader(inputFile)) {
+                    readCityObjects(reader, shared, unmarshaller, workerPool);
+                }
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new FeatureReadException("Failed to read CityJSON input file.", e);
+        }
+    }
+
+    private JsonReader createJsonReader(InputFile inputFile) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(inputFile.openStream(), StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private void readSharedContent(JsonReader reader, SharedContent shared) throws IOException, FeatureReadException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "type":
+                    String type = reader.nextString();
+                    if (!"CityJSON".equals(type))
+                        throw new FeatureReadException("Expected a CityJSON object but found '" + type + "'.");
+                    break;
+                case "version":
+                    shared.version = reader.nextString();
+                    break;
+                case "transform":
+                    shared.transform = JsonParser.parseReader(reader);
+                    break;
+                case "extensions":
+                    shared.extensions = JsonParser.parseReader(reader);
+                    break;
+                case "geometry-templates":
+                    shared.geometryTemplates = JsonParser.parseReader(reader);
+                    break;
+                case "vertices":
+                    readVertices(reader, shared.vertices);
+                    break;
+                case "appearance":
+                    readAppearance(reader, shared);
+                    break;
+                case "CityObjects":
+                    shared.hasCityObjects = true;
+                    reader.skipValue();
+                    break;
+                default:
+                    // keep metadata and extension root properties for every document
+                    shared.properties.add(name, JsonParser.parseReader(reader));
+            }
+        }
+
+        reader.endObject();
+        shared.vertices.trimToSize();
+        shared.textureVertices.trimToSize();
+    }
+
+    private void readAppearance(JsonReader reader, SharedContent shared) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("vertices-texture"))
+                readVertices(reader, shared.textureVertices);
+            else
+                shared.appearance.add(name, JsonParser.parseReader(reader));
+        }
+
+        reader.endObject();
+    }
+
+    private void readVertices(JsonReader reader, VerticesBuffer vertices) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.beginArray();
+            while (reader.hasNext())
+                vertices.add(reader.nextDouble());
+
+            reader.endArray();
+        }
+
+        reader.endArray();
+    }
+
+    private void readCityObjects(JsonReader reader, SharedContent shared, CityJSONUnmarshaller unmarshaller, WorkerPool<CityGML> workerPool) throws IOException {
+        Map<String, JsonObject> pending = new HashMap<>();
+
+        reader.beginObject();
+        while (shouldRun && reader.hasNext()) {
+            if (!reader.nextName().equals("CityObjects")) {
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginObject();
+            while (shouldRun && reader.hasNext()) {
+                String id = reader.nextName();
+                JsonObject cityObject = JsonParser.parseReader(reader).getAsJsonObject();
+
+                if (!cityObject.has("parents") && !cityObject.has("children")) {
+                    process(Collections.singletonMap(id, cityObject), shared, unmarshaller, workerPool);
+                    continue;
+                }
+
+                // hierarchies of parent and child objects are only emitted once they are complete
+                pending.put(id, cityObject);
+                String rootId = getRootId(id, pending);
+                if (rootId != null) {
+                    Map<String, JsonObject> cityObjects = new LinkedHashMap<>();
+                    if (collectHierarchy(rootId, pending, cityObjects)) {
+                        cityObjects.keySet().forEach(pending::remove);
+                        process(cityObjects, shared, unmarshaller, workerPool);
+                    }
+                }
+            }
+
+            if (!shouldRun)
+                return;
+
+            reader.endObject();
+        }
+
+        // emit incomplete hierarchies as they are
+        if (shouldRun && !pending.isEmpty())
+            process(pending, shared, unmarshaller, workerPool);
+    }
+
+    private String getRootId(String id, Map<String, JsonObject> pending) {
+        Set<String> visited = new HashSet<>();
+        while (visited.add(id)) {
+            JsonElement parents = pending.get(id).get("parents");
+            if (parents == null || !parents.isJsonArray() || parents.getAsJsonArray().size() == 0)
+                return id;
+
+            id = parents.getAsJsonArray().get(0).getAsString();
+            if (!pending.containsKey(id))
+                return null;
+        }
+
+        return null;
+    }
+
+    private boolean collectHierarchy(String id, Map<String, JsonObject> pending, Map<String, JsonObject> cityObjects) {
+        if (cityObjects.containsKey(id))
+            return true;
+
+        JsonObject cityObject = pending.get(id);
+        if (cityObject == null)
+            return false;
+
+        cityObjects.put(id, cityObject);
+        JsonElement children = cityObject.get("children");
+        if (children != null && children.isJsonArray()) {
+            for (JsonElement child : children.getAsJsonArray()) {
+                if (!collectHierarchy(child.getAsString(), pending, cityObjects))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void process(Map<String, JsonObject> cityObjects, SharedContent shared, CityJSONUnmarshaller unmarshaller, WorkerPool<CityGML> workerPool) {
+        try {
+            boolean hasGeometryInstances = false;
+            JsonObject content = new JsonObject();
+            for (Map.Entry<String, JsonObject> entry : cityObjects.entrySet()) {
+                JsonObject cityObject = entry.getValue();
+
+                JsonElement geometries = cityObject.get("geometry");
+                if (geometries != null && geometries.isJsonArray()) {
+                    for (JsonElement geometry : geometries.getAsJsonArray()) {
+                        if (geometry.isJsonObject())
+                            hasGeometryInstances |= remapGeometry(geometry.getAsJsonObject(), shared);
+                    }
+                }
+
+                JsonElement address = cityObject.get("address");
+                if (address != null && address.isJsonObject()) {
+                    JsonElement location = address.getAsJsonObject().get("location");
+                    if (location != null && location.isJsonObject())
+                        remapGeometry(location.getAsJsonObject(), shared);
+                }
+
+                content.add(entry.getKey(), cityObject);
+            }
+
+            JsonObject document = createDocument(shared, hasGeometryInstances);
+            document.add("CityObjects", content);
+            document.add("vertices", shared.vertices.toJsonArray(shared.transform != null));
+
+            if (shared.textureVertices.hasMappedVertices() || shared.appearance.size() > 0) {
+                JsonObject appearance = new JsonObject();
+                for (Map.Entry<String, JsonElement> entry : shared.appearance.entrySet())
+                    appearance.add(entry.getKey(), entry.getValue());
+
+                appearance.add("vertices-texture", shared.textureVertices.toJsonArray(false));
+                document.add("appearance", appearance);
+            }
+
+            unmarshal(document, unmarshaller, workerPool);
+        } finally {
+            shared.vertices.reset();
+            shared.textureVertices.reset();
+        }
+    }
+
+    private void processCityJSONFeature(JsonElement element, SharedContent shared, CityJSONUnmarshaller unmarshaller, WorkerPool<CityGML> workerPool) {
+        if (!element.isJsonObject())
+            throw new JsonParseException("Expected a CityJSONFeature object.");
+
+        JsonObject feature = element.getAsJsonObject();
+        JsonElement type = feature.get("type");
+        if (type == null || !"CityJSONFeature".equals(type.getAsString()))
+            throw new JsonParseException("Expected a CityJSONFeature object but found '" + type + "'.");
+
+        // features of a text sequence carry their own vertices and appearance information
+        JsonObject document = createDocument(shared, true);
+        for (String name : new String[]{"CityObjects", "vertices", "appearance"}) {
+            JsonElement value = feature.get(name);
+            if (value != null)
+                document.add(name, value);
+        }
+
+        unmarshal(document, unmarshaller, workerPool);
+    }
+
+    private JsonObject createDocument(SharedContent shared, boolean addGeometryTemplates) {
+        JsonObject document = new JsonObject();
+        document.addProperty("type", "CityJSON");
+        document.addProperty("version", shared.version);
 
-            // process city model members
+        if (shared.transform != null)
+            document.add("transform", shared.transform);
+
+        if (shared.extensions != null)
+            document.add("extensions", shared.extensions);
+
+        if (addGeometryTemplates && shared.geometryTemplates != null)
+            document.add("geometry-templates", shared.geometryTemplates);
+
+        for (Map.Entry<String, JsonElement> entry : shared.properties.entrySet())
+            document.add(entry.getKey(), entry.getValue());
+
+        return document;
+    }
+
+    private void unmarshal(JsonObject document, CityJSONUnmarshaller unmarshaller, WorkerPool<CityGML> workerPool) {
+        CityModel cityModel = unmarshaller.unmarshal(gson.fromJson(document, CityJSON.class));
+        if (cityModel != null) {
             process(cityModel.getCityObjectMember().iterator(), workerPool);
             process(cityModel.getFeatureMember().iterator(), workerPool);
             process(cityModel.getAppearanceMember().iterator(), workerPool);
-        } catch (CityJSONReadException | IOException e) {
-            throw new FeatureReadException("Failed to read CityJSON input file.", e);
+        }
+    }
+
+    private boolean remapGeometry(JsonObject geometry, SharedContent shared) {
+        JsonElement boundaries = geometry.get("boundaries");
+        if (boundaries != null)
+            remapIndices(boundaries, shared.vertices);
+
+        JsonElement texture = geometry.get("texture");
+        if (texture != null && texture.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> theme : texture.getAsJsonObject().entrySet()) {
+                if (theme.getValue().isJsonObject()) {
+                    JsonElement values = theme.getValue().getAsJsonObject().get("values");
+                    if (values != null)
+                        remapTextureIndices(values, shared.textureVertices);
+                }
+            }
+        }
+
+        JsonElement type = geometry.get("type");
+        return type != null && "GeometryInstance".equals(type.getAsString());
+    }
+
+    private void remapIndices(JsonElement element, VerticesBuffer vertices) {
+        if (!element.isJsonArray())
+            return;
+
+        JsonArray array = element.getAsJsonArray();
+        for (int i = 0; i < array.size(); i++) {
+            JsonElement child = array.get(i);
+            if (child.isJsonArray())
+                remapIndices(child, vertices);
+            else if (child.isJsonPrimitive())
+                array.set(i, new JsonPrimitive(vertices.map(child.getAsInt())));
+        }
+    }
+
+    private void remapTextureIndices(JsonElement element, VerticesBuffer textureVertices) {
+        if (!element.isJsonArray())
+            return;
+
+        JsonArray array = element.getAsJsonArray();
+        if (array.size() > 0 && !array.get(0).isJsonArray()) {
+            // the first value references the texture, all subsequent values are texture vertices
+            for (int i = 1; i < array.size(); i++) {
+                JsonElement child = array.get(i);
+                if (child.isJsonPrimitive())
+                    array.set(i, new JsonPrimitive(textureVertices.map(child.getAsInt())));
+            }
+        } else {
+            for (JsonElement child : array)
+                remapTextureIndices(child, textureVertices);
         }
     }
 
@@ -96,4 +436,16 @@ public class CityJSONReader implements FeatureReader, EventHandler {
     public void handleEvent(Event event) throws Exception {
         shouldRun = false;
     }
+
+    private static final class SharedContent {
+        private final VerticesBuffer vertices = new VerticesBuffer(3);
+        private final VerticesBuffer textureVertices = new VerticesBuffer(2);
+        private final JsonObject appearance = new JsonObject();
+        private final JsonObject properties = new JsonObject();
+        private String version = "1.0";
+        private JsonElement transform;
+        private JsonElement extensions;
+        private JsonElement geometryTemplates;
+        private boolean hasCityObjects;
+    }
 }
@@ -0,0 +1,89 @@
+package org.citydb.citygml.importer.reader.cityjson;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParseException;
+
+import java.util.Arrays;
+
+class VerticesBuffer {
+    private final int dimension;
+
+    private double[] values;
+    private int size;
+    private int[] mapping;
+    private int[] used;
+    private int usedCount;
+
+    VerticesBuffer(int dimension) {
+        this.dimension = dimension;
+        values = new double[1024 * dimension];
+    }
+
+    void add(double value) {
+        if (size == values.length)
+            values = Arrays.copyOf(values, values.length + (values.length >> 1));
+
+        values[size++] = value;
+    }
+
+    int size() {
+        return size / dimension;
+    }
+
+    void trimToSize() {
+        if (size < values.length)
+            values = Arrays.copyOf(values, size);
+    }
+
+    int map(int index) {
+        if (index < 0 || index >= size())
+            throw new JsonParseException("Invalid vertex index " + index + ".");
+
+        if (mapping == null) {
+            mapping = new int[size()];
+            Arrays.fill(mapping, -1);
+            used = new int[256];
+        }
+
+        int local = mapping[index];
+        if (local == -1) {
+            if (usedCount == used.length)
+                used = Arrays.copyOf(used, used.length << 1);
+
+            local = usedCount;
+            mapping[index] = local;
+            used[usedCount++] = index;
+        }
+
+        return local;
+    }
+
+    boolean hasMappedVertices() {
+        return usedCount > 0;
+    }
+
+    JsonArray toJsonArray(boolean integral) {
+        JsonArray vertices = new JsonArray(usedCount);
+        for (int i = 0; i < usedCount; i++) {
+            JsonArray vertex = new JsonArray(dimension);
+            int offset = used[i] * dimension;
+            for (int j = 0; j < dimension; j++) {
+                if (integral)
+                    vertex.add((long) values[offset + j]);
+                else
+                    vertex.add(values[offset + j]);
+            }
+
+            vertices.add(vertex);
+        }
+
+        return vertices;
+    }
+
+    void reset() {
+        for (int i = 0; i < usedCount; i++)
+            mapping[used[i]] = -1;
+
+        usedCount = 0;
+    }
+}
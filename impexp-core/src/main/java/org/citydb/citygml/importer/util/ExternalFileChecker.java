@@ -34,6 +34,7 @@ import org.citydb.file.InputFile;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -67,8 +68,12 @@ public class ExternalFileChecker {
 
         try {
             file = inputFile.resolve(imageURI);
-            if (Files.exists(file))
-                path = imageURI;
+            if (Files.exists(file)) {
+                // use absolute paths where possible so that the file can also be
+                // opened after the input file has been closed
+                path = file.getFileSystem() == FileSystems.getDefault() ?
+                        file.toAbsolutePath().normalize().toString() : imageURI;
+            }
         } catch (InvalidPathException e) {
             //
         }
@@ -92,6 +97,30 @@ public class ExternalFileChecker {
         return new AbstractMap.SimpleEntry<>(path, file.getFileName().toString());
     }
 
+    public String getLocation(String fileURI) {
+        try {
+            new URL(fileURI);
+            return fileURI;
+        } catch (MalformedURLException ignored) {
+            //
+        }
+
+        if (inputFile == null)
+            return fileURI;
+
+        if (replaceSeparator)
+            fileURI = fileURI.replace("\\", "/");
+
+        try {
+            Path file = inputFile.resolve(fileURI).normalize();
+            return inputFile.getType() == FileType.ARCHIVE ?
+                    inputFile.getFile().toString() + '!' + file.toString() :
+                    file.toString();
+        } catch (InvalidPathException e) {
+            return fileURI;
+        }
+    }
+
     public InputFile getInputFile() {
         return inputFile;
     }
@@ -34,6 +34,7 @@ import org.citydb.citygml.validator.reader.ValidatorFactoryBuilder;
 import org.citydb.config.Config;
 import org.citydb.config.i18n.Language;
 import org.citydb.config.internal.Internal;
+import org.citydb.config.project.global.LogLevel;
 import org.citydb.event.Event;
 import org.citydb.event.EventDispatcher;
 import org.citydb.event.EventHandler;
@@ -53,8 +54,14 @@ import org.citydb.util.Util;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Validator implements EventHandler {
 	private final Logger log = Logger.getInstance();
@@ -97,60 +104,117 @@ public class Validator implements EventHandler {
 		if (!shouldRun)
 			return false;
 
-		int fileCounter = 0;
 		int remainingFiles = importFiles.size();
 		log.info("List of files to be validated successfully created.");
 		log.info(remainingFiles + " file(s) will be validated.");
 
-		// create reader factory builder
-		ValidatorFactoryBuilder builder = new ValidatorFactoryBuilder();
-
-		long start = System.currentTimeMillis();
-		
-		while (shouldRun && fileCounter < importFiles.size()) {
-			try (InputFile file = importFiles.get(fileCounter++)) {
-				Path contentFile = file.getType() != FileType.ARCHIVE ?
-						file.getFile() : Paths.get(file.getFile().toString(), ((AbstractArchiveInputFile) file).getContentFile());
-
-				eventDispatcher.triggerEvent(new StatusDialogTitle(contentFile.getFileName().toString(), this));
-				eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("validate.dialog.validate.msg"), this));
-				eventDispatcher.triggerEvent(new CounterEvent(CounterType.FILE, --remainingFiles, this));
-
-				ValidatorFactory validatorFactory;
-				try {
-					validatorFactory = builder.buildFactory(file, config);
-				} catch (ValidationException e) {
-					throw new ValidationException("Failed to validate input file '" + contentFile + "'.", e);
-				}
+		// files are validated concurrently unless the features of each file are validated in parallel
+		int maxThreads = config.getProject().getImporter().getResources().getThreadPool().getDefaultPool().getMaxThreads();
+		int concurrentFiles = config.getProject().getImporter().getXMLValidation().isSetValidateFeaturesInParallel() ?
+				1 : Math.min(maxThreads, importFiles.size());
+
+		ExecutorService executor = Executors.newFixedThreadPool(maxThreads, r -> {
+			Thread thread = new Thread(r, "validator");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			// create reader factory builder
+			ValidatorFactoryBuilder builder = new ValidatorFactoryBuilder(executor);
+			AtomicInteger counter = new AtomicInteger(remainingFiles);
+
+			long start = System.currentTimeMillis();
+
+			if (concurrentFiles > 1) {
+				log.info("Validating " + importFiles.size() + " file(s) using " + concurrentFiles + " concurrent validators.");
 
-				// ok, preparation done. inform user and start validating the input file
-				log.info("Validating file: " + contentFile.toString());
-				try (org.citydb.citygml.validator.reader.Validator validator = validatorFactory.createValidator()) {
-					validator.validate(file);
+				List<Future<?>> results = new ArrayList<>();
+				for (InputFile file : importFiles) {
+					results.add(executor.submit(() -> {
+						if (shouldRun)
+							validateFile(file, builder, counter);
 
-					// show XML validation errors
-					if (validator.getValidationErrors() > 0)
-						log.warn(validator.getValidationErrors() + " error(s) encountered while validating the document.");
-					else if (shouldRun)
-						log.info("The input file is valid.");
+						return null;
+					}));
 				}
 
-				eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("validate.dialog.finish.msg"), this));
-			} catch (ValidationException e) {
-				throw e;
-			} catch (IOException e) {
-				throw new ValidationException("Failed to validate input file.", e);
-			} catch (Throwable e) {
-				throw new ValidationException("An unexpected error occurred.", e);
+				ValidationException exception = null;
+				for (Future<?> result : results) {
+					try {
+						result.get();
+					} catch (ExecutionException e) {
+						if (exception == null) {
+							exception = e.getCause() instanceof ValidationException ?
+									(ValidationException) e.getCause() :
+									new ValidationException("An unexpected error occurred.", e.getCause());
+
+							// stop the validation of the remaining files
+							eventDispatcher.triggerEvent(new InterruptEvent("Aborting validation due to errors.", LogLevel.WARN, Event.GLOBAL_CHANNEL, this));
+						}
+					} catch (InterruptedException e) {
+						throw new ValidationException("Failed to wait for the validation of files.", e);
+					}
+				}
+
+				if (exception != null)
+					throw exception;
+			} else {
+				for (InputFile file : importFiles) {
+					if (!shouldRun)
+						break;
+
+					validateFile(file, builder, counter);
+				}
 			}
+
+			if (shouldRun)
+				log.info("Total validation time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
+		} finally {
+			executor.shutdownNow();
 		}
-		
-		if (shouldRun)
-			log.info("Total validation time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
 
 		return shouldRun;
 	}
 
+	private void validateFile(InputFile file, ValidatorFactoryBuilder builder, AtomicInteger remainingFiles) throws ValidationException {
+		try (InputFile inputFile = file) {
+			Path contentFile = inputFile.getType() != FileType.ARCHIVE ?
+					inputFile.getFile() : Paths.get(inputFile.getFile().toString(), ((AbstractArchiveInputFile) inputFile).getContentFile());
+
+			eventDispatcher.triggerEvent(new StatusDialogTitle(contentFile.getFileName().toString(), this));
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("validate.dialog.validate.msg"), this));
+			eventDispatcher.triggerEvent(new CounterEvent(CounterType.FILE, remainingFiles.decrementAndGet(), this));
+
+			ValidatorFactory validatorFactory;
+			try {
+				validatorFactory = builder.buildFactory(inputFile, config);
+			} catch (ValidationException e) {
+				throw new ValidationException("Failed to validate input file '" + contentFile + "'.", e);
+			}
+
+			// ok, preparation done. inform user and start validating the input file
+			log.info("Validating file: " + contentFile.toString());
+			try (org.citydb.citygml.validator.reader.Validator validator = validatorFactory.createValidator()) {
+				validator.validate(inputFile);
+
+				// show XML validation errors
+				if (validator.getValidationErrors() > 0)
+					log.warn(validator.getValidationErrors() + " error(s) encountered while validating the document '" + contentFile.getFileName() + "'.");
+				else if (shouldRun)
+					log.info("The input file '" + contentFile.getFileName() + "' is valid.");
+			}
+
+			eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("validate.dialog.finish.msg"), this));
+		} catch (ValidationException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new ValidationException("Failed to validate input file.", e);
+		} catch (Throwable e) {
+			throw new ValidationException("An unexpected error occurred.", e);
+		}
+	}
+
 	@Override
 	public void handleEvent(Event e) throws Exception {
 		if (isInterrupted.compareAndSet(false, true)) {
@@ -31,7 +31,9 @@ package org.citydb.citygml.validator.reader;
 import org.citydb.citygml.validator.ValidationException;
 import org.citydb.config.Config;
 
+import java.util.concurrent.ExecutorService;
+
 public interface ValidatorFactory {
-    void initializeContext(Config config) throws ValidationException;
+    void initializeContext(Config config, ExecutorService executor) throws ValidationException;
     Validator createValidator() throws ValidationException;
 }
@@ -37,11 +37,17 @@ import org.citydb.file.InputFile;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class ValidatorFactoryBuilder {
+    private final ExecutorService executor;
     private Map<MediaType, ValidatorFactory> factories = new HashMap<>();
 
-    public ValidatorFactory buildFactory(InputFile file, Config config) throws ValidationException {
+    public ValidatorFactoryBuilder(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public synchronized ValidatorFactory buildFactory(InputFile file, Config config) throws ValidationException {
         ValidatorFactory factory = factories.get(file.getMediaType());
         if (factory == null) {
             if (file.getMediaType().equals(InputFile.APPLICATION_XML))
@@ -52,7 +58,7 @@ public class ValidatorFactoryBuilder {
             if (factory == null)
                 throw new ValidationException("No validator available for media type '" + file.getMediaType() + "'.");
 
-            factory.initializeContext(config);
+            factory.initializeContext(config, executor);
             factories.put(file.getMediaType(), factory);
         }
 
@@ -30,49 +30,82 @@ package org.citydb.citygml.validator.reader.citygml;
 
 import org.citydb.citygml.validator.ValidationException;
 import org.citydb.citygml.validator.reader.Validator;
+import org.citydb.config.Config;
 import org.citydb.event.Event;
 import org.citydb.event.EventDispatcher;
 import org.citydb.event.EventHandler;
 import org.citydb.event.global.EventType;
+import org.citydb.file.FileType;
 import org.citydb.file.InputFile;
+import org.citydb.file.input.AbstractArchiveInputFile;
 import org.citydb.registry.ObjectRegistry;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public class CityGMLValidator implements Validator, EventHandler {
-    private final javax.xml.validation.Validator validator;
+    private final Schema schema;
+    private final Queue<ValidatorHandler> validatorHandlers;
+    private final ExecutorService featureExecutor;
+    private final int maxPendingFeatures;
+    private final Config config;
     private final ValidationErrorHandler validationHandler;
     private final EventDispatcher eventDispatcher;
 
+    private final LongAdder featureErrors = new LongAdder();
+    private final AtomicReference<Throwable> featureException = new AtomicReference<>();
+    private Semaphore pendingFeatures;
     private InputStream inputStream;
 
-    CityGMLValidator(javax.xml.validation.Validator validator, ValidationErrorHandler validationHandler) {
-        this.validator = validator;
-        this.validationHandler = validationHandler;
+    CityGMLValidator(Schema schema, Queue<ValidatorHandler> validatorHandlers, ExecutorService featureExecutor, int maxPendingFeatures, Config config) {
+        this.schema = schema;
+        this.validatorHandlers = validatorHandlers;
+        this.featureExecutor = featureExecutor;
+        this.maxPendingFeatures = maxPendingFeatures;
+        this.config = config;
 
+        validationHandler = new ValidationErrorHandler(config);
         eventDispatcher = ObjectRegistry.getInstance().getEventDispatcher();
         eventDispatcher.addEventHandler(EventType.INTERRUPT, this);
     }
 
     @Override
     public long getValidationErrors() {
-        return validationHandler.getValidationErrors();
+        return validationHandler.getValidationErrors() + featureErrors.sum();
     }
 
     @Override
     public void validate(InputFile inputFile) throws ValidationException {
         try {
-            validator.reset();
             validationHandler.reset();
-            validator.setErrorHandler(validationHandler);
+            validationHandler.setContext("'" + getFileName(inputFile) + "'");
+            featureErrors.reset();
+            featureException.set(null);
 
             inputStream = inputFile.openStream();
-            validator.validate(new StreamSource(inputStream));
+            if (featureExecutor != null)
+                validateFeatures(inputStream);
+            else {
+                javax.xml.validation.Validator validator = schema.newValidator();
+                validator.setErrorHandler(validationHandler);
+                validator.validate(new StreamSource(inputStream));
+            }
         } catch (IOException | SAXException e) {
-            if (!validationHandler.isAborted() || validationHandler.hasFatalErrors())
+            if (featureException.get() == null && (!validationHandler.isAborted() || validationHandler.hasFatalErrors()))
                 throw new ValidationException("Failed to validate CityGML input file.", e);
         } finally {
             if (inputStream != null) {
@@ -83,6 +116,97 @@ public class CityGMLValidator implements Validator, EventHandler {
                 }
             }
         }
+
+        if (featureException.get() != null && (!validationHandler.isAborted() || validationHandler.hasFatalErrors()))
+            throw new ValidationException("Failed to validate CityGML input file.", featureException.get());
+    }
+
+    private void validateFeatures(InputStream inputStream) throws IOException, SAXException, ValidationException {
+        XMLReader reader;
+        try {
+            SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            reader = factory.newSAXParser().getXMLReader();
+        } catch (ParserConfigurationException e) {
+            throw new ValidationException("Failed to create SAX parser.", e);
+        }
+
+        // the root element and everything outside of features is validated by this thread,
+        // whereas the top-level features are validated in parallel by the feature executor
+        ValidatorHandler rootHandler = schema.newValidatorHandler();
+        rootHandler.setErrorHandler(validationHandler);
+
+        reader.setContentHandler(new FeatureChunker(rootHandler, this::submit));
+        reader.setErrorHandler(validationHandler);
+
+        pendingFeatures = new Semaphore(maxPendingFeatures);
+        try {
+            reader.parse(new InputSource(inputStream));
+        } finally {
+            try {
+                pendingFeatures.acquire(maxPendingFeatures);
+                pendingFeatures.release(maxPendingFeatures);
+            } catch (InterruptedException e) {
+                featureException.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void submit(FeatureChunk chunk) throws SAXException {
+        if (validationHandler.isAborted() || featureException.get() != null)
+            throw new SAXException("Aborting validation of features.");
+
+        try {
+            pendingFeatures.acquire();
+        } catch (InterruptedException e) {
+            throw new SAXException("Interrupted while waiting for features to be validated.", e);
+        }
+
+        try {
+            featureExecutor.execute(() -> {
+                try {
+                    validateFeature(chunk);
+                } finally {
+                    pendingFeatures.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingFeatures.release();
+            throw new SAXException("Failed to schedule the validation of a feature.", e);
+        }
+    }
+
+    private void validateFeature(FeatureChunk chunk) {
+        if (validationHandler.isAborted())
+            return;
+
+        ValidationErrorHandler errorHandler = new ValidationErrorHandler(config);
+        errorHandler.setContext(chunk.getGmlId() != null ? "feature '" + chunk.getGmlId() + "'" : "feature");
+
+        ValidatorHandler handler = validatorHandlers.poll();
+        if (handler == null)
+            handler = schema.newValidatorHandler();
+
+        try {
+            handler.setErrorHandler(errorHandler);
+            chunk.send(handler);
+
+            // only reuse handlers that have processed the entire feature
+            validatorHandlers.offer(handler);
+        } catch (SAXException e) {
+            if (!errorHandler.isAborted())
+                featureException.compareAndSet(null, e);
+        } catch (Throwable e) {
+            featureException.compareAndSet(null, e);
+        } finally {
+            featureErrors.add(errorHandler.getValidationErrors());
+        }
+    }
+
+    private String getFileName(InputFile inputFile) {
+        return inputFile.getType() == FileType.ARCHIVE ?
+                ((AbstractArchiveInputFile) inputFile).getContentFile() :
+                inputFile.getFile().getFileName().toString();
     }
 
     @Override
@@ -28,37 +28,82 @@
 
 package org.citydb.citygml.validator.reader.citygml;
 
+import org.citydb.ade.ADEExtension;
+import org.citydb.ade.ADEExtensionManager;
 import org.citydb.citygml.validator.ValidationException;
 import org.citydb.citygml.validator.reader.Validator;
 import org.citydb.citygml.validator.reader.ValidatorFactory;
 import org.citydb.config.Config;
+import org.citygml4j.model.citygml.ade.binding.ADEContext;
+import org.citygml4j.model.module.ade.ADEModule;
 import org.citygml4j.xml.schema.SchemaHandler;
 import org.xml.sax.SAXException;
 
 import javax.xml.XMLConstants;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 
 public class CityGMLValidatorFactory implements ValidatorFactory {
-    private javax.xml.validation.Validator validator;
-    private ValidationErrorHandler validationHandler;
+    private static Schema cachedSchema;
+    private static Map<String, String> cachedSchemaLocations;
+
+    private final Queue<ValidatorHandler> validatorHandlers = new ConcurrentLinkedQueue<>();
+    private Schema schema;
+    private ExecutorService featureExecutor;
+    private int maxPendingFeatures;
+    private Config config;
 
     @Override
-    public void initializeContext(Config config) throws ValidationException {
+    public void initializeContext(Config config, ExecutorService executor) throws ValidationException {
+        this.config = config;
+
         try {
-            SchemaHandler schemaHandler = SchemaHandler.newInstance();
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema schema = schemaFactory.newSchema(schemaHandler.getSchemaSources());
-            validator = schema.newValidator();
+            schema = getSchema();
         } catch (SAXException e) {
             throw new ValidationException("Failed to create CityGML schema context.", e);
         }
 
-        validationHandler = new ValidationErrorHandler(config);
+        if (config.getProject().getImporter().getXMLValidation().isSetValidateFeaturesInParallel()) {
+            featureExecutor = executor;
+            maxPendingFeatures = config.getProject().getImporter().getResources().getThreadPool().getDefaultPool().getMaxThreads() * 4;
+        }
     }
 
     @Override
     public Validator createValidator() throws ValidationException {
-        return new CityGMLValidator(validator, validationHandler);
+        return new CityGMLValidator(schema, validatorHandlers, featureExecutor, maxPendingFeatures, config);
+    }
+
+    private static synchronized Schema getSchema() throws SAXException {
+        // the compiled schema is thread-safe and only rebuilt if the set of ADE schemas has changed
+        Map<String, String> schemaLocations = new HashMap<>();
+        for (ADEExtension extension : ADEExtensionManager.getInstance().getEnabledExtensions()) {
+            for (ADEContext context : extension.getADEContexts()) {
+                for (ADEModule module : context.getADEModules()) {
+                    URL schemaResource = module.getSchemaResource();
+                    if (schemaResource != null)
+                        schemaLocations.put(module.getNamespaceURI(), schemaResource.toString());
+                }
+            }
+        }
+
+        if (cachedSchema == null || !schemaLocations.equals(cachedSchemaLocations)) {
+            SchemaHandler schemaHandler = SchemaHandler.newInstance();
+            for (Map.Entry<String, String> entry : schemaLocations.entrySet())
+                schemaHandler.parseSchema(entry.getKey(), entry.getValue());
+
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            cachedSchema = schemaFactory.newSchema(schemaHandler.getSchemaSources());
+            cachedSchemaLocations = schemaLocations;
+        }
+
+        return cachedSchema;
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citydb.citygml.validator.reader.citygml;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.LocatorImpl;
+
+import java.util.Arrays;
+
+class FeatureChunk {
+    private static final byte START_ELEMENT = 0;
+    private static final byte END_ELEMENT = 1;
+    private static final byte CHARACTERS = 2;
+    private static final byte START_PREFIX_MAPPING = 3;
+    private static final byte END_PREFIX_MAPPING = 4;
+
+    private final String gmlId;
+    private final String systemId;
+
+    private byte[] types = new byte[64];
+    private Object[] values = new Object[64];
+    private int[] locations = new int[128];
+    private int size;
+
+    FeatureChunk(String gmlId, String systemId) {
+        this.gmlId = gmlId;
+        this.systemId = systemId;
+    }
+
+    String getGmlId() {
+        return gmlId;
+    }
+
+    void startPrefixMapping(String prefix, String uri) {
+        add(START_PREFIX_MAPPING, new String[]{prefix, uri}, 0, 0);
+    }
+
+    void endPrefixMapping(String prefix) {
+        add(END_PREFIX_MAPPING, prefix, 0, 0);
+    }
+
+    void startElement(String uri, String localName, String qName, Attributes atts, int line, int column) {
+        add(START_ELEMENT, new Object[]{uri, localName, qName, new AttributesImpl(atts)}, line, column);
+    }
+
+    void endElement(String uri, String localName, String qName, int line, int column) {
+        add(END_ELEMENT, new String[]{uri, localName, qName}, line, column);
+    }
+
+    void characters(char[] ch, int start, int length, int line, int column) {
+        add(CHARACTERS, Arrays.copyOfRange(ch, start, start + length), line, column);
+    }
+
+    void send(ContentHandler handler) throws SAXException {
+        // replay the events with the line and column numbers of the input file
+        LocatorImpl locator = new LocatorImpl();
+        locator.setSystemId(systemId);
+        handler.setDocumentLocator(locator);
+
+        handler.startDocument();
+        for (int i = 0; i < size; i++) {
+            locator.setLineNumber(locations[i << 1]);
+            locator.setColumnNumber(locations[(i << 1) + 1]);
+
+            switch (types[i]) {
+            case START_ELEMENT:
+                Object[] element = (Object[]) values[i];
+                handler.startElement((String) element[0], (String) element[1], (String) element[2], (Attributes) element[3]);
+                break;
+            case END_ELEMENT:
+                String[] name = (String[]) values[i];
+                handler.endElement(name[0], name[1], name[2]);
+                break;
+            case CHARACTERS:
+                char[] ch = (char[]) values[i];
+                handler.characters(ch, 0, ch.length);
+                break;
+            case START_PREFIX_MAPPING:
+                String[] mapping = (String[]) values[i];
+                handler.startPrefixMapping(mapping[0], mapping[1]);
+                break;
+            case END_PREFIX_MAPPING:
+                handler.endPrefixMapping((String) values[i]);
+                break;
+            }
+        }
+
+        handler.endDocument();
+    }
+
+    private void add(byte type, Object value, int line, int column) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+            locations = Arrays.copyOf(locations, size << 2);
+        }
+
+        types[size] = type;
+        values[size] = value;
+        locations[size << 1] = line;
+        locations[(size << 1) + 1] = column;
+        size++;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citydb.citygml.validator.reader.citygml;
+
+import org.citygml4j.model.module.gml.GMLCoreModule;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.NamespaceSupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class FeatureChunker extends DefaultHandler {
+    private static final Set<String> MEMBER_PROPERTIES = new HashSet<>(Arrays.asList(
+            "cityObjectMember", "featureMember", "featureMembers", "appearanceMember"));
+
+    private final ContentHandler parent;
+    private final ChunkHandler chunkHandler;
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final List<String[]> pendingMappings = new ArrayList<>();
+    private final List<String> chunkMappings = new ArrayList<>();
+
+    private Locator locator;
+    private FeatureChunk chunk;
+    private boolean isMember;
+    private int depth;
+
+    FeatureChunker(ContentHandler parent, ChunkHandler chunkHandler) {
+        this.parent = parent;
+        this.chunkHandler = chunkHandler;
+    }
+
+    interface ChunkHandler {
+        void handle(FeatureChunk chunk) throws SAXException;
+    }
+
+    @Override
+    public void setDocumentLocator(Locator locator) {
+        this.locator = locator;
+        parent.setDocumentLocator(locator);
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+        parent.startDocument();
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+        parent.endDocument();
+    }
+
+    @Override
+    public void startPrefixMapping(String prefix, String uri) {
+        pendingMappings.add(new String[]{prefix, uri});
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+        depth++;
+
+        // features contained in member properties of the root element are validated separately.
+        // the parent only sees the empty member property, which is valid according to the schema
+        if (chunk == null && depth == 3 && isMember) {
+            chunk = new FeatureChunk(atts.getValue(GMLCoreModule.v3_1_1.getNamespaceURI(), "id"),
+                    locator != null ? locator.getSystemId() : null);
+
+            // the chunk has to declare all namespaces in scope
+            Enumeration<?> prefixes = namespaces.getPrefixes();
+            while (prefixes.hasMoreElements())
+                addChunkMapping((String) prefixes.nextElement());
+
+            addChunkMapping("");
+        }
+
+        namespaces.pushContext();
+        for (String[] mapping : pendingMappings) {
+            namespaces.declarePrefix(mapping[0], mapping[1]);
+            if (chunk != null)
+                chunk.startPrefixMapping(mapping[0], mapping[1]);
+            else
+                parent.startPrefixMapping(mapping[0], mapping[1]);
+        }
+
+        pendingMappings.clear();
+
+        if (chunk != null)
+            chunk.startElement(uri, localName, qName, atts, getLineNumber(), getColumnNumber());
+        else
+            parent.startElement(uri, localName, qName, atts);
+
+        if (depth == 2)
+            isMember = MEMBER_PROPERTIES.contains(localName);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        if (chunk != null)
+            chunk.endElement(uri, localName, qName, getLineNumber(), getColumnNumber());
+        else
+            parent.endElement(uri, localName, qName);
+
+        Enumeration<?> prefixes = namespaces.getDeclaredPrefixes();
+        while (prefixes.hasMoreElements()) {
+            String prefix = (String) prefixes.nextElement();
+            if (chunk != null)
+                chunk.endPrefixMapping(prefix);
+            else
+                parent.endPrefixMapping(prefix);
+        }
+
+        namespaces.popContext();
+
+        if (chunk != null && depth == 3) {
+            for (String prefix : chunkMappings)
+                chunk.endPrefixMapping(prefix);
+
+            chunkMappings.clear();
+            chunkHandler.handle(chunk);
+            chunk = null;
+        } else if (depth == 2)
+            isMember = false;
+
+        depth--;
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        if (chunk != null)
+            chunk.characters(ch, start, length, getLineNumber(), getColumnNumber());
+        else
+            parent.characters(ch, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        characters(ch, start, length);
+    }
+
+    @Override
+    public void processingInstruction(String target, String data) throws SAXException {
+        if (chunk == null)
+            parent.processingInstruction(target, data);
+    }
+
+    private void addChunkMapping(String prefix) {
+        String uri = namespaces.getURI(prefix);
+        if (uri == null || uri.isEmpty() || prefix.equals("xml"))
+            return;
+
+        // skip prefixes that are redeclared on the feature element itself
+        for (String[] mapping : pendingMappings) {
+            if (mapping[0].equals(prefix))
+                return;
+        }
+
+        chunk.startPrefixMapping(prefix, uri);
+        chunkMappings.add(prefix);
+    }
+
+    private int getLineNumber() {
+        return locator != null ? locator.getLineNumber() : -1;
+    }
+
+    private int getColumnNumber() {
+        return locator != null ? locator.getColumnNumber() : -1;
+    }
+}
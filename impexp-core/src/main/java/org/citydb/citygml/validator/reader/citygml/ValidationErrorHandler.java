@@ -39,9 +39,10 @@ class ValidationErrorHandler implements ErrorHandler {
     private final Logger log = Logger.getInstance();
     private final Config config;
 
+    private String context;
     private long validationErrors;
     private boolean isReportAllErrors;
-    private boolean isAborted;
+    private volatile boolean isAborted;
     private boolean hasFatalErrors;
 
     ValidationErrorHandler(Config config) {
@@ -53,6 +54,10 @@ class ValidationErrorHandler implements ErrorHandler {
         this.isReportAllErrors = reportAllErrors;
     }
 
+    void setContext(String context) {
+        this.context = context;
+    }
+
     long getValidationErrors() {
         return validationErrors;
     }
@@ -95,7 +100,7 @@ class ValidationErrorHandler implements ErrorHandler {
 
     private void write(SAXParseException e, String prefix, LogLevel level) throws SAXException {
         if (!isAborted) {
-            log.log(level, prefix + " at " + '[' + e.getLineNumber() + ',' + e.getColumnNumber() + "]: " + e.getMessage());
+            log.log(level, prefix + (context != null ? " in " + context : "") + " at " + '[' + e.getLineNumber() + ',' + e.getColumnNumber() + "]: " + e.getMessage());
             validationErrors++;
             if (!isReportAllErrors) {
                 isAborted = true;
@@ -33,10 +33,12 @@ import org.citydb.citygml.validator.reader.Validator;
 import org.citydb.citygml.validator.reader.ValidatorFactory;
 import org.citydb.config.Config;
 
+import java.util.concurrent.ExecutorService;
+
 public class CityJSONValidatorFactory implements ValidatorFactory {
 
     @Override
-    public void initializeContext(Config config) throws ValidationException {
+    public void initializeContext(Config config, ExecutorService executor) throws ValidationException {
         // nothing to do...
     }
 
@@ -30,5 +30,6 @@ package org.citydb.concurrent;
 public enum PoolSizeAdaptationStrategy {
 	AGGRESSIVE,
 	STEPWISE,
+	THROUGHPUT,
 	NONE
 }
@@ -29,6 +29,8 @@ package org.citydb.concurrent;
 
 import org.citydb.event.Event;
 import org.citydb.log.Logger;
+import org.citydb.metrics.MetricsRegistry;
+import org.citydb.metrics.Timer;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -39,6 +41,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 
 public class WorkerPool<T> {
 	private final ReentrantLock mainLock = new ReentrantLock();
@@ -69,6 +72,18 @@ public class WorkerPool<T> {
 	private byte threadNo;
 	private Object eventSource;
 
+	// hill climbing state of the throughput adaptation strategy
+	private static final long THROUGHPUT_SAMPLE_INTERVAL = 1000;
+	private final List<Worker<T>> retiredWorkers = new ArrayList<>();
+	private long lastSampleTime;
+	private long lastTakenCount;
+	private double lastThroughput;
+	private double lastLatency;
+	private int climbDirection = 1;
+
+	private final LongSupplier queueSizeGauge;
+	private final LongSupplier poolSizeGauge;
+
 	// WorkQueue
 	public static final class WorkQueue<E> {
 		private final ReentrantLock lock;
@@ -81,8 +96,11 @@ public class WorkerPool<T> {
 		private int putIndex;
 		private int takeIndex;
 		private int count;
+		private long takenCount;
 		private volatile boolean blockAndFlush;
 		private volatile boolean isInterrupted;
+		private Timer putWaitTimer;
+		private Timer takeWaitTimer;
 
 		public WorkQueue(int capacity) {
 			this(capacity, false);
@@ -119,6 +137,7 @@ public class WorkerPool<T> {
 			workItems[takeIndex] = null;
 			takeIndex = inc(takeIndex);
 			--count;
+			++takenCount;
 			notFull.signal();
 			if (count == 0)
 				empty.signalAll();
@@ -214,8 +233,14 @@ public class WorkerPool<T> {
 				if (blockAndFlush)
 					flushed.awaitUninterruptibly();
 
-				while (count == workItems.length)
-					notFull.awaitUninterruptibly();
+				if (count == workItems.length) {
+					long start = System.nanoTime();
+					while (count == workItems.length)
+						notFull.awaitUninterruptibly();
+
+					if (putWaitTimer != null)
+						putWaitTimer.stop(start);
+				}
 
 				insert(work);
 			} finally {
@@ -265,11 +290,17 @@ public class WorkerPool<T> {
 			lock.lockInterruptibly();
 			try {
 				try {
-					while (count == 0) {
-						if (isInterrupted)
-							throw new InterruptedException("Work queue has been interrupted.");
+					if (count == 0) {
+						long start = System.nanoTime();
+						while (count == 0) {
+							if (isInterrupted)
+								throw new InterruptedException("Work queue has been interrupted.");
+
+							notEmpty.await();
+						}
 
-						notEmpty.await();
+						if (takeWaitTimer != null)
+							takeWaitTimer.stop(start);
 					}
 				} catch (InterruptedException ie) {
 					notEmpty.signal();
@@ -336,6 +367,16 @@ public class WorkerPool<T> {
 			}
 		}
 
+		public long getTakenCount() {
+			final ReentrantLock lock = this.lock;
+			lock.lock();
+			try {
+				return takenCount;
+			} finally {
+				lock.unlock();
+			}
+		}
+
 		public boolean isEmpty() {
 			final ReentrantLock lock = this.lock;
 			lock.lock();
@@ -399,6 +440,25 @@ public class WorkerPool<T> {
 				lock.unlock();
 			}
 		}
+
+		public int drainTo(Collection<? super E> collection, int maxElements) {
+			if (collection == null)
+				throw new NullPointerException();
+
+			final ReentrantLock lock = this.lock;
+			lock.lock();
+			try {
+				int n = 0;
+				while (n < maxElements && count != 0) {
+					collection.add(extract());
+					++n;
+				}
+
+				return n;
+			} finally {
+				lock.unlock();
+			}
+		}
 	}
 
 	// WorkerPool
@@ -431,6 +491,15 @@ public class WorkerPool<T> {
 		this.queueSize = queueSize;
 		workQueue = new WorkQueue<>(queueSize, fair);
 		workers = new ConcurrentHashMap<>(maximumPoolSize);
+
+		// register pool metrics
+		MetricsRegistry metrics = MetricsRegistry.getInstance();
+		workQueue.putWaitTimer = metrics.getTimer("pool." + poolName + ".putWait");
+		workQueue.takeWaitTimer = metrics.getTimer("pool." + poolName + ".takeWait");
+		queueSizeGauge = workQueue::size;
+		poolSizeGauge = () -> poolSize;
+		metrics.registerGauge("pool." + poolName + ".queueSize", queueSizeGauge);
+		metrics.registerGauge("pool." + poolName + ".poolSize", poolSizeGauge);
 	}
 
 	public WorkerPool(String poolName,
@@ -571,9 +640,13 @@ public class WorkerPool<T> {
 		if (work == null)
 			throw new NullPointerException();
 
+		if (adaptationStrategy == PoolSizeAdaptationStrategy.THROUGHPUT)
+			adaptToThroughput();
+
 		if (poolSize >= corePoolSize || !addIfUnderCorePoolSize(work)) {
 			if (runState == RUNNING && !workQueue.offer(work)) {
-				if (!addIfUnderMaximumPoolSize(work)) {
+				// the throughput strategy only grows the pool based on its measurements
+				if (adaptationStrategy == PoolSizeAdaptationStrategy.THROUGHPUT || !addIfUnderMaximumPoolSize(work)) {
 					if (runState == RUNNING)
 						workQueue.put(work);
 				}
@@ -581,6 +654,70 @@ public class WorkerPool<T> {
 		}
 	}
 
+	private void adaptToThroughput() {
+		long now = System.currentTimeMillis();
+		if (now - lastSampleTime < THROUGHPUT_SAMPLE_INTERVAL)
+			return;
+
+		final ReentrantLock mainLock = this.mainLock;
+		if (!mainLock.tryLock())
+			return;
+
+		try {
+			long elapsed = now - lastSampleTime;
+			if (elapsed < THROUGHPUT_SAMPLE_INTERVAL || runState != RUNNING)
+				return;
+
+			long takenCount = workQueue.getTakenCount();
+			double throughput = (takenCount - lastTakenCount) * 1000.0 / elapsed;
+			boolean isFirstSample = lastSampleTime == 0;
+
+			lastSampleTime = now;
+			lastTakenCount = takenCount;
+
+			// only adapt if the workers are the bottleneck and not the producer
+			if (isFirstSample || throughput == 0 || workQueue.size() < poolSize) {
+				lastThroughput = 0;
+				return;
+			}
+
+			// average time a worker needs per work item which mainly reflects the database latency
+			double latency = poolSize / throughput;
+
+			if (lastThroughput > 0) {
+				if (latency > lastLatency * 1.5 && throughput < lastThroughput * 1.05)
+					climbDirection = -1;
+				else if (throughput < lastThroughput * 0.95)
+					climbDirection = -climbDirection;
+				else if (throughput < lastThroughput * 1.05)
+					climbDirection = -1;
+			}
+
+			lastThroughput = throughput;
+			lastLatency = latency;
+
+			int previousPoolSize = poolSize;
+			if (climbDirection > 0 && poolSize < maximumPoolSize)
+				addWorker(null);
+			else if (climbDirection < 0 && poolSize > corePoolSize) {
+				Iterator<Entry<Worker<T>, Object>> it = workers.entrySet().iterator();
+				if (it.hasNext()) {
+					Worker<T> worker = it.next().getKey();
+					worker.interrupt();
+					it.remove();
+					retiredWorkers.add(worker);
+					--poolSize;
+				}
+			} else
+				climbDirection = -climbDirection;
+
+			if (poolSize != previousPoolSize)
+				log.debug("[" + poolName + "] Measured throughput of " + Math.round(throughput) + " work items/s. Adapting pool size to " + poolSize + " worker(s).");
+		} finally {
+			mainLock.unlock();
+		}
+	}
+
 	public void addWorkAndWait(T work) {
 		if (work == null)
 			throw new NullPointerException();
@@ -663,6 +800,7 @@ public class WorkerPool<T> {
 		} finally {
 			queueLock.unlock();
 			mainLock.unlock();
+			unregisterMetrics();
 		}
 	}
 
@@ -704,6 +842,7 @@ public class WorkerPool<T> {
 			joinWorkerThreads();
 		} finally {
 			runState = TERMINATED;
+			unregisterMetrics();
 		}
 	}
 
@@ -736,9 +875,16 @@ public class WorkerPool<T> {
 			return workList;
 		} finally {
 			mainLock.unlock();
+			unregisterMetrics();
 		}
 	}
 
+	private void unregisterMetrics() {
+		MetricsRegistry metrics = MetricsRegistry.getInstance();
+		metrics.unregisterGauge("pool." + poolName + ".queueSize", queueSizeGauge);
+		metrics.unregisterGauge("pool." + poolName + ".poolSize", poolSizeGauge);
+	}
+
 	public void join() throws InterruptedException {
 		// joining can just be realized by stopping and
 		// restarting threads...
@@ -825,6 +971,9 @@ public class WorkerPool<T> {
 		try {
 			for (Worker<T> worker : workers.keySet())
 				worker.workerThread.join();
+
+			for (Worker<T> worker : retiredWorkers)
+				worker.workerThread.join();
 		} finally {
 			mainLock.unlock();
 		}
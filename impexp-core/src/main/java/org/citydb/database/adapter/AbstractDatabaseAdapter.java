@@ -27,6 +27,8 @@
  */
 package org.citydb.database.adapter;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -59,6 +61,10 @@ public abstract class AbstractDatabaseAdapter {
 	public abstract boolean hasVersioningSupport();
 	public abstract boolean hasTableStatsSupport();
 	public abstract int getMaxBatchSize();
+
+	public void initConnection(Connection connection) throws SQLException {
+		// nothing to do by default
+	}
 	
 	public DatabaseConnectionDetails getConnectionDetails() {
 		return connectionDetails;
@@ -34,10 +34,19 @@ import org.citydb.config.geometry.GeometryObject;
 
 public abstract class AbstractGeometryConverterAdapter {
 	protected final AbstractDatabaseAdapter databaseAdapter;
+	protected boolean useBinaryTransfer;
 
 	protected AbstractGeometryConverterAdapter(AbstractDatabaseAdapter databaseAdapter) {
 		this.databaseAdapter = databaseAdapter;
 	}
+
+	public boolean isUseBinaryTransfer() {
+		return useBinaryTransfer;
+	}
+
+	public void setUseBinaryTransfer(boolean useBinaryTransfer) {
+		this.useBinaryTransfer = useBinaryTransfer;
+	}
 	
 	public abstract GeometryObject getEnvelope(Object geomObj) throws SQLException;
 	public abstract GeometryObject getPoint(Object geomObj) throws SQLException;
@@ -36,6 +36,7 @@ import org.citydb.sqlbuilder.schema.Column;
 import org.citydb.sqlbuilder.select.PredicateToken;
 import org.citydb.sqlbuilder.select.projection.Function;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
@@ -89,6 +90,7 @@ public abstract class AbstractSQLAdapter {
 	
 	public abstract BlobImportAdapter getBlobImportAdapter(Connection connection, BlobType type) throws SQLException;
 	public abstract BlobExportAdapter getBlobExportAdapter(Connection connection, BlobType type);
+	public abstract Array createIdArray(Long[] ids, Connection connection) throws SQLException;
 
 	public String resolveDatabaseOperationName(String key) {
 		if (databaseOperations == null) {
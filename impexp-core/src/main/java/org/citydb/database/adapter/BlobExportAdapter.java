@@ -39,13 +39,19 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class BlobExportAdapter {
+	public static final int MAX_BATCH_SIZE = 20;
+
 	protected final Logger log = Logger.getInstance();
 	protected final Connection connection;
 	private final String schema;
 
 	private PreparedStatement psExport;
+	private PreparedStatement psBatchExport;
 	private BlobType blobType;
 
 	public BlobExportAdapter(Connection connection, BlobType blobType, String schema) {
@@ -78,6 +84,37 @@ public class BlobExportAdapter {
 		}
 	}
 
+	public Map<Long, byte[]> getInByteArrays(List<Long> ids) throws SQLException {
+		if (psBatchExport == null) {
+			StringBuilder query = new StringBuilder(blobType == BlobType.TEXTURE_IMAGE ?
+					"select ID, TEX_IMAGE_DATA from " + schema + ".TEX_IMAGE where ID in (" : "select ID, LIBRARY_OBJECT from " + schema + ".IMPLICIT_GEOMETRY where ID in (");
+
+			for (int i = 0; i < MAX_BATCH_SIZE; i++)
+				query.append(i == 0 ? "?" : ", ?");
+
+			psBatchExport = connection.prepareStatement(query.append(")").toString());
+		}
+
+		Map<Long, byte[]> result = new HashMap<>(ids.size());
+		for (int i = 0; i < ids.size(); i += MAX_BATCH_SIZE) {
+			List<Long> batch = ids.subList(i, Math.min(i + MAX_BATCH_SIZE, ids.size()));
+
+			// pad the id list with the last id to reuse the statement
+			for (int j = 0; j < MAX_BATCH_SIZE; j++)
+				psBatchExport.setLong(j + 1, batch.get(Math.min(j, batch.size() - 1)));
+
+			try (ResultSet rs = psBatchExport.executeQuery()) {
+				while (rs.next()) {
+					byte[] buf = rs.getBytes(2);
+					if (!rs.wasNull() && buf.length > 0)
+						result.put(rs.getLong(1), buf);
+				}
+			}
+		}
+
+		return result;
+	}
+
 	public boolean writeToFile(long id, String objectName, String fileName) throws SQLException {
 		try (FileOutputStream out = new FileOutputStream(fileName)) {
 			byte[] buf = getInByteArray(id, objectName);
@@ -115,6 +152,9 @@ public class BlobExportAdapter {
 	public void close() throws SQLException {
 		if (psExport != null)
 			psExport.close();
+
+		if (psBatchExport != null)
+			psBatchExport.close();
 	}
 
 }
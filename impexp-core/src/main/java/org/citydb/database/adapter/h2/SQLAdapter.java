@@ -38,6 +38,7 @@ import org.citydb.sqlbuilder.schema.Column;
 import org.citydb.sqlbuilder.select.PredicateToken;
 import org.citydb.sqlbuilder.select.projection.Function;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -191,6 +192,11 @@ public class SQLAdapter extends AbstractSQLAdapter {
 		return null;
 	}
 
+	@Override
+	public Array createIdArray(Long[] ids, Connection connection) throws SQLException {
+		return connection.createArrayOf("bigint", ids);
+	}
+
 	@Override
 	public PredicateToken getDistancePredicate(SpatialOperatorName operator, Column targetColumn, GeometryObject geometry, double distance, boolean negate) {
 		// not required for cache tables
@@ -27,6 +27,7 @@
  */
 package org.citydb.database.adapter.oracle;
 
+import oracle.jdbc.OracleConnection;
 import org.citydb.config.geometry.GeometryObject;
 import org.citydb.database.adapter.AbstractDatabaseAdapter;
 import org.citydb.database.adapter.AbstractSQLAdapter;
@@ -42,6 +43,7 @@ import org.citydb.sqlbuilder.select.PredicateToken;
 import org.citydb.sqlbuilder.select.operator.comparison.ComparisonFactory;
 import org.citydb.sqlbuilder.select.projection.Function;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -191,6 +193,11 @@ public class SQLAdapter extends AbstractSQLAdapter {
         return new BlobExportAdapter(connection, type, databaseAdapter.getConnectionDetails().getSchema());
     }
 
+    @Override
+    public Array createIdArray(Long[] ids, Connection connection) throws SQLException {
+        return connection.unwrap(OracleConnection.class).createOracleArray(databaseAdapter.getConnectionDetails().getSchema() + ".ID_ARRAY", ids);
+    }
+
     @Override
     public PredicateToken getBinarySpatialPredicate(SpatialOperatorName operator, Column targetColumn, GeometryObject geometry, boolean negate) {
         PlaceHolder<GeometryObject> geometryLiteral = new PlaceHolder<>(geometry);
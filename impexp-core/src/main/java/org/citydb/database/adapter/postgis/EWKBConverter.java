@@ -0,0 +1,342 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.database.adapter.postgis;
+
+import org.citydb.config.geometry.ElementType;
+import org.citydb.config.geometry.GeometryObject;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+
+class EWKBConverter {
+	private static final int POINT = 1;
+	private static final int LINESTRING = 2;
+	private static final int POLYGON = 3;
+	private static final int MULTIPOINT = 4;
+	private static final int MULTILINESTRING = 5;
+	private static final int MULTIPOLYGON = 6;
+	private static final int POLYHEDRALSURFACE = 15;
+
+	private static final int Z_FLAG = 0x80000000;
+	private static final int M_FLAG = 0x40000000;
+	private static final int SRID_FLAG = 0x20000000;
+
+	// indexes of the envelope coordinates forming the corners of a closed ring
+	private static final int[] ENVELOPE_RING_2D = {0, 1, 2, 1, 2, 3, 0, 3, 0, 1};
+	private static final int[] ENVELOPE_RING_3D = {0, 1, 2, 3, 1, 2, 3, 4, 5, 0, 4, 5, 0, 1, 2};
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private EWKBConverter() {
+		// just to thwart instantiation
+	}
+
+	static byte[] encode(GeometryObject geomObj) {
+		double[][] coordinates = geomObj.getCoordinates();
+		int dimension = geomObj.getDimension();
+		int type;
+
+		switch (geomObj.getGeometryType()) {
+		case POINT:
+			type = POINT;
+			break;
+		case LINE_STRING:
+			type = LINESTRING;
+			break;
+		case POLYGON:
+			type = POLYGON;
+			break;
+		case ENVELOPE:
+			type = POLYGON;
+			coordinates = new double[][]{getEnvelopeRing(coordinates[0], dimension)};
+			break;
+		case MULTI_POINT:
+			type = MULTIPOINT;
+			break;
+		case MULTI_LINE_STRING:
+			type = MULTILINESTRING;
+			break;
+		case MULTI_POLYGON:
+			type = MULTIPOLYGON;
+			break;
+		case SOLID:
+			type = POLYHEDRALSURFACE;
+			break;
+		default:
+			return null;
+		}
+
+		// byte order, type and srid
+		int size = 9;
+		switch (type) {
+		case POINT:
+			size += coordinates[0].length * 8;
+			break;
+		case LINESTRING:
+			size += 4 + coordinates[0].length * 8;
+			break;
+		case POLYGON:
+			size += 4 + getRingsSize(coordinates, 0, coordinates.length);
+			break;
+		case MULTIPOINT:
+			size += 4 + coordinates.length * (5 + dimension * 8);
+			break;
+		case MULTILINESTRING:
+			size += 4;
+			for (double[] lineString : coordinates)
+				size += 9 + lineString.length * 8;
+			break;
+		default:
+			size += 4 + getNumPolygons(geomObj) * 9 + getRingsSize(coordinates, 0, coordinates.length);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 1);
+		buffer.putInt(getType(type, dimension) | SRID_FLAG);
+		buffer.putInt(geomObj.getSrid());
+
+		switch (type) {
+		case POINT:
+			putCoordinates(coordinates[0], buffer);
+			break;
+		case LINESTRING:
+			buffer.putInt(coordinates[0].length / dimension);
+			putCoordinates(coordinates[0], buffer);
+			break;
+		case POLYGON:
+			putRings(coordinates, 0, coordinates.length, dimension, buffer);
+			break;
+		case MULTIPOINT:
+			buffer.putInt(coordinates.length);
+			for (double[] point : coordinates) {
+				buffer.put((byte) 1);
+				buffer.putInt(getType(POINT, dimension));
+				putCoordinates(point, buffer);
+			}
+			break;
+		case MULTILINESTRING:
+			buffer.putInt(coordinates.length);
+			for (double[] lineString : coordinates) {
+				buffer.put((byte) 1);
+				buffer.putInt(getType(LINESTRING, dimension));
+				buffer.putInt(lineString.length / dimension);
+				putCoordinates(lineString, buffer);
+			}
+			break;
+		default:
+			buffer.putInt(getNumPolygons(geomObj));
+			for (int i = 0; i < coordinates.length; ) {
+				int end = i + 1;
+				while (end < coordinates.length && geomObj.getElementType(end) != ElementType.EXTERIOR_LINEAR_RING)
+					end++;
+
+				buffer.put((byte) 1);
+				buffer.putInt(getType(POLYGON, dimension));
+				putRings(coordinates, i, end, dimension, buffer);
+				i = end;
+			}
+		}
+
+		return buffer.array();
+	}
+
+	static GeometryObject decode(byte[] bytes) throws SQLException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			buffer.order(buffer.get() == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+
+			int type = buffer.getInt();
+			int srid = (type & SRID_FLAG) != 0 ? buffer.getInt() : 0;
+			boolean hasZ = hasZ(type);
+			boolean hasM = hasM(type);
+			int dimension = hasZ ? 3 : 2;
+
+			switch (getBaseType(type)) {
+			case POINT:
+				return GeometryObject.createPoint(getCoordinates(1, hasZ, hasM, buffer), dimension, srid);
+			case LINESTRING:
+				return GeometryObject.createCurve(getCoordinates(buffer.getInt(), hasZ, hasM, buffer), dimension, srid);
+			case POLYGON:
+				return GeometryObject.createPolygon(getRings(buffer.getInt(), hasZ, hasM, buffer), dimension, srid);
+			case MULTIPOINT: {
+				double[][] coordinates = new double[buffer.getInt()][];
+				for (int i = 0; i < coordinates.length; i++)
+					coordinates[i] = getCoordinates(1, hasZ, hasM, getNestedType(POINT, buffer));
+
+				return GeometryObject.createMultiPoint(coordinates, dimension, srid);
+			}
+			case MULTILINESTRING: {
+				double[][] coordinates = new double[buffer.getInt()][];
+				for (int i = 0; i < coordinates.length; i++)
+					coordinates[i] = getCoordinates(getNestedType(LINESTRING, buffer).getInt(), hasZ, hasM, buffer);
+
+				return GeometryObject.createMultiCurve(coordinates, dimension, srid);
+			}
+			case MULTIPOLYGON:
+			case POLYHEDRALSURFACE: {
+				int numPolygons = buffer.getInt();
+				int[] exteriorRings = new int[numPolygons];
+				double[][][] polygons = new double[numPolygons][][];
+				int numRings = 0;
+
+				for (int i = 0; i < numPolygons; i++) {
+					polygons[i] = getRings(getNestedType(POLYGON, buffer).getInt(), hasZ, hasM, buffer);
+					exteriorRings[i] = numRings;
+					numRings += polygons[i].length;
+				}
+
+				double[][] coordinates = new double[numRings][];
+				for (int i = 0; i < numPolygons; i++)
+					System.arraycopy(polygons[i], 0, coordinates, exteriorRings[i], polygons[i].length);
+
+				return getBaseType(type) == MULTIPOLYGON ?
+						GeometryObject.createMultiPolygon(coordinates, exteriorRings, dimension, srid) :
+						GeometryObject.createSolid(coordinates, exteriorRings, srid);
+			}
+			default:
+				throw new SQLException("Cannot convert EWKB geometry type '" + getBaseType(type) + "' to internal representation: Unsupported type.");
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new SQLException("Failed to decode EWKB geometry.", e);
+		}
+	}
+
+	static String toHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0, j = 0; i < bytes.length; i++) {
+			hex[j++] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+			hex[j++] = HEX_DIGITS[bytes[i] & 0x0F];
+		}
+
+		return new String(hex);
+	}
+
+	static byte[] fromHex(String hex) {
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0, j = 0; i < bytes.length; i++, j += 2)
+			bytes[i] = (byte) ((Character.digit(hex.charAt(j), 16) << 4) | Character.digit(hex.charAt(j + 1), 16));
+
+		return bytes;
+	}
+
+	private static int getType(int type, int dimension) {
+		return dimension == 3 ? type | Z_FLAG : type;
+	}
+
+	private static int getBaseType(int type) {
+		// also accept ISO WKB type codes
+		return (type & 0x0FFFFFFF) % 1000;
+	}
+
+	private static boolean hasZ(int type) {
+		int iso = (type & 0x0FFFFFFF) / 1000;
+		return (type & Z_FLAG) != 0 || iso == 1 || iso == 3;
+	}
+
+	private static boolean hasM(int type) {
+		int iso = (type & 0x0FFFFFFF) / 1000;
+		return (type & M_FLAG) != 0 || iso == 2 || iso == 3;
+	}
+
+	private static ByteBuffer getNestedType(int expected, ByteBuffer buffer) throws SQLException {
+		buffer.order(buffer.get() == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+		int type = buffer.getInt();
+		if (getBaseType(type) != expected)
+			throw new SQLException("Unexpected EWKB geometry type '" + getBaseType(type) + "' in geometry collection.");
+
+		return buffer;
+	}
+
+	private static double[] getCoordinates(int numPoints, boolean hasZ, boolean hasM, ByteBuffer buffer) {
+		int dimension = hasZ ? 3 : 2;
+		double[] coordinates = new double[numPoints * dimension];
+
+		for (int i = 0; i < coordinates.length; ) {
+			coordinates[i++] = buffer.getDouble();
+			coordinates[i++] = buffer.getDouble();
+			if (hasZ)
+				coordinates[i++] = buffer.getDouble();
+
+			// skip measure values
+			if (hasM)
+				buffer.getDouble();
+		}
+
+		return coordinates;
+	}
+
+	private static double[][] getRings(int numRings, boolean hasZ, boolean hasM, ByteBuffer buffer) {
+		double[][] rings = new double[numRings][];
+		for (int i = 0; i < numRings; i++)
+			rings[i] = getCoordinates(buffer.getInt(), hasZ, hasM, buffer);
+
+		return rings;
+	}
+
+	private static void putCoordinates(double[] coordinates, ByteBuffer buffer) {
+		for (double coordinate : coordinates)
+			buffer.putDouble(coordinate);
+	}
+
+	private static void putRings(double[][] coordinates, int start, int end, int dimension, ByteBuffer buffer) {
+		buffer.putInt(end - start);
+		for (int i = start; i < end; i++) {
+			buffer.putInt(coordinates[i].length / dimension);
+			putCoordinates(coordinates[i], buffer);
+		}
+	}
+
+	private static int getRingsSize(double[][] coordinates, int start, int end) {
+		int size = 0;
+		for (int i = start; i < end; i++)
+			size += 4 + coordinates[i].length * 8;
+
+		return size;
+	}
+
+	private static int getNumPolygons(GeometryObject geomObj) {
+		int numPolygons = 0;
+		for (int i = 0; i < geomObj.getNumElements(); i++) {
+			if (geomObj.getElementType(i) == ElementType.EXTERIOR_LINEAR_RING)
+				numPolygons++;
+		}
+
+		return numPolygons;
+	}
+
+	private static double[] getEnvelopeRing(double[] envelope, int dimension) {
+		int[] corners = dimension == 3 ? ENVELOPE_RING_3D : ENVELOPE_RING_2D;
+		double[] ring = new double[corners.length];
+		for (int i = 0; i < corners.length; i++)
+			ring[i] = envelope[corners[i]];
+
+		return ring;
+	}
+}
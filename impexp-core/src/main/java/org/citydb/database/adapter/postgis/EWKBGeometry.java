@@ -0,0 +1,54 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.database.adapter.postgis;
+
+import org.postgresql.util.PGobject;
+
+/**
+ * Geometry value in EWKB format. Like any other {@link PGobject}, the value is exchanged with
+ * the database in text format, so the wire format is hex-encoded EWKB and not binary bytea.
+ * This avoids creating and parsing EWKT on both sides but transfers twice the number of bytes
+ * of the raw EWKB.
+ */
+public class EWKBGeometry extends PGobject {
+	private static final long serialVersionUID = 1L;
+
+	public EWKBGeometry() {
+		type = "geometry";
+	}
+
+	public EWKBGeometry(byte[] bytes) {
+		this();
+		value = EWKBConverter.toHex(bytes);
+	}
+
+	public byte[] getBytes() {
+		// the text representation of a PostGIS geometry is its hex-encoded EWKB
+		return value != null ? EWKBConverter.fromHex(value) : null;
+	}
+}
@@ -29,6 +29,7 @@ package org.citydb.database.adapter.postgis;
 
 import org.citydb.config.geometry.ElementType;
 import org.citydb.config.geometry.GeometryObject;
+import org.citydb.config.geometry.GeometryType;
 import org.citydb.database.adapter.AbstractDatabaseAdapter;
 import org.citydb.database.adapter.AbstractGeometryConverterAdapter;
 import org.postgis.Geometry;
@@ -70,6 +71,8 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 		GeometryObject envelope = null;
 		if (geomObj instanceof PGgeometry)
 			envelope = getEnvelope(((PGgeometry)geomObj).getGeometry());
+		else if (geomObj instanceof EWKBGeometry)
+			envelope = getEnvelope(decode((EWKBGeometry)geomObj));
 		else if (geomObj instanceof PGbox2d) {
 			PGbox2d box = (PGbox2d)geomObj;
 			return GeometryObject.createEnvelope(new double[]{box.getLLB().x, box.getLLB().y, box.getURT().x, box.getURT().y},
@@ -105,6 +108,25 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 		return GeometryObject.createEnvelope(coordinates, 3, geometry.getSrid());
 	}
 
+	private GeometryObject getEnvelope(GeometryObject geometry) {
+		double[] coordinates = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+		int dimension = geometry.getDimension();
+
+		for (double[] values : geometry.getCoordinates()) {
+			for (int i = 0; i < values.length; i += dimension) {
+				for (int j = 0; j < 3; j++) {
+					double value = j < dimension ? values[i + j] : 0;
+					if (value < coordinates[j])
+						coordinates[j] = value;
+					if (value > coordinates[j + 3])
+						coordinates[j + 3] = value;
+				}
+			}
+		}
+
+		return GeometryObject.createEnvelope(coordinates, 3, geometry.getSrid());
+	}
+
 	@Override
 	public GeometryObject getPoint(Object geomObj) throws SQLException {
 		GeometryObject point = null;
@@ -117,6 +139,12 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			point = getPoint((Point)geometry);
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.POINT)
+				point = geometry;
+		}
+
 		return point;
 	}
 
@@ -155,6 +183,14 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			}
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.MULTI_POINT)
+				multiPoint = geometry;
+			else if (geometry.getGeometryType() == GeometryType.POINT)
+				multiPoint = GeometryObject.createMultiPoint(geometry.getCoordinates(), geometry.getDimension(), geometry.getSrid());
+		}
+
 		return multiPoint;
 	}
 
@@ -196,6 +232,12 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			curve = getCurve((LineString)geometry);
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.LINE_STRING)
+				curve = geometry;
+		}
+
 		return curve;
 	}
 
@@ -243,6 +285,14 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			}
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.MULTI_LINE_STRING)
+				multiCurve = geometry;
+			else if (geometry.getGeometryType() == GeometryType.LINE_STRING)
+				multiCurve = GeometryObject.createMultiCurve(geometry.getCoordinates(), geometry.getDimension(), geometry.getSrid());
+		}
+
 		return multiCurve;
 	}
 
@@ -284,6 +334,12 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			polygon = getPolygon((Polygon)geometry);
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.POLYGON)
+				polygon = geometry;
+		}
+
 		return polygon;
 	}
 
@@ -336,6 +392,14 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			}
 		}
 
+		else if (geomObj instanceof EWKBGeometry) {
+			GeometryObject geometry = decode((EWKBGeometry)geomObj);
+			if (geometry.getGeometryType() == GeometryType.MULTI_POLYGON)
+				multiPolygon = geometry;
+			else if (geometry.getGeometryType() == GeometryType.POLYGON)
+				multiPolygon = GeometryObject.createMultiPolygon(geometry.getCoordinates(), new int[]{ 0 }, geometry.getDimension(), geometry.getSrid());
+		}
+
 		return multiPolygon;
 	}
 
@@ -398,9 +462,16 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 			}
 		}
 
+		else if (geomObj instanceof EWKBGeometry)
+			return decode((EWKBGeometry)geomObj);
+
 		return null;
 	}
 
+	private GeometryObject decode(EWKBGeometry geomObj) throws SQLException {
+		return EWKBConverter.decode(geomObj.getBytes());
+	}
+
 	@Override
 	public Object getDatabaseObject(GeometryObject geomObj, Connection connection) throws SQLException {
 		Object geometry = null;
@@ -413,13 +484,19 @@ public class GeometryConverterAdapter extends AbstractGeometryConverterAdapter {
 		case MULTI_POINT:
 		case ENVELOPE:
 		case MULTI_POLYGON:
-			geometry = new PGgeometry(PGgeometry.geomFromString(convertToEWKT(geomObj)));
+			if (useBinaryTransfer)
+				geometry = new EWKBGeometry(EWKBConverter.encode(geomObj));
+			else
+				geometry = new PGgeometry(PGgeometry.geomFromString(convertToEWKT(geomObj)));
 			break;
 		case SOLID:
 			// the current PostGIS JDBC driver lacks support for geometry objects of type PolyhedralSurface
-			// thus, we return the EWKT only
+			// thus, we return the EWKT only unless we encode the EWKB ourselves
 			// TODO: rework as soon as the JDBC driver supports PolyhedralSurface
-			geometry = convertToEWKT(geomObj);
+			if (useBinaryTransfer)
+				geometry = new EWKBGeometry(EWKBConverter.encode(geomObj));
+			else
+				geometry = convertToEWKT(geomObj);
 			break;
 		case COMPOSITE_SOLID:
 			return null;
@@ -29,6 +29,10 @@ package org.citydb.database.adapter.postgis;
 
 import org.citydb.config.project.database.DatabaseType;
 import org.citydb.database.adapter.AbstractDatabaseAdapter;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
 
 public class PostGISAdapter extends AbstractDatabaseAdapter {
 
@@ -74,5 +78,12 @@ public class PostGISAdapter extends AbstractDatabaseAdapter {
 	public int getMaxBatchSize() {
 		return 65535;
 	}
+
+	@Override
+	public void initConnection(Connection connection) throws SQLException {
+		// let the driver hand out geometries as raw EWKB instead of parsing them into PGgeometry objects
+		if (geometryAdapter.isUseBinaryTransfer() && connection.isWrapperFor(PGConnection.class))
+			connection.unwrap(PGConnection.class).addDataType("geometry", EWKBGeometry.class);
+	}
 	
 }
@@ -44,6 +44,7 @@ import org.citydb.sqlbuilder.select.operator.comparison.ComparisonFactory;
 import org.citydb.sqlbuilder.select.operator.logical.LogicalOperationFactory;
 import org.citydb.sqlbuilder.select.projection.Function;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -198,6 +199,11 @@ public class SQLAdapter extends AbstractSQLAdapter {
         return new BlobExportAdapter(connection, type, databaseAdapter.getConnectionDetails().getSchema());
     }
 
+    @Override
+    public Array createIdArray(Long[] ids, Connection connection) throws SQLException {
+        return connection.createArrayOf("integer", ids);
+    }
+
     @Override
     public PredicateToken getBinarySpatialPredicate(SpatialOperatorName operator, Column targetColumn, GeometryObject geometry, boolean negate) {
         PlaceHolder<GeometryObject> placeHolder = new PlaceHolder<>(geometry);
@@ -252,6 +252,15 @@ public class UtilAdapter extends AbstractUtilAdapter {
                     lowerCorner.setY(ymin);
                     upperCorner.setX(xmax);
                     upperCorner.setY(ymax);
+                } else if (geomObject instanceof EWKBGeometry) {
+                    GeometryObject geom = databaseAdapter.getGeometryConverter().getGeometry(geomObject);
+                    double[] coordinates = geom.getCoordinates(0);
+                    int dimension = geom.getDimension();
+
+                    lowerCorner.setX(coordinates[0]);
+                    lowerCorner.setY(coordinates[1]);
+                    upperCorner.setX(coordinates[2 * dimension]);
+                    upperCorner.setY(coordinates[2 * dimension + 1]);
                 }
 
                 if (!isInterrupted) {
@@ -355,14 +364,24 @@ public class UtilAdapter extends AbstractUtilAdapter {
 
             try (ResultSet rs = psQuery.executeQuery()) {
                 if (rs.next()) {
-                    PGgeometry pgGeom = (PGgeometry) rs.getObject(1);
-                    if (!rs.wasNull() && pgGeom != null) {
-                        Geometry geom = pgGeom.getGeometry();
+                    Object geomObject = rs.getObject(1);
+                    if (!rs.wasNull() && geomObject instanceof PGgeometry) {
+                        Geometry geom = ((PGgeometry) geomObject).getGeometry();
                         result.getLowerCorner().setX(geom.getPoint(0).x);
                         result.getLowerCorner().setY(geom.getPoint(0).y);
                         result.getUpperCorner().setX(geom.getPoint(2).x);
                         result.getUpperCorner().setY(geom.getPoint(2).y);
                         result.setSrs(targetSrs);
+                    } else if (!rs.wasNull() && geomObject instanceof EWKBGeometry) {
+                        GeometryObject geom = databaseAdapter.getGeometryConverter().getGeometry(geomObject);
+                        double[] coordinates = geom.getCoordinates(0);
+                        int dimension = geom.getDimension();
+
+                        result.getLowerCorner().setX(coordinates[0]);
+                        result.getLowerCorner().setY(coordinates[1]);
+                        result.getUpperCorner().setX(coordinates[2 * dimension]);
+                        result.getUpperCorner().setY(coordinates[2 * dimension + 1]);
+                        result.setSrs(targetSrs);
                     }
                 }
             }
@@ -95,6 +95,7 @@ public class DatabaseConnectionPool implements ConnectionManager {
 
 		// get database adapter
 		databaseAdapter = DatabaseAdapterFactory.getInstance().createDatabaseAdapter(conn.getDatabaseType());
+		databaseAdapter.getGeometryConverter().setUseBinaryTransfer(config.getProject().getDatabase().isSetBinaryGeometryTransfer());
 
 		// general pool properties
 		PoolProperties properties = new PoolProperties();
@@ -199,10 +200,18 @@ public class DatabaseConnectionPool implements ConnectionManager {
 
 		Connection connection = dataSource.getConnection();
 		connection.setAutoCommit(true);
+		databaseAdapter.initConnection(connection);
 
 		return connection;
 	}
 
+	public int getMaxActive() {
+		if (!isConnected())
+			return 0;
+
+		return dataSource.getMaxActive();
+	}
+
 	public synchronized boolean isConnected() {
 		return dataSource != null && dataSource.getPool() != null && !dataSource.getPool().isClosed();
 	}
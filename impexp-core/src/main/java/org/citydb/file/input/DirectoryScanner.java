@@ -67,7 +67,7 @@ public class DirectoryScanner {
 
     public DirectoryScanner() throws TikaException, IOException {
         tikaConfig = new TikaConfig();
-        contentFile = Pattern.compile("(?i).+\\.((gml)|(xml)|(json)|(gz)|(gzip))$");
+        contentFile = Pattern.compile("(?i).+\\.((gml)|(xml)|(json)|(jsonl)|(gz)|(gzip))$");
         matcher = Pattern.compile("").matcher("");
     }
 
@@ -85,7 +85,7 @@ public class DirectoryScanner {
     }
 
     public String[] getDefaultFileEndings() {
-        return new String[]{"gml", "xml", "json", "gz", "gzip", "zip"};
+        return new String[]{"gml", "xml", "json", "jsonl", "gz", "gzip", "zip"};
     }
 
     public List<InputFile> listFiles(List<Path> bases, String... fileEndings) throws IOException {
@@ -197,6 +197,10 @@ public class DirectoryScanner {
     }
 
     private MediaType getMediaType(Path file) {
+        // CityJSON text sequences are not recognized by the detector
+        if (file.getFileName() != null && file.getFileName().toString().toLowerCase().endsWith(".jsonl"))
+            return InputFile.APPLICATION_JSON;
+
         try (InputStream stream = TikaInputStream.get(file)) {
             Metadata metadata = new Metadata();
             metadata.set(Metadata.RESOURCE_NAME_KEY, file.toString());
@@ -28,6 +28,8 @@
 
 package org.citydb.file.output;
 
+import org.citydb.config.project.global.Compression;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -35,13 +37,23 @@ import java.nio.file.Path;
 import java.util.zip.GZIPOutputStream;
 
 public class GZipOutputFile extends AbstractRegularOutputFile {
+    private final Compression compression;
+    private final int threads;
 
-    GZipOutputFile(Path file) {
+    GZipOutputFile(Path file, Compression compression, int threads) {
         super(file, true);
+        this.compression = compression;
+        this.threads = threads;
     }
 
     @Override
     public OutputStream openStream() throws IOException {
-        return new GZIPOutputStream(Files.newOutputStream(file));
+        if (compression.isSetParallel()) {
+            return new ParallelGZipOutputStream(Files.newOutputStream(file),
+                    compression.getBlockSize() * 1024,
+                    compression.getLevel(),
+                    threads);
+        } else
+            return new GZIPOutputStream(Files.newOutputStream(file));
     }
 }
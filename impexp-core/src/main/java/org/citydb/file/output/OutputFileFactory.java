@@ -69,11 +69,14 @@ public class OutputFileFactory {
                         file,
                         file.getParent(),
                         config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads(),
+                        config.getProject().getGlobal().getCompression(),
                         eventDispatcher,
                         eventChannel);
             case "gzip":
             case "gz":
-                return new GZipOutputFile(file);
+                return new GZipOutputFile(file,
+                        config.getProject().getGlobal().getCompression(),
+                        config.getProject().getExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads());
             default:
                 return new XMLOutputFile(file);
         }
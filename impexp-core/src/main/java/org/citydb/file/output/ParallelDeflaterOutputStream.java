@@ -0,0 +1,235 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.file.output;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+public class ParallelDeflaterOutputStream extends OutputStream {
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    protected final OutputStream out;
+    private final int level;
+    private final int maxPendingBlocks;
+    private final ExecutorService executor;
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<Future<Block>> pendingBlocks = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+
+    private byte[] buffer;
+    private int position;
+    private byte[] dictionary;
+    private long bytesRead;
+    private long bytesWritten;
+    private boolean isFinished;
+    private boolean isClosed;
+
+    public ParallelDeflaterOutputStream(OutputStream out, int blockSize, int level, int threads) {
+        this.out = out;
+        this.level = level;
+
+        buffer = new byte[Math.max(blockSize, DICTIONARY_SIZE)];
+        threads = Math.max(1, threads);
+        maxPendingBlocks = threads * 2;
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "parallel_deflater");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long getCrc() {
+        return crc.getValue();
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == buffer.length)
+            submitBlock(false);
+
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (isFinished)
+            throw new IOException("Write beyond end of stream.");
+
+        while (len > 0) {
+            if (position == buffer.length)
+                submitBlock(false);
+
+            int length = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, length);
+            position += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // do not cut the current block since this would degrade compression.
+        // only write those blocks that have already been compressed
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone())
+            writeBlock(pendingBlocks.poll());
+
+        out.flush();
+    }
+
+    public void finish() throws IOException {
+        if (!isFinished) {
+            submitBlock(true);
+            while (!pendingBlocks.isEmpty())
+                writeBlock(pendingBlocks.poll());
+
+            isFinished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isClosed) {
+            try {
+                finish();
+            } finally {
+                isClosed = true;
+                executor.shutdownNow();
+
+                Deflater deflater;
+                while ((deflater = deflaters.poll()) != null)
+                    deflater.end();
+
+                out.close();
+            }
+        }
+    }
+
+    private void submitBlock(boolean isLast) throws IOException {
+        byte[] block = buffer;
+        int length = position;
+        byte[] dictionary = this.dictionary;
+
+        crc.update(block, 0, length);
+        bytesRead += length;
+
+        // blocks are compressed independently but primed with the tail of the previous block.
+        // since every block but the last one ends with a sync flush, the compressed blocks can
+        // simply be concatenated to a single deflate stream
+        pendingBlocks.add(executor.submit((Callable<Block>) () -> compress(block, length, dictionary, isLast)));
+
+        if (!isLast) {
+            this.dictionary = Arrays.copyOfRange(block, length - DICTIONARY_SIZE, length);
+            buffer = new byte[block.length];
+            position = 0;
+        }
+
+        while (pendingBlocks.size() > maxPendingBlocks
+                || (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()))
+            writeBlock(pendingBlocks.poll());
+    }
+
+    private Block compress(byte[] data, int length, byte[] dictionary, boolean isLast) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null)
+            deflater = new Deflater(level, true);
+
+        try {
+            if (dictionary != null)
+                deflater.setDictionary(dictionary);
+
+            deflater.setInput(data, 0, length);
+            byte[] output = new byte[Math.max(64, length >> 1)];
+            int size = 0;
+
+            if (isLast) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (size == output.length)
+                        output = Arrays.copyOf(output, output.length << 1);
+
+                    size += deflater.deflate(output, size, output.length - size);
+                }
+            } else {
+                do {
+                    if (size == output.length)
+                        output = Arrays.copyOf(output, output.length << 1);
+
+                    size += deflater.deflate(output, size, output.length - size, Deflater.SYNC_FLUSH);
+                } while (size == output.length);
+            }
+
+            return new Block(output, size);
+        } finally {
+            deflater.reset();
+            deflaters.offer(deflater);
+        }
+    }
+
+    private void writeBlock(Future<Block> future) throws IOException {
+        try {
+            Block block = future.get();
+            out.write(block.data, 0, block.size);
+            bytesWritten += block.size;
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress output data.", e.getCause());
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Interrupted while compressing output data.");
+        }
+    }
+
+    private static class Block {
+        private final byte[] data;
+        private final int size;
+
+        Block(byte[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.file.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class ParallelGZipOutputStream extends ParallelDeflaterOutputStream {
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, 0};
+
+    private boolean writeTrailer = true;
+
+    public ParallelGZipOutputStream(OutputStream out, int blockSize, int level, int threads) throws IOException {
+        super(out, blockSize, level, threads);
+        out.write(HEADER);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        super.finish();
+
+        if (writeTrailer) {
+            byte[] trailer = new byte[8];
+            writeInt(getCrc(), trailer, 0);
+            writeInt(getBytesRead(), trailer, 4);
+            out.write(trailer);
+            writeTrailer = false;
+        }
+    }
+
+    private void writeInt(long value, byte[] buffer, int offset) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -36,63 +36,50 @@ import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
 import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
 import org.apache.commons.compress.utils.BoundedInputStream;
 
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.zip.Deflater;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class ScatterZipOutputStream implements Closeable {
     private final ScatterGatherBackingStore backingStore;
-    private final ScatterGatherBackingStore entryStore;
-    private final StreamCompressor streamCompressor;
+    private final Map<Integer, StreamCompressor> streamCompressors = new HashMap<>();
+    private final List<ZipArchiveEntry> entries = new ArrayList<>();
 
     ScatterZipOutputStream(ScatterGatherBackingStoreSupplier supplier) throws IOException {
         backingStore = supplier.get();
-        entryStore = supplier.get();
-        streamCompressor = StreamCompressor.create(Deflater.DEFAULT_COMPRESSION, backingStore);
     }
 
-    void addArchiveEntry(ZipArchiveEntry zipArchiveEntry, InputStreamSupplier source) throws IOException {
+    void addArchiveEntry(ZipArchiveEntry zipArchiveEntry, InputStreamSupplier source, int level) throws IOException {
+        // all compressors append to the same backing store
+        StreamCompressor streamCompressor = streamCompressors.get(level);
+        if (streamCompressor == null) {
+            streamCompressor = StreamCompressor.create(level, backingStore);
+            streamCompressors.put(level, streamCompressor);
+        }
+
         try (InputStream payloadStream = source.get()) {
             streamCompressor.deflate(payloadStream, zipArchiveEntry.getMethod());
 
-            String entry = zipArchiveEntry.getName() + "," +
-                    zipArchiveEntry.getMethod() + "," +
-                    streamCompressor.getCrc32() + "," +
-                    streamCompressor.getBytesWrittenForLastEntry() + "," +
-                    streamCompressor.getBytesRead() + "\n";
-
-            entryStore.writeOut(entry.getBytes(StandardCharsets.UTF_8), 0, entry.length());
+            zipArchiveEntry.setCrc(streamCompressor.getCrc32());
+            zipArchiveEntry.setCompressedSize(streamCompressor.getBytesWrittenForLastEntry());
+            zipArchiveEntry.setSize(streamCompressor.getBytesRead());
+            entries.add(zipArchiveEntry);
         }
     }
 
     void writeTo(ZipArchiveOutputStream target) throws IOException {
-        entryStore.closeForWriting();
         backingStore.closeForWriting();
-        String line;
-
-        try (InputStream stream = backingStore.getInputStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(entryStore.getInputStream(), StandardCharsets.UTF_8))) {
-            while ((line = reader.readLine()) != null) {
-                String[] values = line.split(",");
-                if (values.length != 5)
-                    throw new IOException("Failed to read temporary zip entry.");
-
-                ZipArchiveEntry entry = new ZipArchiveEntry(values[0]);
-                entry.setMethod(Integer.parseInt(values[1]));
-                entry.setCrc(Long.parseLong(values[2]));
-                entry.setCompressedSize(Long.parseLong(values[3]));
-                entry.setSize(Long.parseLong(values[4]));
 
+        try (InputStream stream = backingStore.getInputStream()) {
+            for (ZipArchiveEntry entry : entries) {
                 try (BoundedInputStream rawStream = new BoundedInputStream(stream, entry.getCompressedSize())) {
                     target.addRawArchiveEntry(entry, rawStream);
                 }
             }
-        } catch (NumberFormatException e) {
-            throw new IOException("Failed to read temporary zip entry.", e);
         }
     }
 
@@ -100,9 +87,9 @@ public class ScatterZipOutputStream implements Closeable {
     public void close() throws IOException {
         try {
             backingStore.close();
-            entryStore.close();
         } finally {
-            streamCompressor.close();
+            for (StreamCompressor streamCompressor : streamCompressors.values())
+                streamCompressor.close();
         }
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.file.output;
+
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+class SpillingScatterGatherBackingStore implements ScatterGatherBackingStore {
+    private final int maxMemorySize;
+    private final ScatterGatherBackingStoreSupplier overflowSupplier;
+
+    private byte[] buffer = new byte[8192];
+    private int size;
+    private ScatterGatherBackingStore overflowStore;
+
+    SpillingScatterGatherBackingStore(int maxMemorySize, ScatterGatherBackingStoreSupplier overflowSupplier) {
+        this.maxMemorySize = maxMemorySize;
+        this.overflowSupplier = overflowSupplier;
+    }
+
+    @Override
+    public void writeOut(byte[] data, int offset, int length) throws IOException {
+        if (overflowStore == null && size + length > maxMemorySize) {
+            // move the data written so far to the overflow store
+            overflowStore = overflowSupplier.get();
+            overflowStore.writeOut(buffer, 0, size);
+            buffer = null;
+        }
+
+        if (overflowStore != null)
+            overflowStore.writeOut(data, offset, length);
+        else {
+            if (size + length > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.min(maxMemorySize, Math.max(size + length, buffer.length << 1)));
+
+            System.arraycopy(data, offset, buffer, size, length);
+            size += length;
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return overflowStore != null ?
+                overflowStore.getInputStream() :
+                new ByteArrayInputStream(buffer, 0, size);
+    }
+
+    @Override
+    public void closeForWriting() throws IOException {
+        if (overflowStore != null)
+            overflowStore.closeForWriting();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        if (overflowStore != null)
+            overflowStore.close();
+    }
+}
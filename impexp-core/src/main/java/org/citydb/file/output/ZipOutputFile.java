@@ -36,38 +36,53 @@ import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
 import org.citydb.concurrent.DefaultWorker;
 import org.citydb.concurrent.PoolSizeAdaptationStrategy;
 import org.citydb.concurrent.WorkerPool;
+import org.citydb.config.project.global.Compression;
 import org.citydb.config.project.global.LogLevel;
 import org.citydb.event.EventDispatcher;
 import org.citydb.event.global.InterruptEvent;
 import org.citydb.log.Logger;
 import org.citydb.util.Pipe;
+import org.citydb.util.Util;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 
 public class ZipOutputFile extends AbstractArchiveOutputFile {
+    private static final int MAX_MEMORY_SIZE = 8 * 1024 * 1024;
+    private static final Set<String> COMPRESSED_MEDIA = new HashSet<>(Arrays.asList(
+            "jpg", "jpeg", "png", "gif", "webp", "jp2", "j2k", "zip", "gz", "gzip", "kmz"));
+    private static final Set<String> UNCOMPRESSED_IMAGES = new HashSet<>(Arrays.asList(
+            "tif", "tiff", "bmp", "rgb", "tga", "ppm", "pgm", "pbm"));
+
     private final Logger log = Logger.getInstance();
 
     private final ZipArchiveOutputStream out;
+    private final Compression compression;
     private final WorkerPool<ScatterZipWork> scatterZipPool;
     private final Set<ScatterZipOutputStream> scatterStreams;
 
     private volatile boolean shouldRun = true;
 
-    ZipOutputFile(String contentFile, Path zipFile, Path tempDir, int threads, EventDispatcher eventDispatcher, Object eventChannel) throws IOException {
+    ZipOutputFile(String contentFile, Path zipFile, Path tempDir, int threads, Compression compression, EventDispatcher eventDispatcher, Object eventChannel) throws IOException {
         super(contentFile, zipFile);
+        this.compression = compression;
 
         out = new ZipArchiveOutputStream(zipFile.toFile());
         scatterStreams = ConcurrentHashMap.newKeySet();
 
         int minThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
         int maxThreads = Math.max(minThreads, threads);
-        ScatterGatherBackingStoreSupplier supplier = () -> new FileBasedScatterGatherBackingStore(Files.createTempFile(tempDir, "zip", ".tmp").toFile());
+
+        // scatter streams are kept in memory and only spill to temporary files when exceeding the limit
+        ScatterGatherBackingStoreSupplier fileSupplier = () -> new FileBasedScatterGatherBackingStore(Files.createTempFile(tempDir, "zip", ".tmp").toFile());
+        ScatterGatherBackingStoreSupplier supplier = () -> new SpillingScatterGatherBackingStore(MAX_MEMORY_SIZE, fileSupplier);
 
         scatterZipPool = new WorkerPool<>("scatter_zip_pool", minThreads, maxThreads, PoolSizeAdaptationStrategy.AGGRESSIVE,
                 () -> {
@@ -101,11 +116,21 @@ public class ZipOutputFile extends AbstractArchiveOutputFile {
 
         if (shouldRun) {
             ZipArchiveEntry entry = new ZipArchiveEntry(file);
-            entry.setMethod(ZipEntry.DEFLATED);
+            int level = compression.getLevel();
+
+            // do not waste time on deflating media that is already compressed
+            String extension = Util.getFileExtension(file);
+            if (compression.isSetStoreCompressedMedia() && COMPRESSED_MEDIA.contains(extension))
+                entry.setMethod(ZipEntry.STORED);
+            else {
+                entry.setMethod(ZipEntry.DEFLATED);
+                if (UNCOMPRESSED_IMAGES.contains(extension))
+                    level = compression.getTextureLevel();
+            }
 
             Pipe pipe = new Pipe();
             out = pipe.source();
-            scatterZipPool.addWork(new ScatterZipWork(entry, pipe::sink));
+            scatterZipPool.addWork(new ScatterZipWork(entry, pipe::sink, level));
         } else {
             out = new OutputStream() {
                 @Override
@@ -155,7 +180,7 @@ public class ZipOutputFile extends AbstractArchiveOutputFile {
         @Override
         public void doWork(ScatterZipWork work) {
             try {
-                scatterStream.addArchiveEntry(work.zipArchiveEntry, work.source);
+                scatterStream.addArchiveEntry(work.zipArchiveEntry, work.source, work.level);
             } catch (IOException e) {
                 eventDispatcher.triggerSyncEvent(new InterruptEvent("Failed to write temporary zip archive.", LogLevel.ERROR, e, eventChannel, this));
                 shouldRun = false;
@@ -177,10 +202,12 @@ public class ZipOutputFile extends AbstractArchiveOutputFile {
     private static final class ScatterZipWork {
         private final ZipArchiveEntry zipArchiveEntry;
         private final InputStreamSupplier source;
+        private final int level;
 
-        private ScatterZipWork(ZipArchiveEntry zipArchiveEntry, InputStreamSupplier source) {
+        private ScatterZipWork(ZipArchiveEntry zipArchiveEntry, InputStreamSupplier source, int level) {
             this.zipArchiveEntry = zipArchiveEntry;
             this.source = source;
+            this.level = level;
         }
     }
 }
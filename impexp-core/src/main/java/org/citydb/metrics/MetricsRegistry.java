@@ -0,0 +1,249 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.metrics;
+
+import org.citydb.log.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class MetricsRegistry {
+	private static final MetricsRegistry instance = new MetricsRegistry();
+	private static final String OBJECT_NAME = "org.citydb:type=Metrics";
+
+	private final Logger log = Logger.getInstance();
+	private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, List<LongSupplier>> gauges = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService service;
+	private ObjectName objectName;
+	private long startTime;
+
+	private MetricsRegistry() {
+		// just to thwart instantiation
+	}
+
+	public static MetricsRegistry getInstance() {
+		return instance;
+	}
+
+	public Counter getCounter(String name) {
+		return counters.computeIfAbsent(name, v -> new Counter());
+	}
+
+	public Timer getTimer(String name) {
+		return timers.computeIfAbsent(name, v -> new Timer());
+	}
+
+	public void registerGauge(String name, LongSupplier supplier) {
+		gauges.computeIfAbsent(name, v -> new CopyOnWriteArrayList<>()).add(supplier);
+	}
+
+	public void unregisterGauge(String name, LongSupplier supplier) {
+		gauges.computeIfPresent(name, (k, suppliers) -> {
+			suppliers.remove(supplier);
+			return suppliers.isEmpty() ? null : suppliers;
+		});
+	}
+
+	public void reset() {
+		counters.values().forEach(Counter::reset);
+		timers.values().forEach(Timer::reset);
+	}
+
+	public Map<String, Number> getValues() {
+		Map<String, Number> values = new TreeMap<>();
+		double seconds = startTime > 0 ? (System.currentTimeMillis() - startTime) / 1000.0 : 0;
+
+		for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+			long count = entry.getValue().getCount();
+			values.put(entry.getKey(), count);
+			if (seconds > 0)
+				values.put(entry.getKey() + ".rate", round(count / seconds));
+		}
+
+		for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+			Timer timer = entry.getValue();
+			values.put(entry.getKey() + ".count", timer.getCount());
+			values.put(entry.getKey() + ".avgMs", round(timer.getAverageMillis()));
+			values.put(entry.getKey() + ".maxMs", round(timer.getMaxMillis()));
+		}
+
+		for (Map.Entry<String, List<LongSupplier>> entry : gauges.entrySet()) {
+			long value = 0;
+			for (LongSupplier supplier : entry.getValue())
+				value += supplier.getAsLong();
+
+			values.put(entry.getKey(), value);
+		}
+
+		return values;
+	}
+
+	public synchronized void startReporting(int logInterval, boolean useJmx) {
+		if (service != null)
+			return;
+
+		reset();
+		startTime = System.currentTimeMillis();
+
+		if (useJmx)
+			registerMBean();
+
+		service = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "metrics_reporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		service.scheduleAtFixedRate(this::logValues, logInterval, logInterval, TimeUnit.SECONDS);
+	}
+
+	public synchronized void stopReporting() {
+		if (service == null)
+			return;
+
+		service.shutdownNow();
+		service = null;
+
+		logValues();
+		unregisterMBean();
+	}
+
+	private void logValues() {
+		StringBuilder line = new StringBuilder("Metrics:");
+		for (Map.Entry<String, Number> entry : getValues().entrySet())
+			line.append(' ').append(entry.getKey()).append('=').append(entry.getValue());
+
+		log.info(line.toString());
+	}
+
+	private double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+
+	private void registerMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(objectName))
+				server.registerMBean(new MetricsMBean(), objectName);
+
+			this.objectName = objectName;
+		} catch (Exception e) {
+			log.warn("Failed to register metrics MBean: " + e.getMessage());
+		}
+	}
+
+	private void unregisterMBean() {
+		if (objectName == null)
+			return;
+
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (Exception e) {
+			//
+		} finally {
+			objectName = null;
+		}
+	}
+
+	private final class MetricsMBean implements DynamicMBean {
+
+		@Override
+		public Object getAttribute(String attribute) throws AttributeNotFoundException {
+			Number value = getValues().get(attribute);
+			if (value == null)
+				throw new AttributeNotFoundException("No such metric: " + attribute);
+
+			return value instanceof Long ? value.longValue() : value.doubleValue();
+		}
+
+		@Override
+		public void setAttribute(Attribute attribute) {
+			throw new UnsupportedOperationException("Metrics are read-only.");
+		}
+
+		@Override
+		public AttributeList getAttributes(String[] attributes) {
+			Map<String, Number> values = getValues();
+			AttributeList list = new AttributeList();
+			for (String attribute : attributes) {
+				Number value = values.get(attribute);
+				if (value != null)
+					list.add(new Attribute(attribute, value));
+			}
+
+			return list;
+		}
+
+		@Override
+		public AttributeList setAttributes(AttributeList attributes) {
+			return new AttributeList();
+		}
+
+		@Override
+		public Object invoke(String actionName, Object[] params, String[] signature) {
+			throw new UnsupportedOperationException("No operations available.");
+		}
+
+		@Override
+		public MBeanInfo getMBeanInfo() {
+			Map<String, Number> values = getValues();
+			MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values.size()];
+
+			int i = 0;
+			for (Map.Entry<String, Number> entry : values.entrySet()) {
+				String type = entry.getValue() instanceof Long ? Long.class.getName() : Double.class.getName();
+				attributes[i++] = new MBeanAttributeInfo(entry.getKey(), type,
+						entry.getKey(), true, false, false);
+			}
+
+			return new MBeanInfo(MetricsRegistry.class.getName(), "Import/export pipeline metrics",
+					attributes, null, null, null);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Timer {
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	Timer() {
+	}
+
+	public long start() {
+		return System.nanoTime();
+	}
+
+	public void stop(long start) {
+		record(System.nanoTime() - start);
+	}
+
+	public void record(long nanos) {
+		count.increment();
+		totalNanos.add(nanos);
+
+		long max;
+		while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos));
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public double getAverageMillis() {
+		long count = this.count.sum();
+		return count > 0 ? totalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+	}
+
+	public double getTotalMillis() {
+		return totalNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	public double getMaxMillis() {
+		return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	void reset() {
+		count.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+}
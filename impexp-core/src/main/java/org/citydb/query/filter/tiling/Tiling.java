@@ -65,6 +65,16 @@ public class Tiling {
 		tileWidth = (extent.getUpperCorner().getX() - extent.getLowerCorner().getX()) / this.columns;
 	}
 
+	public Tiling(Tiling other) {
+		extent = other.extent;
+		rows = other.rows;
+		columns = other.columns;
+		activeTile = other.activeTile;
+		tileHeight = other.tileHeight;
+		tileWidth = other.tileWidth;
+		tilingOptions = other.tilingOptions;
+	}
+
 	public BoundingBox getExtent() {
 		return extent;
 	}
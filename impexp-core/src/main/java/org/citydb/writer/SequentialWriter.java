@@ -2,29 +2,48 @@ package org.citydb.writer;
 
 import org.citydb.concurrent.WorkerPool;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class SequentialWriter<T> {
-    private final ReentrantLock lock = new ReentrantLock();
-    private final WorkerPool<T> writerPool;
+    public static final int DEFAULT_WINDOW_SIZE = 1024;
+    private static final Object EMPTY = new Object();
 
-    private Map<Long, CachedObject> cache = new HashMap<>();
-    private Map<Long, Condition> locks = new HashMap<>();
-    private long currentId = 0;
+    private final WorkerPool<T> writerPool;
+    private final AtomicReferenceArray<Object> slots;
+    private final int mask;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Object windowLock = new Object();
+
+    private final AtomicInteger pendingObjects = new AtomicInteger();
+    private final AtomicLong maxReorderDepth = new AtomicLong();
+    private final AtomicLong reorderedObjects = new AtomicLong();
+    private final AtomicLong windowStalls = new AtomicLong();
+
+    private volatile long currentId = 0;
     private volatile boolean shouldRun = true;
 
-    public SequentialWriter(WorkerPool<T> writerPool) {
+    public SequentialWriter(WorkerPool<T> writerPool, int windowSize) {
         this.writerPool = writerPool;
+
+        int capacity = Integer.highestOneBit(Math.max(2, Math.min(windowSize, 1 << 30)) - 1) << 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    public SequentialWriter(WorkerPool<T> writerPool) {
+        this(writerPool, DEFAULT_WINDOW_SIZE);
     }
 
     public long reset() {
+        for (int i = 0; i < slots.length(); i++)
+            slots.set(i, null);
+
+        pendingObjects.set(0);
         currentId = 0;
-        cache.clear();
-        locks.clear();
 
         return currentId;
     }
@@ -33,56 +52,113 @@ public class SequentialWriter<T> {
         return currentId;
     }
 
+    public int getWindowSize() {
+        return slots.length();
+    }
+
+    public int getPendingObjects() {
+        return pendingObjects.get();
+    }
+
+    public long getMaxReorderDepth() {
+        return maxReorderDepth.get();
+    }
+
+    public long getReorderedObjects() {
+        return reorderedObjects.get();
+    }
+
+    public long getWindowStalls() {
+        return windowStalls.get();
+    }
+
     public void write(T object, long sequenceId) throws InterruptedException {
         if (sequenceId >= 0) {
-            lock.lock();
+            // only block if the sequence id is beyond the reorder window
+            if (sequenceId - currentId >= slots.length())
+                awaitWindow(sequenceId);
+
+            if (!shouldRun)
+                return;
+
+            long depth = sequenceId - currentId;
+            if (depth > 0) {
+                reorderedObjects.incrementAndGet();
+                long max;
+                while (depth > (max = maxReorderDepth.get()) && !maxReorderDepth.compareAndSet(max, depth));
+            }
+
+            pendingObjects.incrementAndGet();
+            slots.set((int) (sequenceId & mask), object != null ? object : EMPTY);
+            drain();
+        } else if (object != null)
+            writerPool.addWork(object);
+    }
+
+    public void updateSequenceId(long sequenceId) throws InterruptedException {
+        write(null, sequenceId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        // only one thread drains contiguous runs at a time, all others just deposit their objects
+        while (draining.compareAndSet(false, true)) {
             try {
-                if (sequenceId == currentId) {
+                Object object;
+                int index;
+                while ((object = slots.get(index = (int) (currentId & mask))) != null) {
+                    slots.set(index, null);
+                    pendingObjects.decrementAndGet();
                     currentId++;
-                    if (object != null)
-                        writerPool.addWork(object);
 
-                    CachedObject cachedObject;
-                    while ((cachedObject = cache.get(currentId)) != null) {
-                        if (cachedObject.object != null)
-                            writerPool.addWork(cachedObject.object);
+                    if (object != EMPTY)
+                        writerPool.addWork((T) object);
 
-                        cache.remove(currentId);
-                        locks.get(cachedObject.threadId).signal();
-                        currentId++;
+                    if (waiting.get() > 0) {
+                        synchronized (windowLock) {
+                            windowLock.notifyAll();
+                        }
                     }
-                } else {
-                    long threadId = Thread.currentThread().getId();
-                    cache.put(sequenceId, new CachedObject(object, threadId));
-
-                    if (shouldRun)
-                        locks.computeIfAbsent(threadId, v -> lock.newCondition()).await();
                 }
             } finally {
-                lock.unlock();
+                draining.set(false);
             }
-        } else if (object != null)
-            writerPool.addWork(object);
+
+            // retry if an object has been deposited after the last check
+            if (slots.get((int) (currentId & mask)) == null)
+                break;
+        }
     }
 
-    public void updateSequenceId(long sequenceId) throws InterruptedException {
-        write(null, sequenceId);
+    private void awaitWindow(long sequenceId) throws InterruptedException {
+        windowStalls.incrementAndGet();
+        waiting.incrementAndGet();
+        try {
+            synchronized (windowLock) {
+                while (shouldRun && sequenceId - currentId >= slots.length())
+                    windowLock.wait();
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
     }
 
+    @SuppressWarnings("unchecked")
     public void writeCache() {
-        lock.lock();
+        while (!draining.compareAndSet(false, true))
+            Thread.yield();
+
         try {
-            if (!cache.isEmpty()) {
-                cache.entrySet().stream()
-                        .sorted(Map.Entry.comparingByKey())
-                        .map(e -> e.getValue().object)
-                        .filter(Objects::nonNull)
-                        .forEach(writerPool::addWork);
-
-                cache.clear();
+            for (int i = 0; i < slots.length(); i++) {
+                int index = (int) ((currentId + i) & mask);
+                Object object = slots.getAndSet(index, null);
+                if (object != null && object != EMPTY)
+                    writerPool.addWork((T) object);
             }
+
+            pendingObjects.set(0);
         } finally {
-            lock.unlock();
+            draining.set(false);
         }
     }
 
@@ -93,21 +169,8 @@ public class SequentialWriter<T> {
     public void interrupt() {
         shouldRun = false;
 
-        lock.lock();
-        try {
-            locks.values().forEach(Condition::signal);
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    private final class CachedObject {
-        private final T object;
-        private final long threadId;
-
-        private CachedObject(T object, long threadId) {
-            this.object = object;
-            this.threadId = threadId;
+        synchronized (windowLock) {
+            windowLock.notifyAll();
         }
     }
 }
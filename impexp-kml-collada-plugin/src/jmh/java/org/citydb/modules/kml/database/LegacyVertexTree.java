@@ -0,0 +1,128 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.modules.kml.database;
+
+import java.math.BigInteger;
+
+/**
+ * The unbalanced three-level binary tree that KmlGenericObject used to merge
+ * vertices before it was replaced by {@link VertexGrid}. Kept as baseline for
+ * {@link VertexGridBenchmark} only.
+ */
+class LegacyVertexTree {
+	private final double tolerance;
+	private Node coordinateTree;
+	private BigInteger vertexIdCounter = new BigInteger("-1");
+	private VertexInfo lastVertexInfo;
+
+	LegacyVertexTree(double tolerance) {
+		this.tolerance = tolerance;
+	}
+
+	VertexInfo setVertexInfoForXYZ(double x, double y, double z) {
+		vertexIdCounter = vertexIdCounter.add(BigInteger.ONE);
+		VertexInfo vertexInfo = new VertexInfo(vertexIdCounter.longValue(), x, y, z);
+		Node nodeToInsert = new Node(z, new Node(y, new Node(x, vertexInfo)));
+		if (coordinateTree == null) {
+			coordinateTree = nodeToInsert;
+			lastVertexInfo = vertexInfo;
+		} else {
+			Node node = insertNode(coordinateTree, nodeToInsert);
+			if (node.value instanceof VertexInfo)
+				vertexInfo = (VertexInfo) node.value;
+		}
+
+		return vertexInfo;
+	}
+
+	private Node insertNode(Node currentBasis, Node nodeToInsert) {
+		int compareKeysResult = compareKeys(nodeToInsert.key, currentBasis.key);
+		if (compareKeysResult > 0) {
+			if (currentBasis.rightArc == null) {
+				currentBasis.rightArc = nodeToInsert;
+				linkCurrentVertexInfoToLastVertexInfo(nodeToInsert);
+				return nodeToInsert;
+			} else
+				return insertNode(currentBasis.rightArc, nodeToInsert);
+		} else if (compareKeysResult < 0) {
+			if (currentBasis.leftArc == null) {
+				currentBasis.leftArc = nodeToInsert;
+				linkCurrentVertexInfoToLastVertexInfo(nodeToInsert);
+				return nodeToInsert;
+			} else
+				return insertNode(currentBasis.leftArc, nodeToInsert);
+		} else
+			return replaceOrAddValue(currentBasis, nodeToInsert);
+	}
+
+	private Node replaceOrAddValue(Node currentBasis, Node nodeToInsert) {
+		if (nodeToInsert.value instanceof VertexInfo) {
+			VertexInfo vertexInfoToInsert = (VertexInfo) nodeToInsert.value;
+			if (currentBasis.value == null) {
+				currentBasis.value = nodeToInsert.value;
+				linkCurrentVertexInfoToLastVertexInfo(vertexInfoToInsert);
+			} else
+				vertexIdCounter = vertexIdCounter.subtract(BigInteger.ONE);
+
+			return currentBasis;
+		} else
+			return insertNode((Node) currentBasis.value, (Node) nodeToInsert.value);
+	}
+
+	private void linkCurrentVertexInfoToLastVertexInfo(Node node) {
+		while (!(node.value instanceof VertexInfo))
+			node = (Node) node.value;
+
+		linkCurrentVertexInfoToLastVertexInfo((VertexInfo) node.value);
+	}
+
+	private void linkCurrentVertexInfoToLastVertexInfo(VertexInfo currentVertexInfo) {
+		lastVertexInfo.setNextVertexInfo(currentVertexInfo);
+		lastVertexInfo = currentVertexInfo;
+	}
+
+	private int compareKeys(double key1, double key2) {
+		int result = 0;
+		if (Math.abs(key1 - key2) > tolerance)
+			result = key1 > key2 ? 1 : -1;
+
+		return result;
+	}
+
+	private static class Node {
+		private final double key;
+		private Object value;
+		private Node rightArc;
+		private Node leftArc;
+
+		Node(double key, Object value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
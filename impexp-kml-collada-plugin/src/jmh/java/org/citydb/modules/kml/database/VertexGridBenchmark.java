@@ -0,0 +1,174 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.modules.kml.database;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the vertex merging of {@link VertexGrid} with the former binary tree on the
+ * coordinates of the bundled Potsdam LoD1 buildings. The buildings are merged into groups
+ * of the given size, like objects that are exported as one COLLADA model. JMH reports the
+ * number of merged vertices per second as secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VertexGridBenchmark {
+	private static final double TOLERANCE = Math.pow(10, -7);
+
+	@Param({"1", "10", "100"})
+	private int groupSize;
+
+	private List<double[]> groups;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counter {
+		public long vertices;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			vertices = 0;
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		List<double[]> buildings = readBuildings();
+		groups = new ArrayList<>();
+
+		for (int i = 0; i < buildings.size(); i += groupSize) {
+			int size = 0;
+			List<double[]> group = buildings.subList(i, Math.min(i + groupSize, buildings.size()));
+			for (double[] coordinates : group)
+				size += coordinates.length;
+
+			double[] coordinates = new double[size];
+			int offset = 0;
+			for (double[] building : group) {
+				System.arraycopy(building, 0, coordinates, offset, building.length);
+				offset += building.length;
+			}
+
+			groups.add(coordinates);
+		}
+	}
+
+	@Benchmark
+	public void legacyTree(Counter counter, Blackhole blackhole) {
+		for (double[] coordinates : groups) {
+			LegacyVertexTree tree = new LegacyVertexTree(TOLERANCE);
+			for (int i = 0; i < coordinates.length; i += 3)
+				blackhole.consume(tree.setVertexInfoForXYZ(coordinates[i], coordinates[i + 1], coordinates[i + 2]));
+
+			counter.vertices += coordinates.length / 3;
+		}
+	}
+
+	@Benchmark
+	public void vertexGrid(Counter counter, Blackhole blackhole) {
+		for (double[] coordinates : groups) {
+			VertexGrid vertexGrid = new VertexGrid(TOLERANCE);
+			long vertexIdCounter = 0;
+
+			for (int i = 0; i < coordinates.length; i += 3) {
+				// same steps as KmlGenericObject.setVertexInfoForXYZ
+				VertexInfo vertexInfo = vertexGrid.get(coordinates[i], coordinates[i + 1], coordinates[i + 2]);
+				if (vertexInfo == null) {
+					vertexInfo = new VertexInfo(vertexIdCounter++, coordinates[i], coordinates[i + 1], coordinates[i + 2]);
+					vertexGrid.add(vertexInfo);
+				}
+
+				blackhole.consume(vertexInfo);
+			}
+
+			counter.vertices += coordinates.length / 3;
+		}
+	}
+
+	private List<double[]> readBuildings() throws Exception {
+		List<double[]> buildings = new ArrayList<>();
+		double[] coordinates = null;
+		int size = 0;
+
+		try (InputStream stream = Files.newInputStream(Paths.get(System.getProperty("benchmark.citygml")))) {
+			XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					if (reader.getLocalName().equals("Building")) {
+						coordinates = new double[1024];
+						size = 0;
+					} else if (coordinates != null && reader.getLocalName().equals("posList")) {
+						for (String value : reader.getElementText().trim().split("\\s+")) {
+							if (size == coordinates.length)
+								coordinates = Arrays.copyOf(coordinates, size * 2);
+
+							coordinates[size++] = Double.parseDouble(value);
+						}
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT && coordinates != null
+						&& reader.getLocalName().equals("Building")) {
+					buildings.add(Arrays.copyOf(coordinates, size));
+					coordinates = null;
+				}
+			}
+
+			reader.close();
+		}
+
+		return buildings;
+	}
+}
@@ -58,6 +58,7 @@ import org.citydb.modules.kml.database.SolitaryVegetationObject;
 import org.citydb.modules.kml.database.Transportation;
 import org.citydb.modules.kml.database.Tunnel;
 import org.citydb.modules.kml.database.WaterBody;
+import org.citydb.modules.kml.util.BalloonContentCache;
 import org.citydb.modules.kml.util.BalloonTemplateHandler;
 import org.citydb.modules.kml.util.ElevationServiceHandler;
 import org.citydb.modules.kml.util.ExportTracker;
@@ -71,7 +72,12 @@ import javax.xml.bind.JAXBContext;
 import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class KmlExportWorker extends Worker<KmlSplittingResult> {
@@ -85,6 +91,7 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 	private final ObjectFactory kmlFactory; 
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
+	private final BalloonContentCache balloonContentCache;
 	private final KmlExporterManager kmlExporterManager;
 
 	private KmlGenericObject singleObject = null;
@@ -104,6 +111,7 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 			ExportTracker tracker,
 			Query query,
 			ObjectFactory kmlFactory,
+			BalloonContentCache balloonContentCache,
 			Config config,
 			EventDispatcher eventDispatcher) {
 		this.connection = connection;
@@ -112,6 +120,7 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 		this.kmlFactory = kmlFactory;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
+		this.balloonContentCache = balloonContentCache;
 
 		textureExportAdapter = databaseAdapter.getSQLAdapter().getBlobExportAdapter(connection, BlobType.TEXTURE_IMAGE);
 
@@ -248,15 +257,22 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 				firstWork = null;
 			}
 
-			KmlSplittingResult work;
+			List<KmlSplittingResult> works = new ArrayList<>(BalloonTemplateHandler.BATCH_SIZE);
 			while (shouldRun) {
 				try {
-					work = workQueue.take();
-					doWork(work);
+					works.add(workQueue.take());
+					workQueue.drainTo(works, BalloonTemplateHandler.BATCH_SIZE - 1);
+
+					prefetchBalloonContents(works);
+					for (KmlSplittingResult work : works)
+						doWork(work);
 				}
 				catch (InterruptedException ie) {
 					// re-check state
 				}
+				finally {
+					works.clear();
+				}
 			}
 
 			// last objectGroups may be not empty but not big enough
@@ -276,7 +292,7 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 				}
 			}
 			
-			eventDispatcher.triggerEvent(new ObjectCounterEvent(kmlExporterManager.getObjectCounter(), this));
+			eventDispatcher.triggerEvent(new ObjectCounterEvent(kmlExporterManager.getObjectCounter(), eventChannel, this));
 		}
 		finally {
 			if (textureExportAdapter != null) {
@@ -287,6 +303,9 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 				}
 			}
 
+			for (BalloonTemplateHandler handler : balloonTemplateHandler.values())
+				handler.close();
+
 			try {
 				connection.commit(); // for all possible GE_LoDn_zOffset values
 				connection.close();
@@ -543,6 +562,38 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 		}
 	}
 
+	private void prefetchBalloonContents(List<KmlSplittingResult> works) {
+		// the balloon contents of the objects taken from the queue are evaluated
+		// together. this requires a fixed LoD, since the highest available LoD is
+		// only known after reading an object
+		int lod = config.getProject().getKmlExporter().getLodToExportFrom();
+		if (works.size() < 2 || lod == 5)
+			return;
+
+		Map<BalloonTemplateHandler, List<Long>> ids = new HashMap<>();
+		for (KmlSplittingResult work : works) {
+			// city object groups are not exported from a specific LoD
+			if (work.getCityGMLClass() == CityGMLClass.CITY_OBJECT_GROUP)
+				continue;
+
+			Balloon balloonSettings = getBalloonSettings(work.getCityGMLClass());
+			if (balloonSettings != null && balloonSettings.getBalloonContentMode() == BalloonContentMode.FILE) {
+				BalloonTemplateHandler handler = getBalloonTemplateHandler(work.getCityGMLClass());
+				if (handler != null)
+					ids.computeIfAbsent(handler, v -> new ArrayList<>()).add(work.getId());
+			}
+		}
+
+		String schemaName = databaseAdapter.getConnectionDetails().getSchema();
+		for (Entry<BalloonTemplateHandler, List<Long>> entry : ids.entrySet()) {
+			try {
+				entry.getKey().getBalloonContents(entry.getValue(), lod, connection, schemaName);
+			} catch (Exception e) {
+				// the balloon contents are evaluated per object instead
+			}
+		}
+	}
+
 	private BalloonTemplateHandler getBalloonTemplateHandler(CityGMLClass cityObjectType) {
 		BalloonTemplateHandler currentBalloonTemplateHandler = balloonTemplateHandler.get(cityObjectType);
 
@@ -552,7 +603,7 @@ public class KmlExportWorker extends Worker<KmlSplittingResult> {
 					balloonSettings.getBalloonContentMode() != BalloonContentMode.GEN_ATTRIB) {
 				String balloonTemplateFilename = balloonSettings.getBalloonContentTemplateFile();
 				if (balloonTemplateFilename != null && balloonTemplateFilename.length() > 0) {
-					currentBalloonTemplateHandler = new BalloonTemplateHandler(new File(balloonTemplateFilename), databaseAdapter);
+					currentBalloonTemplateHandler = new BalloonTemplateHandler(new File(balloonTemplateFilename), databaseAdapter, balloonContentCache);
 					balloonTemplateHandler.put(cityObjectType, currentBalloonTemplateHandler);
 				}
 			}
@@ -38,6 +38,7 @@ import org.citydb.database.connection.DatabaseConnectionPool;
 import org.citydb.event.EventDispatcher;
 import org.citydb.log.Logger;
 import org.citydb.modules.kml.database.KmlSplittingResult;
+import org.citydb.modules.kml.util.BalloonContentCache;
 import org.citydb.modules.kml.util.ExportTracker;
 import org.citydb.query.Query;
 import org.citygml4j.util.xml.SAXEventBuffer;
@@ -55,6 +56,7 @@ public class KmlExportWorkerFactory implements WorkerFactory<KmlSplittingResult>
 	private final Query query;
 	private final ExportTracker tracker;
 	private final ObjectFactory kmlFactory;
+	private final BalloonContentCache balloonContentCache;
 	private final Config config;
 	private final EventDispatcher eventDispatcher;
 
@@ -65,6 +67,7 @@ public class KmlExportWorkerFactory implements WorkerFactory<KmlSplittingResult>
 			ExportTracker tracker,
 			Query query,
 			ObjectFactory kmlFactory,
+			BalloonContentCache balloonContentCache,
 			Config config,
 			EventDispatcher eventDispatcher) {
 		this.jaxbKmlContext = jaxbKmlContext;
@@ -73,6 +76,7 @@ public class KmlExportWorkerFactory implements WorkerFactory<KmlSplittingResult>
 		this.tracker = tracker;
 		this.query = query;
 		this.kmlFactory = kmlFactory;
+		this.balloonContentCache = balloonContentCache;
 		this.config = config;
 		this.eventDispatcher = eventDispatcher;
 	}
@@ -93,7 +97,7 @@ public class KmlExportWorkerFactory implements WorkerFactory<KmlSplittingResult>
 			}
 
 			kmlWorker = new KmlExportWorker(connection, databaseAdapter, jaxbKmlContext, jaxbColladaContext, writerPool,
-					tracker, query, kmlFactory, config, eventDispatcher);
+					tracker, query, kmlFactory, balloonContentCache, config, eventDispatcher);
 		} catch (SQLException e) {
 			log.error("Failed to create export worker: " + e.getMessage());
 		}
@@ -50,6 +50,8 @@ import net.opengis.kml._2.StyleMapType;
 import net.opengis.kml._2.StyleStateEnumType;
 import net.opengis.kml._2.StyleType;
 import net.opengis.kml._2.ViewRefreshModeEnumType;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.citydb.ade.ADEExtensionManager;
 import org.citydb.concurrent.PoolSizeAdaptationStrategy;
 import org.citydb.concurrent.SingleWorkerPool;
@@ -59,6 +61,7 @@ import org.citydb.config.geometry.BoundingBox;
 import org.citydb.config.i18n.Language;
 import org.citydb.config.project.database.Database;
 import org.citydb.config.project.database.Workspace;
+import org.citydb.config.project.global.Compression;
 import org.citydb.config.project.kmlExporter.AltitudeOffsetMode;
 import org.citydb.config.project.kmlExporter.Balloon;
 import org.citydb.config.project.kmlExporter.BalloonContentMode;
@@ -80,6 +83,7 @@ import org.citydb.event.global.InterruptEvent;
 import org.citydb.event.global.ObjectCounterEvent;
 import org.citydb.event.global.StatusDialogMessage;
 import org.citydb.event.global.StatusDialogTitle;
+import org.citydb.file.output.ParallelDeflaterOutputStream;
 import org.citydb.log.Logger;
 import org.citydb.modules.kml.concurrent.KmlExportWorkerFactory;
 import org.citydb.modules.kml.database.Bridge;
@@ -96,6 +100,7 @@ import org.citydb.modules.kml.database.Transportation;
 import org.citydb.modules.kml.database.Tunnel;
 import org.citydb.modules.kml.database.WaterBody;
 import org.citydb.modules.kml.datatype.TypeAttributeValueEnum;
+import org.citydb.modules.kml.util.BalloonContentCache;
 import org.citydb.modules.kml.util.CityObject4JSON;
 import org.citydb.modules.kml.util.ExportTracker;
 import org.citydb.query.Query;
@@ -129,6 +134,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -141,9 +147,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 public class KmlExporter implements EventHandler {
 	private final Logger log = Logger.getInstance();
@@ -156,9 +168,8 @@ public class KmlExporter implements EventHandler {
 	private final EventDispatcher eventDispatcher;
 
 	private ObjectFactory kmlFactory; 
-	private WorkerPool<KmlSplittingResult> kmlWorkerPool;
-	private SingleWorkerPool<SAXEventBuffer> writerPool;
-	private KmlSplitter kmlSplitter;
+	private final Set<TileExport> activeTileExports = ConcurrentHashMap.newKeySet();
+	private final BalloonContentCache balloonContentCache = new BalloonContentCache();
 
 	private volatile boolean shouldRun = true;
 	private AtomicBoolean isInterrupted = new AtomicBoolean(false);
@@ -166,9 +177,17 @@ public class KmlExporter implements EventHandler {
 	private final String ENCODING = "UTF-8";
 	private final Charset CHARSET = Charset.forName(ENCODING);
 	private final String TEMP_FOLDER = "__temp";
-	private File lastTempFolder = null;
 
-	private Map<Integer, Long> objectCounter = new HashMap<>();
+	private boolean useTiling;
+	private String path;
+	private String fileName;
+	private String fileExtension;
+	private int minWorkerThreads;
+	private int maxWorkerThreads;
+	private PoolSizeAdaptationStrategy adaptationStrategy;
+	private AtomicInteger remainingTiles;
+	private TileReferenceWriter tileReferenceWriter;
+
 	private Map<Integer, Long> totalObjectCounter = new HashMap<>();
 	private long geometryCounter;
 
@@ -189,6 +208,7 @@ public class KmlExporter implements EventHandler {
 
 	public void cleanup() {
 		eventDispatcher.removeEventHandler(this);
+		balloonContentCache.clear();
 	}
 
 	public boolean doProcess() throws KmlExportException {
@@ -244,8 +264,9 @@ public class KmlExporter implements EventHandler {
 			}
 		}
 
-		// check collada2gltf tool
-		if (config.getProject().getKmlExporter().isCreateGltfModel()) {
+		// check collada2gltf tool which is still required for glTF 1.0 or if the native glTF writer is disabled
+		if (config.getProject().getKmlExporter().isCreateGltfModel()
+				&& (config.getProject().getKmlExporter().isExportGltfV1() || !config.getProject().getKmlExporter().isUseNativeGltfWriter())) {
 			Path collada2gltf = Paths.get(config.getProject().getKmlExporter().getPathOfGltfConverter());
 			if (!collada2gltf.isAbsolute())
 				collada2gltf = ClientConstants.IMPEXP_HOME.resolve(collada2gltf);
@@ -269,7 +290,7 @@ public class KmlExporter implements EventHandler {
 		Tiling tiling = query.getTiling();
 		KmlTilingOptions tilingOptions = null;
 		Predicate predicate = null;
-		boolean useTiling = query.isSetTiling();
+		useTiling = query.isSetTiling();
 		int remainingTiles = 1;
 		int rows = useTiling ? tiling.getRows() : 1;  
 		int columns = useTiling ? tiling.getColumns() : 1;
@@ -305,22 +326,9 @@ public class KmlExporter implements EventHandler {
 		if (!balloonCheck) 
 			return false;	
 
-		// create a saxWriter instance 
-		// define indent for xml output and namespace mappings
-		SAXWriter saxWriter = new SAXWriter();
-		saxWriter.setIndentString("  ");
-		saxWriter.setHeaderComment("Written by " + this.getClass().getPackage().getImplementationTitle() + ", version \"" +
-				this.getClass().getPackage().getImplementationVersion() + '"', 
-				this.getClass().getPackage().getImplementationVendor());
-		saxWriter.setDefaultNamespace("http://www.opengis.net/kml/2.2"); // default namespace
-		saxWriter.setPrefix("gx", "http://www.google.com/kml/ext/2.2");
-		saxWriter.setPrefix("atom", "http://www.w3.org/2005/Atom");
-		saxWriter.setPrefix("xal", "urn:oasis:names:tc:ciq:xsdschema:xAL:2.0");
-
 		// set export filename and path
-		String path = config.getInternal().getExportFile().toAbsolutePath().normalize().toString();
-		String fileExtension = config.getProject().getKmlExporter().isExportAsKmz() ? ".kmz" : ".kml";
-		String fileName = null;
+		path = config.getInternal().getExportFile().toAbsolutePath().normalize().toString();
+		fileExtension = config.getProject().getKmlExporter().isExportAsKmz() ? ".kmz" : ".kml";
 
 		if (path.lastIndexOf(File.separator) == -1) {
 			fileName = path.lastIndexOf(".") == -1 ? path : path.substring(0, path.lastIndexOf("."));			
@@ -342,7 +350,6 @@ public class KmlExporter implements EventHandler {
 
 		// start writing cityobject JSON file if required
 		FileOutputStream jsonFileWriter = null;
-		boolean jsonHasContent = false;
 		if (config.getProject().getKmlExporter().isWriteJSONFile() && useTiling) {
 			try {
 				File jsonFile = new File(path + File.separator + fileName + ".json");
@@ -359,200 +366,372 @@ public class KmlExporter implements EventHandler {
 		if (!ADEExtensionManager.getInstance().getEnabledExtensions().isEmpty())
 			log.warn("NOTE: This operation does not work on ADE features.");
 
+		// determine the number of tiles to be exported concurrently
+		int maxThreads = config.getProject().getKmlExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads();
+		int concurrentTiles = useTiling ? Math.min(tilingOptions.getConcurrentTiles(), rows * columns) : 1;
+		if (concurrentTiles > 1) {
+			int maxActive = DatabaseConnectionPool.getInstance().getMaxActive();
+			int requestedTiles = concurrentTiles;
+
+			// make sure that the tiles do not exhaust the database connection pool
+			while (concurrentTiles > 1 && concurrentTiles * getConnectionsPerTile(Math.max(1, maxThreads / concurrentTiles)) > maxActive)
+				concurrentTiles--;
+
+			if (concurrentTiles < requestedTiles)
+				log.warn("Reducing the number of concurrently exported tiles to " + concurrentTiles + " due to the connection pool size.");
+		}
+
+		// share the worker threads among the concurrently exported tiles
+		maxWorkerThreads = Math.max(1, maxThreads / concurrentTiles);
+		minWorkerThreads = Math.min(config.getProject().getKmlExporter().getResources().getThreadPool().getDefaultPool().getMinThreads(), maxWorkerThreads);
+		adaptationStrategy = config.getProject().getKmlExporter().getResources().getThreadPool().getDefaultPool().isSetAdaptToThroughput() ?
+				PoolSizeAdaptationStrategy.THROUGHPUT : PoolSizeAdaptationStrategy.AGGRESSIVE;
+
+		this.remainingTiles = new AtomicInteger(remainingTiles);
+		tileReferenceWriter = new TileReferenceWriter(tilingOptions, masterFileWriter, jsonFileWriter);
 		long start = System.currentTimeMillis();
 
-		// iterate over tiles
-		for (int i = 0; shouldRun && i < rows; i++) {
-			for (int j = 0; shouldRun && j < columns; j++) {
+		try {
+			if (concurrentTiles > 1) {
+				log.info("Exporting " + concurrentTiles + " tiles concurrently.");
+				exportTilesConcurrently(query, tiling, predicate, rows, columns, concurrentTiles);
+			} else {
+				for (int i = 0; shouldRun && i < rows; i++) {
+					for (int j = 0; shouldRun && j < columns; j++)
+						exportTile(createTileExport(query, tiling, predicate, i, j, columns));
+				}
+			}
+		} catch (KmlExportException e) {
+			if (jsonFileWriter != null) try { jsonFileWriter.close(); } catch (IOException ioe) { }
+			throw e;
+		}
 
-				// track exported objects
-				ExportTracker tracker = new ExportTracker();
+		// complete KML master file
+		if (masterFileWriter != null) {
+			try {
+				writeMasterFileFooter(masterFileWriter);
+				masterFileWriter.close();
+			} catch (JAXBException | SAXException e) {
+				throw new KmlExportException("Failed to write KML master file footer.", e);
+			}
+		}
 
-				// set active tile and get tile extent in WGS84
-				Tile tile = null;
-				if (useTiling) {
-					try {
-						tile = tiling.getTileAt(i, j);
-						tiling.setActiveTile(tile);
-
-						Predicate bboxFilter = tile.getFilterPredicate(databaseAdapter);
-						if (predicate != null)
-							query.setSelection(new SelectionFilter(LogicalOperationFactory.AND(predicate, bboxFilter)));
-						else
-							query.setSelection(new SelectionFilter(bboxFilter));
-					} catch (FilterException e) {
-						if (jsonFileWriter != null) try { jsonFileWriter.close(); } catch (IOException ioe) { }
-						throw new KmlExportException("Failed to get tile at [" + i + "," + j + "].", e);
+		// write master JSON file
+		if (useTiling) {
+			try {
+				writeMasterJsonFileTileReference(path, fileName, fileExtension, tiling);
+			} catch (IOException e) {
+				throw new KmlExportException("Failed to write master JSON file.", e);
+			}
+		}
+
+		// close cityobject JSON file
+		if (jsonFileWriter != null) {
+			try {
+				if (config.getProject().getKmlExporter().isWriteJSONPFile())
+					jsonFileWriter.write("\n});\n".getBytes(CHARSET));
+				else
+					jsonFileWriter.write("\n}\n".getBytes(CHARSET));
+
+				jsonFileWriter.close();
+			} catch (IOException e) {
+				throw new KmlExportException("Failed to close JSON file.", e);
+			}
+		}		
+
+		// show exported features
+		if (!totalObjectCounter.isEmpty()) {
+			log.info("Exported city objects:");
+			Map<String, Long> typeNames = Util.mapObjectCounter(totalObjectCounter, schemaMapping);					
+			typeNames.keySet().stream().sorted().forEach(object -> log.info(object + ": " + typeNames.get(object)));
+		}
+
+		log.info("Processed geometry objects: " + geometryCounter);
+
+		if (shouldRun)
+			log.info("Total export time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
+
+		return shouldRun;
+	}
+
+	private TileExport createTileExport(Query query, Tiling tiling, Predicate predicate, int row, int column, int columns) throws KmlExportException {
+		if (!useTiling)
+			return new TileExport(row * columns + column, row, column, query, null);
+
+		// every tile uses its own query so that tiles can be exported concurrently
+		Query tileQuery = new Query(query);
+		Tile tile;
+		try {
+			tile = tiling.getTileAt(row, column);
+			Tiling tileTiling = new Tiling(tiling);
+			tileTiling.setActiveTile(tile);
+			tileQuery.setTiling(tileTiling);
+
+			Predicate bboxFilter = tile.getFilterPredicate(databaseAdapter);
+			if (predicate != null)
+				tileQuery.setSelection(new SelectionFilter(LogicalOperationFactory.AND(predicate, bboxFilter)));
+			else
+				tileQuery.setSelection(new SelectionFilter(bboxFilter));
+		} catch (FilterException e) {
+			throw new KmlExportException("Failed to get tile at [" + row + "," + column + "].", e);
+		}
+
+		return new TileExport(row * columns + column, row, column, tileQuery, tile);
+	}
+
+	private void exportTilesConcurrently(Query query, Tiling tiling, Predicate predicate, int rows, int columns, int concurrentTiles) throws KmlExportException {
+		ExecutorService tileExecutor = Executors.newFixedThreadPool(concurrentTiles, r -> {
+			Thread thread = new Thread(r, "kml_tile_exporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; shouldRun && i < rows; i++) {
+				for (int j = 0; shouldRun && j < columns; j++) {
+					TileExport tileExport = createTileExport(query, tiling, predicate, i, j, columns);
+					results.add(tileExecutor.submit(() -> {
+						if (shouldRun)
+							exportTile(tileExport);
+
+						return null;
+					}));
+				}
+			}
+
+			KmlExportException exception = null;
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = e.getCause() instanceof KmlExportException ?
+								(KmlExportException) e.getCause() :
+								new KmlExportException("An unexpected error occurred.", e.getCause());
+
+						// stop the export of the remaining tiles
+						shouldRun = false;
+						activeTileExports.forEach(TileExport::shutdown);
 					}
+				} catch (InterruptedException e) {
+					throw new KmlExportException("Failed to wait for the export of tiles.", e);
 				}
+			}
 
-				// iterate over display forms
-				for (DisplayForm displayForm : config.getProject().getKmlExporter().getBuildingDisplayForms()) {
-					if (!displayForm.isActive()) 
-						continue;
+			if (exception != null)
+				throw exception;
+		} finally {
+			tileExecutor.shutdownNow();
+		}
+	}
 
-					if (lastTempFolder != null && lastTempFolder.exists()) 
-						deleteFolder(lastTempFolder); // just in case
+	private void exportTile(TileExport tileExport) throws KmlExportException {
+		int i = tileExport.row;
+		int j = tileExport.column;
+		Query query = tileExport.query;
+		Tile tile = tileExport.tile;
+		ExportTracker tracker = tileExport.tracker;
 
-					File file = null;
-					ZipOutputStream zipOut = null;
-					String currentWorkingDirectoryPath = null;
-					try {
-						if (useTiling) {
-							File tilesRootDirectory = new File(path, "Tiles");
-							tilesRootDirectory.mkdir();
-							File rowTilesDirectory = new File(tilesRootDirectory.getPath(),  String.valueOf(i));
-							rowTilesDirectory.mkdir();
-							File columnTilesDirectory = new File(rowTilesDirectory.getPath(),  String.valueOf(j));
-							columnTilesDirectory.mkdir();
-							file = new File(columnTilesDirectory.getPath() + File.separator + fileName + "_Tile_" + i + "_" + j + "_" + displayForm.getName() + fileExtension);
-							currentWorkingDirectoryPath = columnTilesDirectory.getPath();
-						} else {
-							file = new File(path + File.separator + fileName + "_" + displayForm.getName() + fileExtension);
-							currentWorkingDirectoryPath = path;
-						}
-						tracker.setCurrentWorkingDirectoryPath(currentWorkingDirectoryPath);
+		// every tile is written by its own SAX writer
+		SAXWriter saxWriter = createSAXWriter();
 
-						eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("kmlExport.dialog.writingToFile"), this));
-						eventDispatcher.triggerEvent(new StatusDialogTitle(file.getName(), this));
-						eventDispatcher.triggerEvent(new CounterEvent(CounterType.REMAINING_TILES, --remainingTiles, this));
+		try {
+			activeTileExports.add(tileExport);
+
+			// iterate over display forms
+			for (DisplayForm displayForm : config.getProject().getKmlExporter().getBuildingDisplayForms()) {
+				if (!displayForm.isActive()) 
+					continue;
+
+				if (tileExport.tempFolder != null && tileExport.tempFolder.exists()) 
+					deleteFolder(tileExport.tempFolder); // just in case
+
+				File file = null;
+				ParallelDeflaterOutputStream kmlOut = null;
+				Path kmlTempFile = null;
+				String currentWorkingDirectoryPath = null;
+				SingleWorkerPool<SAXEventBuffer> writerPool = null;
+				WorkerPool<KmlSplittingResult> kmlWorkerPool = null;
+				try {
+					if (useTiling) {
+						File tilesRootDirectory = new File(path, "Tiles");
+						tilesRootDirectory.mkdir();
+						File rowTilesDirectory = new File(tilesRootDirectory.getPath(),  String.valueOf(i));
+						rowTilesDirectory.mkdir();
+						File columnTilesDirectory = new File(rowTilesDirectory.getPath(),  String.valueOf(j));
+						columnTilesDirectory.mkdir();
+						file = new File(columnTilesDirectory.getPath() + File.separator + fileName + "_Tile_" + i + "_" + j + "_" + displayForm.getName() + fileExtension);
+						currentWorkingDirectoryPath = columnTilesDirectory.getPath();
+					} else {
+						file = new File(path + File.separator + fileName + "_" + displayForm.getName() + fileExtension);
+						currentWorkingDirectoryPath = path;
+					}
+					tracker.setCurrentWorkingDirectoryPath(currentWorkingDirectoryPath);
 
-						// open file for writing
-						try {
-							OutputStreamWriter fileWriter = null;
-							if (config.getProject().getKmlExporter().isExportAsKmz()) {
-								zipOut = new ZipOutputStream(new FileOutputStream(file));
-								ZipEntry zipEntry = new ZipEntry("doc.kml");
-								zipOut.putNextEntry(zipEntry);
-								fileWriter = new OutputStreamWriter(zipOut, CHARSET);
-							} else
-								fileWriter = new OutputStreamWriter(new FileOutputStream(file), CHARSET);
-
-							// set output for SAXWriter
-							saxWriter.setOutput(fileWriter);	
-						} catch (IOException e) {
-							throw new KmlExportException("Failed to open file '" + file.getName() + "' for writing.", e);
-						}
+					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("kmlExport.dialog.writingToFile"), this));
+					eventDispatcher.triggerEvent(new StatusDialogTitle(file.getName(), this));
+					eventDispatcher.triggerEvent(new CounterEvent(CounterType.REMAINING_TILES, remainingTiles.decrementAndGet(), this));
 
-						// create worker pools
-						// here we have an open issue: queue sizes are fix...
-						writerPool = new SingleWorkerPool<SAXEventBuffer>(
-								"kml_writer_pool",
-								new XMLWriterWorkerFactory(saxWriter, eventDispatcher),
-								100,
-								true);
-
-						kmlWorkerPool = new WorkerPool<KmlSplittingResult>(
-								"db_exporter_pool",
-								config.getProject().getKmlExporter().getResources().getThreadPool().getDefaultPool().getMinThreads(),
-								config.getProject().getKmlExporter().getResources().getThreadPool().getDefaultPool().getMaxThreads(),
-								PoolSizeAdaptationStrategy.AGGRESSIVE,
-								new KmlExportWorkerFactory(
-										jaxbKmlContext,
-										jaxbColladaContext,
-										writerPool,
-										tracker,
-										query,
-										kmlFactory,
-										config,
-										eventDispatcher),
-								300,
-								false);
-
-						// prestart pool workers
-						writerPool.prestartCoreWorkers();
-						kmlWorkerPool.prestartCoreWorkers();
-
-						// fail if we could not start a single import worker
-						if (kmlWorkerPool.getPoolSize() == 0)
-							throw new KmlExportException("Failed to start database export worker pool. Check the database connection pool settings.");
-
-						// create file header writer
-						SAXFragmentWriter fragmentWriter = new SAXFragmentWriter(kmlFactory.createDocument(null).getName(), saxWriter);
-
-						// ok, preparations done. inform user...
-						log.info("Exporting to file: " + file.getAbsolutePath());
-
-						// create kml root element
-						KmlType kmlType = kmlFactory.createKmlType();
-						JAXBElement<KmlType> kml = kmlFactory.createKml(kmlType);
-
-						DocumentType document = kmlFactory.createDocumentType();
-						if (useTiling)
-							document.setName(fileName + "_Tile_" + i + "_" + j + "_" + displayForm.getName());
-						else 
-							document.setName(fileName + "_" + displayForm.getName());
-
-						document.setOpen(false);
-						kmlType.setAbstractFeatureGroup(kmlFactory.createDocument(document));
-
-						// write file header
-						Marshaller marshaller = null;
-						try {
-							marshaller = jaxbKmlContext.createMarshaller();
-							fragmentWriter.setWriteMode(WriteMode.HEAD);
-							marshaller.marshal(kml, fragmentWriter);
+					// open file for writing
+					try {
+						OutputStreamWriter fileWriter = null;
+						if (config.getProject().getKmlExporter().isExportAsKmz()) {
+							// doc.kml is compressed in parallel and added as raw entry when assembling the kmz file
+							Compression compression = config.getProject().getGlobal().getCompression();
+							kmlTempFile = Files.createTempFile(file.getParentFile().toPath(), "doc", ".tmp");
+							kmlOut = new ParallelDeflaterOutputStream(Files.newOutputStream(kmlTempFile),
+									compression.getBlockSize() * 1024,
+									compression.getLevel(),
+									compression.isSetParallel() ? maxWorkerThreads : 1);
+							fileWriter = new OutputStreamWriter(kmlOut, CHARSET);
+						} else
+							fileWriter = new OutputStreamWriter(new FileOutputStream(file), CHARSET);
+
+						// set output for SAXWriter
+						saxWriter.setOutput(fileWriter);	
+					} catch (IOException e) {
+						throw new KmlExportException("Failed to open file '" + file.getName() + "' for writing.", e);
+					}
 
-							if (useTiling && config.getProject().getKmlExporter().isShowTileBorders())
-								addBorder(tile.getExtent(), null, saxWriter);
+					// create worker pools
+					// here we have an open issue: queue sizes are fix...
+					writerPool = new SingleWorkerPool<SAXEventBuffer>(
+							"kml_writer_pool",
+							new XMLWriterWorkerFactory(saxWriter, eventDispatcher),
+							100,
+							true);
+
+					kmlWorkerPool = new WorkerPool<KmlSplittingResult>(
+							"db_exporter_pool",
+							minWorkerThreads,
+							maxWorkerThreads,
+							adaptationStrategy,
+							new KmlExportWorkerFactory(
+									jaxbKmlContext,
+									jaxbColladaContext,
+									writerPool,
+									tracker,
+									query,
+									kmlFactory,
+									balloonContentCache,
+									config,
+									eventDispatcher),
+							300,
+							false);
+
+					// attribute the object counters of the workers to this tile
+					kmlWorkerPool.setEventSource(tileExport);
+					tileExport.kmlWorkerPool = kmlWorkerPool;
+
+					// prestart pool workers
+					writerPool.prestartCoreWorkers();
+					kmlWorkerPool.prestartCoreWorkers();
+
+					// fail if we could not start a single import worker
+					if (kmlWorkerPool.getPoolSize() == 0)
+						throw new KmlExportException("Failed to start database export worker pool. Check the database connection pool settings.");
+
+					// create file header writer
+					SAXFragmentWriter fragmentWriter = new SAXFragmentWriter(kmlFactory.createDocument(null).getName(), saxWriter);
+
+					// ok, preparations done. inform user...
+					log.info("Exporting to file: " + file.getAbsolutePath());
+
+					// create kml root element
+					KmlType kmlType = kmlFactory.createKmlType();
+					JAXBElement<KmlType> kml = kmlFactory.createKml(kmlType);
+
+					DocumentType document = kmlFactory.createDocumentType();
+					if (useTiling)
+						document.setName(fileName + "_Tile_" + i + "_" + j + "_" + displayForm.getName());
+					else 
+						document.setName(fileName + "_" + displayForm.getName());
+
+					document.setOpen(false);
+					kmlType.setAbstractFeatureGroup(kmlFactory.createDocument(document));
+
+					// write file header
+					Marshaller marshaller = null;
+					try {
+						marshaller = jaxbKmlContext.createMarshaller();
+						fragmentWriter.setWriteMode(WriteMode.HEAD);
+						marshaller.marshal(kml, fragmentWriter);
 
-						} catch (JAXBException e) {
-							throw new KmlExportException("Failed to write output file.", e);
-						}
+						if (useTiling && config.getProject().getKmlExporter().isShowTileBorders())
+							addBorder(tile.getExtent(), null, saxWriter);
 
-						// get database splitter and start query
-						try {
-							kmlSplitter = new KmlSplitter(
-									schemaMapping,
-									kmlWorkerPool,
-									query,
-									displayForm,
-									config);
+					} catch (JAXBException e) {
+						throw new KmlExportException("Failed to write output file.", e);
+					}
 
-							if (shouldRun)
-								kmlSplitter.startQuery();
-						} catch (SQLException | QueryBuildException | FilterException e) {
-							throw new KmlExportException("Failed to query the database.", e);
-						}
+					// get database splitter and start query
+					try {
+						KmlSplitter kmlSplitter = new KmlSplitter(
+								schemaMapping,
+								kmlWorkerPool,
+								query,
+								displayForm,
+								config);
+
+						tileExport.kmlSplitter = kmlSplitter;
+						if (shouldRun)
+							kmlSplitter.startQuery();
+					} catch (SQLException | QueryBuildException | FilterException e) {
+						throw new KmlExportException("Failed to query the database.", e);
+					}
 
-						// shutdown worker pools
-						try {
-							kmlWorkerPool.shutdownAndWait();
-							writerPool.shutdownAndWait();
-						} catch (InterruptedException e) {
-							throw new KmlExportException("Failed to shutdown worker pools.", e);
-						}
+					// shutdown worker pools
+					try {
+						kmlWorkerPool.shutdownAndWait();
+						writerPool.shutdownAndWait();
 
-						try {
-							// add styles
-							if (!objectCounter.isEmpty() &&
-									(!config.getProject().getKmlExporter().isOneFilePerObject() || !useTiling)) {
-								for (int objectClassId : objectCounter.keySet()) {
-									if (objectCounter.get(objectClassId) > 0)
-										addStyle(displayForm, objectClassId, saxWriter);
-								}
+						// make sure the object counters of the workers have been received
+						eventDispatcher.flushEvents();
+					} catch (InterruptedException e) {
+						throw new KmlExportException("Failed to shutdown worker pools.", e);
+					}
+
+					Map<Integer, Long> objectCounter = tileExport.objectCounter;
+					try {
+						// add styles
+						if (!objectCounter.isEmpty() &&
+								(!config.getProject().getKmlExporter().isOneFilePerObject() || !useTiling)) {
+							for (int objectClassId : objectCounter.keySet()) {
+								if (objectCounter.get(objectClassId) > 0)
+									addStyle(displayForm, objectClassId, saxWriter);
 							}
-						} catch (JAXBException e) {
-							throw new KmlExportException("Failed to write styles.", e);
 						}
+					} catch (JAXBException e) {
+						throw new KmlExportException("Failed to write styles.", e);
+					}
 
-						// write footer element
-						try {
-							fragmentWriter.setWriteMode(WriteMode.TAIL);
-							marshaller.marshal(kml, fragmentWriter);
-						} catch (JAXBException e) {
-							throw new KmlExportException("Failed to write output file.", e);
-						}
-						
-						try {
-							if (!objectCounter.isEmpty()) {
-								saxWriter.flush();
-								if (config.getProject().getKmlExporter().isExportAsKmz()) {
-									zipOut.closeEntry();
+					// write footer element
+					try {
+						fragmentWriter.setWriteMode(WriteMode.TAIL);
+						marshaller.marshal(kml, fragmentWriter);
+					} catch (JAXBException e) {
+						throw new KmlExportException("Failed to write output file.", e);
+					}
 
+					try {
+						if (config.getProject().getKmlExporter().isExportAsKmz()) {
+							saxWriter.flush();
+							kmlOut.finish();
+
+							try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(file);
+								 InputStream kmlIn = Files.newInputStream(kmlTempFile)) {
+								ZipArchiveEntry kmlEntry = new ZipArchiveEntry("doc.kml");
+								kmlEntry.setMethod(ZipEntry.DEFLATED);
+								kmlEntry.setCrc(kmlOut.getCrc());
+								kmlEntry.setSize(kmlOut.getBytesRead());
+								kmlEntry.setCompressedSize(kmlOut.getBytesWritten());
+								zipOut.addRawArchiveEntry(kmlEntry, kmlIn);
+
+								if (!objectCounter.isEmpty()) {
 									List<File> filesToZip = new ArrayList<File>();
 									File tempFolder = new File(currentWorkingDirectoryPath, TEMP_FOLDER);
-									lastTempFolder = tempFolder;
+									tileExport.tempFolder = tempFolder;
 									int indexOfZipFilePath = tempFolder.getCanonicalPath().length() + 1;
 
 									if (tempFolder.exists()) { // !config.getProject().getKmlExporter().isOneFilePerObject()
@@ -563,8 +742,8 @@ public class KmlExporter implements EventHandler {
 												FileInputStream inputStream = new FileInputStream(fileToZip);
 												String zipEntryName = fileToZip.getCanonicalPath().substring(indexOfZipFilePath);
 												zipEntryName = zipEntryName.replace(File.separator, "/"); // MUST
-												ZipEntry zipEntry = new ZipEntry(zipEntryName);
-												zipOut.putNextEntry(zipEntry);
+												ZipArchiveEntry zipEntry = new ZipArchiveEntry(zipEntryName);
+												zipOut.putArchiveEntry(zipEntry);
 
 												byte[] bytes = new byte[64*1024]; // 64K should be enough for most
 												int length;
@@ -572,138 +751,78 @@ public class KmlExporter implements EventHandler {
 													zipOut.write(bytes, 0, length);
 												}
 												inputStream.close();
-												zipOut.closeEntry();
+												zipOut.closeArchiveEntry();
 											}
 										}
 										log.info("Removing temporary folder...");
 										deleteFolder(tempFolder);
 									}
-									zipOut.close();
 								}
 							}
-						} catch (Exception e) {
-							throw new KmlExportException("Failed to write output file.", e);
-						}
-						
-						// flush sax writer and close file
-						try {
-							saxWriter.flush();
-							saxWriter.getOutputWriter().close();
-						} catch (Exception e) {
-							throw new KmlExportException("Failed to close output file.", e);
-						}
-
-						// delete empty tile file if requested
-						if (useTiling && objectCounter.isEmpty() && !config.getProject().getKmlExporter().isExportEmptyTiles()) {
-							log.debug("Tile_" + i + "_" + j + " is empty. Deleting file " + file.getName() + ".");
-							file.delete();
-						}
-
-						eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.finish.msg"), this));
-					} finally {
-						// clean up
-						if (writerPool != null && !writerPool.isTerminated())
-							writerPool.shutdownNow();
-
-						if (kmlWorkerPool != null && !kmlWorkerPool.isTerminated())
-							kmlWorkerPool.shutdownNow();
-
-						try {
-							eventDispatcher.flushEvents();
-						} catch (InterruptedException e) {
-							//
 						}
+					} catch (Exception e) {
+						throw new KmlExportException("Failed to write output file.", e);
 					}
-				}
 
-				// create reference to tile file in master file
-				if (masterFileWriter != null && !objectCounter.isEmpty()) {
+					// flush sax writer and close file
 					try {
-						writeMasterFileTileReference(fileName, tile, tilingOptions, masterFileWriter);
-					} catch (JAXBException e) {
-						if (jsonFileWriter != null) try { jsonFileWriter.close(); } catch (IOException ioe) { }
-						throw new KmlExportException("Failed to write tile reference to master file.", e);
+						saxWriter.flush();
+						saxWriter.getOutputWriter().close();
+					} catch (Exception e) {
+						throw new KmlExportException("Failed to close output file.", e);
 					}
-				}
-
-				// fill cityobject JSON file after tile has been processed
-				if (jsonFileWriter != null && !objectCounter.isEmpty()) {
-					try {
-						Iterator<CityObject4JSON> iter = tracker.values().iterator();
-						if (iter.hasNext()) {
-							if (jsonHasContent)
-								jsonFileWriter.write(",\n".getBytes(CHARSET));
-							else
-								jsonHasContent = true;
-						}
 
-						while (iter.hasNext()) {
-							jsonFileWriter.write(iter.next().toString().getBytes(CHARSET));
-							if (iter.hasNext())
-								jsonFileWriter.write(",\n".getBytes(CHARSET));
-						}
-					} catch (IOException e) {
-						if (jsonFileWriter != null) try { jsonFileWriter.close(); } catch (IOException ioe) { }
-						throw new KmlExportException("Failed to write JSON file.", e);
+					// delete empty tile file if requested
+					if (useTiling && objectCounter.isEmpty() && !config.getProject().getKmlExporter().isExportEmptyTiles()) {
+						log.debug("Tile_" + i + "_" + j + " is empty. Deleting file " + file.getName() + ".");
+						file.delete();
 					}
-				}
 
-				objectCounter.clear();
-			}
-		}
+					eventDispatcher.triggerEvent(new StatusDialogMessage(Language.I18N.getString("export.dialog.finish.msg"), this));
+				} finally {
+					// clean up
+					if (writerPool != null && !writerPool.isTerminated())
+						writerPool.shutdownNow();
 
-		// complete KML master file
-		if (masterFileWriter != null) {
-			try {
-				writeMasterFileFooter(masterFileWriter);
-				masterFileWriter.close();
-			} catch (JAXBException | SAXException e) {
-				throw new KmlExportException("Failed to write KML master file footer.", e);
-			}
-		}
+					if (kmlWorkerPool != null && !kmlWorkerPool.isTerminated())
+						kmlWorkerPool.shutdownNow();
 
-		// write master JSON file
-		if (useTiling) {
-			try {
-				writeMasterJsonFileTileReference(path, fileName, fileExtension, tiling);
-			} catch (IOException e) {
-				throw new KmlExportException("Failed to write master JSON file.", e);
-			}
-		}
+					if (kmlTempFile != null) {
+						try {
+							if (kmlOut != null)
+								kmlOut.close();
 
-		// close cityobject JSON file
-		if (jsonFileWriter != null) {
-			try {
-				if (config.getProject().getKmlExporter().isWriteJSONPFile())
-					jsonFileWriter.write("\n});\n".getBytes(CHARSET));
-				else
-					jsonFileWriter.write("\n}\n".getBytes(CHARSET));
+							Files.deleteIfExists(kmlTempFile);
+						} catch (IOException e) {
+							log.warn("Failed to delete temporary file '" + kmlTempFile + "'.");
+						}
+					}
 
-				jsonFileWriter.close();
-			} catch (IOException e) {
-				throw new KmlExportException("Failed to close JSON file.", e);
+					try {
+						eventDispatcher.flushEvents();
+					} catch (InterruptedException e) {
+						//
+					}
+				}
 			}
-		}		
+		} finally {
+			activeTileExports.remove(tileExport);
 
-		// show exported features
-		if (!totalObjectCounter.isEmpty()) {
-			log.info("Exported city objects:");
-			Map<String, Long> typeNames = Util.mapObjectCounter(totalObjectCounter, schemaMapping);					
-			typeNames.keySet().stream().sorted().forEach(object -> log.info(object + ": " + typeNames.get(object)));
+			if (tileExport.tempFolder != null && tileExport.tempFolder.exists()) 
+				deleteFolder(tileExport.tempFolder); // just in case
 		}
 
-		log.info("Processed geometry objects: " + geometryCounter);
-
-		if (lastTempFolder != null && lastTempFolder.exists()) 
-			deleteFolder(lastTempFolder); // just in case
-
-		if (shouldRun)
-			log.info("Total export time: " + Util.formatElapsedTime(System.currentTimeMillis() - start) + ".");
+		// create references to the tile in the master file and the cityobject JSON file
+		tileReferenceWriter.write(tileExport);
+	}
 
-		return shouldRun;
+	private int getConnectionsPerTile(int workerThreads) {
+		// export workers and database splitter
+		return workerThreads + 1;
 	}
 
-	private SAXWriter writeMasterFileHeader(String fileName, String path, Query query) throws JAXBException, IOException, SAXException {
+	private SAXWriter createSAXWriter() {
+		// define indent for xml output and namespace mappings
 		SAXWriter saxWriter = new SAXWriter();
 		saxWriter.setIndentString("  ");
 		saxWriter.setHeaderComment("Written by " + this.getClass().getPackage().getImplementationTitle() + ", version \"" +
@@ -714,6 +833,11 @@ public class KmlExporter implements EventHandler {
 		saxWriter.setPrefix("atom", "http://www.w3.org/2005/Atom");
 		saxWriter.setPrefix("xal", "urn:oasis:names:tc:ciq:xsdschema:xAL:2.0");
 
+		return saxWriter;
+	}
+
+	private SAXWriter writeMasterFileHeader(String fileName, String path, Query query) throws JAXBException, IOException, SAXException {
+		SAXWriter saxWriter = createSAXWriter();
 		Marshaller marshaller = jaxbKmlContext.createMarshaller();
 
 		File mainFile = new File(path, fileName + ".kml");
@@ -1540,12 +1664,13 @@ public class KmlExporter implements EventHandler {
 	public void handleEvent(Event e) throws Exception {
 		if (e.getEventType() == EventType.OBJECT_COUNTER) {
 			Map<Integer, Long> counter = ((ObjectCounterEvent)e).getCounter();
-			
+			TileExport tileExport = e.getChannel() instanceof TileExport ? (TileExport) e.getChannel() : null;
+
 			for (Entry<Integer, Long> entry : counter.entrySet()) {
-				Long tmp = objectCounter.get(entry.getKey());
-				objectCounter.put(entry.getKey(), tmp == null ? entry.getValue() : tmp + entry.getValue());
-				
-				tmp = totalObjectCounter.get(entry.getKey());
+				if (tileExport != null)
+					tileExport.objectCounter.merge(entry.getKey(), entry.getValue(), Long::sum);
+
+				Long tmp = totalObjectCounter.get(entry.getKey());
 				totalObjectCounter.put(entry.getKey(), tmp == null ? entry.getValue() : tmp + entry.getValue());
 			}
 		}
@@ -1578,14 +1703,93 @@ public class KmlExporter implements EventHandler {
 
 				log.info("Waiting for objects being currently processed to end...");
 
-				if (kmlSplitter != null)
-					kmlSplitter.shutdown();
+				activeTileExports.forEach(TileExport::shutdown);
+			}
+		}
+	}
+
+	private class TileReferenceWriter {
+		private final KmlTilingOptions tilingOptions;
+		private final SAXWriter masterFileWriter;
+		private final FileOutputStream jsonFileWriter;
+		private final Map<Integer, TileExport> completedTiles = new HashMap<>();
+		private boolean jsonHasContent;
+		private int nextIndex;
+
+		TileReferenceWriter(KmlTilingOptions tilingOptions, SAXWriter masterFileWriter, FileOutputStream jsonFileWriter) {
+			this.tilingOptions = tilingOptions;
+			this.masterFileWriter = masterFileWriter;
+			this.jsonFileWriter = jsonFileWriter;
+		}
+
+		synchronized void write(TileExport tileExport) throws KmlExportException {
+			// tiles may complete in any order, but their references are written in row-major order
+			completedTiles.put(tileExport.index, tileExport);
+			while ((tileExport = completedTiles.remove(nextIndex)) != null) {
+				nextIndex++;
+				if (tileExport.objectCounter.isEmpty())
+					continue;
+
+				// create reference to tile file in master file
+				if (masterFileWriter != null) {
+					try {
+						writeMasterFileTileReference(fileName, tileExport.tile, tilingOptions, masterFileWriter);
+					} catch (JAXBException e) {
+						throw new KmlExportException("Failed to write tile reference to master file.", e);
+					}
+				}
 
-				if (kmlWorkerPool != null)
-					kmlWorkerPool.drainWorkQueue();
+				// fill cityobject JSON file after tile has been processed
+				if (jsonFileWriter != null) {
+					try {
+						Iterator<CityObject4JSON> iter = tileExport.tracker.values().iterator();
+						if (iter.hasNext()) {
+							if (jsonHasContent)
+								jsonFileWriter.write(",\n".getBytes(CHARSET));
+							else
+								jsonHasContent = true;
+						}
 
-				if (lastTempFolder != null && lastTempFolder.exists()) deleteFolder(lastTempFolder); // just in case
+						while (iter.hasNext()) {
+							jsonFileWriter.write(iter.next().toString().getBytes(CHARSET));
+							if (iter.hasNext())
+								jsonFileWriter.write(",\n".getBytes(CHARSET));
+						}
+					} catch (IOException e) {
+						throw new KmlExportException("Failed to write JSON file.", e);
+					}
+				}
 			}
 		}
 	}
+
+	private static class TileExport {
+		private final int index;
+		private final int row;
+		private final int column;
+		private final Query query;
+		private final Tile tile;
+		private final ExportTracker tracker = new ExportTracker();
+		private final Map<Integer, Long> objectCounter = new ConcurrentHashMap<>();
+
+		private volatile KmlSplitter kmlSplitter;
+		private volatile WorkerPool<KmlSplittingResult> kmlWorkerPool;
+		private volatile File tempFolder;
+
+		TileExport(int index, int row, int column, Query query, Tile tile) {
+			this.index = index;
+			this.row = row;
+			this.column = column;
+			this.query = query;
+			this.tile = tile;
+		}
+
+		void shutdown() {
+			if (kmlSplitter != null)
+				kmlSplitter.shutdown();
+
+			if (kmlWorkerPool != null)
+				kmlWorkerPool.drainWorkQueue();
+		}
+	}
 }
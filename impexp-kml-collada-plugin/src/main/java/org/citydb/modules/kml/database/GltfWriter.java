@@ -0,0 +1,642 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.modules.kml.database;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.citydb.textureAtlas.model.TextureImage;
+import org.collada._2005._11.colladaschema.COLLADA;
+import org.collada._2005._11.colladaschema.CommonColorOrTextureType;
+import org.collada._2005._11.colladaschema.CommonNewparamType;
+import org.collada._2005._11.colladaschema.Effect;
+import org.collada._2005._11.colladaschema.Extra;
+import org.collada._2005._11.colladaschema.FxSurfaceInitFromCommon;
+import org.collada._2005._11.colladaschema.Geometry;
+import org.collada._2005._11.colladaschema.Image;
+import org.collada._2005._11.colladaschema.InputLocal;
+import org.collada._2005._11.colladaschema.InputLocalOffset;
+import org.collada._2005._11.colladaschema.InstanceGeometry;
+import org.collada._2005._11.colladaschema.InstanceMaterial;
+import org.collada._2005._11.colladaschema.LibraryEffects;
+import org.collada._2005._11.colladaschema.LibraryGeometries;
+import org.collada._2005._11.colladaschema.LibraryMaterials;
+import org.collada._2005._11.colladaschema.LibraryVisualScenes;
+import org.collada._2005._11.colladaschema.Material;
+import org.collada._2005._11.colladaschema.Mesh;
+import org.collada._2005._11.colladaschema.Node;
+import org.collada._2005._11.colladaschema.ProfileCOMMON;
+import org.collada._2005._11.colladaschema.Source;
+import org.collada._2005._11.colladaschema.Technique;
+import org.collada._2005._11.colladaschema.Triangles;
+import org.collada._2005._11.colladaschema.VisualScene;
+import org.w3c.dom.Element;
+
+import javax.imageio.ImageIO;
+import javax.xml.bind.JAXBElement;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+class GltfWriter {
+	private static final int GLB_MAGIC = 0x46546C67;
+	private static final int GLB_VERSION = 2;
+	private static final int CHUNK_JSON = 0x4E4F534A;
+	private static final int CHUNK_BIN = 0x004E4942;
+
+	private static final int UNSIGNED_SHORT = 5123;
+	private static final int UNSIGNED_INT = 5125;
+	private static final int FLOAT = 5126;
+	private static final int ARRAY_BUFFER = 34962;
+	private static final int ELEMENT_ARRAY_BUFFER = 34963;
+
+	// rotates the z-up coordinates of the COLLADA model into the y-up system of glTF
+	private static final int[] Z_UP_TO_Y_UP = {1, 0, 0, 0, 0, 0, -1, 0, 0, 1, 0, 0, 0, 0, 0, 1};
+
+	private final String generator;
+
+	private JsonArray accessors;
+	private JsonArray bufferViews;
+	private JsonArray images;
+	private JsonArray textures;
+	private JsonArray materials;
+	private JsonArray primitives;
+	private ByteArrayOutputStream binary;
+
+	private Map<String, Effect> effects;
+	private Map<String, Material> colladaMaterials;
+	private Map<String, String> materialTargets;
+	private Map<String, Integer> materialIndexes;
+	private Map<String, Integer> textureIndexes;
+	private Map<String, TextureImage> embeddedImages;
+
+	GltfWriter() {
+		generator = getClass().getPackage().getImplementationTitle() + ", version " +
+				getClass().getPackage().getImplementationVersion();
+	}
+
+	boolean write(COLLADA collada, File file, Map<String, TextureImage> embeddedImages) throws IOException {
+		accessors = new JsonArray();
+		bufferViews = new JsonArray();
+		images = new JsonArray();
+		textures = new JsonArray();
+		materials = new JsonArray();
+		primitives = new JsonArray();
+		binary = new ByteArrayOutputStream();
+
+		effects = new HashMap<>();
+		colladaMaterials = new HashMap<>();
+		materialTargets = new HashMap<>();
+		materialIndexes = new HashMap<>();
+		textureIndexes = new HashMap<>();
+		this.embeddedImages = embeddedImages;
+
+		try {
+			Mesh mesh = null;
+			for (Object library : collada.getLibraryAnimationsOrLibraryAnimationClipsOrLibraryCameras()) {
+				if (library instanceof LibraryGeometries) {
+					for (Geometry geometry : ((LibraryGeometries) library).getGeometry()) {
+						if (mesh == null)
+							mesh = geometry.getMesh();
+					}
+				} else if (library instanceof LibraryEffects) {
+					for (Effect effect : ((LibraryEffects) library).getEffect())
+						effects.put(effect.getId(), effect);
+				} else if (library instanceof LibraryMaterials) {
+					for (Material material : ((LibraryMaterials) library).getMaterial())
+						colladaMaterials.put(material.getId(), material);
+				} else if (library instanceof LibraryVisualScenes) {
+					for (VisualScene visualScene : ((LibraryVisualScenes) library).getVisualScene()) {
+						for (Node node : visualScene.getNode())
+							collectMaterialTargets(node);
+					}
+				}
+			}
+
+			if (mesh == null || mesh.getVertices() == null)
+				return false;
+
+			Map<String, List<Double>> sources = new HashMap<>();
+			for (Source source : mesh.getSource()) {
+				if (source.getFloatArray() != null)
+					sources.put("#" + source.getId(), source.getFloatArray().getValue());
+			}
+
+			List<Double> positions = null;
+			for (InputLocal input : mesh.getVertices().getInput()) {
+				if ("POSITION".equals(input.getSemantic()))
+					positions = sources.get(input.getSource());
+			}
+
+			if (positions == null)
+				return false;
+
+			for (Object primitive : mesh.getLinesOrLinestripsOrPolygons()) {
+				if (primitive instanceof Triangles)
+					addPrimitive((Triangles) primitive, positions, sources);
+			}
+
+			if (primitives.size() == 0)
+				return false;
+
+			writeGlb(createGltf(), file);
+			return true;
+		} finally {
+			binary = null;
+			this.embeddedImages = null;
+		}
+	}
+
+	private void collectMaterialTargets(Node node) {
+		for (InstanceGeometry instanceGeometry : node.getInstanceGeometry()) {
+			if (instanceGeometry.getBindMaterial() != null && instanceGeometry.getBindMaterial().getTechniqueCommon() != null) {
+				for (InstanceMaterial instanceMaterial : instanceGeometry.getBindMaterial().getTechniqueCommon().getInstanceMaterial())
+					materialTargets.put(instanceMaterial.getSymbol(), stripFragment(instanceMaterial.getTarget()));
+			}
+		}
+
+		for (Node child : node.getNode())
+			collectMaterialTargets(child);
+	}
+
+	private void addPrimitive(Triangles triangles, List<Double> positions, Map<String, List<Double>> sources) {
+		int stride = 0;
+		int vertexOffset = -1;
+		int normalOffset = -1;
+		int texCoordOffset = -1;
+		List<Double> normals = null;
+		List<Double> texCoords = null;
+
+		for (InputLocalOffset input : triangles.getInput()) {
+			int offset = input.getOffset().intValue();
+			stride = Math.max(stride, offset + 1);
+
+			if ("VERTEX".equals(input.getSemantic()))
+				vertexOffset = offset;
+			else if ("NORMAL".equals(input.getSemantic()) && (normals = sources.get(input.getSource())) != null)
+				normalOffset = offset;
+			else if ("TEXCOORD".equals(input.getSemantic()) && (texCoords = sources.get(input.getSource())) != null)
+				texCoordOffset = offset;
+		}
+
+		List<BigInteger> p = triangles.getP();
+		int count = stride > 0 ? p.size() / stride : 0;
+		count -= count % 3;
+		if (vertexOffset == -1 || count == 0)
+			return;
+
+		// glTF uses a single index per vertex, so every distinct combination
+		// of COLLADA position, normal and texture coordinate indices becomes a vertex
+		Map<VertexKey, Integer> vertexIndexes = new HashMap<>();
+		int[] indices = new int[count];
+		float[] positionData = new float[count * 3];
+		float[] normalData = normalOffset != -1 ? new float[count * 3] : null;
+		float[] texCoordData = texCoordOffset != -1 ? new float[count * 2] : null;
+		float[] min = {Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+		float[] max = {-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+		int vertices = 0;
+
+		for (int i = 0; i < count; i++) {
+			int base = i * stride;
+			int vertex = p.get(base + vertexOffset).intValue();
+			int normal = normalOffset != -1 ? p.get(base + normalOffset).intValue() : -1;
+			int texCoord = texCoordOffset != -1 ? p.get(base + texCoordOffset).intValue() : -1;
+
+			VertexKey key = new VertexKey(vertex, normal, texCoord);
+			Integer index = vertexIndexes.get(key);
+			if (index == null) {
+				index = vertices++;
+				vertexIndexes.put(key, index);
+
+				for (int j = 0; j < 3; j++) {
+					float value = getValue(positions, vertex * 3 + j);
+					positionData[index * 3 + j] = value;
+					min[j] = Math.min(min[j], value);
+					max[j] = Math.max(max[j], value);
+
+					if (normalData != null)
+						normalData[index * 3 + j] = getValue(normals, normal * 3 + j);
+				}
+
+				if (texCoordData != null) {
+					// the origin of texture coordinates is the upper left corner in glTF
+					texCoordData[index * 2] = getValue(texCoords, texCoord * 2);
+					texCoordData[index * 2 + 1] = 1 - getValue(texCoords, texCoord * 2 + 1);
+				}
+			}
+
+			indices[i] = index;
+		}
+
+		JsonObject attributes = new JsonObject();
+		attributes.addProperty("POSITION", addAccessor(toBuffer(positionData, vertices * 3), FLOAT, vertices, "VEC3", ARRAY_BUFFER, min, max));
+		if (normalData != null)
+			attributes.addProperty("NORMAL", addAccessor(toBuffer(normalData, vertices * 3), FLOAT, vertices, "VEC3", ARRAY_BUFFER, null, null));
+		if (texCoordData != null)
+			attributes.addProperty("TEXCOORD_0", addAccessor(toBuffer(texCoordData, vertices * 2), FLOAT, vertices, "VEC2", ARRAY_BUFFER, null, null));
+
+		ByteBuffer indexBuffer;
+		int componentType;
+		if (vertices <= 0xFFFF) {
+			indexBuffer = ByteBuffer.allocate(count * 2).order(ByteOrder.LITTLE_ENDIAN);
+			for (int index : indices)
+				indexBuffer.putShort((short) index);
+
+			componentType = UNSIGNED_SHORT;
+		} else {
+			indexBuffer = ByteBuffer.allocate(count * 4).order(ByteOrder.LITTLE_ENDIAN);
+			for (int index : indices)
+				indexBuffer.putInt(index);
+
+			componentType = UNSIGNED_INT;
+		}
+
+		JsonObject primitive = new JsonObject();
+		primitive.add("attributes", attributes);
+		primitive.addProperty("indices", addAccessor(indexBuffer, componentType, count, "SCALAR", ELEMENT_ARRAY_BUFFER, null, null));
+
+		Integer material = getMaterial(triangles.getMaterial());
+		if (material != null)
+			primitive.addProperty("material", material);
+
+		primitives.add(primitive);
+	}
+
+	private Integer getMaterial(String symbol) {
+		if (symbol == null)
+			return null;
+
+		Integer index = materialIndexes.get(symbol);
+		if (index == null && !materialIndexes.containsKey(symbol)) {
+			Material colladaMaterial = colladaMaterials.get(materialTargets.get(symbol));
+			Effect effect = colladaMaterial != null && colladaMaterial.getInstanceEffect() != null ?
+					effects.get(stripFragment(colladaMaterial.getInstanceEffect().getUrl())) : null;
+
+			if (effect != null) {
+				index = materials.size();
+				materials.add(createMaterial(effect));
+			}
+
+			materialIndexes.put(symbol, index);
+		}
+
+		return index;
+	}
+
+	private JsonObject createMaterial(Effect effect) {
+		JsonObject material = new JsonObject();
+		material.addProperty("name", effect.getId());
+
+		JsonObject pbr = new JsonObject();
+		pbr.addProperty("metallicFactor", 0);
+		pbr.addProperty("roughnessFactor", 1);
+		material.add("pbrMetallicRoughness", pbr);
+
+		ProfileCOMMON profile = null;
+		for (JAXBElement<?> element : effect.getFxProfileAbstract()) {
+			if (element.getValue() instanceof ProfileCOMMON)
+				profile = (ProfileCOMMON) element.getValue();
+		}
+
+		if (profile == null || profile.getTechnique() == null || profile.getTechnique().getLambert() == null)
+			return material;
+
+		ProfileCOMMON.Technique.Lambert lambert = profile.getTechnique().getLambert();
+		double[] baseColor = {1, 1, 1, 1};
+
+		// COLLADA transparency values are stored as opacity (A_ONE)
+		if (lambert.getTransparency() != null && lambert.getTransparency().getFloat() != null)
+			baseColor[3] = lambert.getTransparency().getFloat().getValue();
+
+		CommonColorOrTextureType diffuse = lambert.getDiffuse();
+		if (diffuse != null && diffuse.getTexture() != null) {
+			Integer texture = getTexture(diffuse.getTexture().getTexture(), profile);
+			if (texture != null) {
+				JsonObject textureInfo = new JsonObject();
+				textureInfo.addProperty("index", texture);
+				pbr.add("baseColorTexture", textureInfo);
+			}
+		} else if (diffuse != null && diffuse.getColor() != null && diffuse.getColor().getValue().size() >= 3) {
+			for (int i = 0; i < 3; i++)
+				baseColor[i] = diffuse.getColor().getValue().get(i);
+		}
+
+		if (baseColor[0] != 1 || baseColor[1] != 1 || baseColor[2] != 1 || baseColor[3] != 1)
+			pbr.add("baseColorFactor", toJsonArray(baseColor, 4));
+
+		if (baseColor[3] < 1)
+			material.addProperty("alphaMode", "BLEND");
+
+		CommonColorOrTextureType emission = lambert.getEmission();
+		if (emission != null && emission.getColor() != null && emission.getColor().getValue().size() >= 3) {
+			double[] emissive = new double[3];
+			for (int i = 0; i < 3; i++)
+				emissive[i] = emission.getColor().getValue().get(i);
+
+			if (emissive[0] != 0 || emissive[1] != 0 || emissive[2] != 0)
+				material.add("emissiveFactor", toJsonArray(emissive, 3));
+		}
+
+		if (isDoubleSided(profile))
+			material.addProperty("doubleSided", true);
+
+		return material;
+	}
+
+	private Integer getTexture(String samplerId, ProfileCOMMON profile) {
+		Map<String, CommonNewparamType> params = new HashMap<>();
+		for (Object object : profile.getImageOrNewparam()) {
+			if (object instanceof CommonNewparamType)
+				params.put(((CommonNewparamType) object).getSid(), (CommonNewparamType) object);
+		}
+
+		CommonNewparamType sampler = params.get(samplerId);
+		CommonNewparamType surface = sampler != null && sampler.getSampler2D() != null ?
+				params.get(sampler.getSampler2D().getSource()) : null;
+
+		if (surface == null || surface.getSurface() == null)
+			return null;
+
+		for (FxSurfaceInitFromCommon initFrom : surface.getSurface().getInitFrom()) {
+			if (initFrom.getValue() instanceof Image && ((Image) initFrom.getValue()).getInitFrom() != null)
+				return getTextureForImage(((Image) initFrom.getValue()).getInitFrom());
+		}
+
+		return null;
+	}
+
+	private int getTextureForImage(String imageName) {
+		Integer index = textureIndexes.get(imageName);
+		if (index == null) {
+			JsonObject image = new JsonObject();
+			TextureImage textureImage = embeddedImages != null ? embeddedImages.get(imageName) : null;
+			BufferedImage bufferedImage = textureImage != null ? textureImage.getBufferedImage() : null;
+
+			boolean embedded = false;
+			if (bufferedImage != null) {
+				// only PNG and JPEG images are supported by glTF
+				String lowerCaseName = imageName.toLowerCase(Locale.ENGLISH);
+				boolean jpeg = (lowerCaseName.endsWith(".jpg") || lowerCaseName.endsWith(".jpeg"))
+						&& !bufferedImage.getColorModel().hasAlpha();
+
+				try {
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					if (ImageIO.write(bufferedImage, jpeg ? "jpg" : "png", out)) {
+						image.addProperty("bufferView", addBufferView(ByteBuffer.wrap(out.toByteArray()), 0));
+						image.addProperty("mimeType", jpeg ? "image/jpeg" : "image/png");
+						embedded = true;
+					}
+				} catch (IOException e) {
+					//
+				}
+			}
+
+			if (!embedded)
+				image.addProperty("uri", toUri(imageName));
+
+			images.add(image);
+
+			JsonObject texture = new JsonObject();
+			texture.addProperty("source", images.size() - 1);
+			textures.add(texture);
+
+			index = textures.size() - 1;
+			textureIndexes.put(imageName, index);
+		}
+
+		return index;
+	}
+
+	private boolean isDoubleSided(ProfileCOMMON profile) {
+		for (Extra extra : profile.getExtra()) {
+			for (Technique technique : extra.getTechnique()) {
+				for (Object any : technique.getAny()) {
+					if (any instanceof Element
+							&& "double_sided".equals(((Element) any).getLocalName())
+							&& "1".equals(((Element) any).getTextContent()))
+						return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private int addAccessor(ByteBuffer data, int componentType, int count, String type, int target, float[] min, float[] max) {
+		JsonObject accessor = new JsonObject();
+		accessor.addProperty("bufferView", addBufferView(data, target));
+		accessor.addProperty("componentType", componentType);
+		accessor.addProperty("count", count);
+		accessor.addProperty("type", type);
+
+		if (min != null && max != null) {
+			JsonArray minArray = new JsonArray();
+			JsonArray maxArray = new JsonArray();
+			for (int i = 0; i < min.length; i++) {
+				minArray.add(min[i]);
+				maxArray.add(max[i]);
+			}
+
+			accessor.add("min", minArray);
+			accessor.add("max", maxArray);
+		}
+
+		accessors.add(accessor);
+		return accessors.size() - 1;
+	}
+
+	private int addBufferView(ByteBuffer data, int target) {
+		// buffer views are aligned to four bytes
+		while (binary.size() % 4 != 0)
+			binary.write(0);
+
+		JsonObject bufferView = new JsonObject();
+		bufferView.addProperty("buffer", 0);
+		bufferView.addProperty("byteOffset", binary.size());
+		bufferView.addProperty("byteLength", data.limit());
+		if (target != 0)
+			bufferView.addProperty("target", target);
+
+		binary.write(data.array(), 0, data.limit());
+		bufferViews.add(bufferView);
+		return bufferViews.size() - 1;
+	}
+
+	private JsonObject createGltf() {
+		JsonObject gltf = new JsonObject();
+
+		JsonObject asset = new JsonObject();
+		asset.addProperty("version", "2.0");
+		asset.addProperty("generator", generator);
+		gltf.add("asset", asset);
+
+		JsonObject node = new JsonObject();
+		node.addProperty("mesh", 0);
+		JsonArray matrix = new JsonArray();
+		for (int value : Z_UP_TO_Y_UP)
+			matrix.add(value);
+		node.add("matrix", matrix);
+
+		JsonArray nodes = new JsonArray();
+		nodes.add(node);
+
+		JsonArray sceneNodes = new JsonArray();
+		sceneNodes.add(0);
+		JsonObject scene = new JsonObject();
+		scene.add("nodes", sceneNodes);
+		JsonArray scenes = new JsonArray();
+		scenes.add(scene);
+
+		JsonObject mesh = new JsonObject();
+		mesh.add("primitives", primitives);
+		JsonArray meshes = new JsonArray();
+		meshes.add(mesh);
+
+		while (binary.size() % 4 != 0)
+			binary.write(0);
+
+		JsonObject buffer = new JsonObject();
+		buffer.addProperty("byteLength", binary.size());
+		JsonArray buffers = new JsonArray();
+		buffers.add(buffer);
+
+		gltf.addProperty("scene", 0);
+		gltf.add("scenes", scenes);
+		gltf.add("nodes", nodes);
+		gltf.add("meshes", meshes);
+		if (materials.size() > 0)
+			gltf.add("materials", materials);
+		if (textures.size() > 0) {
+			gltf.add("textures", textures);
+			gltf.add("images", images);
+		}
+		gltf.add("accessors", accessors);
+		gltf.add("bufferViews", bufferViews);
+		gltf.add("buffers", buffers);
+
+		return gltf;
+	}
+
+	private void writeGlb(JsonObject gltf, File file) throws IOException {
+		byte[] json = gltf.toString().getBytes(StandardCharsets.UTF_8);
+		int jsonPadding = (4 - json.length % 4) % 4;
+		int jsonLength = json.length + jsonPadding;
+
+		ByteBuffer header = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(GLB_MAGIC);
+		header.putInt(GLB_VERSION);
+		header.putInt(12 + 8 + jsonLength + 8 + binary.size());
+		header.putInt(jsonLength);
+		header.putInt(CHUNK_JSON);
+
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+			out.write(header.array());
+			out.write(json);
+			for (int i = 0; i < jsonPadding; i++)
+				out.write(' ');
+
+			ByteBuffer chunkHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+			chunkHeader.putInt(binary.size());
+			chunkHeader.putInt(CHUNK_BIN);
+			out.write(chunkHeader.array());
+			binary.writeTo(out);
+		}
+	}
+
+	private ByteBuffer toBuffer(float[] values, int length) {
+		ByteBuffer buffer = ByteBuffer.allocate(length * 4).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = 0; i < length; i++)
+			buffer.putFloat(values[i]);
+
+		return buffer;
+	}
+
+	private JsonArray toJsonArray(double[] values, int length) {
+		JsonArray array = new JsonArray();
+		for (int i = 0; i < length; i++)
+			array.add(values[i]);
+
+		return array;
+	}
+
+	private float getValue(List<Double> values, int index) {
+		return index >= 0 && index < values.size() ? values.get(index).floatValue() : 0;
+	}
+
+	private String stripFragment(String reference) {
+		return reference != null && reference.startsWith("#") ? reference.substring(1) : reference;
+	}
+
+	private String toUri(String imageName) {
+		String path = imageName.replace(File.separatorChar, '/');
+		try {
+			return new URI(null, null, path, null).getRawPath();
+		} catch (URISyntaxException e) {
+			return path;
+		}
+	}
+
+	private static final class VertexKey {
+		private final int vertex;
+		private final int normal;
+		private final int texCoord;
+
+		VertexKey(int vertex, int normal, int texCoord) {
+			this.vertex = vertex;
+			this.normal = normal;
+			this.texCoord = texCoord;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof VertexKey))
+				return false;
+
+			VertexKey other = (VertexKey) obj;
+			return vertex == other.vertex && normal == other.normal && texCoord == other.texCoord;
+		}
+
+		@Override
+		public int hashCode() {
+			return (vertex * 31 + normal) * 31 + texCoord;
+		}
+	}
+}
@@ -94,6 +94,9 @@ public class KmlExporterManager {
 	private final String TEMP_FOLDER = "__temp";
 
 	private long implicitId;
+	private Marshaller kmlMarshaller;
+	private Marshaller colladaMarshaller;
+	private GltfWriter gltfWriter;
 
 	public KmlExporterManager(JAXBContext jaxbKmlContext,
 			JAXBContext jaxbColladaContext,
@@ -164,17 +167,36 @@ public class KmlExporterManager {
 		return this.tracker;
 	}
 
+	private Marshaller getKmlMarshaller() throws JAXBException {
+		// the manager is owned by a single export worker, so its marshallers can be reused
+		if (kmlMarshaller == null) {
+			kmlMarshaller = jaxbKmlContext.createMarshaller();
+			if (useTiling && config.getProject().getKmlExporter().isOneFilePerObject()) {
+				kmlMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+			}
+			else {
+				kmlMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+			}
+		}
+
+		return kmlMarshaller;
+	}
+
+	private Marshaller getColladaMarshaller() throws JAXBException {
+		if (colladaMarshaller == null) {
+			colladaMarshaller = jaxbColladaContext.createMarshaller();
+			colladaMarshaller.setProperty(Marshaller.JAXB_ENCODING, ENCODING);
+			colladaMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+		}
+
+		return colladaMarshaller;
+	}
+
 	public void print(List<PlacemarkType> placemarkList,
 			KmlSplittingResult work,
 			boolean balloonInSeparateFile) throws JAXBException {
 		SAXEventBuffer buffer = new SAXEventBuffer();
-		Marshaller kmlMarshaller = jaxbKmlContext.createMarshaller();
-		if (useTiling && config.getProject().getKmlExporter().isOneFilePerObject()) {
-			kmlMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-		}
-		else {
-			kmlMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
-		}
+		Marshaller kmlMarshaller = getKmlMarshaller();
 
 		// all placemarks in this list belong together (same gmlid),
 		// so the balloon must be extracted only once.
@@ -386,17 +408,8 @@ public class KmlExporterManager {
 		OutputStreamWriter fileWriter = null;
 		SAXEventBuffer buffer = new SAXEventBuffer();
 
-		Marshaller kmlMarshaller = jaxbKmlContext.createMarshaller();
-		if (useTiling && config.getProject().getKmlExporter().isOneFilePerObject()) {
-			kmlMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-		}
-		else {
-			kmlMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
-		}
-
-		Marshaller colladaMarshaller = jaxbColladaContext.createMarshaller();
-		colladaMarshaller.setProperty(Marshaller.JAXB_ENCODING, ENCODING);
-		colladaMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+		Marshaller kmlMarshaller = getKmlMarshaller();
+		Marshaller colladaMarshaller = getColladaMarshaller();
 
 		PlacemarkType placemark = colladaBundle.getPlacemark();
 		String path = tracker.getCurrentWorkingDirectoryPath();
@@ -578,18 +591,28 @@ public class KmlExporterManager {
 				buildingDirectory.mkdir();
 			}
 
+			// the native glTF writer only supports glTF 2.0 and works on the in-memory COLLADA model
+			boolean exportGltfV1 = config.getProject().getKmlExporter().isExportGltfV1();
+			boolean createGltf = config.getProject().getKmlExporter().isCreateGltfModel();
+			boolean useGltfWriter = createGltf && !exportGltfV1 && config.getProject().getKmlExporter().isUseNativeGltfWriter();
+			boolean embedTextures = config.getProject().getKmlExporter().isEmbedTexturesInGltfFiles();
+			boolean writeCollada = !useGltfWriter || !config.getProject().getKmlExporter().isNotCreateColladaFiles();
+
 			// ----------------- model saving -----------------
 			File colladaModelFile = new File(buildingDirectory, colladaBundle.getGmlId() + ".dae");
-			File gltfModelFile = new File(buildingDirectory, colladaBundle.getGmlId() + ".gltf");
-			FileOutputStream fos = new FileOutputStream(colladaModelFile);
-			colladaMarshaller.marshal(colladaBundle.getCollada(), fos);
-			fos.close();
+			if (writeCollada) {
+				FileOutputStream fos = new FileOutputStream(colladaModelFile);
+				colladaMarshaller.marshal(colladaBundle.getCollada(), fos);
+				fos.close();
+			}
 
-			// ----------------- create glTF without embedded textures-----------------
-			boolean exportGltfV1 = config.getProject().getKmlExporter().isExportGltfV1();
-			if (config.getProject().getKmlExporter().isCreateGltfModel() && !config.getProject().getKmlExporter().isEmbedTexturesInGltfFiles()) {
+			// ----------------- create glTF (natively or without embedded textures)-----------------
+			if (useGltfWriter) {
+				writeGltf(colladaBundle, buildingDirectory, embedTextures);
+			} else if (createGltf && !embedTextures) {
+				File gltfModelFile = new File(buildingDirectory, colladaBundle.getGmlId() + ".gltf");
 				convertColladaToglTF(colladaBundle, buildingDirectory, colladaModelFile, gltfModelFile, exportGltfV1);
-			}	        
+			}
 
 			// ----------------- image saving -----------------
 			if (colladaBundle.getUnsupportedTexImageIds() != null) {
@@ -602,7 +625,8 @@ public class KmlExporterManager {
 				}
 			}
 
-			if (colladaBundle.getTexImages() != null) {
+			// images embedded in the glTF model are only needed on disk for the COLLADA model
+			if (colladaBundle.getTexImages() != null && (writeCollada || !embedTextures)) {
 				Set<String> keySet = colladaBundle.getTexImages().keySet();
 				Iterator<String> iterator = keySet.iterator();
 				while (iterator.hasNext()) {
@@ -617,7 +641,8 @@ public class KmlExporterManager {
 			}
 
 			// ----------------- create glTF with embedded textures-----------------
-			if (config.getProject().getKmlExporter().isCreateGltfModel() && config.getProject().getKmlExporter().isEmbedTexturesInGltfFiles()) {
+			if (!useGltfWriter && createGltf && embedTextures) {
+				File gltfModelFile = new File(buildingDirectory, colladaBundle.getGmlId() + ".gltf");
 				convertColladaToglTF(colladaBundle, buildingDirectory, colladaModelFile, gltfModelFile, exportGltfV1);
 				if (config.getProject().getKmlExporter().isNotCreateColladaFiles() && gltfModelFile.exists()) {
 					Set<String> keySet = colladaBundle.getTexImages().keySet();
@@ -650,6 +675,19 @@ public class KmlExporterManager {
 		}
 	}
 
+	private void writeGltf(ColladaBundle colladaBundle, File buildingDirectory, boolean embedTextures) {
+		File gltfModelFile = new File(buildingDirectory, colladaBundle.getGmlId() + ".glb");
+		try {
+			if (gltfWriter == null)
+				gltfWriter = new GltfWriter();
+
+			if (!gltfWriter.write(colladaBundle.getCollada(), gltfModelFile, embedTextures ? colladaBundle.getTexImages() : null))
+				log.warn("No glTF model could be created for city object '" + colladaBundle.getGmlId() + "'.");
+		} catch (IOException e) {
+			log.warn("Failed to write glTF model for city object '" + colladaBundle.getGmlId() + "' to '" + gltfModelFile.getAbsolutePath() + "': " + e.getMessage());
+		}
+	}
+
 	private void convertColladaToglTF(ColladaBundle colladaBundle, File buildingDirectory, File colladaModelFile, File gltfModelFile, boolean exportGltfV1) {
 		String collada2gltfPath = config.getProject().getKmlExporter().getPathOfGltfConverter();
 		File collada2gltfFile = new File(ClientConstants.IMPEXP_HOME.resolve(collada2gltfPath).toString());
@@ -144,6 +144,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 
@@ -155,7 +156,7 @@ public abstract class KmlGenericObject {
 	private final String NO_TEXIMAGE = "default";
 
 	private HashMap<Long, SurfaceInfo> surfaceInfos = new HashMap<Long, SurfaceInfo>();
-	private NodeZ coordinateTree;
+	private VertexGrid vertexGrid = new VertexGrid(TOLERANCE);
 
 	// key is surfaceId, surfaceId is originally a Long, here we use an Object for compatibility with the textureAtlasAPI
 	private HashMap<Object, String> texImageUris = new HashMap<Object, String>();
@@ -169,7 +170,7 @@ public abstract class KmlGenericObject {
 
 	private long id;
 	private String gmlId;
-	private BigInteger vertexIdCounter = new BigInteger("-1");
+	private long vertexIdCounter = 0;
 	protected VertexInfo firstVertexInfo = null;
 	private VertexInfo lastVertexInfo = null;
 
@@ -748,7 +749,7 @@ public abstract class KmlGenericObject {
 			// the vertex arrays in the collada file
 			for (int i = 0; i < indexes.length; i++) {				
 				VertexInfo vertexInfo = vertexInfos.get(indexes[i]);
-				triangles.getP().add(vertexInfo.getVertexId());
+				triangles.getP().add(BigInteger.valueOf(vertexInfo.getVertexId()));
 
 				if (getColladaOptions().isGenerateSurfaceNormals())
 					triangles.getP().add(BigInteger.valueOf(normalIndexes[i] + normalIndexOffset));
@@ -935,84 +936,20 @@ public abstract class KmlGenericObject {
 	}
 
 	protected VertexInfo setVertexInfoForXYZ(long surfaceId, double x, double y, double z){
-		vertexIdCounter = vertexIdCounter.add(BigInteger.ONE);
-		VertexInfo vertexInfo = new VertexInfo(vertexIdCounter, x, y, z);
-		NodeZ nodeToInsert = new NodeZ(z, new NodeY(y, new NodeX(x, vertexInfo)));
-		if (coordinateTree == null) {
-			coordinateTree =  nodeToInsert;
-			firstVertexInfo = vertexInfo;
-			lastVertexInfo = vertexInfo;
-		}
-		else {
-			Node node = insertNode(coordinateTree, nodeToInsert);
-			if (node.value instanceof VertexInfo)
-				vertexInfo = (VertexInfo)node.value;
-		}
-
-		return vertexInfo;
-	}
-
-	private Node insertNode(Node currentBasis, Node nodeToInsert) {
-		int compareKeysResult = compareKeys(nodeToInsert.key, currentBasis.key, TOLERANCE);
-		if (compareKeysResult > 0) {
-			if (currentBasis.rightArc == null){
-				currentBasis.setRightArc(nodeToInsert);
-				linkCurrentVertexInfoToLastVertexInfo(nodeToInsert);
-				return nodeToInsert;
-			}
-			else {
-				return insertNode(currentBasis.rightArc, nodeToInsert);
-			}
-		}
-		else if (compareKeysResult < 0) {
-			if (currentBasis.leftArc == null){
-				currentBasis.setLeftArc(nodeToInsert);
-				linkCurrentVertexInfoToLastVertexInfo(nodeToInsert);
-				return nodeToInsert;
-			}
-			else {
-				return insertNode(currentBasis.leftArc, nodeToInsert);
-			}
-		}
-		else {
-			return replaceOrAddValue(currentBasis, nodeToInsert);
-		}
-	}
+		VertexInfo vertexInfo = vertexGrid.get(x, y, z);
+		if (vertexInfo == null) {
+			vertexInfo = new VertexInfo(vertexIdCounter++, x, y, z);
+			vertexGrid.add(vertexInfo);
 
-	private Node replaceOrAddValue(Node currentBasis, Node nodeToInsert) {
-		if (nodeToInsert.value instanceof VertexInfo) {
-			VertexInfo vertexInfoToInsert = (VertexInfo)nodeToInsert.value;
-			if (currentBasis.value == null) { // no vertexInfo yet for this point
-				currentBasis.value = nodeToInsert.value;
-				linkCurrentVertexInfoToLastVertexInfo(vertexInfoToInsert);
-			} else
-				vertexIdCounter = vertexIdCounter.subtract(BigInteger.ONE);
+			if (firstVertexInfo == null)
+				firstVertexInfo = vertexInfo;
+			else
+				lastVertexInfo.setNextVertexInfo(vertexInfo);
 
-			return currentBasis;
-		}
-		else { // Node
-			return insertNode((Node)currentBasis.value, (Node)nodeToInsert.value);
-		}
-	}
-
-	private void linkCurrentVertexInfoToLastVertexInfo (Node node) {
-		while (!(node.value instanceof VertexInfo)) {
-			node = (Node)node.value;
+			lastVertexInfo = vertexInfo;
 		}
-		linkCurrentVertexInfoToLastVertexInfo((VertexInfo)node.value);
-	}
 
-	private void linkCurrentVertexInfoToLastVertexInfo (VertexInfo currentVertexInfo) {
-		lastVertexInfo.setNextVertexInfo(currentVertexInfo);
-		lastVertexInfo = currentVertexInfo;
-	}
-
-	private int compareKeys (double key1, double key2, double tolerance){
-		int result = 0;
-		if (Math.abs(key1 - key2) > tolerance) {
-			result = key1 > key2 ? 1 : -1;
-		}
-		return result;
+		return vertexInfo;
 	}
 
 	public void appendObject (KmlGenericObject objectToAppend) {
@@ -1188,28 +1125,32 @@ public abstract class KmlGenericObject {
 		tiInfo.setTexImageURIs(texImageUris);
 		tiInfo.setTexImages(texImages);
 
-		// texture coordinates
-		HashMap<Object, String> tiInfoCoords = new HashMap<Object, String>();
-
-		Set<Object> sgIdSet = texImageUris.keySet();
-		Iterator<Object> sgIdIterator = sgIdSet.iterator();
-		while (sgIdIterator.hasNext()) {
-			Long sgId = (Long) sgIdIterator.next();
-			VertexInfo vertexInfoIterator = firstVertexInfo;
-			while (vertexInfoIterator != null) {
-				if (vertexInfoIterator.getAllTexCoords() != null &&
-						vertexInfoIterator.getAllTexCoords().containsKey(sgId)) {
-					double s = vertexInfoIterator.getTexCoords(sgId).getS();
-					double t = vertexInfoIterator.getTexCoords(sgId).getT();
-					String tiInfoCoordsForSgId = tiInfoCoords.get(sgId);
-					tiInfoCoordsForSgId = (tiInfoCoordsForSgId == null) ?
-							"" :
-								tiInfoCoordsForSgId + " ";	
-					tiInfoCoords.put(sgId, tiInfoCoordsForSgId + String.valueOf(s) + " " + String.valueOf(t));
+		// collect the texture coordinates of all surfaces in a single pass over the vertices
+		HashMap<Object, List<TexCoords>> texCoordsBySurface = new HashMap<Object, List<TexCoords>>();
+		VertexInfo vertexInfoIterator = firstVertexInfo;
+		while (vertexInfoIterator != null) {
+			HashMap<Long, TexCoords> allTexCoords = vertexInfoIterator.getAllTexCoords();
+			if (allTexCoords != null) {
+				for (Map.Entry<Long, TexCoords> entry : allTexCoords.entrySet()) {
+					if (texImageUris.containsKey(entry.getKey()))
+						texCoordsBySurface.computeIfAbsent(entry.getKey(), k -> new ArrayList<TexCoords>()).add(entry.getValue());
 				}
-				vertexInfoIterator = vertexInfoIterator.getNextVertexInfo();
 			}
-		} 
+			vertexInfoIterator = vertexInfoIterator.getNextVertexInfo();
+		}
+
+		// the texture atlas API exchanges texture coordinates as space-separated strings
+		HashMap<Object, String> tiInfoCoords = new HashMap<Object, String>();
+		for (Map.Entry<Object, List<TexCoords>> entry : texCoordsBySurface.entrySet()) {
+			List<TexCoords> texCoordsList = entry.getValue();
+			StringBuilder builder = new StringBuilder(texCoordsList.size() * 40);
+			for (TexCoords texCoords : texCoordsList) {
+				if (builder.length() > 0)
+					builder.append(' ');
+				builder.append(texCoords.getS()).append(' ').append(texCoords.getT());
+			}
+			tiInfoCoords.put(entry.getKey(), builder.toString());
+		}
 
 		tiInfo.setTexCoordinates(tiInfoCoords);
 
@@ -1219,21 +1160,27 @@ public abstract class KmlGenericObject {
 		// create texture atlases
 		taCreator.convert(tiInfo, packingAlgorithm);
 
-		sgIdIterator = sgIdSet.iterator();
-		while (sgIdIterator.hasNext()) {
-			Long sgId = (Long) sgIdIterator.next();
-			StringTokenizer texCoordsTokenized = new StringTokenizer(tiInfoCoords.get(sgId), " ");
-			VertexInfo vertexInfoIterator = firstVertexInfo;
-			while (texCoordsTokenized.hasMoreElements() &&
-					vertexInfoIterator != null) {
-				if (vertexInfoIterator.getAllTexCoords() != null && 
-						vertexInfoIterator.getAllTexCoords().containsKey(sgId)) {
-					vertexInfoIterator.getTexCoords(sgId).setS(Double.parseDouble(texCoordsTokenized.nextToken()));
-					vertexInfoIterator.getTexCoords(sgId).setT(Double.parseDouble(texCoordsTokenized.nextToken()));
-				}
-				vertexInfoIterator = vertexInfoIterator.getNextVertexInfo();
+		for (Map.Entry<Object, List<TexCoords>> entry : texCoordsBySurface.entrySet()) {
+			String coords = tiInfoCoords.get(entry.getKey());
+			if (coords == null)
+				continue;
+
+			int pos = 0;
+			for (TexCoords texCoords : entry.getValue()) {
+				int end = coords.indexOf(' ', pos);
+				if (end == -1)
+					break;
+				texCoords.setS(Double.parseDouble(coords.substring(pos, end)));
+
+				pos = end + 1;
+				end = coords.indexOf(' ', pos);
+				texCoords.setT(Double.parseDouble(end == -1 ? coords.substring(pos) : coords.substring(pos, end)));
+
+				if (end == -1)
+					break;
+				pos = end + 1;
 			}
-		} 
+		}
 	}	
 
 	public void resizeAllImagesByFactor (double factor) throws SQLException, IOException {
@@ -2317,7 +2264,6 @@ public abstract class KmlGenericObject {
 				}
 			case FILE :
 				if (getBalloonTemplateHandler() != null) {
-					getBalloonTemplateHandler().getBalloonContent(id, currentLod, connection, schemaName);
 					placemark.setDescription(getBalloonTemplateHandler().getBalloonContent(id, currentLod, connection, schemaName));
 				}
 				break;
@@ -2570,50 +2516,6 @@ public abstract class KmlGenericObject {
 		return convertedGeomObj;
 	}
 
-	protected class Node{
-		double key;
-		Object value;
-		Node rightArc;
-		Node leftArc;
-
-		protected Node(double key, Object value){
-			this.key = key;
-			this.value = value;
-		}
-
-		protected void setLeftArc(Node leftArc) {
-			this.leftArc = leftArc;
-		}
-
-		protected Node getLeftArc() {
-			return leftArc;
-		}
-
-		protected void setRightArc (Node rightArc) {
-			this.rightArc = rightArc;
-		}
-
-		protected Node getRightArc() {
-			return rightArc;
-		}
-	}
-
-	protected class NodeX extends Node{
-		protected NodeX(double key, Object value){
-			super(key, value);
-		}
-	}
-	protected class NodeY extends Node{
-		protected NodeY(double key, Object value){
-			super(key, value);
-		}
-	}
-	protected class NodeZ extends Node{
-		protected NodeZ(double key, Object value){
-			super(key, value);
-		}
-	}
-
 	protected int getParameterCount(String query) {
 		// due to a bug in the Oracle JDBC driver, we cannot use getParameterMetaData().getParameterCount() to
 		// get the number of parameters in a prepared statement having a long query string...
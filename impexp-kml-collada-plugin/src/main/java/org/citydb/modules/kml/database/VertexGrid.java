@@ -0,0 +1,167 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.modules.kml.database;
+
+import java.util.Arrays;
+
+class VertexGrid {
+	private static final int EMPTY = -1;
+
+	private final double tolerance;
+	private final double cellSize;
+
+	// vertex storage
+	private double[] coords = new double[3 * 256];
+	private VertexInfo[] vertices = new VertexInfo[256];
+	private int[] nextInCell = new int[256];
+	private int size;
+
+	// open addressing table mapping grid cells to the last vertex in the cell
+	private long[] cellKeys = new long[3 * 512];
+	private int[] cellHeads = new int[512];
+	private int cells;
+
+	VertexGrid(double tolerance) {
+		this.tolerance = tolerance;
+		// with cells much larger than the tolerance, most lookups stay within a single cell.
+		// a cell of twice the tolerance would make every lookup probe eight cells
+		cellSize = 16 * tolerance;
+		Arrays.fill(cellHeads, EMPTY);
+	}
+
+	int size() {
+		return size;
+	}
+
+	VertexInfo get(double x, double y, double z) {
+		if (size == 0)
+			return null;
+
+		// a cell is larger than twice the tolerance, so at most two cells per axis must be checked
+		long minX = cell(x - tolerance), maxX = cell(x + tolerance);
+		long minY = cell(y - tolerance), maxY = cell(y + tolerance);
+		long minZ = cell(z - tolerance), maxZ = cell(z + tolerance);
+
+		// prefer the earliest vertex within tolerance to keep vertex ids stable
+		int match = Integer.MAX_VALUE;
+		for (long cx = minX; cx <= maxX; cx++) {
+			for (long cy = minY; cy <= maxY; cy++) {
+				for (long cz = minZ; cz <= maxZ; cz++) {
+					int slot = findSlot(cx, cy, cz);
+					for (int i = cellHeads[slot]; i != EMPTY; i = nextInCell[i]) {
+						if (i < match
+								&& Math.abs(coords[3 * i] - x) <= tolerance
+								&& Math.abs(coords[3 * i + 1] - y) <= tolerance
+								&& Math.abs(coords[3 * i + 2] - z) <= tolerance)
+							match = i;
+					}
+				}
+			}
+		}
+
+		return match != Integer.MAX_VALUE ? vertices[match] : null;
+	}
+
+	void add(VertexInfo vertexInfo) {
+		if (size == vertices.length) {
+			int capacity = size << 1;
+			coords = Arrays.copyOf(coords, 3 * capacity);
+			vertices = Arrays.copyOf(vertices, capacity);
+			nextInCell = Arrays.copyOf(nextInCell, capacity);
+		}
+
+		int index = size++;
+		coords[3 * index] = vertexInfo.getX();
+		coords[3 * index + 1] = vertexInfo.getY();
+		coords[3 * index + 2] = vertexInfo.getZ();
+		vertices[index] = vertexInfo;
+
+		long cx = cell(vertexInfo.getX());
+		long cy = cell(vertexInfo.getY());
+		long cz = cell(vertexInfo.getZ());
+
+		int slot = findSlot(cx, cy, cz);
+		if (cellHeads[slot] == EMPTY) {
+			cellKeys[3 * slot] = cx;
+			cellKeys[3 * slot + 1] = cy;
+			cellKeys[3 * slot + 2] = cz;
+
+			if (++cells > cellHeads.length >> 1) {
+				nextInCell[index] = EMPTY;
+				cellHeads[slot] = index;
+				rehash();
+				return;
+			}
+		}
+
+		nextInCell[index] = cellHeads[slot];
+		cellHeads[slot] = index;
+	}
+
+	private long cell(double value) {
+		return (long) Math.floor(value / cellSize);
+	}
+
+	private int findSlot(long cx, long cy, long cz) {
+		int mask = cellHeads.length - 1;
+		int slot = hash(cx, cy, cz) & mask;
+
+		while (cellHeads[slot] != EMPTY
+				&& (cellKeys[3 * slot] != cx || cellKeys[3 * slot + 1] != cy || cellKeys[3 * slot + 2] != cz))
+			slot = (slot + 1) & mask;
+
+		return slot;
+	}
+
+	private int hash(long cx, long cy, long cz) {
+		long h = cx * 0x9E3779B97F4A7C15L;
+		h = (h ^ cy) * 0xC2B2AE3D27D4EB4FL;
+		h = (h ^ cz) * 0x165667B19E3779F9L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private void rehash() {
+		long[] oldKeys = cellKeys;
+		int[] oldHeads = cellHeads;
+
+		cellKeys = new long[oldKeys.length << 1];
+		cellHeads = new int[oldHeads.length << 1];
+		Arrays.fill(cellHeads, EMPTY);
+
+		for (int i = 0; i < oldHeads.length; i++) {
+			if (oldHeads[i] != EMPTY) {
+				long cx = oldKeys[3 * i], cy = oldKeys[3 * i + 1], cz = oldKeys[3 * i + 2];
+				int slot = findSlot(cx, cy, cz);
+				cellKeys[3 * slot] = cx;
+				cellKeys[3 * slot + 1] = cy;
+				cellKeys[3 * slot + 2] = cz;
+				cellHeads[slot] = oldHeads[i];
+			}
+		}
+	}
+}
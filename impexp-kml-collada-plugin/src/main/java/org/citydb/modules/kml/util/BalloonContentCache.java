@@ -0,0 +1,91 @@
+/*
+ * 3D City Database - The Open Source CityGML Database
+ * http://www.3dcitydb.org/
+ *
+ * Copyright 2013 - 2019
+ * Chair of Geoinformatics
+ * Technical University of Munich, Germany
+ * https://www.gis.bgu.tum.de/
+ *
+ * The 3D City Database is jointly developed with the following
+ * cooperation partners:
+ *
+ * virtualcitySYSTEMS GmbH, Berlin <http://www.virtualcitysystems.de/>
+ * M.O.S.S. Computer Grafik Systeme GmbH, Taufkirchen <http://www.moss.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.citydb.modules.kml.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+public class BalloonContentCache {
+	private static final int DEFAULT_CAPACITY = 5000;
+
+	private final LinkedHashMap<Key, String> contents;
+
+	public BalloonContentCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public BalloonContentCache(int capacity) {
+		contents = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Entry<Key, String> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	public synchronized String get(String template, long id, int lod) {
+		return contents.get(new Key(template, id, lod));
+	}
+
+	public synchronized void put(String template, long id, int lod, String balloonContent) {
+		contents.put(new Key(template, id, lod), balloonContent);
+	}
+
+	public synchronized void clear() {
+		contents.clear();
+	}
+
+	private static final class Key {
+		private final String template;
+		private final long id;
+		private final int lod;
+
+		Key(String template, long id, int lod) {
+			this.template = template;
+			this.id = id;
+			this.lod = lod;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * Objects.hashCode(template) + Long.hashCode(id)) + lod;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+
+			Key other = (Key) obj;
+			return id == other.id && lod == other.lod && Objects.equals(template, other.template);
+		}
+	}
+}
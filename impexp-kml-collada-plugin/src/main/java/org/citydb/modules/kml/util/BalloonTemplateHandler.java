@@ -44,9 +44,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
 
@@ -1123,19 +1126,37 @@ public class BalloonTemplateHandler {
 			"  </body>\n" +
 			"</html>";
 
+	public static final int BATCH_SIZE = 20;
+	private static final int MAX_PREPARED_STATEMENTS = 256;
+
 	private final AbstractDatabaseAdapter databaseAdapter;
 	private CityGMLClass cityGMLClassForBalloonHandler = null;
+	private int lodForBalloonHandler = -1;
+
+	private final HashMap<String, PreparedStatement> preparedStatements = new HashMap<String, PreparedStatement>();
+	private Connection preparedStatementConnection = null;
+
+	private final BalloonContentCache balloonContentCache;
+	private final String templateKey;
 
 	List<BalloonStatement> statementList = null;
 	List<String> htmlChunkList = null;
 
-	public BalloonTemplateHandler(File templateFile, AbstractDatabaseAdapter databaseAdapter) {
+	public BalloonTemplateHandler(File templateFile, AbstractDatabaseAdapter databaseAdapter, BalloonContentCache balloonContentCache) {
 		this.databaseAdapter = databaseAdapter;
+		this.balloonContentCache = balloonContentCache;
+		templateKey = templateFile != null ? templateFile.getAbsolutePath() : null;
 		setTemplate(templateFile);
 	}
 
+	public BalloonTemplateHandler(File templateFile, AbstractDatabaseAdapter databaseAdapter) {
+		this(templateFile, databaseAdapter, new BalloonContentCache());
+	}
+
 	public BalloonTemplateHandler(String templateString, AbstractDatabaseAdapter databaseAdapter) {
 		this.databaseAdapter = databaseAdapter;
+		balloonContentCache = new BalloonContentCache();
+		templateKey = templateString;
 		setTemplate(templateString);
 	}
 
@@ -1195,11 +1216,13 @@ public class BalloonTemplateHandler {
 		String balloonContent = "";
 		List<BalloonStatement> statementListBackup = statementList;
 		List<String> htmlChunkListBackup = htmlChunkList;
+		CityGMLClass cityGMLClassBackup = cityGMLClassForBalloonHandler;
+		int lodBackup = lodForBalloonHandler;
 		statementList = new ArrayList<BalloonStatement>();
 		htmlChunkList = new ArrayList<String>();
 		try {
 			fillStatementAndHtmlChunkList(template);
-			balloonContent = getBalloonContent(id, lod, connection, schemaName);
+			balloonContent = getBalloonContent(id, getCityGMLClass(id, connection, schemaName), lod, connection, schemaName);
 		}
 		catch (Exception e) {
 			log.warn("Following message applies to generic attribute 'Balloon_Content' for cityobject with id = " + id);
@@ -1207,6 +1230,8 @@ public class BalloonTemplateHandler {
 		}
 		statementList = statementListBackup;
 		htmlChunkList = htmlChunkListBackup;
+		cityGMLClassForBalloonHandler = cityGMLClassBackup;
+		lodForBalloonHandler = lodBackup;
 		return balloonContent;
 	}
 
@@ -1217,129 +1242,244 @@ public class BalloonTemplateHandler {
 		if (schemaName == null)
 			schemaName = databaseAdapter.getSchemaManager().getDefaultSchema();
 
-		StringBuilder balloonContent = new StringBuilder();
+		CityGMLClass cityObjectTypeForGmlId = null;
+		long id = -1;
 
-		if (statementList != null) {
-			// when properly initialized this happens only at the first object
-			// otherwise it avoids problems from lousy initialization of BalloonTemplateHandlers in threads
-			// at the cost of performance
+		ResultSet rs = null;
+		try {
+			PreparedStatement query = getPreparedStatement(new StringBuilder("SELECT id, objectclass_id FROM ").append(schemaName).append(".CITYOBJECT WHERE gmlid = ?").toString(), connection);
+			query.setString(1, gmlId);
+			rs = query.executeQuery();
 
-			CityGMLClass cityObjectTypeForGmlId = null;
-			long id = -1;
+			if (rs.next()) {
+				cityObjectTypeForGmlId = Util.getCityGMLClass(rs.getInt("objectclass_id"));
+				id = rs.getLong("id");
+			}
+		}
+		catch (SQLException sqlEx) {}
+		finally {
+			if (rs != null) {
+				try { rs.close(); }	catch (SQLException sqlEx) {}
+				rs = null;
+			}
+		}
 
-			ResultSet rs = null;
-			PreparedStatement query = null;
-			try {
-				query = connection.prepareStatement(new StringBuilder("SELECT id, objectclass_id FROM ").append(schemaName).append(".CITYOBJECT WHERE gmlid = ?").toString());
-				query.setString(1, gmlId);
-				rs = query.executeQuery();
+		return getCachedBalloonContent(id, cityObjectTypeForGmlId, lod, connection, schemaName);
+	}
 
-				if (rs.next()) {
-					cityObjectTypeForGmlId = Util.getCityGMLClass(rs.getInt("objectclass_id"));
-					id = rs.getLong("id");
-				}
-			}
-			catch (SQLException sqlEx) {}
-			finally {
-				if (rs != null) {
-					try { rs.close(); }	catch (SQLException sqlEx) {}
-					rs = null;
-				}
+	public String getBalloonContent(long id, int lod, Connection connection, String schemaName) throws Exception {
+		if (connection == null) throw new SQLException("Null or invalid connection");
+		if (statementList == null && htmlChunkList == null) throw new Exception("Invalid template file");
 
-				if (query != null) {
-					try { query.close(); } catch (SQLException sqlEx) {}
-					query = null;
-				}
-			}
+		if (schemaName == null)
+			schemaName = databaseAdapter.getSchemaManager().getDefaultSchema();
+
+		String balloonContent = balloonContentCache.get(templateKey, id, lod);
+		if (balloonContent != null)
+			return balloonContent;
 
-			if (cityGMLClassForBalloonHandler != cityObjectTypeForGmlId) {
-				for (BalloonStatement statement: statementList) {
-					statement.setConversionTried(false);
+		return getCachedBalloonContent(id, getCityGMLClass(id, connection, schemaName), lod, connection, schemaName);
+	}
+
+	public Map<Long, String> getBalloonContents(List<Long> ids, int lod, Connection connection, String schemaName) throws Exception {
+		if (connection == null) throw new SQLException("Null or invalid connection");
+		if (statementList == null && htmlChunkList == null) throw new Exception("Invalid template file");
+
+		if (schemaName == null)
+			schemaName = databaseAdapter.getSchemaManager().getDefaultSchema();
+
+		Map<Long, String> balloonContents = new LinkedHashMap<Long, String>();
+		Set<Long> uncachedIdSet = new LinkedHashSet<Long>();
+		for (Long id : ids) {
+			String balloonContent = balloonContentCache.get(templateKey, id, lod);
+			if (balloonContent != null)
+				balloonContents.put(id, balloonContent);
+			else
+				uncachedIdSet.add(id);
+		}
+
+		List<Long> uncachedIds = new ArrayList<Long>(uncachedIdSet);
+		for (int i = 0; i < uncachedIds.size(); i += BATCH_SIZE) {
+			List<Long> batch = uncachedIds.subList(i, Math.min(i + BATCH_SIZE, uncachedIds.size()));
+
+			// evaluate the objects grouped by their class so that the statements of the
+			// template are only converted once per class
+			for (Entry<CityGMLClass, List<Long>> entry : getCityGMLClasses(batch, connection, schemaName).entrySet()) {
+				List<Long> classIds = entry.getValue();
+				List<String> classBalloonContents = getBalloonContents(classIds, entry.getKey(), lod, connection, schemaName);
+				for (int j = 0; j < classIds.size(); j++) {
+					balloonContentCache.put(templateKey, classIds.get(j), lod, classBalloonContents.get(j));
+					balloonContents.put(classIds.get(j), classBalloonContents.get(j));
 				}
-				cityGMLClassForBalloonHandler = cityObjectTypeForGmlId;
 			}
+		}
+
+		return balloonContents;
+	}
 
-			List<String> resultList = new ArrayList<String>();
+	public void close() {
+		closePreparedStatements();
+		preparedStatementConnection = null;
+	}
+
+	private String getCachedBalloonContent(long id, CityGMLClass cityObjectType, int lod, Connection connection, String schemaName) {
+		String balloonContent = balloonContentCache.get(templateKey, id, lod);
+		if (balloonContent == null) {
+			balloonContent = getBalloonContent(id, cityObjectType, lod, connection, schemaName);
+			balloonContentCache.put(templateKey, id, lod, balloonContent);
+		}
+
+		return balloonContent;
+	}
+
+	private String getBalloonContent(long id, CityGMLClass cityObjectType, int lod, Connection connection, String schemaName) {
+		if (statementList == null)
+			return "";
+
+		setCityGMLClassAndLod(cityObjectType, lod);
+
+		List<String> resultList = new ArrayList<String>();
+		for (BalloonStatement statement: statementList) {
+			resultList.add(executeStatement(statement, id, lod, connection, schemaName));
+		}
+
+		return getBalloonContent(resultList);
+	}
+
+	private List<String> getBalloonContents(List<Long> ids, CityGMLClass cityObjectType, int lod, Connection connection, String schemaName) {
+		List<String> balloonContents = new ArrayList<String>(ids.size());
+		if (statementList == null) {
+			balloonContents.addAll(Collections.nCopies(ids.size(), ""));
+			return balloonContents;
+		}
+
+		setCityGMLClassAndLod(cityObjectType, lod);
+
+		List<List<String>> statementResults = new ArrayList<List<String>>();
+		for (BalloonStatement statement: statementList) {
+			statementResults.add(executeStatement(statement, ids, lod, connection, schemaName));
+		}
+
+		for (int i = 0; i < ids.size(); i++) {
+			List<String> resultList = new ArrayList<String>(statementResults.size());
+			for (List<String> results : statementResults)
+				resultList.add(results.get(i));
+
+			balloonContents.add(getBalloonContent(resultList));
+		}
+
+		return balloonContents;
+	}
+
+	private void setCityGMLClassAndLod(CityGMLClass cityObjectType, int lod) {
+		if (cityGMLClassForBalloonHandler != cityObjectType || lodForBalloonHandler != lod) {
 			for (BalloonStatement statement: statementList) {
-				resultList.add(executeStatement(statement, id, lod, connection, schemaName));
+				statement.setProperSQLStatement(null);
+				statement.setConversionTried(false);
 			}
+			cityGMLClassForBalloonHandler = cityObjectType;
+			lodForBalloonHandler = lod;
+		}
+	}
 
-			Iterator<String> htmlChunkIterator = htmlChunkList.iterator();
-			Iterator<String> resultIterator = resultList.iterator();
+	private String getBalloonContent(List<String> resultList) {
+		StringBuilder balloonContent = new StringBuilder();
+		Iterator<String> htmlChunkIterator = htmlChunkList.iterator();
+		Iterator<String> resultIterator = resultList.iterator();
 
-			while (htmlChunkIterator.hasNext()) {
-				balloonContent.append(htmlChunkIterator.next());
-				if (resultIterator.hasNext()) {
-					balloonContent.append(resultIterator.next());
-				}
+		while (htmlChunkIterator.hasNext()) {
+			balloonContent.append(htmlChunkIterator.next());
+			if (resultIterator.hasNext()) {
+				balloonContent.append(resultIterator.next());
 			}
 		}
+
 		return balloonContent.toString();
 	}
 
-	public String getBalloonContent(long id, int lod, Connection connection, String schemaName) throws Exception {
-		if (connection == null) throw new SQLException("Null or invalid connection");
-		if (statementList == null && htmlChunkList == null) throw new Exception("Invalid template file");
+	private CityGMLClass getCityGMLClass(long id, Connection connection, String schemaName) {
+		CityGMLClass cityObjectTypeForId = null;
 
-		if (schemaName == null)
-			schemaName = databaseAdapter.getSchemaManager().getDefaultSchema();
+		ResultSet rs = null;
+		try {
+			PreparedStatement query = getPreparedStatement(new StringBuilder("SELECT gmlid, objectclass_id FROM ").append(schemaName).append(".CITYOBJECT WHERE id = ?").toString(), connection);
+			query.setLong(1, id);
+			rs = query.executeQuery();
 
-		StringBuilder balloonContent = new StringBuilder();
+			if (rs.next()) {
+				cityObjectTypeForId = Util.getCityGMLClass(rs.getInt("objectclass_id"));
+			}
+		}
+		catch (SQLException sqlEx) {}
+		finally {
+			if (rs != null) {
+				try { rs.close(); }	catch (SQLException sqlEx) {}
+				rs = null;
+			}
+		}
 
-		if (statementList != null) {
-			// when properly initialized this happens only at the first object
-			// otherwise it avoids problems from lousy initialization of BalloonTemplateHandlers in threads
-			// at the cost of performance
+		return cityObjectTypeForId;
+	}
 
-			CityGMLClass cityObjectTypeForId = null;
+	private Map<CityGMLClass, List<Long>> getCityGMLClasses(List<Long> ids, Connection connection, String schemaName) {
+		Map<CityGMLClass, List<Long>> idsByClass = new LinkedHashMap<CityGMLClass, List<Long>>();
+		Set<Long> unresolvedIds = new LinkedHashSet<Long>(ids);
 
-			ResultSet rs = null;
-			PreparedStatement query = null;
-			try {
-				query = connection.prepareStatement(new StringBuilder("SELECT gmlid, objectclass_id FROM ").append(schemaName).append(".CITYOBJECT WHERE id = ?").toString());
-				query.setLong(1, id);
-				rs = query.executeQuery();
+		ResultSet rs = null;
+		try {
+			PreparedStatement query = getPreparedStatement(new StringBuilder("SELECT id, objectclass_id FROM ").append(schemaName)
+					.append(".CITYOBJECT WHERE id IN (").append(String.join(",", Collections.nCopies(BATCH_SIZE, "?"))).append(")").toString(), connection);
 
-				if (rs.next()) {
-					cityObjectTypeForId = Util.getCityGMLClass(rs.getInt("objectclass_id"));
-				}
-			}
-			catch (SQLException sqlEx) {}
-			finally {
-				if (rs != null) {
-					try { rs.close(); }	catch (SQLException sqlEx) {}
-					rs = null;
-				}
+			// unused placeholders of the last batch are padded with the last id
+			for (int i = 0; i < BATCH_SIZE; i++)
+				query.setLong(i + 1, ids.get(Math.min(i, ids.size() - 1)));
 
-				if (query != null) {
-					try { query.close(); } catch (SQLException sqlEx) {}
-					query = null;
-				}
+			rs = query.executeQuery();
+			while (rs.next()) {
+				long id = rs.getLong("id");
+				if (unresolvedIds.remove(id))
+					idsByClass.computeIfAbsent(Util.getCityGMLClass(rs.getInt("objectclass_id")), v -> new ArrayList<Long>()).add(id);
 			}
-
-			if (cityGMLClassForBalloonHandler != cityObjectTypeForId) {
-				for (BalloonStatement statement: statementList) {
-					statement.setConversionTried(false);
-				}
-				cityGMLClassForBalloonHandler = cityObjectTypeForId;
+		}
+		catch (SQLException sqlEx) {}
+		finally {
+			if (rs != null) {
+				try { rs.close(); }	catch (SQLException sqlEx) {}
+				rs = null;
 			}
+		}
 
-			List<String> resultList = new ArrayList<String>();
-			for (BalloonStatement statement: statementList) {
-				resultList.add(executeStatement(statement, id, lod, connection, schemaName));
-			}
+		for (Long id : unresolvedIds)
+			idsByClass.computeIfAbsent(null, v -> new ArrayList<Long>()).add(id);
 
-			Iterator<String> htmlChunkIterator = htmlChunkList.iterator();
-			Iterator<String> resultIterator = resultList.iterator();
+		return idsByClass;
+	}
 
-			while (htmlChunkIterator.hasNext()) {
-				balloonContent.append(htmlChunkIterator.next());
-				if (resultIterator.hasNext()) {
-					balloonContent.append(resultIterator.next());
-				}
-			}
+	private PreparedStatement getPreparedStatement(String query, Connection connection) throws SQLException {
+		// statements are prepared once per connection and reused for all subsequent objects
+		if (connection != preparedStatementConnection) {
+			closePreparedStatements();
+			preparedStatementConnection = connection;
 		}
-		return balloonContent.toString();
+
+		PreparedStatement preparedStatement = preparedStatements.get(query);
+		if (preparedStatement == null) {
+			if (preparedStatements.size() >= MAX_PREPARED_STATEMENTS)
+				closePreparedStatements();
+
+			preparedStatement = connection.prepareStatement(query);
+			preparedStatements.put(query, preparedStatement);
+		}
+
+		return preparedStatement;
+	}
+
+	private void closePreparedStatements() {
+		for (PreparedStatement preparedStatement : preparedStatements.values()) {
+			try { preparedStatement.close(); } catch (SQLException sqlEx) {}
+		}
+
+		preparedStatements.clear();
 	}
 
 	private String executeStatement(BalloonStatement statement, long id, int lod, Connection connection, String schemaName) {
@@ -1347,6 +1487,7 @@ public class BalloonTemplateHandler {
 		String query = "";
 		if (statement != null) {
 			PreparedStatement preparedStatement = null;
+			boolean isCachedStatement = false;
 			ResultSet rs = null;
 			try {
 				if (statement.isForeach()) {
@@ -1416,7 +1557,8 @@ public class BalloonTemplateHandler {
 						return result; // skip db call, rs and preparedStatement are currently null
 					}
 					query = statement.getProperSQLStatement(lod, schemaName);
-					preparedStatement = connection.prepareStatement(query);
+					preparedStatement = getPreparedStatement(query, connection);
+					isCachedStatement = true;
 				}
 
 				for (int i = 1; i <= getParameterCount(query); i++)
@@ -1427,40 +1569,7 @@ public class BalloonTemplateHandler {
 					if (rs.getRow() > 1) {
 						result = result + ", ";
 					}
-					Object object = rs.getObject(1);
-					if (!rs.wasNull() && object != null) {
-						GeometryObject geomObj = databaseAdapter.getGeometryConverter().getGeometry(object);
-						if (geomObj != null) {
-							int dimension = geomObj.getDimension();
-
-							result = result + "(";
-							for (int ringNo = 0; ringNo < geomObj.getNumElements(); ringNo++) {
-								double[] ring = geomObj.getCoordinates(ringNo);
-
-								for (int i = 0; i < ring.length; i = i + dimension) {
-									for (int j = 0; j < dimension; j++) {
-										result = result + ring[i+j];
-										if (j < dimension - 1) 
-											result = result + ",";
-									}
-
-									if (i+dimension < ring.length)
-										result = result + " ";
-								}	
-
-								if (ringNo < geomObj.getNumElements() - 1)
-									result = result + " ";
-							}
-							result = result + ")";
-						}
-						else {
-							String tmp = rs.getObject(1).toString();
-							if (tmp.indexOf("oracle.sql.TIMESTAMPTZ") >= 0) {
-								tmp =  rs.getTimestamp(1).toString();
-							}
-							result = result + tmp.replaceAll("\"", "&quot;"); // workaround, the JAXB KML marshaler does not escape " properly;
-						}
-					}
+					result = result + getColumnValue(rs, 1);
 				}
 			}
 			catch (Exception e) {
@@ -1469,7 +1578,7 @@ public class BalloonTemplateHandler {
 			finally {
 				try {
 					if (rs != null) rs.close();
-					if (preparedStatement != null) preparedStatement.close();
+					if (preparedStatement != null && !isCachedStatement) preparedStatement.close();
 				}
 				catch (Exception e2) {}
 			}
@@ -1477,15 +1586,134 @@ public class BalloonTemplateHandler {
 		return result;
 	}
 
+	private List<String> executeStatement(BalloonStatement statement, List<Long> ids, int lod, Connection connection, String schemaName) {
+		List<String> results = new ArrayList<String>(Collections.nCopies(ids.size(), ""));
+		if (statement == null)
+			return results;
+
+		// nested statements are assembled from the results of their inner statements
+		// per object and therefore cannot be evaluated for several objects at once
+		if (statement.isNested() || ids.size() == 1) {
+			for (int i = 0; i < ids.size(); i++)
+				results.set(i, executeStatement(statement, ids.get(i), lod, connection, schemaName));
+
+			return results;
+		}
+
+		ResultSet rs = null;
+		try {
+			String query = statement.getProperSQLStatement(lod, schemaName);
+			if (query == null) {
+				// malformed expression between proper START_TAG and END_TAG
+				return results;
+			}
+
+			PreparedStatement preparedStatement = getPreparedStatement(getBatchQuery(query, ids.size()), connection);
+			int parameterCount = getParameterCount(query);
+			for (int i = 0; i < ids.size(); i++) {
+				for (int j = 1; j <= parameterCount; j++)
+					preparedStatement.setLong(i * parameterCount + j, ids.get(i));
+			}
+
+			int[] rows = new int[ids.size()];
+			rs = preparedStatement.executeQuery();
+			while (rs.next()) {
+				int index = rs.getInt(1);
+				int row = ++rows[index];
+
+				if (statement.isForeach()) {
+					String iterationBody = statement.getForeachBody();
+					for (int n = 0; n <= statement.getColumnAmount(); n++) {
+						String columnValue = n == 0 ? String.valueOf(row) : getColumnValue(rs, n + 1);
+						iterationBody = iterationBody.replaceAll("%" + n, columnValue);
+					}
+					results.set(index, results.get(index) + iterationBody);
+				}
+				else {
+					String columnValue = getColumnValue(rs, 2);
+					results.set(index, row > 1 ? results.get(index) + ", " + columnValue : columnValue);
+				}
+			}
+		}
+		catch (SQLException sqlEx) {
+			// fall back to evaluating the statement object by object
+			try { connection.commit(); } catch (SQLException sqlEx2) {}
+			for (int i = 0; i < ids.size(); i++)
+				results.set(i, executeStatement(statement, ids.get(i), lod, connection, schemaName));
+		}
+		catch (Exception e) {
+			log.warn("Exception when executing balloon statement: " + statement.rawStatement + " --> " + e.getMessage());
+		}
+		finally {
+			try {
+				if (rs != null) rs.close();
+			}
+			catch (Exception e2) {}
+		}
+		return results;
+	}
+
+	private String getBatchQuery(String query, int size) {
+		// the statement is evaluated for all objects in a single round trip. the leading
+		// column holds the index of the object a row belongs to
+		StringBuilder batchQuery = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (i > 0)
+				batchQuery.append(" UNION ALL ");
+
+			batchQuery.append("SELECT ").append(i).append(" balloon_index, q.* FROM (").append(query).append(") q");
+		}
+
+		return batchQuery.toString();
+	}
+
+	private String getColumnValue(ResultSet rs, int column) throws SQLException {
+		String columnValue = "";
+		Object object = rs.getObject(column);
+		if (!rs.wasNull() && object != null) {
+			GeometryObject geomObj = databaseAdapter.getGeometryConverter().getGeometry(object);
+			if (geomObj != null) {
+				int dimension = geomObj.getDimension();
+
+				columnValue = columnValue + "(";
+				for (int ringNo = 0; ringNo < geomObj.getNumElements(); ringNo++) {
+					double[] ring = geomObj.getCoordinates(ringNo);
+
+					for (int i = 0; i < ring.length; i = i + dimension) {
+						for (int j = 0; j < dimension; j++) {
+							columnValue = columnValue + ring[i+j];
+							if (j < dimension - 1) 
+								columnValue = columnValue + ",";
+						}
+
+						if (i+dimension < ring.length)
+							columnValue = columnValue + " ";
+					}	
+
+					if (ringNo < geomObj.getNumElements() - 1)
+						columnValue = columnValue + " ";
+				}
+				columnValue = columnValue + ")";
+			}
+			else {
+				String tmp = object.toString();
+				if (tmp.indexOf("oracle.sql.TIMESTAMPTZ") >= 0) {
+					tmp = rs.getTimestamp(column).toString();
+				}
+				columnValue = tmp.replaceAll("\"", "&quot;"); // workaround, the JAXB KML marshaler does not escape " properly
+			}
+		}
+		return columnValue;
+	}
+
 	private String executeForeachStatement(BalloonStatement statement, long id, int lod, Connection connection, String schemaName) {
 		String resultBody = "";
 
-		PreparedStatement preparedStatement = null;
 		ResultSet rs = null;
 		try {
 			if (statement != null && statement.getProperSQLStatement(lod, schemaName) != null) {
 				String query = statement.getProperSQLStatement(lod, schemaName);
-				preparedStatement = connection.prepareStatement(query);
+				PreparedStatement preparedStatement = getPreparedStatement(query, connection);
 				for (int i = 1; i <= getParameterCount(query); i++)
 					preparedStatement.setLong(i, id);
 
@@ -1498,36 +1726,7 @@ public class BalloonTemplateHandler {
 							columnValue = String.valueOf(rs.getRow());
 						}
 						else {
-							Object object = rs.getObject(n);
-							if (!rs.wasNull() && object != null) {
-								GeometryObject geomObj = databaseAdapter.getGeometryConverter().getGeometry(object);
-								if (geomObj != null) {
-									int dimension = geomObj.getDimension();
-
-									columnValue = columnValue + "(";
-									for (int ringNo = 0; ringNo < geomObj.getNumElements(); ringNo++) {
-										double[] ring = geomObj.getCoordinates(ringNo);
-
-										for (int i = 0; i < ring.length; i = i + dimension) {
-											for (int j = 0; j < dimension; j++) {
-												columnValue = columnValue + ring[i+j];
-												if (j < dimension - 1) 
-													columnValue = columnValue + ",";
-											}
-
-											if (i+dimension < ring.length)
-												columnValue = columnValue + " ";
-										}	
-
-										if (ringNo < geomObj.getNumElements() - 1)
-											columnValue = columnValue + " ";
-									}
-									columnValue = columnValue + ")";
-								}
-								else {
-									columnValue = rs.getObject(n).toString().replaceAll("\"", "&quot;"); // workaround, the JAXB KML marshaler does not escape " properly
-								}
-							}
+							columnValue = getColumnValue(rs, n);
 						}
 						iterationBody = iterationBody.replaceAll("%" + n, columnValue);
 					}
@@ -1541,7 +1740,6 @@ public class BalloonTemplateHandler {
 		finally {
 			try {
 				if (rs != null) rs.close();
-				if (preparedStatement != null) preparedStatement.close();
 			}
 			catch (Exception e2) {}
 		}